@@ -72,6 +72,7 @@ import {
   createSdkContext,
   getAllModels,
   getClientNameOverride,
+  getClientType,
   getHttpOperationParameter,
   isSdkBuiltInKind,
   isSdkIntKind,
@@ -101,6 +102,7 @@ import {
   Visibility,
   getAuthentication,
 } from "@typespec/http";
+import { StreamMetadata, getStreamMetadata } from "@typespec/http/experimental";
 import { getSegment } from "@typespec/rest";
 import { getAddedOnVersions } from "@typespec/versioning";
 import { fail } from "assert";
@@ -111,6 +113,7 @@ import {
   PageableContinuationToken,
 } from "./common/client.js";
 import { CodeModel } from "./common/code-model.js";
+import { JsonLinesMetadata } from "./common/json-lines-metadata.js";
 import { LongRunningMetadata } from "./common/long-running-metadata.js";
 import { Operation as CodeModelOperation, ConvenienceApi, Request } from "./common/operation.js";
 import { ChoiceSchema, SealedChoiceSchema } from "./common/schemas/choice.js";
@@ -998,6 +1001,9 @@ export class CodeModelBuilder {
       lroMetadata = this.processLroMetadata(codeModelOperation, sdkMethod);
     }
 
+    // json lines metadata
+    this.processJsonLinesMetadata(codeModelOperation, sdkMethod);
+
     // responses
     for (const response of sdkMethod.operation.responses) {
       this.processResponse(
@@ -1284,6 +1290,70 @@ export class CodeModelBuilder {
     return new LongRunningMetadata(false);
   }
 
+  private processJsonLinesMetadata(
+    op: CodeModelOperation,
+    sdkMethod: SdkServiceMethod<SdkHttpOperation>,
+  ) {
+    const httpOperation = sdkMethod.operation.__raw;
+    if (!httpOperation) {
+      return;
+    }
+
+    // the element type of JsonlStream<T>, in request body and in response body
+    const requestItemType = this.processJsonLinesItemType(
+      op,
+      getStreamMetadata(this.program, httpOperation.parameters),
+      SchemaContext.Input,
+    );
+    let responseItemType: ObjectSchema | undefined = undefined;
+    for (const response of httpOperation.responses) {
+      for (const responseContent of response.responses) {
+        responseItemType =
+          responseItemType ??
+          this.processJsonLinesItemType(
+            op,
+            getStreamMetadata(this.program, responseContent),
+            SchemaContext.Output,
+          );
+      }
+    }
+
+    if (requestItemType || responseItemType) {
+      op.jsonLinesMetadata = new JsonLinesMetadata(requestItemType, responseItemType);
+    }
+  }
+
+  private processJsonLinesItemType(
+    op: CodeModelOperation,
+    streamMetadata: StreamMetadata | undefined,
+    usage: SchemaContext,
+  ): ObjectSchema | undefined {
+    if (
+      !streamMetadata ||
+      !streamMetadata.contentTypes.includes("application/jsonl") ||
+      streamMetadata.streamType.kind !== "Model"
+    ) {
+      return undefined;
+    }
+
+    const schema = this.processSchema(
+      getClientType(this.sdkContext, streamMetadata.streamType),
+      op.language.default.name + "Item",
+    );
+    if (!(schema instanceof ObjectSchema)) {
+      return undefined;
+    }
+
+    // track usage
+    this.trackSchemaUsage(schema, { usage: [usage] });
+    if (op.convenienceApi) {
+      this.trackSchemaUsage(schema, {
+        usage: [op.internalApi ? SchemaContext.Internal : SchemaContext.Public],
+      });
+    }
+    return schema;
+  }
+
   private processRouteForLongRunning(op: CodeModelOperation, lroMetadata: LongRunningMetadata) {
     if (lroMetadata.longRunning) {
       op.extensions = op.extensions ?? {};
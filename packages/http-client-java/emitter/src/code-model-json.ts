@@ -0,0 +1,108 @@
+/**
+ * Serializes the code model to JSON, for the Java generator to read with a streaming reader.
+ *
+ * An object or array referenced more than once is written in full at its first occurrence, with an "$id", and as
+ * {"$ref": id} at the others, same as the anchors and aliases in YAML. An array with an "$id" is written as
+ * {"$id": id, "$values": [...]}. "$id" and "type" are the first fields of an object, so that the reader knows the
+ * class of a schema before reading its other fields.
+ *
+ * @param codeModel the code model.
+ * @returns the JSON.
+ */
+export function serializeCodeModelToJson(codeModel: object): string {
+  const occurrences = new Map<object, number>();
+  countOccurrences(codeModel, occurrences);
+
+  const parts: string[] = [];
+  writeValue(codeModel, occurrences, new Map<object, string>(), parts);
+  return parts.join("");
+}
+
+function countOccurrences(value: unknown, occurrences: Map<object, number>): void {
+  if (value === null || typeof value !== "object") {
+    return;
+  }
+  const count = occurrences.get(value) ?? 0;
+  occurrences.set(value, count + 1);
+  if (count > 0) {
+    // its children are already counted
+    return;
+  }
+  if (Array.isArray(value)) {
+    for (const item of value) {
+      countOccurrences(item, occurrences);
+    }
+  } else {
+    for (const item of Object.values(value)) {
+      countOccurrences(item, occurrences);
+    }
+  }
+}
+
+function isSerializable(value: unknown): boolean {
+  return value !== undefined && typeof value !== "function" && typeof value !== "symbol";
+}
+
+function writeValue(
+  value: unknown,
+  occurrences: Map<object, number>,
+  ids: Map<object, string>,
+  parts: string[],
+): void {
+  if (value === null || typeof value !== "object") {
+    parts.push(isSerializable(value) ? JSON.stringify(value) : "null");
+    return;
+  }
+
+  const reference = ids.get(value);
+  if (reference !== undefined) {
+    parts.push(`{"$ref":${JSON.stringify(reference)}}`);
+    return;
+  }
+
+  let id: string | undefined = undefined;
+  if ((occurrences.get(value) ?? 0) > 1) {
+    // register before writing the children, in case of a reference to itself
+    id = String(ids.size + 1);
+    ids.set(value, id);
+  }
+
+  if (Array.isArray(value)) {
+    if (id) {
+      parts.push(`{"$id":${JSON.stringify(id)},"$values":`);
+    }
+    parts.push("[");
+    value.forEach((item, index) => {
+      if (index > 0) {
+        parts.push(",");
+      }
+      writeValue(item, occurrences, ids, parts);
+    });
+    parts.push("]");
+    if (id) {
+      parts.push("}");
+    }
+    return;
+  }
+
+  const record = value as Record<string, unknown>;
+  const keys = Object.keys(record).filter((key) => isSerializable(record[key]));
+  const typeIndex = keys.indexOf("type");
+  if (typeIndex > 0) {
+    keys.splice(typeIndex, 1);
+    keys.unshift("type");
+  }
+
+  parts.push("{");
+  if (id) {
+    parts.push(`"$id":${JSON.stringify(id)}`);
+  }
+  keys.forEach((key, index) => {
+    if (id || index > 0) {
+      parts.push(",");
+    }
+    parts.push(JSON.stringify(key), ":");
+    writeValue(record[key], occurrences, ids, parts);
+  });
+  parts.push("}");
+}
@@ -0,0 +1,11 @@
+import { ObjectSchema } from "@autorest/codemodel";
+
+export class JsonLinesMetadata {
+  requestItemType?: ObjectSchema;
+  responseItemType?: ObjectSchema;
+
+  constructor(requestItemType?: ObjectSchema, responseItemType?: ObjectSchema) {
+    this.requestItemType = requestItemType;
+    this.responseItemType = responseItemType;
+  }
+}
@@ -9,6 +9,7 @@ import {
   SchemaType,
 } from "@autorest/codemodel";
 import { DeepPartial } from "@azure-tools/codegen";
+import { JsonLinesMetadata } from "./json-lines-metadata.js";
 import { LongRunningMetadata } from "./long-running-metadata.js";
 
 /** represents a single callable endpoint with a discrete set of inputs, and any number of output possibilities (responses or exceptions)  */
@@ -60,6 +61,9 @@ export interface Operation extends Aspect {
 
   /** the long-running operation metadata */
   lroMetadata?: LongRunningMetadata;
+
+  /** the metadata of JSON Lines request or response body */
+  jsonLinesMetadata?: JsonLinesMetadata;
 }
 
 export class ConvenienceApi extends Metadata {
@@ -10,6 +10,7 @@ import { dump } from "js-yaml";
 import { dirname } from "path";
 import { fileURLToPath } from "url";
 import { CodeModelBuilder, EmitterOptionsDev } from "./code-model-builder.js";
+import { serializeCodeModelToJson } from "./code-model-json.js";
 import { CodeModel } from "./common/code-model.js";
 import { LibName, reportDiagnostic } from "./lib.js";
 import { EmitterOptions } from "./options.js";
@@ -63,7 +64,12 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
         options["license-header"] = codeModel.info.license.extensions.header;
       }
 
-      const codeModelFileName = resolvePath(outputPath, "./code-model.yaml");
+      // the Java generator reads the code model as JSON, if the file name ends with ".json"
+      const jsonCodeModel = options["dev-options"]?.["code-model-format"] === "json";
+      const codeModelFileName = resolvePath(
+        outputPath,
+        jsonCodeModel ? "./code-model.json" : "./code-model.yaml",
+      );
 
       await promises.mkdir(outputPath, { recursive: true }).catch((err) => {
         if (err.code !== "EISDIR" && err.code !== "EEXIST") {
@@ -76,7 +82,10 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
         }
       });
 
-      await program.host.writeFile(codeModelFileName, dump(codeModel));
+      await program.host.writeFile(
+        codeModelFileName,
+        jsonCodeModel ? serializeCodeModelToJson(codeModel) : dump(codeModel),
+      );
 
       trace(program, `Code model file written to ${codeModelFileName}`);
 
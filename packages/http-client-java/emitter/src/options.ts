@@ -11,6 +11,7 @@ export interface DevOptions {
   debug?: boolean;
   loglevel?: "off" | "debug" | "info" | "warn" | "error";
   "java-temp-dir"?: string; // working directory for java codegen, e.g. transformed code-model file
+  "code-model-format"?: "yaml" | "json";
 }
 
 export interface License {
@@ -55,6 +56,13 @@ export const EmitterOptionsSchema: JSONSchemaType<EmitterOptions> = {
           description: "Temporary working directory for Java code generator.",
           nullable: true,
         },
+        "code-model-format": {
+          type: "string",
+          description:
+            "Format of the intermediate code model file passed to Java code generator. Default is 'yaml'.",
+          nullable: true,
+          enum: ["yaml", "json"],
+        },
       },
       nullable: true,
       additionalProperties: false,
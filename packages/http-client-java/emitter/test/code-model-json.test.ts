@@ -0,0 +1,89 @@
+import { ArraySchema, CodeModel, ObjectSchema, Property, StringSchema } from "@autorest/codemodel";
+import { dump, load } from "js-yaml";
+import { describe, expect, it } from "vitest";
+import { serializeCodeModelToJson } from "../src/code-model-json.js";
+
+function createCodeModel(): CodeModel {
+  const codeModel = new CodeModel("Test");
+  const stringSchema = new StringSchema("string", "simple string");
+  const tagsSchema = new ArraySchema("tags", "the tags", stringSchema);
+  const petSchema = new ObjectSchema("Pet", "the pet");
+  petSchema.addProperty(new Property("name", "the name", stringSchema, { serializedName: "name" }));
+  petSchema.addProperty(new Property("tags", "the tags", tagsSchema, { serializedName: "tags" }));
+  codeModel.schemas.add(stringSchema);
+  codeModel.schemas.add(tagsSchema);
+  codeModel.schemas.add(petSchema);
+  return codeModel;
+}
+
+/**
+ * Resolves "$id", "$ref" and "$values" in the JSON code model, so that a referenced object is the same instance, as
+ * the anchors and aliases in YAML.
+ */
+function resolveReferences(value: any, objects: Map<string, any> = new Map()): any {
+  if (value === null || typeof value !== "object") {
+    return value;
+  }
+  if (Array.isArray(value)) {
+    return value.map((item) => resolveReferences(item, objects));
+  }
+  if (value.$ref !== undefined) {
+    expect(objects.has(value.$ref)).toBe(true);
+    return objects.get(value.$ref);
+  }
+  if (value.$values !== undefined) {
+    const array: any[] = [];
+    objects.set(value.$id, array);
+    for (const item of value.$values) {
+      array.push(resolveReferences(item, objects));
+    }
+    return array;
+  }
+  const object: Record<string, any> = {};
+  if (value.$id !== undefined) {
+    objects.set(value.$id, object);
+  }
+  for (const [key, item] of Object.entries(value)) {
+    if (key !== "$id") {
+      object[key] = resolveReferences(item, objects);
+    }
+  }
+  return object;
+}
+
+describe("code-model-json", () => {
+  it("writes shared object once", () => {
+    const json: any = JSON.parse(serializeCodeModelToJson(createCodeModel()));
+
+    const stringSchema = json.schemas.strings[0];
+    expect(Object.keys(stringSchema).slice(0, 2)).toEqual(["$id", "type"]);
+    const reference = { $ref: stringSchema.$id };
+    expect(json.schemas.arrays[0].elementType).toEqual(reference);
+    expect(json.schemas.objects[0].properties[0].schema).toEqual(reference);
+  });
+
+  it("reads same as YAML", () => {
+    const codeModel = createCodeModel();
+    const fromYaml: any = load(dump(codeModel));
+    const fromJson: any = resolveReferences(JSON.parse(serializeCodeModelToJson(codeModel)));
+
+    expect(fromJson).toEqual(fromYaml);
+
+    // shared object is the same instance
+    const stringSchema = fromJson.schemas.strings[0];
+    expect(fromJson.schemas.arrays[0].elementType).toBe(stringSchema);
+    expect(fromJson.schemas.objects[0].properties[0].schema).toBe(stringSchema);
+    expect(fromYaml.schemas.objects[0].properties[0].schema).toBe(fromYaml.schemas.strings[0]);
+  });
+
+  it("writes array with reference to itself", () => {
+    const items: unknown[] = [];
+    items.push(items);
+    const json = serializeCodeModelToJson({ items, other: items });
+    expect(json).toBe('{"items":{"$id":"1","$values":[{"$ref":"1"}]},"other":{"$ref":"1"}}');
+
+    const resolved = resolveReferences(JSON.parse(json));
+    expect(resolved.items[0]).toBe(resolved.items);
+    expect(resolved.other).toBe(resolved.items);
+  });
+});
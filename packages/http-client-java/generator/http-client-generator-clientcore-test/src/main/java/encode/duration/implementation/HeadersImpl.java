@@ -13,10 +13,10 @@ import io.clientcore.core.http.models.HttpResponseException;
 import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
-import io.clientcore.core.models.binarydata.BinaryData;
 import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -177,33 +177,9 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> iso8601ArrayWithResponse(List<Duration> duration, RequestContext requestContext) {
-        String durationConverted = duration.stream().map(paramItemValue -> {
-            if (paramItemValue == null) {
-                return "";
-            } else {
-                String itemValueString = BinaryData.fromObject(paramItemValue).toString();
-                int strLength = itemValueString.length();
-                int startOffset = 0;
-                while (startOffset < strLength) {
-                    if (itemValueString.charAt(startOffset) != '"') {
-                        break;
-                    }
-                    startOffset++;
-                }
-                if (startOffset == strLength) {
-                    return "";
-                }
-                int endOffset = strLength - 1;
-                while (endOffset >= 0) {
-                    if (itemValueString.charAt(endOffset) != '"') {
-                        break;
-                    }
-
-                    endOffset--;
-                }
-                return itemValueString.substring(startOffset, endOffset + 1);
-            }
-        }).collect(Collectors.joining(","));
+        String durationConverted = duration.stream()
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return service.iso8601Array(this.client.getEndpoint(), durationConverted, requestContext);
     }
 
@@ -7,8 +7,6 @@ import io.clientcore.core.serialization.json.JsonSerializable;
 import io.clientcore.core.serialization.json.JsonToken;
 import io.clientcore.core.serialization.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import payload.jsonmergepatch.implementation.JsonMergePatchHelper;
 
 /**
@@ -29,10 +27,10 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     private String description;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Metadata(properties = { MetadataProperties.GENERATED })
     private boolean jsonMergePatch;
@@ -83,7 +81,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public InnerModel setName(String name) {
         this.name = name;
-        this.updatedProperties.add("name");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -106,7 +104,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public InnerModel setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -129,14 +127,14 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("name")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             if (this.name == null) {
                 jsonWriter.writeNullField("name");
             } else {
                 jsonWriter.writeStringField("name", this.name);
             }
         }
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
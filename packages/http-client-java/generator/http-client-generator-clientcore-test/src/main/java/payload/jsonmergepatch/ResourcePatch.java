@@ -7,10 +7,8 @@ import io.clientcore.core.serialization.json.JsonSerializable;
 import io.clientcore.core.serialization.json.JsonToken;
 import io.clientcore.core.serialization.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import payload.jsonmergepatch.implementation.JsonMergePatchHelper;
 
 /**
@@ -61,10 +59,10 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     private List<Integer> intArray;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Metadata(properties = { MetadataProperties.GENERATED })
     private boolean jsonMergePatch;
@@ -115,7 +113,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -138,7 +136,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setMap(Map<String, InnerModel> map) {
         this.map = map;
-        this.updatedProperties.add("map");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -161,7 +159,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setArray(List<InnerModel> array) {
         this.array = array;
-        this.updatedProperties.add("array");
+        this.updatedProperties |= 1L << 2;
         return this;
     }
 
@@ -184,7 +182,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setIntValue(Integer intValue) {
         this.intValue = intValue;
-        this.updatedProperties.add("intValue");
+        this.updatedProperties |= 1L << 3;
         return this;
     }
 
@@ -207,7 +205,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setFloatValue(Double floatValue) {
         this.floatValue = floatValue;
-        this.updatedProperties.add("floatValue");
+        this.updatedProperties |= 1L << 4;
         return this;
     }
 
@@ -230,7 +228,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setInnerModel(InnerModel innerModel) {
         this.innerModel = innerModel;
-        this.updatedProperties.add("innerModel");
+        this.updatedProperties |= 1L << 5;
         return this;
     }
 
@@ -253,7 +251,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public ResourcePatch setIntArray(List<Integer> intArray) {
         this.intArray = intArray;
-        this.updatedProperties.add("intArray");
+        this.updatedProperties |= 1L << 6;
         return this;
     }
 
@@ -281,14 +279,14 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
                 jsonWriter.writeStringField("description", this.description);
             }
         }
-        if (updatedProperties.contains("map")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (this.map == null) {
                 jsonWriter.writeNullField("map");
             } else {
@@ -303,28 +301,28 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
                 });
             }
         }
-        if (updatedProperties.contains("array")) {
+        if ((updatedProperties & (1L << 2)) != 0) {
             if (this.array == null) {
                 jsonWriter.writeNullField("array");
             } else {
                 jsonWriter.writeArrayField("array", this.array, (writer, element) -> writer.writeJson(element));
             }
         }
-        if (updatedProperties.contains("intValue")) {
+        if ((updatedProperties & (1L << 3)) != 0) {
             if (this.intValue == null) {
                 jsonWriter.writeNullField("intValue");
             } else {
                 jsonWriter.writeNumberField("intValue", this.intValue);
             }
         }
-        if (updatedProperties.contains("floatValue")) {
+        if ((updatedProperties & (1L << 4)) != 0) {
             if (this.floatValue == null) {
                 jsonWriter.writeNullField("floatValue");
             } else {
                 jsonWriter.writeNumberField("floatValue", this.floatValue);
             }
         }
-        if (updatedProperties.contains("innerModel")) {
+        if ((updatedProperties & (1L << 5)) != 0) {
             if (this.innerModel == null) {
                 jsonWriter.writeNullField("innerModel");
             } else {
@@ -333,7 +331,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
                 JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(this.innerModel, false);
             }
         }
-        if (updatedProperties.contains("intArray")) {
+        if ((updatedProperties & (1L << 6)) != 0) {
             if (this.intArray == null) {
                 jsonWriter.writeNullField("intArray");
             } else {
@@ -3,11 +3,12 @@ package payload.multipart.implementation;
 import io.clientcore.core.http.models.HttpHeaderName;
 import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.models.binarydata.BinaryData;
-import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.SequenceInputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -41,7 +42,16 @@ public final class MultipartFormDataHelper {
      */
     private final Charset encoderCharset = StandardCharsets.UTF_8;
 
-    private InputStream requestDataStream = new ByteArrayInputStream(new byte[0]);
+    /**
+     * The parts of the request body, in order. Headers and separators are kept as bytes, while files and JSON values
+     * are kept as they were given, so they are not copied into the request body.
+     */
+    private final List<BinaryData> parts = new ArrayList<>();
+
+    /**
+     * Headers and separators not yet added to the parts. Consecutive ones are merged into a single part.
+     */
+    private final StringBuilder pendingText = new StringBuilder();
     private long requestLength = 0;
 
     private RequestContext requestContext;
@@ -84,8 +94,7 @@ public final class MultipartFormDataHelper {
         if (value != null) {
             String serialized = partSeparator + CRLF + "Content-Disposition: form-data; name=\"" + escapeName(fieldName)
                 + "\"" + CRLF + CRLF + value + CRLF;
-            byte[] data = serialized.getBytes(encoderCharset);
-            appendBytes(data);
+            appendText(serialized);
         }
         return this;
     }
@@ -100,11 +109,11 @@ public final class MultipartFormDataHelper {
      */
     public MultipartFormDataHelper serializeJsonField(String fieldName, Object jsonObject) {
         if (jsonObject != null) {
-            String serialized
-                = partSeparator + CRLF + "Content-Disposition: form-data; name=\"" + escapeName(fieldName) + "\"" + CRLF
-                    + "Content-Type: application/json" + CRLF + CRLF + BinaryData.fromObject(jsonObject) + CRLF;
-            byte[] data = serialized.getBytes(encoderCharset);
-            appendBytes(data);
+            String jsonFieldPreamble = partSeparator + CRLF + "Content-Disposition: form-data; name=\""
+                + escapeName(fieldName) + "\"" + CRLF + "Content-Type: application/json" + CRLF + CRLF;
+            appendText(jsonFieldPreamble);
+            appendPart(BinaryData.fromObject(jsonObject));
+            appendText(CRLF);
         }
         return this;
     }
@@ -160,10 +169,10 @@ public final class MultipartFormDataHelper {
      * @return the MultipartFormDataHelper instance
      */
     public MultipartFormDataHelper end() {
-        byte[] data = endMarker.getBytes(encoderCharset);
-        appendBytes(data);
+        appendText(endMarker);
+        flushText();
 
-        requestBody = BinaryData.fromStream(requestDataStream, requestLength);
+        requestBody = BinaryData.fromStream(new PartsInputStream(parts), requestLength);
 
         requestContext = requestContext.toBuilder()
             .addHeader(HttpHeaderName.CONTENT_TYPE, "multipart/form-data; boundary=" + this.boundary)
@@ -183,24 +192,178 @@ public final class MultipartFormDataHelper {
         String fileFieldPreamble
             = partSeparator + CRLF + "Content-Disposition: form-data; name=\"" + escapeName(fieldName) + "\""
                 + contentDispositionFilename + CRLF + "Content-Type: " + contentType + CRLF + CRLF;
-        byte[] data = fileFieldPreamble.getBytes(encoderCharset);
-        appendBytes(data);
+        appendText(fileFieldPreamble);
 
-        // Writing the file into the request as a byte stream
-        requestLength += file.getLength();
-        requestDataStream = new SequenceInputStream(requestDataStream, file.toStream());
+        // The file is added to the request as it is, it is only read when the request is sent
+        appendPart(file);
 
         // CRLF
-        data = CRLF.getBytes(encoderCharset);
-        appendBytes(data);
+        appendText(CRLF);
+    }
+
+    private void appendText(String text) {
+        pendingText.append(text);
     }
 
-    private void appendBytes(byte[] bytes) {
-        requestLength += bytes.length;
-        requestDataStream = new SequenceInputStream(requestDataStream, new ByteArrayInputStream(bytes));
+    private void appendPart(BinaryData part) {
+        flushText();
+        requestLength += part.getLength();
+        parts.add(part);
+    }
+
+    private void flushText() {
+        if (pendingText.length() > 0) {
+            byte[] data = pendingText.toString().getBytes(encoderCharset);
+            requestLength += data.length;
+            parts.add(BinaryData.fromBytes(data));
+            pendingText.setLength(0);
+        }
     }
 
     private static String escapeName(String name) {
         return name.replace("\n", "%0A").replace("\r", "%0D").replace("\"", "%22");
     }
+
+    /**
+     * Reads the parts of the request body one after another, from a flat list rather than a chain of nested streams.
+     * <p>
+     * Mark and reset are supported when all the parts are replayable, so that the request body can be sent again, e.g.
+     * on retry, without being buffered in memory.
+     * <p>
+     * Only the part streams opened by this stream are closed. A part backed by a stream of the caller returns that same
+     * stream on every call to toStream, and it is left open, so that the part can still be read again.
+     */
+    private static final class PartsInputStream extends InputStream {
+        private final List<BinaryData> parts;
+        private final boolean replayable;
+
+        private int partIndex = 0;
+        private long partPosition = 0;
+        private InputStream partStream;
+        private boolean partStreamOpened;
+
+        // whether toStream of each part opens a new stream, known after the first read of the part
+        private final Boolean[] opensPartStream;
+
+        private int markedPartIndex = 0;
+        private long markedPartPosition = 0;
+
+        private PartsInputStream(List<BinaryData> parts) {
+            this.parts = parts;
+            boolean replayable = true;
+            for (BinaryData part : parts) {
+                replayable &= part.isReplayable();
+            }
+            this.replayable = replayable;
+            this.opensPartStream = new Boolean[parts.size()];
+        }
+
+        @Override
+        public int read() throws IOException {
+            while (partIndex < parts.size()) {
+                int b = currentPartStream().read();
+                if (b != -1) {
+                    ++partPosition;
+                    return b;
+                }
+                nextPart();
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (partIndex < parts.size()) {
+                int read = currentPartStream().read(b, off, len);
+                if (read != -1) {
+                    partPosition += read;
+                    return read;
+                }
+                nextPart();
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return replayable;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            markedPartIndex = partIndex;
+            markedPartPosition = partPosition;
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            if (!replayable) {
+                throw new IOException("mark/reset not supported");
+            }
+            closePartStream();
+            partIndex = markedPartIndex;
+            partPosition = markedPartPosition;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closePartStream();
+        }
+
+        private InputStream currentPartStream() throws IOException {
+            if (partStream == null) {
+                partStream = openPartStream();
+                // after reset, skip what had been read from the part before the mark
+                long remaining = partPosition;
+                while (remaining > 0) {
+                    long skipped = partStream.skip(remaining);
+                    if (skipped <= 0) {
+                        if (partStream.read() == -1) {
+                            throw new EOFException();
+                        }
+                        skipped = 1;
+                    }
+                    remaining -= skipped;
+                }
+            }
+            return partStream;
+        }
+
+        private void nextPart() throws IOException {
+            closePartStream();
+            ++partIndex;
+            partPosition = 0;
+        }
+
+        private InputStream openPartStream() throws IOException {
+            BinaryData part = parts.get(partIndex);
+            InputStream stream = part.toStream();
+            if (opensPartStream[partIndex] == null) {
+                boolean opened = false;
+                if (part.isReplayable()) {
+                    InputStream otherStream = part.toStream();
+                    opened = otherStream != stream;
+                    if (opened) {
+                        stream.close();
+                        stream = otherStream;
+                    }
+                }
+                opensPartStream[partIndex] = opened;
+            }
+            partStreamOpened = opensPartStream[partIndex];
+            return stream;
+        }
+
+        private void closePartStream() throws IOException {
+            if (partStream != null) {
+                if (partStreamOpened) {
+                    partStream.close();
+                }
+                partStream = null;
+            }
+        }
+    }
 }
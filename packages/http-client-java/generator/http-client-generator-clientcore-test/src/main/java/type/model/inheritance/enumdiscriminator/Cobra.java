@@ -62,25 +62,28 @@ public final class Cobra extends Snake {
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static Cobra fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int length = 0;
-            SnakeKind kind = SnakeKind.COBRA;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(Cobra::fromJsonProperties);
+    }
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    static Cobra fromJsonProperties(JsonReader reader) throws IOException {
+        int length = 0;
+        SnakeKind kind = SnakeKind.COBRA;
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("length".equals(fieldName)) {
-                    length = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = SnakeKind.fromString(reader.getString());
-                } else {
-                    reader.skipChildren();
-                }
+            if ("length".equals(fieldName)) {
+                length = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = SnakeKind.fromString(reader.getString());
+            } else {
+                reader.skipChildren();
             }
-            Cobra deserializedCobra = new Cobra(length);
-            deserializedCobra.kind = kind;
+        }
+        Cobra deserializedCobra = new Cobra(length);
+        deserializedCobra.kind = kind;
 
-            return deserializedCobra;
-        });
+        return deserializedCobra;
     }
 }
@@ -80,7 +80,37 @@ public class Snake implements JsonSerializable<Snake> {
     public static Snake fromJson(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
             String discriminatorValue = null;
-            try (JsonReader readerToUse = reader.bufferObject()) {
+            JsonReader bufferedReader;
+            if (reader.nextToken() == JsonToken.FIELD_NAME && "kind".equals(reader.getFieldName())) {
+                // The discriminator is the first property, no need to buffer the object.
+                reader.nextToken();
+                discriminatorValue = reader.getString();
+                if ("cobra".equals(discriminatorValue)) {
+                    return Cobra.fromJsonProperties(reader);
+                }
+
+                // Buffer the rest of the object, after the discriminator that was read.
+                StringBuilder json = new StringBuilder("{\"kind\":");
+                if (reader.currentToken() == JsonToken.STRING) {
+                    json.append('"').append(reader.getRawText()).append('"');
+                } else {
+                    json.append(reader.getRawText());
+                }
+                if (reader.nextToken() == JsonToken.END_OBJECT) {
+                    json.append('}');
+                } else {
+                    int fieldsStart = json.length();
+                    reader.readRemainingFieldsAsJsonObject(json);
+                    json.setCharAt(fieldsStart, ',');
+                }
+                bufferedReader = JsonReader.fromString(json.toString());
+            } else if (reader.currentToken() == JsonToken.FIELD_NAME) {
+                bufferedReader = reader.bufferObject();
+            } else {
+                // Empty object.
+                bufferedReader = JsonReader.fromString("{}");
+            }
+            try (JsonReader readerToUse = bufferedReader) {
                 readerToUse.nextToken(); // Prepare for reading
                 while (readerToUse.nextToken() != JsonToken.END_OBJECT) {
                     String fieldName = readerToUse.getFieldName();
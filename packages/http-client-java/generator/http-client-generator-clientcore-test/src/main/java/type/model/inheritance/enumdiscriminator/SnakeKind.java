@@ -28,6 +28,13 @@ public enum SnakeKind {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "cobra":
+                return COBRA;
+
+            default:
+                break;
+        }
         SnakeKind[] items = SnakeKind.values();
         for (SnakeKind item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -62,25 +62,28 @@ public final class Sparrow extends Bird {
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static Sparrow fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int wingspan = 0;
-            String kind = "sparrow";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(Sparrow::fromJsonProperties);
+    }
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    static Sparrow fromJsonProperties(JsonReader reader) throws IOException {
+        int wingspan = 0;
+        String kind = "sparrow";
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("wingspan".equals(fieldName)) {
-                    wingspan = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("wingspan".equals(fieldName)) {
+                wingspan = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            Sparrow deserializedSparrow = new Sparrow(wingspan);
-            deserializedSparrow.kind = kind;
+        }
+        Sparrow deserializedSparrow = new Sparrow(wingspan);
+        deserializedSparrow.kind = kind;
 
-            return deserializedSparrow;
-        });
+        return deserializedSparrow;
     }
 }
@@ -62,25 +62,28 @@ public final class TRex extends Dinosaur {
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static TRex fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int size = 0;
-            String kind = "t-rex";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(TRex::fromJsonProperties);
+    }
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    static TRex fromJsonProperties(JsonReader reader) throws IOException {
+        int size = 0;
+        String kind = "t-rex";
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("size".equals(fieldName)) {
-                    size = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("size".equals(fieldName)) {
+                size = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            TRex deserializedTRex = new TRex(size);
-            deserializedTRex.kind = kind;
+        }
+        TRex deserializedTRex = new TRex(size);
+        deserializedTRex.kind = kind;
 
-            return deserializedTRex;
-        });
+        return deserializedTRex;
     }
 }
@@ -125,41 +125,45 @@ public final class ExtendsUnknownAdditionalPropertiesDiscriminatedDerived
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static ExtendsUnknownAdditionalPropertiesDiscriminatedDerived fromJson(JsonReader jsonReader)
         throws IOException {
-        return jsonReader.readObject(reader -> {
-            String name = null;
-            int index = 0;
-            String kind = "derived";
-            Double age = null;
-            Map<String, BinaryData> additionalProperties = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(ExtendsUnknownAdditionalPropertiesDiscriminatedDerived::fromJsonProperties);
+    }
 
-                if ("name".equals(fieldName)) {
-                    name = reader.getString();
-                } else if ("index".equals(fieldName)) {
-                    index = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else if ("age".equals(fieldName)) {
-                    age = reader.getNullable(JsonReader::getDouble);
-                } else {
-                    if (additionalProperties == null) {
-                        additionalProperties = new LinkedHashMap<>();
-                    }
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    static ExtendsUnknownAdditionalPropertiesDiscriminatedDerived fromJsonProperties(JsonReader reader)
+        throws IOException {
+        String name = null;
+        int index = 0;
+        String kind = "derived";
+        Double age = null;
+        Map<String, BinaryData> additionalProperties = null;
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                    additionalProperties.put(fieldName,
-                        reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped())));
+            if ("name".equals(fieldName)) {
+                name = reader.getString();
+            } else if ("index".equals(fieldName)) {
+                index = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else if ("age".equals(fieldName)) {
+                age = reader.getNullable(JsonReader::getDouble);
+            } else {
+                if (additionalProperties == null) {
+                    additionalProperties = new LinkedHashMap<>();
                 }
+
+                additionalProperties.put(fieldName,
+                    reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped())));
             }
-            ExtendsUnknownAdditionalPropertiesDiscriminatedDerived deserializedExtendsUnknownAdditionalPropertiesDiscriminatedDerived
-                = new ExtendsUnknownAdditionalPropertiesDiscriminatedDerived(name, index);
-            deserializedExtendsUnknownAdditionalPropertiesDiscriminatedDerived.kind = kind;
-            deserializedExtendsUnknownAdditionalPropertiesDiscriminatedDerived.age = age;
-            deserializedExtendsUnknownAdditionalPropertiesDiscriminatedDerived
-                .setAdditionalProperties(additionalProperties);
+        }
+        ExtendsUnknownAdditionalPropertiesDiscriminatedDerived deserializedExtendsUnknownAdditionalPropertiesDiscriminatedDerived
+            = new ExtendsUnknownAdditionalPropertiesDiscriminatedDerived(name, index);
+        deserializedExtendsUnknownAdditionalPropertiesDiscriminatedDerived.kind = kind;
+        deserializedExtendsUnknownAdditionalPropertiesDiscriminatedDerived.age = age;
+        deserializedExtendsUnknownAdditionalPropertiesDiscriminatedDerived
+            .setAdditionalProperties(additionalProperties);
 
-            return deserializedExtendsUnknownAdditionalPropertiesDiscriminatedDerived;
-        });
+        return deserializedExtendsUnknownAdditionalPropertiesDiscriminatedDerived;
     }
 }
@@ -124,40 +124,43 @@ public final class IsUnknownAdditionalPropertiesDiscriminatedDerived
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public static IsUnknownAdditionalPropertiesDiscriminatedDerived fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            String name = null;
-            int index = 0;
-            String kind = "derived";
-            Double age = null;
-            Map<String, BinaryData> additionalProperties = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(IsUnknownAdditionalPropertiesDiscriminatedDerived::fromJsonProperties);
+    }
 
-                if ("name".equals(fieldName)) {
-                    name = reader.getString();
-                } else if ("index".equals(fieldName)) {
-                    index = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else if ("age".equals(fieldName)) {
-                    age = reader.getNullable(JsonReader::getDouble);
-                } else {
-                    if (additionalProperties == null) {
-                        additionalProperties = new LinkedHashMap<>();
-                    }
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    static IsUnknownAdditionalPropertiesDiscriminatedDerived fromJsonProperties(JsonReader reader) throws IOException {
+        String name = null;
+        int index = 0;
+        String kind = "derived";
+        Double age = null;
+        Map<String, BinaryData> additionalProperties = null;
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                    additionalProperties.put(fieldName,
-                        reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped())));
+            if ("name".equals(fieldName)) {
+                name = reader.getString();
+            } else if ("index".equals(fieldName)) {
+                index = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else if ("age".equals(fieldName)) {
+                age = reader.getNullable(JsonReader::getDouble);
+            } else {
+                if (additionalProperties == null) {
+                    additionalProperties = new LinkedHashMap<>();
                 }
+
+                additionalProperties.put(fieldName,
+                    reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped())));
             }
-            IsUnknownAdditionalPropertiesDiscriminatedDerived deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived
-                = new IsUnknownAdditionalPropertiesDiscriminatedDerived(name, index);
-            deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.kind = kind;
-            deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.age = age;
-            deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.setAdditionalProperties(additionalProperties);
+        }
+        IsUnknownAdditionalPropertiesDiscriminatedDerived deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived
+            = new IsUnknownAdditionalPropertiesDiscriminatedDerived(name, index);
+        deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.kind = kind;
+        deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.age = age;
+        deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.setAdditionalProperties(additionalProperties);
 
-            return deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived;
-        });
+        return deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived;
     }
 }
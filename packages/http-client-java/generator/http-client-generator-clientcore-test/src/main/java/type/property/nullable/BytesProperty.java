@@ -7,8 +7,6 @@ import io.clientcore.core.serialization.json.JsonSerializable;
 import io.clientcore.core.serialization.json.JsonToken;
 import io.clientcore.core.serialization.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import type.property.nullable.implementation.JsonMergePatchHelper;
 
 /**
@@ -29,10 +27,10 @@ public final class BytesProperty implements JsonSerializable<BytesProperty> {
     private byte[] nullableProperty;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Metadata(properties = { MetadataProperties.GENERATED })
     private boolean jsonMergePatch;
@@ -84,7 +82,7 @@ public final class BytesProperty implements JsonSerializable<BytesProperty> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public BytesProperty setRequiredProperty(String requiredProperty) {
         this.requiredProperty = requiredProperty;
-        this.updatedProperties.add("requiredProperty");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -108,7 +106,7 @@ public final class BytesProperty implements JsonSerializable<BytesProperty> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public BytesProperty setNullableProperty(byte[] nullableProperty) {
         this.nullableProperty = nullableProperty;
-        this.updatedProperties.add("nullableProperty");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -131,14 +129,14 @@ public final class BytesProperty implements JsonSerializable<BytesProperty> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("requiredProperty")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             if (this.requiredProperty == null) {
                 jsonWriter.writeNullField("requiredProperty");
             } else {
                 jsonWriter.writeStringField("requiredProperty", this.requiredProperty);
             }
         }
-        if (updatedProperties.contains("nullableProperty")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (this.nullableProperty == null) {
                 jsonWriter.writeNullField("nullableProperty");
             } else {
@@ -7,9 +7,7 @@ import io.clientcore.core.serialization.json.JsonSerializable;
 import io.clientcore.core.serialization.json.JsonToken;
 import io.clientcore.core.serialization.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import type.property.nullable.implementation.JsonMergePatchHelper;
 
 /**
@@ -30,10 +28,10 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
     private List<byte[]> nullableProperty;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Metadata(properties = { MetadataProperties.GENERATED })
     private boolean jsonMergePatch;
@@ -87,7 +85,7 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
     @Metadata(properties = { MetadataProperties.GENERATED })
     public CollectionsByteProperty setRequiredProperty(String requiredProperty) {
         this.requiredProperty = requiredProperty;
-        this.updatedProperties.add("requiredProperty");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -111,7 +109,7 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
     @Metadata(properties = { MetadataProperties.GENERATED })
     public CollectionsByteProperty setNullableProperty(List<byte[]> nullableProperty) {
         this.nullableProperty = nullableProperty;
-        this.updatedProperties.add("nullableProperty");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -135,14 +133,14 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
     @Metadata(properties = { MetadataProperties.GENERATED })
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("requiredProperty")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             if (this.requiredProperty == null) {
                 jsonWriter.writeNullField("requiredProperty");
             } else {
                 jsonWriter.writeStringField("requiredProperty", this.requiredProperty);
             }
         }
-        if (updatedProperties.contains("nullableProperty")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (this.nullableProperty == null) {
                 jsonWriter.writeNullField("nullableProperty");
             } else {
@@ -7,8 +7,6 @@ import io.clientcore.core.serialization.json.JsonSerializable;
 import io.clientcore.core.serialization.json.JsonToken;
 import io.clientcore.core.serialization.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import type.property.nullable.implementation.JsonMergePatchHelper;
 
 /**
@@ -23,10 +21,10 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     private String property;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Metadata(properties = { MetadataProperties.GENERATED })
     private boolean jsonMergePatch;
@@ -78,7 +76,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     public InnerModel setProperty(String property) {
         this.property = property;
-        this.updatedProperties.add("property");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -100,7 +98,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     @Metadata(properties = { MetadataProperties.GENERATED })
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("property")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             if (this.property == null) {
                 jsonWriter.writeNullField("property");
             } else {
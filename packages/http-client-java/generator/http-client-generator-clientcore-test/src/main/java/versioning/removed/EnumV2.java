@@ -28,6 +28,13 @@ public enum EnumV2 {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "enumMemberV2":
+                return ENUM_MEMBER_V2;
+
+            default:
+                break;
+        }
         EnumV2[] items = EnumV2.values();
         for (EnumV2 item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -28,6 +28,13 @@ public enum NewEnum {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "newEnumMember":
+                return NEW_ENUM_MEMBER;
+
+            default:
+                break;
+        }
         NewEnum[] items = NewEnum.values();
         for (NewEnum item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -0,0 +1,262 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package payload.multipart.implementation;
+
+import io.clientcore.core.http.models.RequestContext;
+import io.clientcore.core.models.binarydata.BinaryData;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MultipartFormDataHelperTests {
+
+    private static final byte[] FILE = createFile(100);
+
+    @Test
+    public void testReads() throws IOException {
+        BinaryData body = createBody(BinaryData.fromBytes(FILE));
+        try (InputStream stream = body.toStream()) {
+            Assertions.assertTrue(stream.markSupported());
+            stream.mark(Integer.MAX_VALUE);
+
+            // single byte reads
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            int b;
+            while ((b = stream.read()) != -1) {
+                outputStream.write(b);
+            }
+            byte[] expected = getExpectedBody(outputStream.toByteArray());
+            Assertions.assertArrayEquals(expected, outputStream.toByteArray());
+            Assertions.assertEquals(expected.length, body.getLength());
+
+            // bulk reads, which span the parts
+            for (int bufferSize : new int[] { 1, 7, 64, 8192 }) {
+                stream.reset();
+                Assertions.assertArrayEquals(expected, readAll(stream, bufferSize));
+            }
+
+            // mixed reads
+            stream.reset();
+            outputStream = new ByteArrayOutputStream();
+            outputStream.write(stream.read());
+            outputStream.write(readAll(stream, 13));
+            Assertions.assertArrayEquals(expected, outputStream.toByteArray());
+
+            Assertions.assertEquals(0, stream.read(new byte[8], 0, 0));
+        }
+    }
+
+    @Test
+    public void testMarkAndReset() throws IOException {
+        for (int markPosition : new int[] { 0, 5, -1, -2, Integer.MAX_VALUE }) {
+            try (InputStream stream = createBody(BinaryData.fromBytes(FILE)).toStream()) {
+                stream.mark(Integer.MAX_VALUE);
+                byte[] expected = getExpectedBody(readAll(stream, 64));
+                stream.reset();
+
+                // the file starts after the separator and headers of the text field and the file field
+                int fileOffset = indexOf(expected, FILE);
+                if (markPosition == -1) {
+                    markPosition = fileOffset;
+                } else if (markPosition == -2) {
+                    markPosition = fileOffset + 30;
+                } else if (markPosition == Integer.MAX_VALUE) {
+                    markPosition = expected.length;
+                }
+
+                readFully(stream, markPosition);
+                stream.mark(Integer.MAX_VALUE);
+
+                // read past the mark, into the following parts
+                readAll(stream, 11);
+
+                // reset replays from the mark
+                stream.reset();
+                Assertions.assertArrayEquals(Arrays.copyOfRange(expected, markPosition, expected.length),
+                    readAll(stream, 17));
+
+                // reset again, after the end of the stream
+                stream.reset();
+                Assertions.assertArrayEquals(Arrays.copyOfRange(expected, markPosition, expected.length),
+                    readAll(stream, 1024));
+            }
+        }
+    }
+
+    @Test
+    public void testSkipAfterReset() throws IOException {
+        try (InputStream stream = createBody(BinaryData.fromBytes(FILE)).toStream()) {
+            stream.mark(Integer.MAX_VALUE);
+            byte[] expected = getExpectedBody(readAll(stream, 64));
+            int fileOffset = indexOf(expected, FILE);
+            stream.reset();
+
+            readFully(stream, 3);
+            stream.mark(Integer.MAX_VALUE);
+            readFully(stream, fileOffset + 50);
+            stream.reset();
+
+            // skip from the mark, into the middle of the file
+            long skipped = 0;
+            while (skipped < fileOffset + 20 - 3) {
+                long n = stream.skip(fileOffset + 20 - 3 - skipped);
+                Assertions.assertTrue(n > 0);
+                skipped += n;
+            }
+            Assertions.assertArrayEquals(Arrays.copyOfRange(expected, fileOffset + 20, expected.length),
+                readAll(stream, 9));
+        }
+    }
+
+    @Test
+    public void testNotReplayable() throws IOException {
+        // the file is a stream that supports neither mark nor reset
+        BinaryData file = BinaryData.fromStream(new NonReplayableInputStream(FILE), (long) FILE.length);
+        BinaryData body = createBody(file);
+
+        try (InputStream stream = body.toStream()) {
+            Assertions.assertFalse(stream.markSupported());
+            byte[] content = readAll(stream, 64);
+            Assertions.assertEquals(body.getLength(), content.length);
+            Assertions.assertArrayEquals(getExpectedBody(content), content);
+
+            stream.mark(Integer.MAX_VALUE);
+            Assertions.assertThrows(IOException.class, stream::reset);
+        }
+    }
+
+    @Test
+    public void testReplayableStreamOfCaller() throws IOException {
+        // the file is a stream of the caller, which supports mark and reset
+        ClosableInputStream fileStream = new ClosableInputStream(FILE);
+        BinaryData body = createBody(BinaryData.fromStream(fileStream, (long) FILE.length));
+
+        try (InputStream stream = body.toStream()) {
+            Assertions.assertTrue(stream.markSupported());
+            stream.mark(Integer.MAX_VALUE);
+            byte[] content = readAll(stream, 64);
+            Assertions.assertArrayEquals(getExpectedBody(content), content);
+
+            // the stream of the caller is not closed after the file part, so that it can be read again
+            Assertions.assertFalse(fileStream.closed);
+            stream.reset();
+            Assertions.assertArrayEquals(content, readAll(stream, 17));
+        }
+        Assertions.assertFalse(fileStream.closed);
+    }
+
+    private static BinaryData createBody(BinaryData file) {
+        return new MultipartFormDataHelper(RequestContext.none()).serializeTextField("name", "value")
+            .serializeFileField("file", file, "application/octet-stream", "file.bin")
+            .serializeFileField("text", BinaryData.fromString("text"), "text/plain", "file.txt")
+            .end()
+            .getRequestBody();
+    }
+
+    private static byte[] getExpectedBody(byte[] body) throws IOException {
+        // the boundary is random, it is on the first line of the body
+        String content = new String(body, StandardCharsets.ISO_8859_1);
+        String separator = content.substring(0, content.indexOf("\r\n"));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write((separator + "\r\nContent-Disposition: form-data; name=\"name\"\r\n\r\nvalue\r\n" + separator
+            + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"file.bin\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        outputStream.write(FILE);
+        outputStream.write(("\r\n" + separator
+            + "\r\nContent-Disposition: form-data; name=\"text\"; filename=\"file.txt\"\r\n"
+            + "Content-Type: text/plain\r\n\r\ntext\r\n" + separator + "--").getBytes(StandardCharsets.UTF_8));
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] createFile(int length) {
+        byte[] file = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            file[i] = (byte) i;
+        }
+        return file;
+    }
+
+    private static byte[] readAll(InputStream stream, int bufferSize) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[bufferSize];
+        int read;
+        while ((read = stream.read(buffer, 0, bufferSize)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static void readFully(InputStream stream, int length) throws IOException {
+        byte[] buffer = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int read = stream.read(buffer, offset, length - offset);
+            Assertions.assertTrue(read > 0);
+            offset += read;
+        }
+    }
+
+    private static int indexOf(byte[] array, byte[] target) {
+        for (int i = 0; i <= array.length - target.length; ++i) {
+            if (Arrays.equals(array, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class ClosableInputStream extends ByteArrayInputStream {
+        private boolean closed = false;
+
+        private ClosableInputStream(byte[] content) {
+            super(content);
+        }
+
+        @Override
+        public synchronized int read() {
+            Assertions.assertFalse(closed);
+            return super.read();
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            Assertions.assertFalse(closed);
+            return super.read(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static final class NonReplayableInputStream extends InputStream {
+        private final ByteArrayInputStream inputStream;
+
+        private NonReplayableInputStream(byte[] content) {
+            this.inputStream = new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public int read() {
+            return inputStream.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return inputStream.read(b, off, len);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of {@link JavaFileContents}, writing the largest models of the test module line by line, as the templates
+ * do, then checking and printing the contents.
+ * <p>
+ * Run the main method to include the GC profiler, which reports the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JavaFileContentsBenchmark {
+    private static final int INDENT_LENGTH = 4;
+
+    @Param({ "../http-client-generator-test/src/main/java" })
+    public String sourceDirectory;
+
+    @Param({ "20" })
+    public int fileCount;
+
+    private List<List<String>> files;
+
+    @Setup
+    public void setup() throws IOException {
+        try (Stream<Path> paths = Files.walk(Paths.get(sourceDirectory))) {
+            files = paths.filter(path -> path.toString().endsWith(".java")
+                && "models".equals(path.getParent().getFileName().toString()))
+                .sorted(Comparator.comparingLong(JavaFileContentsBenchmark::size).reversed())
+                .limit(fileCount)
+                .map(JavaFileContentsBenchmark::readAllLines)
+                .collect(Collectors.toList());
+        }
+        if (files.isEmpty()) {
+            throw new IllegalStateException("No model found in " + sourceDirectory);
+        }
+    }
+
+    @Benchmark
+    public void writeModels(Blackhole blackhole) {
+        for (List<String> lines : files) {
+            JavaFileContents contents = new JavaFileContents();
+            int indent = 0;
+            for (String line : lines) {
+                String text = line.stripLeading();
+                int level = text.isEmpty() ? indent : (line.length() - text.length()) / INDENT_LENGTH;
+                while (indent < level) {
+                    contents.increaseIndent();
+                    ++indent;
+                }
+                while (indent > level) {
+                    contents.decreaseIndent();
+                    --indent;
+                }
+                contents.line(text.isEmpty() ? text : line.substring(level * INDENT_LENGTH));
+            }
+            blackhole.consume(contents.contains("LOGGER"));
+            blackhole.consume(contents.toString());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JavaFileContentsBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> readAllLines(Path path) {
+        try {
+            return Files.readAllLines(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -36,12 +36,14 @@ import com.microsoft.typespec.http.client.generator.core.model.projectmodel.Text
 import com.microsoft.typespec.http.client.generator.core.model.xmlmodel.XmlFile;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.Postprocessor;
 import com.microsoft.typespec.http.client.generator.core.preprocessor.Preprocessor;
+import com.microsoft.typespec.http.client.generator.core.template.Templates;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.SchemaUtil;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 
 public class Javagen extends NewPlugin {
@@ -73,6 +75,7 @@ public class Javagen extends NewPlugin {
             Client client = Mappers.getClientMapper().map(codeModel);
 
             // Step 3: Write to templates
+            // The Java files are rendered in parallel, when they are first retrieved from the JavaPackage.
             JavaPackage javaPackage = writeToTemplates(codeModel, client, settings, true);
 
             // Step 4: Print to files
@@ -331,6 +334,22 @@ public class Javagen extends NewPlugin {
 
     protected void writeHelperClasses(Client client, CodeModel codeModel, JavaPackage javaPackage,
         JavaSettings settings) {
+        // ServiceImplUtils
+        final boolean requireServiceImplUtils = client.getServiceClients()
+            .stream()
+            .flatMap(serviceClient -> Stream.concat(Stream.of(serviceClient.getProxy()),
+                serviceClient.getMethodGroupClients().stream().map(MethodGroupClient::getProxy)))
+            .anyMatch(proxy -> Templates.getServiceImplTemplate().isSupported(proxy));
+        if (requireServiceImplUtils) {
+            if (settings.isAzureV1()) {
+                javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                    ClientModelUtil.SERVICE_IMPL_UTILS_CLASS_NAME);
+            } else {
+                javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                    ClientModelUtil.CLIENT_CORE_SERVICE_IMPL_UTILS_CLASS_NAME,
+                    ClientModelUtil.SERVICE_IMPL_UTILS_CLASS_NAME);
+            }
+        }
     }
 
     private static void writeMethodGroupClient(JavaPackage javaPackage, ServiceClient serviceClient,
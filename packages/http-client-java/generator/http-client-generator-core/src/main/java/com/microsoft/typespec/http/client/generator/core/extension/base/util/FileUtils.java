@@ -3,14 +3,23 @@
 package com.microsoft.typespec.http.client.generator.core.extension.base.util;
 
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Set;
 
 /**
  * Utility class for file operations.
  */
 public final class FileUtils {
+    private static final Set<PosixFilePermission> OWNER_ONLY_PERMISSIONS = PosixFilePermissions.fromString("rwx------");
+
     private FileUtils() {
     }
 
@@ -44,4 +53,118 @@ public final class FileUtils {
 
         return Files.createTempDirectory(prefix);
     }
+
+    /**
+     * Gets a directory for persistent cache, which is kept across runs of the code generator.
+     * <p>
+     * If the environment setting {@code codegen.java.cache.directory} is set, the directory will be created under the
+     * specified path. Otherwise, the directory will be created under "typespec-java" in the cache directory of the
+     * current user, i.e. {@code XDG_CACHE_HOME} or "~/.cache".
+     * <p>
+     * {@link System#getProperty(String)} is checked before {@link System#getenv(String)}.
+     * <p>
+     * As the content of the cache is used as output of the code generator, the directories are created accessible only
+     * to the current user. An existing directory is rejected if it is not {@link #isPrivate(Path) private}.
+     *
+     * @param name The name of the cache.
+     * @return The path to the cache directory.
+     * @throws IOException If an I/O error occurs, or the directory is accessible to other users.
+     */
+    public static Path getCacheDirectory(String name) throws IOException {
+        String cacheDirectory = System.getProperty("codegen.java.cache.directory");
+        if (cacheDirectory == null) {
+            cacheDirectory = System.getenv("codegen.java.cache.directory");
+        }
+
+        Path cacheDirectoryPath = cacheDirectory != null
+            ? Paths.get(cacheDirectory)
+            : getUserCacheDirectory().resolve("typespec-java");
+        Path directory = cacheDirectoryPath.resolve(name);
+        createPrivateDirectory(cacheDirectoryPath);
+        createPrivateDirectory(directory);
+        return directory;
+    }
+
+    /**
+     * Checks whether the file or directory is private to the current user, i.e. it is not a symbolic link, it is owned
+     * by the current user, and it is not writable by group or others.
+     * <p>
+     * On file systems without POSIX permissions, only the owner is checked.
+     *
+     * @param path The path to the file or directory.
+     * @return Whether the file or directory is private to the current user.
+     * @throws IOException If an I/O error occurs.
+     */
+    public static boolean isPrivate(Path path) throws IOException {
+        if (Files.isSymbolicLink(path)) {
+            return false;
+        }
+
+        UserPrincipal currentUser = path.getFileSystem()
+            .getUserPrincipalLookupService()
+            .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!currentUser.equals(Files.getOwner(path, LinkOption.NOFOLLOW_LINKS))) {
+            return false;
+        }
+
+        if (Files.getFileStore(path).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(path, LinkOption.NOFOLLOW_LINKS);
+            return !permissions.contains(PosixFilePermission.GROUP_WRITE)
+                && !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+        }
+        return true;
+    }
+
+    private static Path getUserCacheDirectory() {
+        String xdgCacheHome = System.getenv("XDG_CACHE_HOME");
+        if (xdgCacheHome != null && Paths.get(xdgCacheHome).isAbsolute()) {
+            return Paths.get(xdgCacheHome);
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache");
+    }
+
+    private static void createPrivateDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+            Path parent = directory.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try {
+                if (directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                    Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY_PERMISSIONS));
+                } else {
+                    Files.createDirectory(directory);
+                }
+            } catch (FileAlreadyExistsException e) {
+                // created by a concurrent run, checked below
+            }
+        }
+
+        if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS) || !isPrivate(directory)) {
+            throw new IOException("Cache directory '" + directory
+                + "' is not a directory owned by the current user, or it is writable by other users.");
+        }
+    }
+
+    /**
+     * Gets the fingerprint of the build of the code, e.g. the jar, which the class is loaded from.
+     * <p>
+     * The fingerprint consists of the path, size and last modified time of the jar, so that a new build of the code
+     * generator invalidates what is cached against the previous build.
+     *
+     * @param clazz The class.
+     * @return The fingerprint, or an empty string if the location of the code is not available.
+     */
+    public static String getCodeSourceFingerprint(Class<?> clazz) {
+        try {
+            Path location = Paths.get(clazz.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (Files.isRegularFile(location)) {
+                return location + ":" + Files.size(location) + ":" + Files.getLastModifiedTime(location).toMillis();
+            }
+            return location.toString();
+        } catch (Exception e) {
+            // location not available
+            return "";
+        }
+    }
 }
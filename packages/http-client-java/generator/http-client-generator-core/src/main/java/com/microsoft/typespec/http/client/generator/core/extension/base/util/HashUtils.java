@@ -0,0 +1,65 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.microsoft.typespec.http.client.generator.core.extension.base.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Utility class for content hashing.
+ */
+public final class HashUtils {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private HashUtils() {
+    }
+
+    /**
+     * Computes the SHA-256 hash of the strings, as lowercase hex.
+     * <p>
+     * Strings are separated by a NUL character before hashing, so that {@code ("ab", "c")} and {@code ("a", "bc")}
+     * produce different hashes.
+     *
+     * @param values The strings to hash.
+     * @return The SHA-256 hash, as lowercase hex.
+     */
+    public static String sha256(String... values) {
+        MessageDigest digest = newSha256();
+        for (int i = 0; i < values.length; ++i) {
+            if (i > 0) {
+                digest.update((byte) 0);
+            }
+            digest.update(values[i].getBytes(StandardCharsets.UTF_8));
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Computes the SHA-256 hash of the bytes, as lowercase hex.
+     *
+     * @param bytes The bytes to hash.
+     * @return The SHA-256 hash, as lowercase hex.
+     */
+    public static String sha256(byte[] bytes) {
+        return toHex(newSha256().digest(bytes));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; ++i) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
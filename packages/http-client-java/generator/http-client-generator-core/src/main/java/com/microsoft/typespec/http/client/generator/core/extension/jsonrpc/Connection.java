@@ -5,7 +5,9 @@ package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
 
 import com.azure.json.JsonProviders;
 import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -20,15 +22,18 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
-import java.util.function.Function;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
  * Represents a connection.
  */
 public class Connection {
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
     private OutputStream writer;
     private PeekingBinaryReader reader;
     private boolean isDisposed = false;
@@ -36,7 +41,33 @@ public class Connection {
     private final Map<Integer, CompletableFuture<String>> tasks = new ConcurrentHashMap<>();
     private final ExecutorService executorService = Executors.newCachedThreadPool();
     private final CompletableFuture<Void> loop;
-    private final Map<String, Function<String, String>> dispatch = new ConcurrentHashMap<>();
+    private final Map<String, Handler> dispatch = new ConcurrentHashMap<>();
+    // reused to encode the content of the messages, guarded by the lock of the connection
+    private final ByteArrayOutputStream messageBuffer = new ByteArrayOutputStream();
+
+    /**
+     * Handler of a method, which reads the parameters from the message directly.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        /**
+         * Handles the method.
+         *
+         * @param paramsReader the reader positioned at the "params" of the message, or null if there is none. The
+         * handler reads the whole "params".
+         * @return the result as a JSON string, or null for a notification.
+         * @throws IOException If the parameters cannot be read.
+         */
+        String handle(JsonReader paramsReader) throws IOException;
+    }
+
+    /**
+     * Writer of the content of a message.
+     */
+    @FunctionalInterface
+    private interface MessageWriter {
+        void write(JsonWriter jsonWriter) throws IOException;
+    }
 
     /**
      * Create a new Connection.
@@ -45,10 +76,26 @@ public class Connection {
      * @param input The input stream to read from.
      */
     public Connection(OutputStream writer, InputStream input) {
-        this.writer = writer;
+        this(writer, input, connection -> {
+        });
+    }
+
+    /**
+     * Create a new Connection, which dispatches the methods registered by the {@code dispatcher}.
+     * <p>
+     * The methods are registered before the connection starts to read the input, hence no message is missed.
+     *
+     * @param writer The output stream to write to.
+     * @param input The input stream to read from.
+     * @param dispatcher The callback to register the methods to dispatch.
+     */
+    public Connection(OutputStream writer, InputStream input, Consumer<Connection> dispatcher) {
+        // the messages are written to the buffer, until a message that expects a reply or a flush()
+        this.writer = (writer == null) ? null : new BufferedOutputStream(writer, OUTPUT_BUFFER_SIZE);
         this.reader = new PeekingBinaryReader(input);
-        this.loop = CompletableFuture.runAsync(this::listen);
         this.requestId = new AtomicInteger(0);
+        dispatcher.accept(this);
+        this.loop = CompletableFuture.runAsync(this::listen);
     }
 
     private volatile boolean isAlive = true;
@@ -61,35 +108,6 @@ public class Connection {
         loop.cancel(true);
     }
 
-    private String readJson() {
-        String jsonText = "";
-        while (true) {
-            try {
-                jsonText += reader.readAsciiLine(); // + "\n";
-            } catch (IOException e) {
-                throw new RuntimeException("Cannot read JSON input");
-            }
-            try {
-                validateJsonText(jsonText);
-                return jsonText;
-            } catch (IOException e) {
-                // not enough text?
-            }
-        }
-    }
-
-    /**
-     * Tests that the passed {@code jsonText} is valid JSON.
-     *
-     * @param jsonText The JSON text to validate.
-     * @throws IOException If the JSON text is invalid.
-     */
-    private static void validateJsonText(String jsonText) throws IOException {
-        try (JsonReader jsonReader = JsonProviders.createReader(jsonText)) {
-            jsonReader.readUntyped();
-        }
-    }
-
     /**
      * Dispatches a message.
      *
@@ -97,24 +115,30 @@ public class Connection {
      * @param method The method that gets the result as a JSON string.
      */
     public void dispatch(String path, Supplier<String> method) {
-        dispatch.put(path, input -> {
+        dispatch.put(path, paramsReader -> {
+            skipParams(paramsReader);
             String result = method.get();
 
             return (result == null) ? "null" : result;
         });
     }
 
-    private static List<String> readArguments(String input) {
-        try (JsonReader jsonReader = JsonProviders.createReader(input)) {
-            List<String> ret = jsonReader.readArray(JsonReader::getString);
-            if (ret.size() == 2) {
-                // Return passed array if size is larger than 0, otherwise return a new ArrayList
-                return ret;
-            }
-
+    private static List<String> readArguments(JsonReader paramsReader) throws IOException {
+        if (paramsReader == null) {
             throw new RuntimeException("Invalid number of arguments");
-        } catch (IOException ex) {
-            throw new UncheckedIOException(ex);
+        }
+
+        List<String> ret = paramsReader.readArray(JsonReader::getString);
+        if (ret.size() == 2) {
+            return ret;
+        }
+
+        throw new RuntimeException("Invalid number of arguments");
+    }
+
+    private static void skipParams(JsonReader paramsReader) throws IOException {
+        if (paramsReader != null) {
+            paramsReader.skipChildren();
         }
     }
 
@@ -125,7 +149,8 @@ public class Connection {
      * @param method The method.
      */
     public void dispatchNotification(String path, Runnable method) {
-        dispatch.put(path, input -> {
+        dispatch.put(path, paramsReader -> {
+            skipParams(paramsReader);
             method.run();
             return null;
         });
@@ -138,20 +163,12 @@ public class Connection {
      * @param method The method that gets the result as a JSON string.
      */
     public void dispatch(String path, BiFunction<String, String, Boolean> method) {
-        dispatch.put(path, input -> {
-            List<String> args = readArguments(input);
+        dispatch.put(path, paramsReader -> {
+            List<String> args = readArguments(paramsReader);
             return String.valueOf(method.apply(args.get(0), args.get(1)));
         });
     }
 
-    private String readJson(int contentLength) {
-        try {
-            return new String(reader.readBytes(contentLength), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     private boolean listen() {
         while (isAlive) {
             try {
@@ -164,18 +181,26 @@ public class Connection {
                 if ('{' == ch || '[' == ch) {
                     // looks like a json block or array. let's do this.
                     // don't wait for this to finish!
-                    process(readJson(), '{' == ch);
+                    process(reader.readJson(), '{' == ch);
 
                     // we're done here, start again.
                     continue;
                 }
 
+                if ('\r' == ch || '\n' == ch) {
+                    // line break after a json block, which is not framed by headers
+                    reader.readByte();
+                    continue;
+                }
+
                 // We're looking at headers
                 Map<String, String> headers = new HashMap<>();
                 String line = reader.readAsciiLine();
                 while (line != null && !line.isEmpty()) {
                     String[] bits = line.split(":", 2);
-                    headers.put(bits[0].trim(), bits[1].trim());
+                    if (bits.length == 2) {
+                        headers.put(bits[0].trim(), bits[1].trim());
+                    }
                     line = reader.readAsciiLine();
                 }
 
@@ -186,12 +211,12 @@ public class Connection {
                     if (contentLengthStr != null && !contentLengthStr.isEmpty()) {
                         int contentLength = Integer.parseInt(contentLengthStr);
                         // don't wait for this to finish!
-                        process(readJson(contentLength), '{' == ch);
+                        process(reader.readBytes(contentLength), '{' == ch);
                         continue;
                     }
                     // looks like a json block or array. let's do this.
                     // don't wait for this to finish!
-                    process(readJson(), '{' == ch);
+                    process(reader.readJson(), '{' == ch);
                     // we're done here, start again.
                     continue;
                 }
@@ -214,6 +239,10 @@ public class Connection {
      * @param isObject Whether the JSON {@code content} is a JSON object.
      */
     public void process(String content, boolean isObject) {
+        process(content.getBytes(StandardCharsets.UTF_8), isObject);
+    }
+
+    private void process(byte[] content, boolean isObject) {
         // The only times this method is called is when the beginning portion of the JSON text is '{' or '['.
         // So, instead of the previous design when using Jackson where a fully processed JsonNode was passed, use a
         // simpler parameter 'isObject' to check if we are in a valid processing state.
@@ -223,73 +252,109 @@ public class Connection {
         }
 
         executorService.submit(() -> {
-
             try (JsonReader jsonReader = JsonProviders.createReader(content)) {
-                Map<String, String> jobject = jsonReader.readMap(reader -> {
-                    if (reader.isStartArrayOrObject()) {
-                        return reader.readChildren();
-                    } else {
-                        return reader.getString();
-                    }
-                });
-
-                String method = jobject.get("method");
-                if (method != null) {
-                    int id = processIdField(jobject.get("id"));
-
-                    // this is a method call.
-                    // pass it to the service that is listening...
-                    if (dispatch.containsKey(method)) {
-                        Function<String, String> fn = dispatch.get(method);
-                        String parameters = jobject.get("params");
-                        String result = fn.apply(parameters);
-                        if (id != -1) {
-                            // if this is a request, send the response.
-                            respond(id, result);
-                        }
-                    }
-                    return;
+                processMessage(jsonReader);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Reads the message in a single pass. The "params" of a method call are read by its handler directly, if the
+     * "method" precedes them in the message.
+     */
+    private void processMessage(JsonReader jsonReader) throws IOException {
+        String method = null;
+        Handler handler = null;
+        boolean handled = false;
+        String handlerResult = null;
+        String params = null;
+        int id = -1;
+        boolean hasResult = false;
+        String result = null;
+        Map<String, Object> error = null;
+
+        jsonReader.nextToken();
+        while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = jsonReader.getFieldName();
+            jsonReader.nextToken();
+
+            if ("method".equals(fieldName)) {
+                method = jsonReader.getString();
+                handler = method == null ? null : dispatch.get(method);
+            } else if ("id".equals(fieldName)) {
+                id = processIdField(jsonReader.getString());
+            } else if ("params".equals(fieldName)) {
+                if (handler != null) {
+                    handlerResult = handler.handle(jsonReader);
+                    handled = true;
+                } else {
+                    params = readValue(jsonReader);
                 }
+            } else if ("result".equals(fieldName)) {
+                result = readValue(jsonReader);
+                hasResult = true;
+            } else if ("error".equals(fieldName) && jsonReader.currentToken() == JsonToken.START_OBJECT) {
+                error = jsonReader.readMap(JsonReader::readUntyped);
+            } else {
+                jsonReader.skipChildren();
+            }
+        }
 
-                if (jobject.containsKey("result")) {
-                    String result = jobject.get("result");
-                    int id = processIdField(jobject.get("id"));
-                    if (id != -1) {
-                        CompletableFuture<String> f = tasks.remove(id);
-
-                        try {
-                            f.complete(result);
-                        } catch (Exception e) {
-                            f.completeExceptionally(e);
-                        }
-                    }
-                    return;
+        if (method != null) {
+            // this is a method call.
+            // pass it to the service that is listening...
+            if (handler != null) {
+                if (!handled) {
+                    handlerResult = handleWithParams(handler, params);
+                }
+                if (id != -1) {
+                    // if this is a request, send the response.
+                    respond(id, handlerResult);
                 }
+            }
+            return;
+        }
 
-                String error = jobject.get("error");
-                if (error != null) {
-                    int id = processIdField(jobject.get("id"));
-                    if (id != -1) {
-                        CompletableFuture<String> f = tasks.remove(id);
-
-                        try (JsonReader errorReader = JsonProviders.createReader(error)) {
-                            Map<String, Object> errorObject = errorReader.readMap(JsonReader::readUntyped);
-
-                            String message = String.valueOf(errorObject.get("message"));
-                            Object dataField = errorObject.get("data");
-                            if (dataField != null) {
-                                message += " (" + dataField + ")";
-                            }
-                            f.completeExceptionally(new RuntimeException(message));
-                        } catch (Exception e) {
-                            f.completeExceptionally(e);
-                        }
-                    }
+        if (hasResult) {
+            if (id != -1) {
+                CompletableFuture<String> f = tasks.remove(id);
+                if (f != null) {
+                    f.complete(result);
                 }
-            } catch (Exception e) {
-                e.printStackTrace();
             }
-        });
+            return;
+        }
+
+        if (error != null && id != -1) {
+            CompletableFuture<String> f = tasks.remove(id);
+            if (f != null) {
+                String message = String.valueOf(error.get("message"));
+                Object dataField = error.get("data");
+                if (dataField != null) {
+                    message += " (" + dataField + ")";
+                }
+                f.completeExceptionally(new RuntimeException(message));
+            }
+        }
+    }
+
+    private static String handleWithParams(Handler handler, String params) throws IOException {
+        if (params == null) {
+            return handler.handle(null);
+        }
+        try (JsonReader paramsReader = JsonProviders.createReader(params)) {
+            paramsReader.nextToken();
+            return handler.handle(paramsReader);
+        }
+    }
+
+    /**
+     * Reads the value as raw JSON if it is an object or an array, otherwise as a string.
+     */
+    private static String readValue(JsonReader jsonReader) throws IOException {
+        return jsonReader.isStartArrayOrObject() ? jsonReader.readChildren() : jsonReader.getString();
     }
 
     private static int processIdField(String idField) {
@@ -316,17 +381,47 @@ public class Connection {
         }
     }
 
-    private void send(String text) {
-        byte[] data = text.getBytes(StandardCharsets.UTF_8);
-        byte[] header = ("Content-Length: " + data.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
-        byte[] buffer = new byte[header.length + data.length];
-        System.arraycopy(header, 0, buffer, 0, header.length);
-        System.arraycopy(data, 0, buffer, header.length, data.length);
+    /**
+     * Writes the message to the output, framed by the Content-Length header.
+     * <p>
+     * The content is encoded once into the reused message buffer, and copied from there to the output.
+     *
+     * @param message The writer of the content of the message.
+     * @param flush Whether to flush the output after the message.
+     * @return The size of the content of the message in bytes.
+     */
+    private synchronized int send(MessageWriter message, boolean flush) {
+        try {
+            messageBuffer.reset();
+            try (JsonWriter jsonWriter = JsonProviders.createWriter(messageBuffer)) {
+                message.write(jsonWriter);
+                jsonWriter.flush();
+            }
+
+            int contentLength = messageBuffer.size();
+            writer.write(("Content-Length: " + contentLength + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            messageBuffer.writeTo(writer);
+            if (flush) {
+                writer.flush();
+            }
+            return contentLength;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes the messages that are buffered, e.g. the notifications sent by {@link #notifyBuffered(String,
+     * Object...)}.
+     */
+    public synchronized void flush() {
+        if (writer == null) {
+            return;
+        }
         try {
-            writer.write(buffer);
             writer.flush();
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -338,22 +433,14 @@ public class Connection {
      * @param message The message.
      */
     public void sendError(int id, int code, String message) {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
-            jsonWriter.writeStartObject()
-                .writeStringField("jsonrpc", "2.0")
-                .writeIntField("id", id)
-                .writeStringField("message", message)
-                .writeStartObject("error")
-                .writeIntField("code", code)
-                .writeEndObject()
-                .writeEndObject()
-                .flush();
-
-            send(outputStream.toString(StandardCharsets.UTF_8));
-        } catch (IOException ex) {
-            throw new UncheckedIOException(ex);
-        }
+        send(jsonWriter -> jsonWriter.writeStartObject()
+            .writeStringField("jsonrpc", "2.0")
+            .writeIntField("id", id)
+            .writeStringField("message", message)
+            .writeStartObject("error")
+            .writeIntField("code", code)
+            .writeEndObject()
+            .writeEndObject(), true);
     }
 
     /**
@@ -363,19 +450,11 @@ public class Connection {
      * @param value The value.
      */
     public void respond(int id, String value) {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
-            jsonWriter.writeStartObject()
-                .writeStringField("jsonrpc", "2.0")
-                .writeIntField("id", id)
-                .writeRawField("result", value)
-                .writeEndObject()
-                .flush();
-
-            send(outputStream.toString(StandardCharsets.UTF_8));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        send(jsonWriter -> jsonWriter.writeStartObject()
+            .writeStringField("jsonrpc", "2.0")
+            .writeIntField("id", id)
+            .writeRawField("result", value)
+            .writeEndObject(), true);
     }
 
     /**
@@ -385,13 +464,31 @@ public class Connection {
      * @param values The values.
      */
     public void notify(String methodName, Object... values) {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
-            jsonWriter.writeArray(values, JsonWriter::writeUntyped).flush();
-            notifyWithSerializedObject(methodName, outputStream.toString(StandardCharsets.UTF_8));
-        } catch (IOException ex) {
-            throw new UncheckedIOException(ex);
-        }
+        send(jsonWriter -> writeNotification(jsonWriter, methodName, values), true);
+    }
+
+    /**
+     * Sends a notification, without flushing the output.
+     * <p>
+     * The notification is buffered together with the following messages, and it is flushed with the next message that
+     * expects a reply, or by {@link #flush()}. This reduces the writes to the output when many notifications are sent,
+     * e.g. the "WriteFile" notifications of the generated files.
+     *
+     * @param methodName The method name.
+     * @param values The values.
+     * @return The size of the notification in bytes, excluding the header.
+     */
+    public int notifyBuffered(String methodName, Object... values) {
+        return send(jsonWriter -> writeNotification(jsonWriter, methodName, values), false);
+    }
+
+    private static void writeNotification(JsonWriter jsonWriter, String methodName, Object[] values)
+        throws IOException {
+        jsonWriter.writeStartObject()
+            .writeStringField("jsonrpc", "2.0")
+            .writeStringField("method", methodName)
+            .writeArrayField("params", values, JsonWriter::writeUntyped)
+            .writeEndObject();
     }
 
     /**
@@ -401,11 +498,13 @@ public class Connection {
      * @param serializedObject The serialized object.
      */
     public void notifyWithSerializedObject(String methodName, String serializedObject) {
-        String json = (serializedObject == null)
-            ? "{\"jsonrpc\":\"2.0\",\"method\":\"" + methodName + "\"}"
-            : "{\"jsonrpc\":\"2.0\",\"method\":\"" + methodName + "\",\"params\":" + serializedObject + "}";
-
-        send(json);
+        send(jsonWriter -> {
+            jsonWriter.writeStartObject().writeStringField("jsonrpc", "2.0").writeStringField("method", methodName);
+            if (serializedObject != null) {
+                jsonWriter.writeRawField("params", serializedObject);
+            }
+            jsonWriter.writeEndObject();
+        }, true);
     }
 
     /**
@@ -420,21 +519,14 @@ public class Connection {
         CompletableFuture<String> response = new CompletableFuture<>();
         tasks.put(id, response);
 
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
-            jsonWriter.writeStartObject()
-                .writeStringField("jsonrpc", "2.0")
-                .writeStringField("method", methodName)
-                .writeIntField("id", id)
-                .writeArrayField("params", values, JsonWriter::writeUntyped)
-                .writeEndObject()
-                .flush();
-
-            send(outputStream.toString(StandardCharsets.UTF_8));
-
+        send(jsonWriter -> jsonWriter.writeStartObject()
+            .writeStringField("jsonrpc", "2.0")
+            .writeStringField("method", methodName)
+            .writeIntField("id", id)
+            .writeArrayField("params", values, JsonWriter::writeUntyped)
+            .writeEndObject(), true);
+        try {
             return response.get();
-        } catch (IOException ex) {
-            throw new UncheckedIOException(ex);
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException(e);
         }
@@ -452,12 +544,16 @@ public class Connection {
         CompletableFuture<String> response = new CompletableFuture<>();
         tasks.put(id, response);
 
-        String json = (serializedObject == null)
-            ? "{\"jsonrpc\":\"2.0\",\"method\":\"" + method + "\",\"id\":" + id + "}"
-            : "{\"jsonrpc\":\"2.0\",\"method\":\"" + method + "\",\"id\":" + id + ",\"params\":" + serializedObject
-                + "}";
-
-        send(json);
+        send(jsonWriter -> {
+            jsonWriter.writeStartObject()
+                .writeStringField("jsonrpc", "2.0")
+                .writeStringField("method", method)
+                .writeIntField("id", id);
+            if (serializedObject != null) {
+                jsonWriter.writeRawField("params", serializedObject);
+            }
+            jsonWriter.writeEndObject();
+        }, true);
         try {
             return response.get();
         } catch (InterruptedException | ExecutionException e) {
@@ -466,11 +562,13 @@ public class Connection {
     }
 
     /**
-     * Waits for all requests to complete.
+     * Waits for the input to end, and for all the messages received to be processed.
      */
     public void waitForAll() {
         try {
             loop.get();
+            executorService.shutdown();
+            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException(e);
         }
@@ -3,66 +3,132 @@
 
 package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
+/**
+ * Buffered reader of the JSON-RPC input, which reads the headers and the content of the messages.
+ */
 class PeekingBinaryReader implements Closeable {
-    Integer lastByte;
-    InputStream input;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
 
     PeekingBinaryReader(InputStream input) {
-        this.lastByte = null;
         this.input = input;
     }
 
     int readByte() throws IOException {
-        if (lastByte != null) {
-            int result = lastByte;
-            lastByte = null;
-            return result;
+        if (position == limit && !fill()) {
+            return -1;
         }
-        return input.read();
+        return buffer[position++] & 0xFF;
     }
 
     int peekByte() throws IOException {
-        if (lastByte != null) {
-            return lastByte;
-        }
-        int result = readByte();
-        if (result != -1) {
-            lastByte = result;
+        if (position == limit && !fill()) {
+            return -1;
         }
-        return result;
+        return buffer[position] & 0xFF;
     }
 
     byte[] readBytes(int count) throws IOException {
-        byte[] buffer = new byte[count];
-        int read = 0;
-        if (count > 0 && lastByte != null) {
-            buffer[read++] = (byte) (int) lastByte;
-            lastByte = null;
-        }
+        byte[] result = new byte[count];
+        int read = Math.min(count, limit - position);
+        System.arraycopy(buffer, position, result, 0, read);
+        position += read;
+
+        // the rest of a large content is read into the result directly
         while (read < count) {
-            read += input.read(buffer, read, count - read);
+            int n = input.read(result, read, count - read);
+            if (n == -1) {
+                throw new EOFException("Expected " + count + " bytes of content, but got " + read + " bytes.");
+            }
+            read += n;
         }
-        return buffer;
+        return result;
     }
 
     String readAsciiLine() throws IOException {
+        if (peekByte() == -1) {
+            return null;
+        }
+
         StringBuilder result = new StringBuilder();
-        int c = readByte();
-        while (c != '\r' && c != '\n' && c != -1) {
-            result.append((char) c);
-            c = readByte();
+        while (position < limit || fill()) {
+            int start = position;
+            while (position < limit) {
+                byte b = buffer[position];
+                if (b == '\r' || b == '\n') {
+                    result.append(new String(buffer, start, position - start, StandardCharsets.ISO_8859_1));
+                    ++position;
+                    if (b == '\r' && peekByte() == '\n') {
+                        ++position;
+                    }
+                    return result.toString();
+                }
+                ++position;
+            }
+            result.append(new String(buffer, start, position - start, StandardCharsets.ISO_8859_1));
         }
-        if (c == '\r' && peekByte() == '\n') {
-            readByte();
+        return result.toString();
+    }
+
+    /**
+     * Reads a JSON object or array, which is not framed by a Content-Length header.
+     * <p>
+     * The end of the JSON is found by tracking the depth of the brackets outside of JSON strings, hence the input is
+     * scanned only once.
+     *
+     * @return the bytes of the JSON.
+     * @throws IOException thrown if the input ends before the end of the JSON.
+     */
+    byte[] readJson() throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        while (position < limit || fill()) {
+            int start = position;
+            while (position < limit) {
+                byte b = buffer[position++];
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                } else if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    ++depth;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    result.write(buffer, start, position - start);
+                    return result.toByteArray();
+                }
+            }
+            result.write(buffer, start, position - start);
         }
-        if (c == -1 && result.length() == 0) {
-            return null;
+        throw new EOFException("Input ends before the end of the JSON.");
+    }
+
+    private boolean fill() throws IOException {
+        int read = input.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
         }
-        return result.toString();
+        position = 0;
+        limit = read;
+        return true;
     }
 
     public void close() throws IOException {
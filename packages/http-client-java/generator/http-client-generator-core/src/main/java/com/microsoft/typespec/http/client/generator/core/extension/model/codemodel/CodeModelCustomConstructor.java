@@ -5,6 +5,7 @@ package com.microsoft.typespec.http.client.generator.core.extension.model.codemo
 
 import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExamples;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +22,30 @@ import org.yaml.snakeyaml.nodes.SequenceNode;
  * Custom constructor for a CodeModel.
  */
 public class CodeModelCustomConstructor extends Constructor {
+    /**
+     * The names of the extensions which contain hyphen, to the names of their properties in XmsExtensions.
+     */
+    static final Map<String, String> EXTENSION_PROPERTY_NAMES;
+
+    static {
+        Map<String, String> names = new HashMap<>();
+        names.put("x-ms-pageable", "xmsPageable");
+        names.put("x-ms-skip-url-encoding", "xmsSkipUrlEncoding");
+        names.put("x-ms-client-flatten", "xmsClientFlatten");
+        names.put("x-ms-long-running-operation", "xmsLongRunningOperation");
+        names.put("x-ms-flattened", "xmsFlattened");
+        names.put("x-ms-azure-resource", "xmsAzureResource");
+        names.put("x-ms-mutability", "xmsMutability");
+        names.put("x-ms-header-collection-prefix", "xmsHeaderCollectionPrefix");
+        names.put("x-internal-autorest-anonymous-schema", "xmsInternalAutorestAnonymousSchema");
+        names.put("x-ms-long-running-operation-options", "xmsLongRunningOperationOptions");
+        names.put("x-ms-examples", "xmsExamples");
+        names.put("x-ms-arm-id-details", "xmsArmIdDetails");
+        names.put("x-ms-secret", "xmsSecret");
+        names.put("x-ms-versioning-added", "xmsVersioningAdded");
+        EXTENSION_PROPERTY_NAMES = Collections.unmodifiableMap(names);
+    }
+
     /**
      * Creates a new instance of the CodeModelCustomConstructor class.
      *
@@ -258,94 +283,11 @@ public class CodeModelCustomConstructor extends Constructor {
                         List<NodeTuple> actualValues = new ArrayList<>();
                         for (NodeTuple extension : value.getValue()) {
                             ScalarNode keyNode = (ScalarNode) extension.getKeyNode();
-                            if ("x-ms-pageable".equals(keyNode.getValue())) {
-                                actualValues
-                                    .add(
-                                        new NodeTuple(
-                                            new ScalarNode(keyNode.getTag(), "xmsPageable", keyNode.getStartMark(),
-                                                keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                            extension.getValueNode()));
-                            } else if ("x-ms-skip-url-encoding".equals(keyNode.getValue())) {
-                                actualValues
-                                    .add(
-                                        new NodeTuple(
-                                            new ScalarNode(keyNode.getTag(), "xmsSkipUrlEncoding",
-                                                keyNode.getStartMark(), keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                            extension.getValueNode()));
-                            } else if ("x-ms-client-flatten".equals(keyNode.getValue())) {
-                                actualValues
-                                    .add(
-                                        new NodeTuple(
-                                            new ScalarNode(keyNode.getTag(), "xmsClientFlatten", keyNode.getStartMark(),
-                                                keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                            extension.getValueNode()));
-                            } else if ("x-ms-long-running-operation".equals(keyNode.getValue())) {
-                                actualValues
-                                    .add(new NodeTuple(
-                                        new ScalarNode(keyNode.getTag(), "xmsLongRunningOperation",
-                                            keyNode.getStartMark(), keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                        extension.getValueNode()));
-                            } else if ("x-ms-flattened".equals(keyNode.getValue())) {
-                                actualValues
-                                    .add(
-                                        new NodeTuple(
-                                            new ScalarNode(keyNode.getTag(), "xmsFlattened", keyNode.getStartMark(),
-                                                keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                            extension.getValueNode()));
-                            } else if ("x-ms-azure-resource".equals(keyNode.getValue())) {
-                                actualValues
-                                    .add(
-                                        new NodeTuple(
-                                            new ScalarNode(keyNode.getTag(), "xmsAzureResource", keyNode.getStartMark(),
-                                                keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                            extension.getValueNode()));
-                            } else if ("x-ms-mutability".equals(keyNode.getValue())) {
-                                actualValues
-                                    .add(
-                                        new NodeTuple(
-                                            new ScalarNode(keyNode.getTag(), "xmsMutability", keyNode.getStartMark(),
-                                                keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                            extension.getValueNode()));
-                            } else if ("x-ms-header-collection-prefix".equals(keyNode.getValue())) {
-                                actualValues.add(new NodeTuple(
-                                    new ScalarNode(keyNode.getTag(), "xmsHeaderCollectionPrefix",
-                                        keyNode.getStartMark(), keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                    extension.getValueNode()));
-                            } else if ("x-internal-autorest-anonymous-schema".equals(keyNode.getValue())) {
-                                actualValues.add(new NodeTuple(
-                                    new ScalarNode(keyNode.getTag(), "xmsInternalAutorestAnonymousSchema",
-                                        keyNode.getStartMark(), keyNode.getEndMark(), keyNode.getScalarStyle()),
+                            String propertyName = EXTENSION_PROPERTY_NAMES.get(keyNode.getValue());
+                            if (propertyName != null) {
+                                actualValues.add(new NodeTuple(new ScalarNode(keyNode.getTag(), propertyName,
+                                    keyNode.getStartMark(), keyNode.getEndMark(), keyNode.getScalarStyle()),
                                     extension.getValueNode()));
-                            } else if ("x-ms-long-running-operation-options".equals(keyNode.getValue())) {
-                                actualValues.add(new NodeTuple(
-                                    new ScalarNode(keyNode.getTag(), "xmsLongRunningOperationOptions",
-                                        keyNode.getStartMark(), keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                    extension.getValueNode()));
-                            } else if ("x-ms-examples".equals(keyNode.getValue())) {
-                                actualValues
-                                    .add(
-                                        new NodeTuple(
-                                            new ScalarNode(keyNode.getTag(), "xmsExamples", keyNode.getStartMark(),
-                                                keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                            extension.getValueNode()));
-                            } else if ("x-ms-arm-id-details".equals(keyNode.getValue())) {
-                                actualValues
-                                    .add(
-                                        new NodeTuple(
-                                            new ScalarNode(keyNode.getTag(), "xmsArmIdDetails", keyNode.getStartMark(),
-                                                keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                            extension.getValueNode()));
-                            } else if ("x-ms-secret".equals(keyNode.getValue())) {
-                                actualValues.add(
-                                    new NodeTuple(new ScalarNode(keyNode.getTag(), "xmsSecret", keyNode.getStartMark(),
-                                        keyNode.getEndMark(), keyNode.getScalarStyle()), extension.getValueNode()));
-                            } else if ("x-ms-versioning-added".equals(keyNode.getValue())) {
-                                actualValues
-                                    .add(
-                                        new NodeTuple(
-                                            new ScalarNode(keyNode.getTag(), "xmsVersioningAdded",
-                                                keyNode.getStartMark(), keyNode.getEndMark(), keyNode.getScalarStyle()),
-                                            extension.getValueNode()));
                             } else {
                                 // handle properties that do not contain hyphen in name
                                 actualValues.add(new NodeTuple(keyNode, extension.getValueNode()));
@@ -397,106 +339,116 @@ public class CodeModelCustomConstructor extends Constructor {
     private static Class<?> getSchemaTypeFromMappingNode(MappingNode value) {
         for (NodeTuple schemaProps : value.getValue()) {
             if (((ScalarNode) schemaProps.getKeyNode()).getValue().equals("type")) {
-                switch (((ScalarNode) schemaProps.getValueNode()).getValue()) {
-                    case "any-object":
-                    case "any":
-                        return AnySchema.class;
+                return getSchemaType(((ScalarNode) schemaProps.getValueNode()).getValue());
+            }
+        }
+        return Schema.class;
+    }
 
-                    case "and":
-                        return AndSchema.class;
+    /**
+     * Gets the class of the schema, from the value of its "type" property.
+     *
+     * @param type the value of the "type" property.
+     * @return the class of the schema.
+     */
+    static Class<?> getSchemaType(String type) {
+        switch (type) {
+            case "any-object":
+            case "any":
+                return AnySchema.class;
 
-                    case "array":
-                        return ArraySchema.class;
+            case "and":
+                return AndSchema.class;
 
-                    case "boolean":
-                        return BooleanSchema.class;
+            case "array":
+                return ArraySchema.class;
 
-                    case "binary":
-                        return BinarySchema.class;
+            case "boolean":
+                return BooleanSchema.class;
 
-                    case "byte-array":
-                        return ByteArraySchema.class;
+            case "binary":
+                return BinarySchema.class;
 
-                    case "char":
-                        return CharSchema.class;
+            case "byte-array":
+                return ByteArraySchema.class;
 
-                    case "choice":
-                        return ChoiceSchema.class;
+            case "char":
+                return CharSchema.class;
 
-                    case "constant":
-                        return ConstantSchema.class;
+            case "choice":
+                return ChoiceSchema.class;
 
-                    case "credential":
-                        return CredentialSchema.class;
+            case "constant":
+                return ConstantSchema.class;
 
-                    case "date":
-                        return DateSchema.class;
+            case "credential":
+                return CredentialSchema.class;
 
-                    case "date-time":
-                        return DateTimeSchema.class;
+            case "date":
+                return DateSchema.class;
 
-                    case "dictionary":
-                        return DictionarySchema.class;
+            case "date-time":
+                return DateTimeSchema.class;
 
-                    case "duration":
-                        return DurationSchema.class;
+            case "dictionary":
+                return DictionarySchema.class;
 
-                    case "flag":
-                        return FlagSchema.class;
+            case "duration":
+                return DurationSchema.class;
 
-                    case "group":
-                        return ObjectSchema.class;
+            case "flag":
+                return FlagSchema.class;
 
-                    case "integer":
-                        return NumberSchema.class;
+            case "group":
+                return ObjectSchema.class;
 
-                    case "not":
-                        return NotSchema.class;
+            case "integer":
+                return NumberSchema.class;
 
-                    case "number":
-                        return NumberSchema.class;
+            case "not":
+                return NotSchema.class;
 
-                    case "object":
-                        return ObjectSchema.class;
+            case "number":
+                return NumberSchema.class;
 
-                    case "odata-query":
-                        return ODataQuerySchema.class;
+            case "object":
+                return ObjectSchema.class;
 
-                    case "or":
-                        return OrSchema.class;
+            case "odata-query":
+                return ODataQuerySchema.class;
 
-                    case "parameter-group":
-                        return ParameterGroupSchema.class;
+            case "or":
+                return OrSchema.class;
 
-                    case "sealed-choice":
-                        return SealedChoiceSchema.class;
+            case "parameter-group":
+                return ParameterGroupSchema.class;
 
-                    case "string":
-                        return StringSchema.class;
+            case "sealed-choice":
+                return SealedChoiceSchema.class;
 
-                    case "time":
-                        return TimeSchema.class;
+            case "string":
+                return StringSchema.class;
 
-                    case "unixtime":
-                        return UnixTimeSchema.class;
+            case "time":
+                return TimeSchema.class;
 
-                    case "uri":
-                        return UriSchema.class;
+            case "unixtime":
+                return UnixTimeSchema.class;
 
-                    case "uuid":
-                        return UuidSchema.class;
+            case "uri":
+                return UriSchema.class;
 
-                    case "xor":
-                        return XorSchema.class;
+            case "uuid":
+                return UuidSchema.class;
 
-                    case "arm-id":
-                        return ArmIdSchema.class;
+            case "xor":
+                return XorSchema.class;
 
-                    default:
-                        return Schema.class;
-                }
-            }
+            case "arm-id":
+                return ArmIdSchema.class;
+
+            default:
+                return Schema.class;
         }
-        return Schema.class;
     }
 }
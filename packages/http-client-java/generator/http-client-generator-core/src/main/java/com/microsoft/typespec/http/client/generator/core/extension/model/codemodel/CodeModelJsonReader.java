@@ -0,0 +1,435 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import com.azure.json.JsonWriter;
+import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExamples;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Reads a code model from JSON, as an alternative to YAML and {@link CodeModelCustomConstructor}.
+ * <p>
+ * The JSON is read in a single pass with a streaming {@link JsonReader}, into the same classes, by the same rules as
+ * the YAML constructor. Properties are set by their setters, and named as the bean property or by
+ * {@link YamlProperty}. The class of a schema comes from its "type". Extensions whose names contain hyphen are renamed
+ * to the properties of XmsExtensions.
+ * <p>
+ * An object referenced more than once (an anchor in YAML) has an "$id" field at its first occurrence, and is
+ * {"$ref": id} at the others. "$id" is the first field of the object, so that references are resolved as they are
+ * read, including a reference to an object which is still being read. An array referenced more than once is
+ * {"$id": id, "$values": [...]}. The "type" of a schema follows "$id", otherwise the rest of the schema is buffered to
+ * find its type.
+ */
+public final class CodeModelJsonReader {
+    // keys whose value is a schema, of the class given by its "type"
+    private static final Set<String> SCHEMA_KEYS
+        = new HashSet<>(Arrays.asList("choiceType", "elementType", "valueType", "schema"));
+    // keys whose items are schemas, of the class given by their "type"
+    private static final Set<String> SCHEMA_COLLECTION_KEYS = new HashSet<>(Arrays.asList("immediate", "all", "allOf"));
+
+    private static final Map<Class<?>, Bean> BEANS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Function<String, Object>> ENUM_PARSERS = new ConcurrentHashMap<>();
+
+    private final Map<String, Object> references = new HashMap<>();
+
+    private CodeModelJsonReader() {
+    }
+
+    /**
+     * Reads the code model.
+     *
+     * @param jsonReader the JSON reader.
+     * @return the code model.
+     * @throws IOException thrown if the JSON cannot be read.
+     * @throws IllegalStateException thrown if the JSON does not match the code model, or a reference is unresolved.
+     */
+    public static CodeModel read(JsonReader jsonReader) throws IOException {
+        if (jsonReader.currentToken() == null) {
+            jsonReader.nextToken();
+        }
+        return (CodeModel) new CodeModelJsonReader().readValue(jsonReader, CodeModel.class, null, false);
+    }
+
+    private Object readValue(JsonReader reader, Type type, String key, boolean schema) throws IOException {
+        JsonToken token = reader.currentToken();
+        if (token == JsonToken.NULL) {
+            return null;
+        } else if (token == JsonToken.START_ARRAY) {
+            return readCollection(reader, type, key, null);
+        } else if (token == JsonToken.START_OBJECT) {
+            return readObject(reader, type, key, schema);
+        } else {
+            return readScalar(reader, getRawType(type));
+        }
+    }
+
+    private Object readObject(JsonReader reader, Type type, String key, boolean schema) throws IOException {
+        JsonToken token = reader.nextToken();
+        String id = null;
+        if (token == JsonToken.FIELD_NAME && "$ref".equals(reader.getFieldName())) {
+            reader.nextToken();
+            String reference = reader.getString();
+            Object value = references.get(reference);
+            if (value == null) {
+                throw new IllegalStateException("Unresolved reference '" + reference + "'.");
+            }
+            skipRemainingFields(reader);
+            return value;
+        } else if (token == JsonToken.FIELD_NAME && "$id".equals(reader.getFieldName())) {
+            reader.nextToken();
+            id = reader.getString();
+            token = reader.nextToken();
+        }
+
+        Class<?> rawType = getRawType(type);
+        if (token == JsonToken.FIELD_NAME && "$values".equals(reader.getFieldName())) {
+            reader.nextToken();
+            Object values = readCollection(reader, type, key, id);
+            skipRemainingFields(reader);
+            return values;
+        } else if (rawType == XmsExamples.class) {
+            // examples are read as Map<String, Object>
+            XmsExamples examples = new XmsExamples();
+            examples.setExamples(new HashMap<>());
+            register(id, examples);
+            readMapFields(reader, token, examples.getExamples(), Object.class, null);
+            return examples;
+        } else if (rawType == Object.class || Map.class.isAssignableFrom(rawType)) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            register(id, map);
+            // extensions are not renamed in an untyped map
+            readMapFields(reader, token, map, getTypeArgument(type, 1), rawType == Object.class ? null : key);
+            return map;
+        }
+
+        if (schema && token == JsonToken.FIELD_NAME && "type".equals(reader.getFieldName())) {
+            reader.nextToken();
+            Bean bean = getBean(getSchemaType(rawType, reader.getString()));
+            Object object = bean.newInstance();
+            register(id, object);
+            readProperty(reader, bean, object, "type");
+            readBeanFields(reader, reader.nextToken(), bean, object, key);
+            return object;
+        } else if (schema && token == JsonToken.FIELD_NAME) {
+            // "type" is not the first field, read the schema from its buffered fields
+            String fields = readRemainingFields(reader);
+            Bean bean = getBean(getSchemaType(rawType, findSchemaType(fields)));
+            Object object = bean.newInstance();
+            register(id, object);
+            try (JsonReader fieldsReader = JsonProviders.createReader(fields)) {
+                fieldsReader.nextToken();
+                readBeanFields(fieldsReader, fieldsReader.nextToken(), bean, object, key);
+            }
+            return object;
+        } else {
+            Bean bean = getBean(schema ? Schema.class.isAssignableFrom(rawType) ? rawType : Schema.class : rawType);
+            Object object = bean.newInstance();
+            register(id, object);
+            readBeanFields(reader, token, bean, object, key);
+            return object;
+        }
+    }
+
+    private void readBeanFields(JsonReader reader, JsonToken token, Bean bean, Object object, String key)
+        throws IOException {
+        while (token == JsonToken.FIELD_NAME) {
+            String propertyName = getPropertyName(key, reader.getFieldName());
+            reader.nextToken();
+            if (propertyName == null) {
+                reader.skipChildren();
+            } else {
+                readProperty(reader, bean, object, propertyName);
+            }
+            token = reader.nextToken();
+        }
+    }
+
+    private void readProperty(JsonReader reader, Bean bean, Object object, String propertyName) throws IOException {
+        BeanProperty property = bean.properties.get(propertyName);
+        if (property == null) {
+            // missing properties are skipped
+            reader.skipChildren();
+        } else {
+            Object value = readValue(reader, property.type, propertyName, SCHEMA_KEYS.contains(propertyName));
+            if (value != null || !property.primitive) {
+                property.set(object, value);
+            }
+        }
+    }
+
+    private void readMapFields(JsonReader reader, JsonToken token, Map<String, Object> map, Type valueType,
+        String key) throws IOException {
+        boolean typedValues = getRawType(valueType) != Object.class;
+        boolean schemaValues = typedValues && SCHEMA_COLLECTION_KEYS.contains(key);
+        while (token == JsonToken.FIELD_NAME) {
+            String name = typedValues ? getPropertyName(key, reader.getFieldName()) : reader.getFieldName();
+            reader.nextToken();
+            if (name == null) {
+                reader.skipChildren();
+            } else {
+                map.put(name, readValue(reader, valueType, typedValues ? name : null,
+                    schemaValues || (typedValues && SCHEMA_KEYS.contains(name))));
+            }
+            token = reader.nextToken();
+        }
+    }
+
+    private Collection<Object> readCollection(JsonReader reader, Type type, String key, String id)
+        throws IOException {
+        Class<?> rawType = getRawType(type);
+        Collection<Object> collection = Set.class.isAssignableFrom(rawType) ? new LinkedHashSet<>() : new ArrayList<>();
+        register(id, collection);
+
+        Type elementType = getTypeArgument(type, 0);
+        boolean schemaItems = getRawType(elementType) != Object.class && SCHEMA_COLLECTION_KEYS.contains(key);
+        while (reader.nextToken() != JsonToken.END_ARRAY) {
+            collection.add(readValue(reader, elementType, null, schemaItems));
+        }
+        return collection;
+    }
+
+    private void register(String id, Object object) {
+        if (id != null) {
+            references.put(id, object);
+        }
+    }
+
+    private static String getPropertyName(String key, String fieldName) {
+        if ("extensions".equals(key)) {
+            return CodeModelCustomConstructor.EXTENSION_PROPERTY_NAMES.getOrDefault(fieldName, fieldName);
+        } else if ("xmsLongRunningOperationOptions".equals(key)) {
+            // other options are ignored
+            return "final-state-via".equals(fieldName) ? "finalStateVia" : null;
+        } else {
+            return fieldName;
+        }
+    }
+
+    private static Class<?> getSchemaType(Class<?> declaredType, String type) {
+        Class<?> schemaType = type == null ? Schema.class : CodeModelCustomConstructor.getSchemaType(type);
+        return declaredType.isAssignableFrom(schemaType) ? schemaType : declaredType;
+    }
+
+    private static String findSchemaType(String fields) throws IOException {
+        try (JsonReader reader = JsonProviders.createReader(fields)) {
+            reader.nextToken();
+            while (reader.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = reader.getFieldName();
+                reader.nextToken();
+                if ("type".equals(fieldName)) {
+                    return reader.getString();
+                }
+                reader.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    private static String readRemainingFields(JsonReader reader) throws IOException {
+        StringWriter fields = new StringWriter();
+        try (JsonWriter writer = JsonProviders.createWriter(fields)) {
+            writer.writeStartObject();
+            while (reader.currentToken() == JsonToken.FIELD_NAME) {
+                String fieldName = reader.getFieldName();
+                JsonToken token = reader.nextToken();
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    writer.writeRawField(fieldName, reader.readChildren());
+                } else if (token == JsonToken.STRING) {
+                    writer.writeStringField(fieldName, reader.getString());
+                } else {
+                    writer.writeRawField(fieldName, reader.getText());
+                }
+                reader.nextToken();
+            }
+            writer.writeEndObject();
+        }
+        return fields.toString();
+    }
+
+    private static void skipRemainingFields(JsonReader reader) throws IOException {
+        while (reader.nextToken() == JsonToken.FIELD_NAME) {
+            reader.nextToken();
+            reader.skipChildren();
+        }
+    }
+
+    private static Object readScalar(JsonReader reader, Class<?> type) throws IOException {
+        JsonToken token = reader.currentToken();
+        String text = token == JsonToken.STRING ? reader.getString() : reader.getText();
+        if (type == String.class) {
+            return text;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return Boolean.parseBoolean(text);
+        } else if (type == double.class || type == Double.class) {
+            return Double.parseDouble(text);
+        } else if (type == float.class || type == Float.class) {
+            return Float.parseFloat(text);
+        } else if (type == int.class || type == Integer.class) {
+            return Integer.parseInt(text);
+        } else if (type == long.class || type == Long.class) {
+            return Long.parseLong(text);
+        } else if (type.isEnum()) {
+            return ENUM_PARSERS.computeIfAbsent(type, CodeModelJsonReader::getEnumParser).apply(text);
+        } else if (type == Object.class) {
+            if (token == JsonToken.BOOLEAN) {
+                return reader.getBoolean();
+            } else if (token == JsonToken.NUMBER) {
+                return parseNumber(text);
+            } else {
+                return text;
+            }
+        } else {
+            throw new IllegalStateException("Unexpected " + token + " for " + type.getName() + ".");
+        }
+    }
+
+    private static Object parseNumber(String text) {
+        // same as the number types of YAML
+        if (text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0) {
+            return Double.parseDouble(text);
+        }
+        BigInteger value = new BigInteger(text);
+        if (value.bitLength() < Integer.SIZE) {
+            return value.intValue();
+        } else if (value.bitLength() < Long.SIZE) {
+            return value.longValue();
+        } else {
+            return value;
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Function<String, Object> getEnumParser(Class<?> type) {
+        try {
+            // the enums of code model parse their values with "fromValue"
+            Method fromValue = type.getMethod("fromValue", String.class);
+            if (Modifier.isStatic(fromValue.getModifiers())) {
+                return value -> {
+                    try {
+                        return fromValue.invoke(null, value);
+                    } catch (IllegalAccessException | InvocationTargetException e) {
+                        throw new IllegalStateException("Failed to parse '" + value + "' as " + type.getName(), e);
+                    }
+                };
+            }
+        } catch (NoSuchMethodException e) {
+            // fall back to the name of the enum constant
+        }
+        return value -> Enum.valueOf((Class<? extends Enum>) type, value);
+    }
+
+    private static Class<?> getRawType(Type type) {
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        } else if (type instanceof WildcardType) {
+            return getRawType(((WildcardType) type).getUpperBounds()[0]);
+        } else {
+            return Object.class;
+        }
+    }
+
+    private static Type getTypeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length) {
+                return arguments[index];
+            }
+        }
+        return Object.class;
+    }
+
+    private static Bean getBean(Class<?> type) {
+        return BEANS.computeIfAbsent(type, Bean::new);
+    }
+
+    private static final class Bean {
+        private final Class<?> type;
+        private final Constructor<?> constructor;
+        private final Map<String, BeanProperty> properties = new HashMap<>();
+
+        private Bean(Class<?> type) {
+            this.type = type;
+            try {
+                this.constructor = type.getConstructor();
+                for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                    Method setter = descriptor.getWriteMethod();
+                    if (setter == null) {
+                        continue;
+                    }
+
+                    BeanProperty property = new BeanProperty(setter);
+                    properties.put(descriptor.getName(), property);
+                    // the name in YAML, see AnnotatedPropertyUtils
+                    YamlProperty yamlProperty = descriptor.getReadMethod() == null
+                        ? null
+                        : descriptor.getReadMethod().getAnnotation(YamlProperty.class);
+                    if (yamlProperty == null) {
+                        yamlProperty = setter.getAnnotation(YamlProperty.class);
+                    }
+                    if (yamlProperty != null) {
+                        properties.put(yamlProperty.value(), property);
+                    }
+                }
+            } catch (NoSuchMethodException | IntrospectionException e) {
+                throw new IllegalStateException("Failed to inspect class " + type.getName(), e);
+            }
+        }
+
+        private Object newInstance() {
+            try {
+                return constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create instance of class " + type.getName(), e);
+            }
+        }
+    }
+
+    private static final class BeanProperty {
+        private final Method setter;
+        private final Type type;
+        private final boolean primitive;
+
+        private BeanProperty(Method setter) {
+            this.setter = setter;
+            this.type = setter.getGenericParameterTypes()[0];
+            this.primitive = setter.getParameterTypes()[0].isPrimitive();
+        }
+
+        private void set(Object object, Object value) {
+            try {
+                setter.invoke(object, value);
+            } catch (IllegalAccessException | InvocationTargetException | IllegalArgumentException e) {
+                throw new IllegalStateException("Failed to set property with " + setter, e);
+            }
+        }
+    }
+}
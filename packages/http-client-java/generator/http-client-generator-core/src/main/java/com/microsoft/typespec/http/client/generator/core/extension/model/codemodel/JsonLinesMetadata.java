@@ -0,0 +1,54 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
+
+/**
+ * Represents the metadata for operations with JSON Lines (application/jsonl) request or response body.
+ */
+public class JsonLinesMetadata {
+    private ObjectSchema requestItemType;
+    private ObjectSchema responseItemType;
+
+    /**
+     * Creates a new instance of the JsonLinesMetadata class.
+     */
+    public JsonLinesMetadata() {
+    }
+
+    /**
+     * Gets the type of the items of the JSON Lines request body.
+     *
+     * @return The type of the items of the JSON Lines request body.
+     */
+    public ObjectSchema getRequestItemType() {
+        return requestItemType;
+    }
+
+    /**
+     * Sets the type of the items of the JSON Lines request body.
+     *
+     * @param requestItemType The type of the items of the JSON Lines request body.
+     */
+    public void setRequestItemType(ObjectSchema requestItemType) {
+        this.requestItemType = requestItemType;
+    }
+
+    /**
+     * Gets the type of the items of the JSON Lines response body.
+     *
+     * @return The type of the items of the JSON Lines response body.
+     */
+    public ObjectSchema getResponseItemType() {
+        return responseItemType;
+    }
+
+    /**
+     * Sets the type of the items of the JSON Lines response body.
+     *
+     * @param responseItemType The type of the items of the JSON Lines response body.
+     */
+    public void setResponseItemType(ObjectSchema responseItemType) {
+        this.responseItemType = responseItemType;
+    }
+}
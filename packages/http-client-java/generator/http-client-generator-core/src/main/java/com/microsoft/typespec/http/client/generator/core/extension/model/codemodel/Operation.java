@@ -31,6 +31,7 @@ public class Operation extends Metadata {
     private ExternalDocumentation externalDocs;
     private List<String> specialHeaders;
     private LongRunningMetadata lroMetadata;
+    private JsonLinesMetadata jsonLinesMetadata;
     private ConvenienceApi convenienceApi;
     private Boolean generateProtocolApi;
     private Boolean internalApi;
@@ -349,6 +350,24 @@ public class Operation extends Metadata {
         this.lroMetadata = lroMetadata;
     }
 
+    /**
+     * Gets the metadata for operations with JSON Lines request or response body.
+     *
+     * @return The metadata for operations with JSON Lines request or response body.
+     */
+    public JsonLinesMetadata getJsonLinesMetadata() {
+        return jsonLinesMetadata;
+    }
+
+    /**
+     * Sets the metadata for operations with JSON Lines request or response body.
+     *
+     * @param jsonLinesMetadata The metadata for operations with JSON Lines request or response body.
+     */
+    public void setJsonLinesMetadata(JsonLinesMetadata jsonLinesMetadata) {
+        this.jsonLinesMetadata = jsonLinesMetadata;
+    }
+
     /**
      * Gets the convenience API.
      *
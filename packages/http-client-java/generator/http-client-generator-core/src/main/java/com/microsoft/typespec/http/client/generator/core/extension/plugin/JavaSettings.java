@@ -79,6 +79,16 @@ public class JavaSettings {
      */
     public static void clear() {
         instance = null;
+        SIMPLE_JAVA_SETTINGS.clear();
+    }
+
+    /**
+     * Whether the JavaSettings instance is initialized, since it is last cleared.
+     *
+     * @return Whether the JavaSettings instance is initialized.
+     */
+    public static boolean isInitialized() {
+        return instance != null;
     }
 
     /**
@@ -321,6 +331,25 @@ public class JavaSettings {
         // Whether to handle partial updates.
         this.handlePartialUpdate = getBooleanValue(host, "partial-update", false);
 
+        // The engine used to format generated code. "in-process" formats with the Eclipse formatter inside the current
+        // JVM, "maven" forks 'mvn spotless:apply'.
+        this.codeFormatterMode = CodeFormatterMode.fromValue(getStringValue(host, "code-formatter", "in-process"));
+
+        // Whether to keep formatted code in a persistent cache, so that unchanged code is not formatted again.
+        this.formatCache = getBooleanValue(host, "format-cache", true);
+
+        // Whether a generator which writes to the output folder directly skips the files whose content is unchanged,
+        // and keeps a manifest of the files written.
+        this.writeIfChanged = getBooleanValue(host, "write-if-changed", true);
+
+        // The number of JSON fields from which the generated 'fromJson' dispatches on the field name with a switch,
+        // instead of an if-else chain comparing the field name with each field. 0 disables the switch.
+        this.jsonFieldSwitchThreshold = getIntValue(host, "json-field-switch-threshold", 16);
+
+        // Whether the implementation of the service interface is generated, instead of being created by RestProxy via
+        // reflection. Only applies to azure-core clients which are not fluent.
+        this.generateServiceImpl = getBooleanValue(host, "generate-service-impl", false);
+
         // If set to true, responses will only use Response, ResponseBase, PagedResponse, and PagedResponseBase types
         // with generics instead of creating a specific named type that extends one of those types.
         // If fluent default to false, this is because the automated test generation ends up with invalid code.
@@ -1381,6 +1410,94 @@ public class JavaSettings {
         return handlePartialUpdate;
     }
 
+    private final CodeFormatterMode codeFormatterMode;
+
+    /**
+     * The engine used to format generated code.
+     *
+     * @return The engine used to format generated code.
+     */
+    public CodeFormatterMode getCodeFormatterMode() {
+        return codeFormatterMode;
+    }
+
+    private final boolean formatCache;
+
+    /**
+     * Whether formatted code is kept in a persistent cache, keyed by the hash of the unformatted code.
+     * <p>
+     * The cache is in the cache directory of the current user, and is not used if the directory is writable by other
+     * users.
+     *
+     * @return Whether formatted code is kept in a persistent cache.
+     */
+    public boolean isFormatCache() {
+        return formatCache;
+    }
+
+    private final boolean writeIfChanged;
+
+    /**
+     * Whether a generator which writes to the output folder directly skips the files whose content is unchanged, and
+     * keeps a manifest of the files written.
+     *
+     * @return Whether files whose content is unchanged are skipped.
+     */
+    public boolean isWriteIfChanged() {
+        return writeIfChanged;
+    }
+
+    private final int jsonFieldSwitchThreshold;
+
+    /**
+     * The number of JSON fields from which the generated 'fromJson' dispatches on the field name with a switch,
+     * instead of an if-else chain. 0 means the if-else chain is always used.
+     *
+     * @return The number of JSON fields from which a switch is used.
+     */
+    public int getJsonFieldSwitchThreshold() {
+        return jsonFieldSwitchThreshold;
+    }
+
+    private final boolean generateServiceImpl;
+
+    /**
+     * Whether the implementation of the service interface is generated, instead of being created by RestProxy.
+     *
+     * @return Whether the implementation of the service interface is generated.
+     */
+    public boolean isGenerateServiceImpl() {
+        return generateServiceImpl;
+    }
+
+    /**
+     * Represents the engine used to format generated code.
+     */
+    public enum CodeFormatterMode {
+        /**
+         * Format in the current JVM, using the Eclipse formatter.
+         */
+        IN_PROCESS,
+
+        /**
+         * Format by forking 'mvn spotless:apply'.
+         */
+        MAVEN;
+
+        /**
+         * Convert the string value to the enum value.
+         *
+         * @param value The string value.
+         * @return The enum value.
+         */
+        public static CodeFormatterMode fromValue(String value) {
+            if ("maven".equalsIgnoreCase(value)) {
+                return MAVEN;
+            }
+            return IN_PROCESS;
+        }
+    }
+
     private final boolean genericResponseTypes;
 
     /**
@@ -1564,6 +1681,18 @@ public class JavaSettings {
         }
     }
 
+    private static int getIntValue(NewPlugin host, String settingName, int defaultValue) {
+        String ret = host.getStringValue(settingName);
+        if (ret == null) {
+            return defaultValue;
+        } else {
+            logger.debug("Option, int, {} : {}", settingName, ret);
+            int value = Integer.parseInt(ret.trim());
+            SIMPLE_JAVA_SETTINGS.put(settingName, value);
+            return value;
+        }
+    }
+
     private static void loadStringOrArraySettingAsArray(String settingName, Consumer<List<String>> action) {
         host.getValue(settingName, jsonString -> {
             if (jsonString == null) {
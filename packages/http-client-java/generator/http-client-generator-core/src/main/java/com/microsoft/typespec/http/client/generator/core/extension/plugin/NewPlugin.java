@@ -21,6 +21,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
@@ -52,6 +55,11 @@ public abstract class NewPlugin {
      */
     protected final String sessionId;
 
+    // metrics of the files sent to the AutoRest extension
+    private final AtomicInteger writtenFileCount = new AtomicInteger();
+    private final AtomicLong writtenFileBytes = new AtomicLong();
+    private final AtomicLong writeFileNanos = new AtomicLong();
+
     /**
      * Reads the content of a file.
      *
@@ -203,13 +211,17 @@ public abstract class NewPlugin {
 
     /**
      * Writes the content to a file.
+     * <p>
+     * The files are buffered by the connection, and sent to the AutoRest extension in batches.
      *
      * @param fileName The name of the file.
      * @param content The content of the file.
      * @param sourceMap The source map of the file.
      */
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
-        connection.notify("WriteFile", sessionId, fileName, content, sourceMap);
+        long startNanos = System.nanoTime();
+        int size = connection.notifyBuffered("WriteFile", sessionId, fileName, content, sourceMap);
+        recordWrittenFile(size, startNanos);
     }
 
     /**
@@ -231,7 +243,31 @@ public abstract class NewPlugin {
         }
         message.setText(content);
         message.setKey(Arrays.asList(artifactType, fileName));
-        connection.notify("Message", sessionId, message);
+
+        long startNanos = System.nanoTime();
+        int size = connection.notifyBuffered("Message", sessionId, message);
+        recordWrittenFile(size, startNanos);
+    }
+
+    private void recordWrittenFile(int size, long startNanos) {
+        writeFileNanos.addAndGet(System.nanoTime() - startNanos);
+        writtenFileBytes.addAndGet(size);
+        writtenFileCount.incrementAndGet();
+    }
+
+    private void reportWrittenFiles() {
+        int fileCount = writtenFileCount.get();
+        if (fileCount > 0) {
+            long bytes = writtenFileBytes.get();
+            long millis = TimeUnit.NANOSECONDS.toMillis(writeFileNanos.get());
+            String throughput = millis == 0
+                ? "-"
+                : String.format("%.1f MB/s", bytes / (1024.0 * 1024.0) / (millis / 1000.0));
+            message(MessageChannel.DEBUG,
+                String.format("Wrote %d files (%d KB) in %d ms, throughput %s", fileCount, bytes / 1024, millis,
+                    throughput),
+                null, List.of(getClass().getSimpleName()));
+        }
     }
 
     /**
@@ -321,10 +357,15 @@ public abstract class NewPlugin {
     public boolean process() {
         try {
             JavaSettings.setHost(this);
-            return processInternal();
+            boolean result = processInternal();
+            reportWrittenFiles();
+            return result;
         } catch (Throwable t) {
             message(MessageChannel.FATAL, "Unhandled error: " + t.getMessage(), t, List.of(getClass().getSimpleName()));
             return false;
+        } finally {
+            // send the files that are still buffered
+            connection.flush();
         }
     }
 
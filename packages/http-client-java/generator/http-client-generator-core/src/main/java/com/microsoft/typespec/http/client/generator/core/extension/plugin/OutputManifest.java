@@ -0,0 +1,268 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.plugin;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import com.azure.json.JsonWriter;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.HashUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+
+/**
+ * Writes the output files of a generator which writes to the output folder directly, skipping the files whose content
+ * is unchanged.
+ * <p>
+ * The manifest records the content hash, size and last modified time of each file written. A file on disk whose size
+ * and last modified time match the manifest is compared by hash, otherwise it is read and compared by content. Hence,
+ * an unchanged file keeps its last modified time, and incremental builds do not recompile it.
+ * <p>
+ * The manifest also records the files added, changed and deleted in the last run, as a summary for downstream builds.
+ * It is kept in the "target" folder of the output folder, so that it is not checked in with the generated code.
+ * <p>
+ * The manifest also records the fingerprint of the input of the last run. If the input of this run has the same
+ * fingerprint, and no file written in the last run has been modified since, the output is still up to date, and the
+ * generation can be skipped as a whole. This only skips a no-op rerun, it is not a cache of the mapped code model.
+ */
+public final class OutputManifest {
+    /**
+     * The path of the manifest, relative to the output folder.
+     */
+    public static final String MANIFEST_FILE_NAME = "target/codegen-manifest.json";
+
+    private final Path outputDir;
+    private final Map<String, Entry> previousEntries = new HashMap<>();
+    private String previousInputFingerprint;
+    private String inputFingerprint;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> addedFiles = ConcurrentHashMap.newKeySet();
+    private final Set<String> changedFiles = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger unchangedFileCount = new AtomicInteger();
+
+    private OutputManifest(Path outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    /**
+     * Loads the manifest of the output folder. An absent or invalid manifest is treated as empty.
+     *
+     * @param outputDir the output folder.
+     * @return the manifest.
+     */
+    public static OutputManifest load(Path outputDir) {
+        Path manifestPath = outputDir.resolve(MANIFEST_FILE_NAME);
+        OutputManifest manifest = new OutputManifest(outputDir);
+        if (Files.isRegularFile(manifestPath)) {
+            try (JsonReader jsonReader = JsonProviders.createReader(Files.readAllBytes(manifestPath))) {
+                JsonUtils.readObject(jsonReader, () -> manifest, OutputManifest::readField);
+            } catch (IOException | RuntimeException e) {
+                // the manifest is only an optimization, every file would be compared by content
+                manifest.previousEntries.clear();
+                manifest.previousInputFingerprint = null;
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Sets the fingerprint of the input of this run, and checks whether the output of the last run is up to date.
+     * <p>
+     * The output is up to date, if the input of the last run has the same fingerprint, and every file written in the
+     * last run still has the size and last modified time recorded in the manifest. In that case, these files are
+     * recorded as unchanged in this run.
+     *
+     * @param inputFingerprint the fingerprint of the input, e.g. the hash of the code model and the options.
+     * @return whether the output of the last run is up to date.
+     */
+    public boolean reuseIfUpToDate(String inputFingerprint) {
+        this.inputFingerprint = inputFingerprint;
+        if (previousEntries.isEmpty() || !inputFingerprint.equals(previousInputFingerprint)) {
+            return false;
+        }
+
+        try {
+            for (Map.Entry<String, Entry> previousEntry : previousEntries.entrySet()) {
+                BasicFileAttributes attributes
+                    = readAttributes(outputDir.resolve(previousEntry.getKey()).toAbsolutePath());
+                if (attributes == null
+                    || attributes.size() != previousEntry.getValue().size
+                    || attributes.lastModifiedTime().toMillis() != previousEntry.getValue().lastModified) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            return false;
+        }
+
+        entries.putAll(previousEntries);
+        unchangedFileCount.set(previousEntries.size());
+        return true;
+    }
+
+    /**
+     * Writes the content to the file, if the file does not exist, or its content is different.
+     *
+     * @param fileName the path of the file, relative to the output folder.
+     * @param content the content of the file.
+     * @return whether the file is written.
+     */
+    public boolean writeFile(String fileName, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String hash = HashUtils.sha256(bytes);
+        Path outputFile = outputDir.resolve(fileName).toAbsolutePath();
+        try {
+            BasicFileAttributes attributes = readAttributes(outputFile);
+            if (attributes != null && isUnchanged(fileName, outputFile, attributes, bytes, hash)) {
+                entries.put(fileName, new Entry(hash, attributes.size(), attributes.lastModifiedTime().toMillis()));
+                unchangedFileCount.incrementAndGet();
+                return false;
+            }
+
+            Files.createDirectories(outputFile.getParent());
+            Files.write(outputFile, bytes);
+            BasicFileAttributes newAttributes = Files.readAttributes(outputFile, BasicFileAttributes.class);
+            entries.put(fileName, new Entry(hash, newAttributes.size(), newAttributes.lastModifiedTime().toMillis()));
+            (attributes == null ? addedFiles : changedFiles).add(fileName);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Saves the manifest, and logs the summary of the files added, changed and deleted.
+     * <p>
+     * A file is considered deleted if it is in the previous manifest, but not written in this run. The file itself is
+     * kept in the output folder.
+     *
+     * @param logger the logger.
+     */
+    public void save(Logger logger) {
+        List<String> deletedFiles = new ArrayList<>();
+        for (String fileName : previousEntries.keySet()) {
+            if (!entries.containsKey(fileName)) {
+                deletedFiles.add(fileName);
+            }
+        }
+        Collections.sort(deletedFiles);
+
+        logger.info("Output files: {} added, {} changed, {} unchanged, {} deleted.", addedFiles.size(),
+            changedFiles.size(), unchangedFileCount.get(), deletedFiles.size());
+        sorted(addedFiles).forEach(fileName -> logger.debug("Added file: {}", fileName));
+        sorted(changedFiles).forEach(fileName -> logger.debug("Changed file: {}", fileName));
+        deletedFiles.forEach(fileName -> logger.debug("Deleted file: {}", fileName));
+
+        Path manifestPath = outputDir.resolve(MANIFEST_FILE_NAME);
+        try {
+            Files.createDirectories(manifestPath.getParent());
+            try (OutputStream outputStream = Files.newOutputStream(manifestPath);
+                JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+                jsonWriter.writeStartObject();
+                jsonWriter.writeStringField("inputFingerprint", inputFingerprint);
+                jsonWriter.writeArrayField("added", sorted(addedFiles), JsonWriter::writeString);
+                jsonWriter.writeArrayField("changed", sorted(changedFiles), JsonWriter::writeString);
+                jsonWriter.writeArrayField("deleted", deletedFiles, JsonWriter::writeString);
+                jsonWriter.writeMapField("files", new TreeMap<>(entries), (writer, entry) -> entry.toJson(writer));
+                jsonWriter.writeEndObject();
+            }
+        } catch (IOException e) {
+            // the manifest is only an optimization, failing to save it does not fail the generation
+            logger.warn("Failed to save output manifest {}: {}", manifestPath, e.getMessage());
+        }
+    }
+
+    private boolean isUnchanged(String fileName, Path outputFile, BasicFileAttributes attributes, byte[] bytes,
+        String hash) throws IOException {
+        if (attributes.size() != bytes.length) {
+            return false;
+        }
+
+        Entry previousEntry = previousEntries.get(fileName);
+        if (previousEntry != null
+            && previousEntry.size == attributes.size()
+            && previousEntry.lastModified == attributes.lastModifiedTime().toMillis()) {
+            // the file is not modified since it was written
+            return previousEntry.hash.equals(hash);
+        }
+        return HashUtils.sha256(Files.readAllBytes(outputFile)).equals(hash);
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) throws IOException {
+        return Files.isRegularFile(path) ? Files.readAttributes(path, BasicFileAttributes.class) : null;
+    }
+
+    private static List<String> sorted(Set<String> fileNames) {
+        List<String> list = new ArrayList<>(fileNames);
+        Collections.sort(list);
+        return list;
+    }
+
+    private static void readField(OutputManifest manifest, String fieldName, JsonReader reader) throws IOException {
+        if ("files".equals(fieldName) && reader.currentToken() == JsonToken.START_OBJECT) {
+            manifest.previousEntries.putAll(reader.readMap(Entry::fromJson));
+        } else if ("inputFingerprint".equals(fieldName)) {
+            manifest.previousInputFingerprint = reader.getString();
+        } else {
+            reader.skipChildren();
+        }
+    }
+
+    private static final class Entry {
+        private String hash;
+        private long size;
+        private long lastModified;
+
+        private Entry() {
+        }
+
+        private Entry(String hash, long size, long lastModified) {
+            this.hash = hash;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        private void toJson(JsonWriter jsonWriter) throws IOException {
+            jsonWriter.writeStartObject()
+                .writeStringField("hash", hash)
+                .writeLongField("size", size)
+                .writeLongField("lastModified", lastModified)
+                .writeEndObject();
+        }
+
+        private static Entry fromJson(JsonReader jsonReader) throws IOException {
+            Entry entry = JsonUtils.readObject(jsonReader, Entry::new, (e, fieldName, reader) -> {
+                if ("hash".equals(fieldName)) {
+                    e.hash = reader.getString();
+                } else if ("size".equals(fieldName)) {
+                    e.size = reader.getLong();
+                } else if ("lastModified".equals(fieldName)) {
+                    e.lastModified = reader.getLong();
+                } else {
+                    reader.skipChildren();
+                }
+            });
+            if (entry.hash == null) {
+                throw new IllegalStateException("Missing 'hash' in output manifest entry.");
+            }
+            return entry;
+        }
+    }
+}
@@ -3,8 +3,6 @@
 
 package com.microsoft.typespec.http.client.generator.core.implementation;
 
-import static com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil.getClientModel;
-
 import com.azure.core.util.CoreUtils;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
@@ -26,6 +24,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Manages metadata about properties in a {@link ClientModel} and how they correlate with model class generation.
@@ -75,6 +74,7 @@ public final class ClientModelPropertiesManager {
     private final List<ClientModelProperty> xmlElements;
     private final Map<String, String> xmlNamespaceWithPrefix;
     private final Map<String, String> xmlNamespaceToConstantMapping;
+    private final Map<String, Integer> jsonMergePatchPropertyIndexes;
 
     /**
      * Creates a new instance of {@link ClientModelPropertiesManager}.
@@ -114,12 +114,8 @@ public final class ClientModelPropertiesManager {
         boolean allFlattenedPropertiesFromParent = true;
 
         if (model.isPolymorphic()) {
-            ClientModel superTypeModel = model;
-            ClientModel parentModel = getClientModel(model.getParentModelName());
-            while (parentModel != null) {
-                superTypeModel = parentModel;
-                parentModel = getClientModel(superTypeModel.getParentModelName());
-            }
+            List<ClientModel> parentModels = model.getInheritance().getParentModels();
+            ClientModel superTypeModel = parentModels.isEmpty() ? model : parentModels.get(parentModels.size() - 1);
 
             xmlRootElementName = superTypeModel.getXmlName();
             xmlRootElementNamespace = superTypeModel.getXmlNamespace();
@@ -284,6 +280,20 @@ public final class ClientModelPropertiesManager {
         this.xmlNamespaceToConstantMapping = model.getXmlName() == null
             ? Collections.emptyMap()
             : ClientModelUtil.xmlNamespaceToConstantMapping(model);
+
+        // JSON merge patch models track the updated properties in a bitset. The bits follow the serialization order,
+        // properties defined by super types take the leading bits and the properties of the model are offset by them.
+        this.jsonMergePatchPropertyIndexes = new LinkedHashMap<>();
+        if (ClientModelUtil.isJsonMergePatchModel(model, settings)) {
+            Stream.of(superRequiredProperties, superSetterProperties, requiredProperties, setterProperties)
+                .flatMap(properties -> properties.values().stream())
+                .filter(property -> !property.isPolymorphicDiscriminator()
+                    && !property.isReadOnly()
+                    && !property.isAdditionalProperties()
+                    && !property.getNeedsFlatten())
+                .forEach(property -> jsonMergePatchPropertyIndexes.putIfAbsent(property.getName(),
+                    jsonMergePatchPropertyIndexes.size()));
+        }
     }
 
     private static void superPropertyConsumer(ClientModelProperty property,
@@ -539,6 +549,27 @@ public final class ClientModelPropertiesManager {
         return jsonReaderFieldNameVariableName;
     }
 
+    /**
+     * Gets the number of properties whose updates are tracked by the JSON merge patch
+     * {@link #getModel() model}.
+     *
+     * @return The number of bits in the bitset tracking the updated properties.
+     */
+    public int getJsonMergePatchPropertyCount() {
+        return jsonMergePatchPropertyIndexes.size();
+    }
+
+    /**
+     * Gets the index of the bit tracking whether the property of the JSON merge patch {@link #getModel() model} is
+     * updated.
+     *
+     * @param propertyName The name of the property, not the serialized name.
+     * @return The index of the bit, or -1 if the update of the property isn't tracked.
+     */
+    public int getJsonMergePatchPropertyIndex(String propertyName) {
+        return jsonMergePatchPropertyIndexes.getOrDefault(propertyName, -1);
+    }
+
     /**
      * Gets the variable name for {@link XmlReader#getElementName()} in {@link XmlSerializable#fromXml(XmlReader)}
      * implementations.
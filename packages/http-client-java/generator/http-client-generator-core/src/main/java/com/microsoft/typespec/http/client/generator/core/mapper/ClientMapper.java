@@ -150,6 +150,8 @@ public class ClientMapper implements IMapper<CodeModel, Client> {
                 .distinct()
                 .collect(Collectors.toList());
         builder.models(clientModels);
+        // all models are mapped, the parent models can be resolved
+        clientModels.forEach(ClientModel::computeInheritance);
 
         // union model (class)
         builder.unionModels(codeModel.getSchemas()
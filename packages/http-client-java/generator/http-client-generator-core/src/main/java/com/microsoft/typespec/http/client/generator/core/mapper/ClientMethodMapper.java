@@ -80,6 +80,10 @@ public class ClientMethodMapper implements IMapper<Operation, List<ClientMethod>
         return INSTANCE;
     }
 
+    void clear() {
+        parsed.clear();
+    }
+
     @Override
     public List<ClientMethod> map(Operation operation) {
         return map(operation, JavaSettings.getInstance().isDataPlaneClient());
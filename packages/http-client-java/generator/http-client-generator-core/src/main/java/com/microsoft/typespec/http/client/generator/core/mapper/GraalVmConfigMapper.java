@@ -10,6 +10,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumT
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GraalVmConfig;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ImplementationDetails;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClient;
+import com.microsoft.typespec.http.client.generator.core.template.Templates;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -61,7 +62,7 @@ public class GraalVmConfigMapper implements IMapper<GraalVmConfigMapper.ServiceA
             .map(m -> m.getPackage() + "." + m.getName())
             .collect(Collectors.toList()));
 
-        // Proxy
+        // Proxy, except those with generated implementation, which are not created by RestProxy
         proxies = data.serviceClients.stream().flatMap(sc -> {
             if (sc.getMethodGroupClients() != null) {
                 return sc.getMethodGroupClients().stream();
@@ -69,11 +70,11 @@ public class GraalVmConfigMapper implements IMapper<GraalVmConfigMapper.ServiceA
                 return Stream.empty();
             }
         })
-            .filter(m -> m.getProxy() != null)
+            .filter(m -> m.getProxy() != null && !Templates.getServiceImplTemplate().isSupported(m.getProxy()))
             .map(m -> m.getPackage() + "." + m.getClassName() + "$" + m.getProxy().getName())
             .collect(Collectors.toList());
         proxies.addAll(data.serviceClients.stream()
-            .filter(sc -> sc.getProxy() != null)
+            .filter(sc -> sc.getProxy() != null && !Templates.getServiceImplTemplate().isSupported(sc.getProxy()))
             .map(sc -> sc.getPackage() + "." + sc.getClassName() + "$" + sc.getProxy().getName())
             .collect(Collectors.toList()));
 
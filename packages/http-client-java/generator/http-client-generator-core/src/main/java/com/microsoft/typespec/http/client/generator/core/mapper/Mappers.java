@@ -110,4 +110,27 @@ public class Mappers {
     public static PomMapper getPomMapper() {
         return factory.getPomMapper();
     }
+
+    /**
+     * Clears the mapped types and clients cached by the mappers of the current factory.
+     * <p>
+     * The caches are keyed by the schemas and operations of the code model. They are cleared after each code model,
+     * when the generator processes more than one in the same JVM, so that the next code model is mapped with its own
+     * settings.
+     */
+    public static void clear() {
+        getChoiceMapper().parsed.clear();
+        getSealedChoiceMapper().parsed.clear();
+        getPrimitiveMapper().parsed.clear();
+        getSchemaMapper().parsed.clear();
+        getArrayMapper().parsed.clear();
+        getDictionaryMapper().parsed.clear();
+        getObjectMapper().parsed.clear();
+        getConstantMapper().parsed.clear();
+        getExceptionMapper().parsed.clear();
+        getUnionMapper().parsed.clear();
+        getProxyMethodMapper().clear();
+        getMethodGroupMapper().clear();
+        getClientMethodMapper().clear();
+    }
 }
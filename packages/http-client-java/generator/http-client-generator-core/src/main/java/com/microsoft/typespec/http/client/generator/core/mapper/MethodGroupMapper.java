@@ -38,6 +38,10 @@ public class MethodGroupMapper implements IMapper<OperationGroup, MethodGroupCli
         return INSTANCE;
     }
 
+    void clear() {
+        parsed.clear();
+    }
+
     @Override
     public MethodGroupClient map(OperationGroup methodGroup) {
         return this.map(methodGroup, null);
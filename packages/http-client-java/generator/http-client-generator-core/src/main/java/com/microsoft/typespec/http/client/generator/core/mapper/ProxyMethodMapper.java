@@ -39,6 +39,7 @@ import org.slf4j.Logger;
  */
 public class ProxyMethodMapper implements IMapper<Operation, Map<Request, List<ProxyMethod>>> {
     private static final String APPLICATION_JSON = "application/json";
+    private static final String APPLICATION_JSON_LINES = "application/jsonl";
     private static final List<IType> RETURN_VALUE_WIRE_TYPE_OPTIONS
         = Arrays.asList(ClassType.BASE_64_URL, ClassType.DATE_TIME_RFC_1123, PrimitiveType.DURATION_LONG,
             PrimitiveType.DURATION_DOUBLE, ClassType.DURATION_LONG, ClassType.DURATION_DOUBLE,
@@ -55,6 +56,10 @@ public class ProxyMethodMapper implements IMapper<Operation, Map<Request, List<P
         return INSTANCE;
     }
 
+    void clear() {
+        parsed.clear();
+    }
+
     @Override
     public Map<Request, List<ProxyMethod>> map(Operation operation) {
         final JavaSettings settings = JavaSettings.getInstance();
@@ -156,8 +161,15 @@ public class ProxyMethodMapper implements IMapper<Operation, Map<Request, List<P
             = RETURN_VALUE_WIRE_TYPE_OPTIONS.stream().filter(bodyTypeMapped::contains).findFirst().orElse(null);
         builder.returnValueWireType(wireValueType);
 
-        final IType methodReturnType
+        IType methodReturnType
             = ResponseTypeFactory.createAsyncResponse(operation, bodyTypeMapped, isDataPlaneClient, settings, false);
+        if (isDataPlaneClient && settings.isAzureV1()
+            && GenericType.Mono(GenericType.Response(ClassType.BINARY_DATA)).equals(methodReturnType)
+            && getResponseContentTypes(operation).contains(APPLICATION_JSON_LINES)) {
+            // RestProxy reads a BinaryData response body into memory, StreamResponse lets the client method stream
+            // the JSON Lines response body as it arrives
+            methodReturnType = GenericType.Mono(ClassType.STREAM_RESPONSE);
+        }
         builder.returnType(methodReturnType);
     }
 
@@ -33,7 +33,8 @@ public class ClientBuilderTrait {
 
     public static final ClientBuilderTrait PROXY_TRAIT = createProxyTrait();
 
-    private static ClientBuilderTrait endpointTrait;
+    // volatile, as the trait may be created by templates rendered in parallel
+    private static volatile ClientBuilderTrait endpointTrait;
 
     private String traitInterfaceName;
     private List<String> importPackages;
@@ -366,6 +367,13 @@ public class ClientBuilderTrait {
         return endpointTrait;
     }
 
+    /**
+     * Clears the endpoint trait, which is created from the endpoint property of the code model being generated.
+     */
+    public static void clear() {
+        endpointTrait = null;
+    }
+
     private static ClientBuilderTrait createTokenCredentialTrait() {
         ClientBuilderTrait tokenCredentialTrait = new ClientBuilderTrait();
         tokenCredentialTrait.setTraitInterfaceName(ClassType.TOKEN_CREDENTIAL_TRAIT.getName());
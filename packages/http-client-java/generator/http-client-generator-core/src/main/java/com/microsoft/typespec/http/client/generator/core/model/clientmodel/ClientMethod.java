@@ -491,9 +491,16 @@ public class ClientMethod {
                 imports.add("com.azure.core.http.rest.PagedResponseBase");
 
                 if (settings.isDataPlaneClient()) {
+                    // for the paging helper method, see TemplateUtil
+                    imports.add("com.azure.core.http.rest.PagedResponse");
+                    imports.add("java.io.IOException");
+                    imports.add("java.util.ArrayList");
                     imports.add("java.util.List");
-                    imports.add("java.util.Map");
                     ClassType.BINARY_DATA.addImportsTo(imports, includeImplementationImports);
+                    ClassType.RESPONSE.addImportsTo(imports, includeImplementationImports);
+                    ClassType.JSON_READER.addImportsTo(imports, includeImplementationImports);
+                    ClassType.JSON_TOKEN.addImportsTo(imports, includeImplementationImports);
+                    imports.add("com.azure.json.JsonProviders");
                 }
             }
 
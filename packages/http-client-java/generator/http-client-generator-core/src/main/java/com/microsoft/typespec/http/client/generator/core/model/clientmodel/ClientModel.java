@@ -148,6 +148,12 @@ public class ClientModel {
      */
     private Boolean polymorphicDiscriminatorDefinedByModel;
 
+    /**
+     * The parent models and the properties they define. It is computed again once all models are mapped, see
+     * {@link #computeInheritance()}.
+     */
+    private volatile ClientModelInheritance inheritance;
+
     /**
      * Create a new ServiceModel with the provided properties.
      *
@@ -585,6 +591,30 @@ public class ClientModel {
         return polymorphicDiscriminatorDefinedByModel;
     }
 
+    /**
+     * Gets the inheritance metadata of the model, i.e. its parent models and the properties they define.
+     *
+     * @return The inheritance metadata of the model.
+     */
+    public final ClientModelInheritance getInheritance() {
+        ClientModelInheritance inheritance = this.inheritance;
+        if (inheritance == null) {
+            inheritance = new ClientModelInheritance(this);
+            this.inheritance = inheritance;
+        }
+        return inheritance;
+    }
+
+    /**
+     * Computes the inheritance metadata of the model.
+     * <p>
+     * It is called once all models are mapped, as a parent model may not be mapped when the metadata is first
+     * accessed.
+     */
+    public final void computeInheritance() {
+        this.inheritance = new ClientModelInheritance(this);
+    }
+
     private static boolean allPolymorphicModelsInSamePackageInternal(ClientModel model) {
         if (!model.isPolymorphic()) {
             return false;
@@ -0,0 +1,124 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The inheritance metadata of a {@link ClientModel}, i.e. its parent models and the properties they define.
+ * <p>
+ * All lists are immutable. See {@link ClientModel#getInheritance()}.
+ */
+public final class ClientModelInheritance {
+    private final List<ClientModel> parentModels;
+    private final List<ClientModelProperty> parentProperties;
+    private final List<ClientModelProperty> parentPropertiesChildFirst;
+    private final List<ClientModelProperty> requiredWritableParentProperties;
+
+    // depends on settings, computed on first access
+    private volatile ConstructorProperties parentConstructorProperties;
+
+    ClientModelInheritance(ClientModel model) {
+        List<ClientModel> parentModels = new ArrayList<>();
+        String lastParentName = model.getName();
+        ClientModel parentModel = ClientModelUtil.getClientModel(model.getParentModelName());
+        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
+            parentModels.add(parentModel);
+
+            lastParentName = parentModel.getName();
+            parentModel = ClientModelUtil.getClientModel(parentModel.getParentModelName());
+        }
+
+        List<ClientModelProperty> parentProperties = new ArrayList<>();
+        for (int i = parentModels.size() - 1; i >= 0; i--) {
+            parentProperties.addAll(parentModels.get(i).getProperties());
+        }
+        List<ClientModelProperty> parentPropertiesChildFirst = new ArrayList<>(parentProperties);
+        Collections.reverse(parentPropertiesChildFirst);
+
+        List<ClientModelProperty> requiredWritableParentProperties = new ArrayList<>();
+        for (ClientModelProperty property : parentProperties) {
+            if (property.isRequired() && !property.isConstant() && !property.isReadOnly()) {
+                requiredWritableParentProperties.add(property);
+            }
+        }
+
+        this.parentModels = Collections.unmodifiableList(parentModels);
+        this.parentProperties = Collections.unmodifiableList(parentProperties);
+        this.parentPropertiesChildFirst = Collections.unmodifiableList(parentPropertiesChildFirst);
+        this.requiredWritableParentProperties = Collections.unmodifiableList(requiredWritableParentProperties);
+    }
+
+    /**
+     * Gets the parent models, from the direct parent to the root.
+     *
+     * @return the parent models.
+     */
+    public List<ClientModel> getParentModels() {
+        return parentModels;
+    }
+
+    /**
+     * Gets the properties defined by the parent models.
+     *
+     * @param parentPropertiesFirst whether the properties of the root are in the front of the list. Otherwise, the
+     * list is in reverse order, starting from the last property of the direct parent.
+     * @return the properties defined by the parent models.
+     */
+    public List<ClientModelProperty> getParentProperties(boolean parentPropertiesFirst) {
+        return parentPropertiesFirst ? parentProperties : parentPropertiesChildFirst;
+    }
+
+    /**
+     * Gets the properties defined by the parent models that are required, not constant and not read-only.
+     *
+     * @return the required writable properties defined by the parent models.
+     */
+    public List<ClientModelProperty> getRequiredWritableParentProperties() {
+        return requiredWritableParentProperties;
+    }
+
+    /**
+     * Gets the properties defined by the parent models that are part of the constructor.
+     * <p>
+     * See {@link ClientModelUtil#includePropertyInConstructor(ClientModelProperty, JavaSettings)}.
+     *
+     * @param settings the settings.
+     * @return the properties defined by the parent models that are part of the constructor.
+     */
+    public List<ClientModelProperty> getParentConstructorProperties(JavaSettings settings) {
+        ConstructorProperties constructorProperties = parentConstructorProperties;
+        if (constructorProperties == null || constructorProperties.settings != settings) {
+            // the last definition of a property takes precedence
+            Set<ClientModelProperty> properties = new LinkedHashSet<>();
+            for (ClientModelProperty property : parentPropertiesChildFirst) {
+                if (ClientModelUtil.includePropertyInConstructor(property, settings)) {
+                    properties.add(property);
+                }
+            }
+            List<ClientModelProperty> propertyList = new ArrayList<>(properties);
+            Collections.reverse(propertyList);
+
+            constructorProperties = new ConstructorProperties(settings, Collections.unmodifiableList(propertyList));
+            parentConstructorProperties = constructorProperties;
+        }
+        return constructorProperties.properties;
+    }
+
+    private static final class ConstructorProperties {
+        private final JavaSettings settings;
+        private final List<ClientModelProperty> properties;
+
+        private ConstructorProperties(JavaSettings settings, List<ClientModelProperty> properties) {
+            this.settings = settings;
+            this.properties = properties;
+        }
+    }
+}
@@ -5,6 +5,7 @@ package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,14 +15,24 @@ import java.util.Map;
  */
 public class ClientModels {
     private static final ClientModels INSTANCE = new ClientModels();
-    private final Map<String, ClientModel> nameMap = new HashMap<>();
+    // replaced by a read-only snapshot when frozen
+    private volatile Map<String, ClientModel> nameMap = new HashMap<>();
 
 //    private final Map<String, ArrayList<ClientModel>> derivedTypesMap = new HashMap<String, ArrayList<ClientModel>>();
     private ClientModels() {
     }
 
     public final void clear() {
-        nameMap.clear();
+        nameMap = new HashMap<>();
+    }
+
+    /**
+     * Freezes the collection to a read-only snapshot, so that it can be read concurrently, e.g. when the templates are
+     * rendered in parallel. Adding a model after this throws {@link UnsupportedOperationException}, until
+     * {@link #clear()}.
+     */
+    public final void freeze() {
+        nameMap = Collections.unmodifiableMap(new HashMap<>(nameMap));
     }
 
     public static ClientModels getInstance() {
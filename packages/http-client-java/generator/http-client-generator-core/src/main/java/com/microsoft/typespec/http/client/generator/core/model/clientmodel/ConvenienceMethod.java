@@ -10,10 +10,19 @@ public class ConvenienceMethod {
 
     private final ClientMethod protocolMethod;
     private final List<ClientMethod> convenienceMethods;
+    private final IType jsonLinesRequestItemType;
+    private final IType jsonLinesResponseItemType;
 
     public ConvenienceMethod(ClientMethod clientMethod, List<ClientMethod> convenienceMethods) {
+        this(clientMethod, convenienceMethods, null, null);
+    }
+
+    public ConvenienceMethod(ClientMethod clientMethod, List<ClientMethod> convenienceMethods,
+        IType jsonLinesRequestItemType, IType jsonLinesResponseItemType) {
         this.protocolMethod = clientMethod;
         this.convenienceMethods = convenienceMethods;
+        this.jsonLinesRequestItemType = jsonLinesRequestItemType;
+        this.jsonLinesResponseItemType = jsonLinesResponseItemType;
     }
 
     public ClientMethod getProtocolMethod() {
@@ -24,6 +33,26 @@ public class ConvenienceMethod {
         return convenienceMethods;
     }
 
+    /**
+     * Gets the type of the items of the JSON Lines request body.
+     *
+     * @return the type of the items of the JSON Lines request body, or {@code null} if the request body is not JSON
+     * Lines of a known item type.
+     */
+    public IType getJsonLinesRequestItemType() {
+        return jsonLinesRequestItemType;
+    }
+
+    /**
+     * Gets the type of the items of the JSON Lines response body.
+     *
+     * @return the type of the items of the JSON Lines response body, or {@code null} if the response body is not JSON
+     * Lines of a known item type.
+     */
+    public IType getJsonLinesResponseItemType() {
+        return jsonLinesResponseItemType;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
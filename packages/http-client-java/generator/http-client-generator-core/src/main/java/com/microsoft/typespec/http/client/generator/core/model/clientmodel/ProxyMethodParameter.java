@@ -252,6 +252,9 @@ public class ProxyMethodParameter extends MethodParameter {
             } else if (getClientType() instanceof IterableType && !getExplode()) {
                 imports.add("com.azure.core.util.serializer.CollectionFormat");
                 imports.add("com.azure.core.util.serializer.JacksonAdapter");
+                // for items converted without the serializer
+                ClassType.CORE_UTILS.addImportsTo(imports, false);
+                imports.add("java.time.format.DateTimeFormatter");
             } else if (getClientType() instanceof IterableType && getExplode()) {
                 imports.add("java.util.stream.Collectors");
             }
@@ -3,6 +3,7 @@
 
 package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,13 +11,23 @@ import java.util.Map;
 public class UnionModels {
 
     private static final UnionModels INSTANCE = new UnionModels();
-    private final Map<String, List<UnionModel>> nameMap = new HashMap<>();
+    // replaced by a read-only snapshot when frozen
+    private volatile Map<String, List<UnionModel>> nameMap = new HashMap<>();
 
     private UnionModels() {
     }
 
     public final void clear() {
-        nameMap.clear();
+        nameMap = new HashMap<>();
+    }
+
+    /**
+     * Freezes the collection to a read-only snapshot, so that it can be read concurrently, e.g. when the templates are
+     * rendered in parallel. Adding a model after this throws {@link UnsupportedOperationException}, until
+     * {@link #clear()}.
+     */
+    public final void freeze() {
+        nameMap = Collections.unmodifiableMap(new HashMap<>(nameMap));
     }
 
     public static UnionModels getInstance() {
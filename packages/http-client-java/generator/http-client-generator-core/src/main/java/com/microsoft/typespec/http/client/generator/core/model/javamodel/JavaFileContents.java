@@ -4,28 +4,51 @@
 package com.microsoft.typespec.http.client.generator.core.model.javamodel;
 
 import com.azure.core.util.CoreUtils;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * The contents of a Java file, written line by line.
+ * <p>
+ * The completed lines are kept in a single char buffer, separated by '\n'. The line being written is appended to the
+ * same buffer, after the separator. Indentation prefixes of spaces are cached, so changing the indentation does not
+ * create a new prefix string.
+ */
 public class JavaFileContents {
     private static final String SINGLE_INDENT = "    ";
+    private static final String[] CACHED_SPACES = new String[129];
 
-    private final List<String> contents;
+    static {
+        for (int i = 0; i < CACHED_SPACES.length; ++i) {
+            CACHED_SPACES[i] = " ".repeat(i);
+        }
+    }
+
+    private final StringBuilder contents = new StringBuilder(4096);
+    // the count of completed lines
+    private int lineCount;
+    // the start of the line being written in the buffer, after its separator if there is one
+    private int currentLineStart;
+    private boolean currentLineStarted;
 
-    private String currentLine;
-    private String linePrefix;
+    private String linePrefix = "";
+    private boolean linePrefixSpaces = true;
+    private boolean linePrefixBlank = true;
+
+    // for a string that is not found, the length of the completed lines searched
+    private final Map<String, Integer> containsSearchedLength = new HashMap<>();
+    private final Set<String> containsFound = new HashSet<>();
 
     private CurrentLineType currentLineType = CurrentLineType.Empty;
 
     public JavaFileContents() {
-        this.currentLine = "";
-        this.linePrefix = "";
-        this.contents = new ArrayList<>();
     }
 
     private static String toString(List<JavaModifier> modifiers) {
@@ -34,26 +57,74 @@ public class JavaFileContents {
 
     @Override
     public String toString() {
-        return String.join("\n", contents) + currentLine;
-    }
-
+        if (currentLineStarted && lineCount > 0) {
+            // the line being written is not completed, hence it is not separated from the completed lines
+            return new StringBuilder(contents.length() - 1).append(contents, 0, currentLineStart - 1)
+                .append(contents, currentLineStart, contents.length())
+                .toString();
+        }
+        return contents.toString();
+    }
+
+    /**
+     * Checks whether any of the completed lines contains the string.
+     * <p>
+     * As lines are only appended, a string found stays found, and a string not found is only searched in the lines
+     * completed after the last search.
+     *
+     * @param str the string.
+     * @return whether any of the completed lines contains the string.
+     */
     public boolean contains(String str) {
-        return contents.stream().anyMatch(line -> line.contains(str));
+        if (str.isEmpty()) {
+            return lineCount > 0;
+        }
+        if (str.indexOf('\n') >= 0) {
+            // lines never contain the separator
+            return false;
+        }
+        if (containsFound.contains(str)) {
+            return true;
+        }
+
+        int completedLength = getCompletedLength();
+        int searchedLength = containsSearchedLength.getOrDefault(str, 0);
+        if (completedLength - searchedLength > 0) {
+            int index = contents.indexOf(str, Math.max(0, searchedLength - str.length() + 1));
+            // a match cannot span the separator, hence the first match is either in the completed lines, or not
+            if (index >= 0 && index + str.length() <= completedLength) {
+                containsSearchedLength.remove(str);
+                containsFound.add(str);
+                return true;
+            }
+            containsSearchedLength.put(str, completedLength);
+        }
+        return false;
     }
 
     public final void addToPrefix(String toAdd) {
-        linePrefix += toAdd;
+        if (linePrefixSpaces && isSpaces(toAdd)) {
+            setLinePrefix(spaces(linePrefix.length() + toAdd.length()));
+        } else {
+            setLinePrefix(linePrefix + toAdd);
+        }
     }
 
     private void removeFromPrefix(String toRemove) {
-        int toRemoveLength = toRemove.length();
-        if (linePrefix.length() <= toRemoveLength) {
-            linePrefix = "";
+        int length = linePrefix.length() - toRemove.length();
+        if (length <= 0) {
+            setLinePrefix("");
         } else {
-            linePrefix = linePrefix.substring(0, linePrefix.length() - toRemoveLength);
+            setLinePrefix(linePrefixSpaces ? spaces(length) : linePrefix.substring(0, length));
         }
     }
 
+    private void setLinePrefix(String prefix) {
+        this.linePrefix = prefix;
+        this.linePrefixSpaces = isSpaces(prefix);
+        this.linePrefixBlank = linePrefixSpaces || isBlank(prefix, 0, prefix.length());
+    }
+
     public final void indent(Runnable action) {
         increaseIndent();
         action.run();
@@ -69,39 +140,78 @@ public class JavaFileContents {
     }
 
     private void text(String text, boolean addPrefix, boolean completeLastLine) {
-        String prefix = addPrefix ? linePrefix : null;
-
         if (text == null || text.isEmpty()) {
-            handleLine("", prefix, true, completeLastLine);
+            handleLine("", 0, 0, addPrefix, true, completeLastLine);
         } else {
             int lineStartIndex = 0;
             int textLength = text.length();
             while (lineStartIndex < textLength) {
                 int newLineCharacterIndex = text.indexOf('\n', lineStartIndex);
                 if (newLineCharacterIndex == -1) {
-                    handleLine(text.substring(lineStartIndex), prefix, true, completeLastLine);
+                    handleLine(text, lineStartIndex, textLength, addPrefix, true, completeLastLine);
                     break;
                 } else {
-                    handleLine(text.substring(lineStartIndex, newLineCharacterIndex), prefix, false, completeLastLine);
+                    handleLine(text, lineStartIndex, newLineCharacterIndex, addPrefix, false, completeLastLine);
                     lineStartIndex = newLineCharacterIndex + 1;
                 }
             }
         }
     }
 
-    private void handleLine(String line, String prefix, boolean lastLine, boolean completeLastLine) {
-        if (prefix != null
-            && (!prefix.trim().isEmpty() || (!prefix.isEmpty() && line != null && !line.trim().isEmpty()))) {
-            currentLine += prefix;
+    private void handleLine(String text, int start, int end, boolean addPrefix, boolean lastLine,
+        boolean completeLastLine) {
+        startCurrentLine();
+        if (addPrefix && !linePrefix.isEmpty() && (!linePrefixBlank || !isBlank(text, start, end))) {
+            contents.append(linePrefix);
         }
 
-        currentLine += line;
+        contents.append(text, start, end);
         if (!lastLine || completeLastLine) {
-            contents.add(currentLine);
-            currentLine = "";
+            ++lineCount;
+            currentLineStarted = false;
         }
     }
 
+    private void startCurrentLine() {
+        if (!currentLineStarted) {
+            if (lineCount > 0) {
+                contents.append('\n');
+            }
+            currentLineStart = contents.length();
+            currentLineStarted = true;
+        }
+    }
+
+    private int getCompletedLength() {
+        if (!currentLineStarted) {
+            return contents.length();
+        }
+        return lineCount > 0 ? currentLineStart - 1 : 0;
+    }
+
+    private static boolean isBlank(String text, int start, int end) {
+        // same as String.trim().isEmpty()
+        for (int i = start; i < end; ++i) {
+            if (text.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSpaces(String text) {
+        for (int i = 0; i < text.length(); ++i) {
+            if (text.charAt(i) != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String spaces(int length) {
+        return length < CACHED_SPACES.length ? CACHED_SPACES[length] : " ".repeat(length);
+    }
+
     public final void text(String text) {
         if (currentLineType == CurrentLineType.Empty) {
             text(text, true, false);
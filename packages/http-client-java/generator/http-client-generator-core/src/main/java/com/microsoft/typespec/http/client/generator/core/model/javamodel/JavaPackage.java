@@ -12,6 +12,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Clien
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientException;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodExample;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientResponse;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GraalVmConfig;
@@ -25,6 +26,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Servi
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TestContext;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TypeSpecMetadata;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModels;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.XmlSequenceWrapper;
 import com.microsoft.typespec.http.client.generator.core.model.projectmodel.Project;
 import com.microsoft.typespec.http.client.generator.core.model.projectmodel.TextFile;
@@ -55,6 +57,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import org.slf4j.Logger;
 
 public class JavaPackage {
@@ -69,6 +73,9 @@ public class JavaPackage {
 
     private final Set<String> filePaths = new HashSet<>();
 
+    // Java files added, in order, which are not yet rendered
+    private final List<JavaFileTask> javaFileTasks = new ArrayList<>();
+
     public JavaPackage(NewPlugin host) {
         this.settings = JavaSettings.getInstance();
         this.javaFiles = new ArrayList<>();
@@ -81,7 +88,15 @@ public class JavaPackage {
         return javaFileFactory;
     }
 
+    /**
+     * Gets the Java files, in the order they are added.
+     * <p>
+     * The Java files added since the last call are rendered first.
+     *
+     * @return the Java files.
+     */
     public List<JavaFile> getJavaFiles() {
+        renderJavaFiles();
         return javaFiles;
     }
 
@@ -95,14 +110,12 @@ public class JavaPackage {
 
     public final void addServiceClient(String packageKeyword, String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getServiceClientTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getServiceClientTemplate().write(model, file));
     }
 
     public final void addAsyncServiceClient(String packageKeyWord, AsyncSyncClient asyncClient) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyWord, asyncClient.getClassName());
-        Templates.getServiceAsyncClientTemplate().write(asyncClient, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getServiceAsyncClientTemplate().write(asyncClient, file));
     }
 
     public final void addSyncServiceClient(String packageKeyWord, AsyncSyncClient syncClient) {
@@ -115,104 +128,87 @@ public class JavaPackage {
         ServiceSyncClientTemplate template = syncClientWrapAsync
             ? Templates.getServiceSyncClientWrapAsyncClientTemplate()
             : Templates.getServiceSyncClientTemplate();
-        template.write(syncClient, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> template.write(syncClient, file));
     }
 
     public final void addServiceClientInterface(String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(settings.getPackage(), name);
-        Templates.getServiceClientInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getServiceClientInterfaceTemplate().write(model, file));
     }
 
     public final void addServiceClientInterface(String packageKeyword, String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getServiceClientInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getServiceClientInterfaceTemplate().write(model, file));
     }
 
     public final void addServiceClientBuilder(ClientBuilder model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackageName(), model.getClassName());
-        Templates.getServiceClientBuilderTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getServiceClientBuilderTemplate().write(model, file));
     }
 
     public final void addServiceVersion(String packageKeyword, ServiceVersion serviceVersion) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, serviceVersion.getClassName());
-        Templates.getServiceVersionTemplate().write(serviceVersion, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getServiceVersionTemplate().write(serviceVersion, file));
     }
 
     public final void addMethodGroup(String packageKeyword, String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getMethodGroupTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getMethodGroupTemplate().write(model, file));
     }
 
     public final void addMethodGroupInterface(String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(settings.getPackage(), name);
-        Templates.getMethodGroupInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getMethodGroupInterfaceTemplate().write(model, file));
     }
 
     public final void addMethodGroupInterface(String packageKeyword, String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getMethodGroupInterfaceTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getMethodGroupInterfaceTemplate().write(model, file));
     }
 
     public final void addModel(String packageKeyword, String name, ClientModel model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
 
         if (settings.isStreamStyleSerialization()) {
-            Templates.getStreamStyleModelTemplate().write(model, javaFile);
+            addJavaFile(javaFile, file -> Templates.getStreamStyleModelTemplate().write(model, file));
         } else {
-            Templates.getModelTemplate().write(model, javaFile);
+            addJavaFile(javaFile, file -> Templates.getModelTemplate().write(model, file));
         }
-
-        addJavaFile(javaFile);
     }
 
     public final void addException(String packageKeyword, String name, ClientException model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getExceptionTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getExceptionTemplate().write(model, file));
     }
 
     public final void addEnum(String packageKeyword, String name, EnumType model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getEnumTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getEnumTemplate().write(model, file));
     }
 
     public final void addClientResponse(String packageKeyword, String name, ClientResponse model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getResponseTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getResponseTemplate().write(model, file));
     }
 
     public final void addXmlSequenceWrapper(String packageKeyword, String name, XmlSequenceWrapper model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getXmlSequenceWrapperTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getXmlSequenceWrapperTemplate().write(model, file));
     }
 
     public final void addUnionModel(UnionModel model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackage(), model.getName());
-        Templates.getUnionModelTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getUnionModelTemplate().write(model, file));
     }
 
     public final void addPackageInfo(String packageKeyword, String name, PackageInfo model) {
         JavaFile javaFile = javaFileFactory.createEmptySourceFile(packageKeyword, name);
-        Templates.getPackageInfoTemplate().write(model, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getPackageInfoTemplate().write(model, file));
     }
 
     public final void addModuleInfo(ModuleInfo moduleInfo) {
         JavaFile javaFile = javaFileFactory.createEmptySourceFile("", "module-info");
-        Templates.getModuleInfoTemplate().write(moduleInfo, javaFile);
-        addJavaFile(javaFile);
+        addJavaFile(javaFile, file -> Templates.getModuleInfoTemplate().write(moduleInfo, file));
     }
 
     public final void addPom(String name, Pom pom) {
@@ -240,83 +236,104 @@ public class JavaPackage {
         addJavaFile(javaFile);
     }
 
+    /**
+     * Adds a Java file, whose content is already written.
+     *
+     * @param javaFile the Java file.
+     */
     protected void addJavaFile(JavaFile javaFile) {
+        addJavaFile(javaFile, null);
+    }
+
+    /**
+     * Adds a Java file. Its content is written by the renderer, when the Java files are rendered.
+     * <p>
+     * The renderer may run in parallel with the renderers of other Java files. It should only read the client models.
+     *
+     * @param javaFile the Java file.
+     * @param renderer writes the content of the Java file, or {@code null} if the content is already written.
+     */
+    protected void addJavaFile(JavaFile javaFile, Consumer<JavaFile> renderer) {
         this.checkDuplicateFile(javaFile.getFilePath());
         filePaths.add(javaFile.getFilePath());
-        javaFiles.add(javaFile);
+        queueJavaFile(javaFile, renderer);
+    }
+
+    private void queueJavaFile(JavaFile javaFile, Consumer<JavaFile> renderer) {
+        javaFileTasks.add(new JavaFileTask(javaFile, renderer == null ? null : file -> {
+            renderer.accept(file);
+            return true;
+        }, false));
     }
 
     public void addProtocolExamples(ProtocolExample protocolExample) {
         JavaFile javaFile
             = javaFileFactory.createSampleFile(settings.getPackage("generated"), protocolExample.getFilename());
-        Templates.getProtocolSampleTemplate().write(protocolExample, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        javaFiles.add(javaFile);
+        queueJavaFile(javaFile, file -> Templates.getProtocolSampleTemplate().write(protocolExample, file));
     }
 
     public void addClientMethodExamples(ClientMethodExample clientMethodExample) {
         JavaFile javaFile
             = javaFileFactory.createSampleFile(settings.getPackage("generated"), clientMethodExample.getFilename());
-        Templates.getClientMethodSampleTemplate().write(clientMethodExample, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        javaFiles.add(javaFile);
+        queueJavaFile(javaFile, file -> Templates.getClientMethodSampleTemplate().write(clientMethodExample, file));
     }
 
     public void addProtocolExamplesBlank() {
         JavaFile javaFile = javaFileFactory.createSampleFile(settings.getPackage(), "ReadmeSamples");
-        new ProtocolSampleBlankTemplate().write(null, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        javaFiles.add(javaFile);
+        queueJavaFile(javaFile, file -> new ProtocolSampleBlankTemplate().write(null, file));
     }
 
     public void addProtocolTestBase(TestContext testContext) {
         JavaFile javaFile
             = javaFileFactory.createTestFile(testContext.getPackageName(), testContext.getTestBaseClassName());
-        ProtocolTestBaseTemplate.getInstance().write(testContext, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        javaFiles.add(javaFile);
+        queueJavaFile(javaFile, file -> ProtocolTestBaseTemplate.getInstance().write(testContext, file));
     }
 
     public void addProtocolTest(TestContext<ProtocolExample> testContext) {
         String className = testContext.getTestCase().getFilename() + "Tests";
         JavaFile javaFile = javaFileFactory.createTestFile(testContext.getPackageName(), className);
-        ProtocolTestTemplate.getInstance().write(testContext, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        javaFiles.add(javaFile);
+        queueJavaFile(javaFile, file -> ProtocolTestTemplate.getInstance().write(testContext, file));
     }
 
     public void addClientMethodTest(TestContext<ClientMethodExample> testContext) {
         String className = testContext.getTestCase().getFilename() + "Tests";
         JavaFile javaFile = javaFileFactory.createTestFile(testContext.getPackageName(), className);
-        ClientMethodTestTemplate.getInstance().write(testContext, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        javaFiles.add(javaFile);
+        queueJavaFile(javaFile, file -> ClientMethodTestTemplate.getInstance().write(testContext, file));
     }
 
     public void addModelUnitTest(ClientModel model) {
-        try {
-            final String packageName = JavaSettings.getInstance().getPackage("generated");
-
-            String className = model.getName();
-            if (JavaSettings.getInstance().isAzureV1()) {
-                className = ClassNameUtil.truncateClassName(JavaSettings.getInstance().getPackage(), "src/test/java",
-                    packageName, className, "Tests");
-            } else {
-                className = className + "Tests";
-            }
+        final String packageName = JavaSettings.getInstance().getPackage("generated");
 
-            JavaFile javaFile = javaFileFactory.createTestFile(packageName, className);
-            ModelTestTemplate.getInstance().write(model, javaFile);
-            if (this.checkDuplicateFile(javaFile.getFilePath())) {
-                javaFiles.add(javaFile);
-            }
-        } catch (PossibleCredentialException e) {
-            // skip this test file
-            logger.warn("Skip unit test for model '{}', caused by key '{}'", model.getName(), e.getKeyName());
-        } catch (ConstantStringTooLongException e) {
-            // skip this test file
-            logger.warn("Skip unit test for model '{}', JSON string is too long.", model.getName());
+        String className = model.getName();
+        if (JavaSettings.getInstance().isAzureV1()) {
+            className = ClassNameUtil.truncateClassName(JavaSettings.getInstance().getPackage(), "src/test/java",
+                packageName, className, "Tests");
+        } else {
+            className = className + "Tests";
         }
+
+        JavaFile javaFile = javaFileFactory.createTestFile(packageName, className);
+        boolean duplicateFile = this.checkDuplicateFile(javaFile.getFilePath());
+        // the test data comes from a random generator with fixed seed, hence the tests are rendered in order
+        javaFileTasks.add(new JavaFileTask(javaFile, file -> {
+            try {
+                ModelTestTemplate.getInstance().write(model, file);
+                return duplicateFile;
+            } catch (PossibleCredentialException e) {
+                // skip this test file
+                logger.warn("Skip unit test for model '{}', caused by key '{}'", model.getName(), e.getKeyName());
+            } catch (ConstantStringTooLongException e) {
+                // skip this test file
+                logger.warn("Skip unit test for model '{}', JSON string is too long.", model.getName());
+            }
+            return false;
+        }, true));
     }
 
     public void addReadmeMarkdown(Project project) {
@@ -365,9 +382,8 @@ public class JavaPackage {
         JavaFile javaFile
             = javaFileFactory.createSourceFile(settings.getPackage(settings.getImplementationSubpackage()),
                 ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
-        Templates.getJsonMergePatchHelperTemplate().write(models, javaFile);
         this.checkDuplicateFile(javaFile.getFilePath());
-        javaFiles.add(javaFile);
+        queueJavaFile(javaFile, file -> Templates.getJsonMergePatchHelperTemplate().write(models, file));
     }
 
     public void addTypeSpecMetadata(TypeSpecMetadata typeSpecMetadata) {
@@ -420,4 +436,47 @@ public class JavaPackage {
         }
         return false;
     }
+
+    /**
+     * Renders the Java files added since the last call, and appends them to the Java files in the order they are added.
+     * <p>
+     * The Java files are rendered in parallel, except those whose content depends on the order of rendering. The client
+     * models are frozen before rendering, as they are read concurrently by the templates.
+     */
+    private void renderJavaFiles() {
+        if (javaFileTasks.isEmpty()) {
+            return;
+        }
+
+        ClientModels.getInstance().freeze();
+        UnionModels.getInstance().freeze();
+
+        javaFileTasks.parallelStream().filter(task -> !task.sequential).forEach(JavaFileTask::render);
+        javaFileTasks.stream().filter(task -> task.sequential).forEach(JavaFileTask::render);
+
+        for (JavaFileTask task : javaFileTasks) {
+            if (!task.skipped) {
+                javaFiles.add(task.javaFile);
+            }
+        }
+        javaFileTasks.clear();
+    }
+
+    private static final class JavaFileTask {
+        private final JavaFile javaFile;
+        // writes the content of the Java file, and returns whether the Java file is kept
+        private final Predicate<JavaFile> renderer;
+        private final boolean sequential;
+        private boolean skipped;
+
+        private JavaFileTask(JavaFile javaFile, Predicate<JavaFile> renderer, boolean sequential) {
+            this.javaFile = javaFile;
+            this.renderer = renderer;
+            this.sequential = sequential;
+        }
+
+        private void render() {
+            skipped = renderer != null && !renderer.test(javaFile);
+        }
+    }
 }
@@ -98,7 +98,8 @@ public class PartialUpdateHandler {
      *
      * @param generatedFileContent the newly generated file content
      * @param existingFileContent the existing file content that contains user's manual update code
-     * @return the file content after handling partial update
+     * @return the file content after handling partial update, which is the {@code generatedFileContent} instance
+     * itself if the existing file needs no merge
      */
     public static String handlePartialUpdateForFile(String generatedFileContent, String existingFileContent) {
         // 1. Parse existing file content and generated file content using JavaParser
@@ -136,6 +137,8 @@ public class PartialUpdateHandler {
      * <li>Check if the file is in scope of partial update by iterate the members in generated file to see if there is
      * a method has {@code @Generated} annotation. If it has {@code @Generated} annotation, then the file is in scope
      * of partial update, otherwise return generated file content directly.
+     * <li>Check if the existing file needs the merge. If all its members are generated, and the merge would produce
+     * the generated file, return generated file content directly.
      * <li>Iterate existing file members, keep manual updated members, and replace generated members with the
      * corresponding newly generated one. Here we will not do the replace on the existing file member list, we just
      * create a new member list {@code updatedMembersList} and put in those manually update members and newly generated
@@ -179,6 +182,13 @@ public class PartialUpdateHandler {
             return generatedFileContent;
         }
 
+        // 5. Check if the existing file needs the merge:
+        // if all existing members are generated, and the merge would produce the generated file, return directly
+        if (!needsMerge(compilationUnitForGeneratedFile, generatedFileMembers, compilationUnitForExistingFile,
+            existingFileMembers)) {
+            return generatedFileContent;
+        }
+
         // TODO (weidxu): for now, formatter:on/off is not added by codegen -- hence the commented out block
 //        // Remove all orphan comments from the declaration to prevent them being added multiple times when code is
 //        // regenerated.
@@ -197,7 +207,7 @@ public class PartialUpdateHandler {
 //        }, null);
 
         NodeList<BodyDeclaration<?>> updatedMembersList = new NodeList<>();
-        // 5. Iterate existingFileMembers, keep manual written members, and replace generated members with the
+        // 6. Iterate existingFileMembers, keep manual written members, and replace generated members with the
         // corresponding newly generated one
         for (BodyDeclaration<?> existingMember : existingFileMembers) {
             boolean isGeneratedMethod = isMemberGenerated(existingMember);
@@ -216,7 +226,7 @@ public class PartialUpdateHandler {
             }
         }
 
-        // 6. Add remaining members in generated file to the new members list
+        // 7. Add remaining members in generated file to the new members list
         for (BodyDeclaration<?> generatedMember : generatedFileMembers) {
             boolean needToAddToUpdateMembersList = true;
             for (BodyDeclaration<?> existingMember : updatedMembersList) {
@@ -239,15 +249,46 @@ public class PartialUpdateHandler {
             }
         }
 
-        // 7. Update members
+        // 8. Update members
         generatedClazz.setMembers(updatedMembersList);
 
-        // 8. Update imports
+        // 9. Update imports
         compilationUnitForGeneratedFile.getImports().addAll(compilationUnitForExistingFile.getImports());
 
         return compilationUnitForGeneratedFile.toString();
     }
 
+    /**
+     * Checks whether the existing class or interface file needs to be merged with the newly generated file.
+     * <p>
+     * The merge keeps the manually written members, the order of the existing members, and the imports of the existing
+     * file. Hence, the merge is not needed only if all existing members are generated, they correspond, in order, to
+     * the leading members of the newly generated file, and the existing imports are all in the newly generated file.
+     *
+     * @param compilationUnitForGeneratedFile the newly generated file
+     * @param generatedFileMembers the members of the newly generated class or interface
+     * @param compilationUnitForExistingFile the existing file
+     * @param existingFileMembers the members of the existing class or interface
+     * @return whether the existing file needs to be merged
+     */
+    private static boolean needsMerge(CompilationUnit compilationUnitForGeneratedFile,
+        List<BodyDeclaration<?>> generatedFileMembers, CompilationUnit compilationUnitForExistingFile,
+        List<BodyDeclaration<?>> existingFileMembers) {
+        if (existingFileMembers.size() > generatedFileMembers.size()) {
+            return true;
+        }
+        for (int i = 0; i < existingFileMembers.size(); ++i) {
+            BodyDeclaration<?> existingMember = existingFileMembers.get(i);
+            if (!isMemberGenerated(existingMember)
+                || !isMembersCorresponding(existingMember, generatedFileMembers.get(i))) {
+                return true;
+            }
+        }
+
+        // the merged imports are the imports of both files
+        return !compilationUnitForGeneratedFile.getImports().containsAll(compilationUnitForExistingFile.getImports());
+    }
+
     /**
      * Surrounds the non-generated BodyDeclaration with Eclipse formatter disable tags.
      *
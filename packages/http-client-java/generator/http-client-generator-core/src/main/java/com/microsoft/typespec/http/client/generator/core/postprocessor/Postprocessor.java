@@ -12,18 +12,25 @@ import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlu
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.partialupdate.util.PartialUpdateHandler;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CodeFormatterUtil;
+import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CustomizationCompiler;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 
 public class Postprocessor {
@@ -165,6 +172,23 @@ public class Postprocessor {
 
     @SuppressWarnings("unchecked")
     public static Class<? extends Customization> loadCustomizationClass(String className, String code) {
+        if (!CustomizationCompiler.isAvailable()) {
+            // no Java compiler in a JRE, compile with Maven
+            return loadCustomizationClassWithMaven(className, code);
+        }
+
+        try {
+            Path classesDirectory = CustomizationCompiler.compile(className, code);
+            URLClassLoader classLoader = URLClassLoader.newInstance(new URL[] { classesDirectory.toUri().toURL() },
+                ClassLoader.getSystemClassLoader());
+            return (Class<? extends Customization>) Class.forName(className, true, classLoader);
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Customization> loadCustomizationClassWithMaven(String className, String code) {
         Path customizationCompile = null;
         try {
             customizationCompile = FileUtils.createTempDirectory("customizationCompile" + UUID.randomUUID());
@@ -196,35 +220,81 @@ public class Postprocessor {
         logger.info("Begin handle partial update...");
         // handle partial update
         // currently only support add additional interface or overload a generated method in sync and async client
-        fileContents.replaceAll((path, generatedFileContent) -> {
-            if (path.endsWith(".java")) { // only handle for .java file
-                // get existing file path
-                // use output-folder from autorest, if exists and is absolute path
-                String projectBaseDirectoryPath = null;
-                String outputFolderPath = JavaSettings.getInstance().getAutorestSettings().getOutputFolder();
-                if (Paths.get(outputFolderPath).isAbsolute()) {
-                    projectBaseDirectoryPath = outputFolderPath;
-                }
-                if (projectBaseDirectoryPath == null || !(new File(projectBaseDirectoryPath).isDirectory())) {
-                    // use parent directory of swagger/readme.md
-                    projectBaseDirectoryPath = new File(getBaseDirectory(plugin)).getParent();
+        if (fileContents.keySet().stream().noneMatch(path -> path.endsWith(".java"))) {
+            logger.info("Finish handle partial update.");
+            return;
+        }
+        Path projectBaseDirectory = Paths.get(getProjectBaseDirectory(plugin));
+        Map<String, Path> existingFiles = indexExistingJavaFiles(projectBaseDirectory, fileContents.keySet());
+
+        Map<String, String> updatedFileContents = fileContents.entrySet()
+            .parallelStream()
+            .filter(entry -> existingFiles.containsKey(entry.getKey()))
+            .map(entry -> {
+                try {
+                    String existingFileContent = Files.readString(existingFiles.get(entry.getKey()));
+                    String updatedFileContent
+                        = PartialUpdateHandler.handlePartialUpdateForFile(entry.getValue(), existingFileContent);
+                    // the newly generated content itself is returned, if the existing file needs no merge
+                    return updatedFileContent == entry.getValue()
+                        ? null
+                        : Map.entry(entry.getKey(), updatedFileContent);
+                } catch (Exception e) {
+                    logger.error("Unable to get content from file path", e);
+                    throw new RuntimeException(e);
                 }
-                Path existingFilePath = Paths.get(projectBaseDirectoryPath, path);
-                // check if existingFile exists, if not, no need to handle partial update
-                if (Files.exists(existingFilePath)) {
-                    try {
-                        String existingFileContent = Files.readString(existingFilePath);
-                        return PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent,
-                            existingFileContent);
-                    } catch (Exception e) {
-                        logger.error("Unable to get content from file path", e);
-                        throw new RuntimeException(e);
+            })
+            .filter(Objects::nonNull)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        fileContents.putAll(updatedFileContents);
+        logger.info("Finish handle partial update, {} of {} existing files merged.", updatedFileContents.size(),
+            existingFiles.size());
+    }
+
+    private static String getProjectBaseDirectory(NewPlugin plugin) {
+        // use output-folder from autorest, if exists and is absolute path
+        String outputFolderPath = JavaSettings.getInstance().getAutorestSettings().getOutputFolder();
+        if (Paths.get(outputFolderPath).isAbsolute() && new File(outputFolderPath).isDirectory()) {
+            return outputFolderPath;
+        }
+        // use parent directory of swagger/readme.md
+        return new File(getBaseDirectory(plugin)).getParent();
+    }
+
+    /**
+     * Walks the existing source tree once, and indexes the Java files which would be overwritten by the generated
+     * files.
+     *
+     * @param projectBaseDirectory the base directory of the project.
+     * @param generatedFilePaths the relative paths of the generated files.
+     * @return the mapping from the relative path of a generated Java file to the path of its existing file.
+     */
+    private static Map<String, Path> indexExistingJavaFiles(Path projectBaseDirectory,
+        Set<String> generatedFilePaths) {
+        // walk only the top level directories that contain generated Java files, e.g. "src"
+        Set<String> rootDirectories = generatedFilePaths.stream()
+            .filter(path -> path.endsWith(".java"))
+            .map(path -> Paths.get(path).getName(0).toString())
+            .collect(Collectors.toSet());
+
+        Map<String, Path> existingFiles = new HashMap<>();
+        for (String rootDirectory : rootDirectories) {
+            Path root = projectBaseDirectory.resolve(rootDirectory);
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.filter(path -> path.toString().endsWith(".java")).forEach(path -> {
+                    String relativePath = projectBaseDirectory.relativize(path).toString().replace('\\', '/');
+                    if (generatedFilePaths.contains(relativePath) && Files.isRegularFile(path)) {
+                        existingFiles.put(relativePath, path);
                     }
-                }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-            return generatedFileContent;
-        });
-        logger.info("Finish handle partial update.");
+        }
+        return existingFiles;
     }
 
     private static void attemptMavenInstall(Path pomPath) {
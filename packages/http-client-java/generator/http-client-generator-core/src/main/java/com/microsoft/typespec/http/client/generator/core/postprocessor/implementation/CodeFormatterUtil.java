@@ -5,6 +5,7 @@ package com.microsoft.typespec.http.client.generator.core.postprocessor.implemen
 
 import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import java.io.File;
 import java.io.IOException;
@@ -14,9 +15,12 @@ import java.nio.file.Path;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -39,13 +43,81 @@ public final class CodeFormatterUtil {
      * @param plugin The plugin to use to write the formatted files.
      */
     public static void formatCode(Map<String, String> files, NewPlugin plugin, Logger logger) {
-        try {
-            for (Map.Entry<String, String> file : formatCodeInternal(files.entrySet())) {
-                plugin.writeFile(file.getKey(), file.getValue(), null);
+        for (Map.Entry<String, String> file : formatCodeWithCache(files, logger)) {
+            plugin.writeFile(file.getKey(), file.getValue(), null);
+        }
+    }
+
+    /**
+     * Formats the given files by removing unused imports and applying Eclipse code formatting.
+     *
+     * @param files The files to format. The entry is filename and content.
+     * @return the files after format.
+     * @throws RuntimeException If code formatting fails.
+     */
+    public static List<String> formatCode(Map<String, String> files) {
+        return formatCodeWithCache(files, null).stream().map(Map.Entry::getValue).collect(Collectors.toList());
+    }
+
+    private static List<Map.Entry<String, String>> formatCodeWithCache(Map<String, String> files, Logger logger) {
+        JavaSettings settings = JavaSettings.getInstance();
+        JavaSettings.CodeFormatterMode mode = settings.getCodeFormatterMode();
+        FormatCache cache = settings.isFormatCache() ? FormatCache.create(mode) : null;
+        if (cache == null) {
+            return formatCode(files.entrySet(), mode, logger);
+        }
+
+        // hash and look up in parallel, only the files not in cache are formatted
+        List<Map.Entry<String, String>> javaFiles = new ArrayList<>(files.entrySet());
+        List<String> keys = javaFiles.parallelStream()
+            .map(javaFile -> cache.key(javaFile.getValue()))
+            .collect(Collectors.toList());
+        List<String> cachedContents = keys.parallelStream().map(cache::get).collect(Collectors.toList());
+
+        List<Map.Entry<String, String>> uncachedFiles = new ArrayList<>();
+        for (int i = 0; i < javaFiles.size(); ++i) {
+            if (cachedContents.get(i) == null) {
+                uncachedFiles.add(javaFiles.get(i));
             }
+        }
+        if (logger != null) {
+            logger.info("Format cache hit {} of {} files", javaFiles.size() - uncachedFiles.size(), javaFiles.size());
+        }
+
+        Iterator<Map.Entry<String, String>> formattedFiles
+            = (uncachedFiles.isEmpty() ? List.<Map.Entry<String, String>>of() : formatCode(uncachedFiles, mode, logger))
+                .iterator();
+        List<Map.Entry<String, String>> result = new ArrayList<>(javaFiles.size());
+        for (int i = 0; i < javaFiles.size(); ++i) {
+            if (cachedContents.get(i) != null) {
+                result.add(new AbstractMap.SimpleEntry<>(javaFiles.get(i).getKey(), cachedContents.get(i)));
+            } else {
+                Map.Entry<String, String> formattedFile = formattedFiles.next();
+                cache.put(keys.get(i), formattedFile.getValue());
+                result.add(formattedFile);
+            }
+        }
+        return result;
+    }
+
+    private static List<Map.Entry<String, String>> formatCode(Collection<Map.Entry<String, String>> files,
+        JavaSettings.CodeFormatterMode mode, Logger logger) {
+        return mode == JavaSettings.CodeFormatterMode.MAVEN
+            ? formatCodeWithMaven(files, logger)
+            : formatCodeInProcess(files, logger);
+    }
+
+    private static List<Map.Entry<String, String>> formatCodeWithMaven(Collection<Map.Entry<String, String>> files,
+        Logger logger) {
+        try {
+            return formatCodeInternal(files);
         } catch (SpotlessException ex) {
+            if (logger == null) {
+                throw ex;
+            }
+
             // format one file at a time, to give better error diagnostics
-            for (Map.Entry<String, String> file : files.entrySet()) {
+            for (Map.Entry<String, String> file : files) {
                 try {
                     formatCodeInternal(List.of(file));
                 } catch (RuntimeException e) {
@@ -77,15 +149,31 @@ public final class CodeFormatterUtil {
         }
     }
 
-    /**
-     * Formats the given files by removing unused imports and applying Eclipse code formatting.
-     *
-     * @param files The files to format. The entry is filename and content.
-     * @return the files after format.
-     * @throws RuntimeException If code formatting fails.
-     */
-    public static List<String> formatCode(Map<String, String> files) {
-        return formatCodeInternal(files.entrySet()).stream().map(Map.Entry::getValue).collect(Collectors.toList());
+    private static List<Map.Entry<String, String>> formatCodeInProcess(Collection<Map.Entry<String, String>> files,
+        Logger logger) {
+        Queue<String> failedFiles = new ConcurrentLinkedQueue<>();
+        // files are formatted in parallel, the result keeps the iteration order of the input
+        List<Map.Entry<String, String>> formattedFiles = files.stream()
+            .collect(Collectors.toList())
+            .parallelStream()
+            .map(javaFile -> {
+                try {
+                    return (Map.Entry<String, String>) new AbstractMap.SimpleEntry<>(javaFile.getKey(),
+                        EclipseJavaFormatter.format(javaFile.getValue()));
+                } catch (RuntimeException e) {
+                    failedFiles.add(javaFile.getKey());
+                    if (logger != null) {
+                        logger.error("Failed to format file '{}'\n{}", javaFile.getKey(), javaFile.getValue(), e);
+                    }
+                    return javaFile;
+                }
+            })
+            .collect(Collectors.toList());
+
+        if (!failedFiles.isEmpty()) {
+            throw new IllegalStateException("Failed to format files " + failedFiles);
+        }
+        return formattedFiles;
     }
 
     private static List<Map.Entry<String, String>> formatCodeInternal(Collection<Map.Entry<String, String>> files) {
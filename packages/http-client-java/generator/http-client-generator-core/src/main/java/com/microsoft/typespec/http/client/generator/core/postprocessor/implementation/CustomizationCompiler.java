@@ -0,0 +1,155 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import com.microsoft.typespec.http.client.generator.core.customization.Customization;
+import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.HashUtils;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles the customization class in process, with the Java compiler of the JDK, against the classpath of the code
+ * generator.
+ * <p>
+ * The compiled classes are kept in a persistent cache. The key of an entry is the hash of the source code, together
+ * with the Java version and the code generator. Hence, an unchanged customization is compiled only once.
+ * <p>
+ * As the classes are loaded into the code generator, the cache is in the private cache directory of the current user,
+ * and an entry is used only if it and all its files are owned by the current user and not writable by others.
+ * Otherwise, the customization is compiled to a new temporary directory.
+ */
+public final class CustomizationCompiler {
+    // bump when the compiler options change
+    private static final String COMPILER_VERSION = "1";
+
+    private CustomizationCompiler() {
+    }
+
+    /**
+     * Whether the Java compiler is available, i.e. the code generator runs on a JDK rather than a JRE.
+     *
+     * @return whether the Java compiler is available.
+     */
+    public static boolean isAvailable() {
+        return ToolProvider.getSystemJavaCompiler() != null;
+    }
+
+    /**
+     * Compiles the customization class, or gets its classes from the cache.
+     *
+     * @param className the name of the class, in the default package.
+     * @param code the source code of the class.
+     * @return the directory of the compiled classes.
+     * @throws IOException thrown if the classes cannot be written.
+     * @throws IllegalStateException thrown if the source code fails to compile.
+     */
+    public static Path compile(String className, String code) throws IOException {
+        Path cacheDirectory;
+        try {
+            cacheDirectory = FileUtils.getCacheDirectory("customization");
+        } catch (IOException e) {
+            // cache directory not available, or not private
+            return compileToTempDirectory(className, code);
+        }
+        return compile(className, code, cacheDirectory);
+    }
+
+    static Path compile(String className, String code, Path cacheDirectory) throws IOException {
+        // the customization is compiled against the code generator, a new build of it invalidates the cache
+        String key = HashUtils.sha256(COMPILER_VERSION, Runtime.version().toString(),
+            FileUtils.getCodeSourceFingerprint(Customization.class), className, code);
+        Path classesDirectory = cacheDirectory.resolve(key);
+        if (Files.isDirectory(classesDirectory, LinkOption.NOFOLLOW_LINKS)) {
+            return isPrivate(classesDirectory) ? classesDirectory : compileToTempDirectory(className, code);
+        }
+
+        // compile to a temporary directory then move, so that a concurrent run never reads partial classes
+        Path tempDirectory = Files.createTempDirectory(cacheDirectory, key);
+        try {
+            compileTo(className, code, tempDirectory);
+            Files.move(tempDirectory, classesDirectory, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (!Files.isDirectory(classesDirectory, LinkOption.NOFOLLOW_LINKS)) {
+                throw e;
+            }
+            // moved by a concurrent run
+        } finally {
+            if (Files.exists(tempDirectory)) {
+                Utils.deleteDirectory(tempDirectory.toFile());
+            }
+        }
+        return isPrivate(classesDirectory) ? classesDirectory : compileToTempDirectory(className, code);
+    }
+
+    private static Path compileToTempDirectory(String className, String code) throws IOException {
+        Path outputDirectory = FileUtils.createTempDirectory("customization");
+        compileTo(className, code, outputDirectory);
+        return outputDirectory;
+    }
+
+    private static boolean isPrivate(Path classesDirectory) throws IOException {
+        try (Stream<Path> paths = Files.walk(classesDirectory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (!FileUtils.isPrivate(path)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void compileTo(String className, String code, Path outputDirectory) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("Java compiler is not available, the code generator runs on a JRE.");
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager
+            = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d",
+                outputDirectory.toString(), "-proc:none", "-encoding", StandardCharsets.UTF_8.name());
+            JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///" + className + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return code;
+                }
+            };
+
+            boolean success = compiler.getTask(null, fileManager, diagnostics, options, null,
+                Collections.singletonList(source)).call();
+            if (!success) {
+                String errors = diagnostics.getDiagnostics()
+                    .stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> className + ".java:" + diagnostic.getLineNumber() + ": "
+                        + diagnostic.getMessage(Locale.ROOT))
+                    .collect(Collectors.joining(System.lineSeparator()));
+                throw new IllegalStateException(
+                    "Failed to compile customization class " + className + "." + System.lineSeparator() + errors);
+            }
+        }
+    }
+}
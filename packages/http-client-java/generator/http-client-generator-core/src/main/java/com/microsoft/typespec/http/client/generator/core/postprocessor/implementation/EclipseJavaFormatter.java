@@ -0,0 +1,248 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.IScanner;
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.core.formatter.CodeFormatter;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.text.edits.TextEdit;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * Formats Java source in the current JVM.
+ * <p>
+ * The steps match the Spotless configuration in "readme/pom.xml": remove unused imports, order imports, then apply the
+ * Eclipse formatter with the azure-sdk-for-java profile.
+ */
+final class EclipseJavaFormatter {
+
+    private static final String PROFILE_RESOURCE = "readme/eclipse-format-azure-sdk-for-java.xml";
+    private static final String JAVA_SOURCE_LEVEL = "17";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final int FORMAT_KIND = CodeFormatter.K_COMPILATION_UNIT | CodeFormatter.F_INCLUDE_COMMENTS;
+
+    // type references in Javadoc, e.g. "{@link Foo}", "{@link Foo#bar(Baz)}", "@see Foo", "@throws FooException"
+    private static final Pattern JAVADOC_REFERENCE_PATTERN = Pattern
+        .compile("(?:\\{@link|\\{@linkplain|\\{@value|@see|@throws|@exception)\\s+([\\w.$]*)(?:#\\w*\\(([^)]*)\\))?");
+
+    // CodeFormatter is not thread-safe
+    private static final ThreadLocal<CodeFormatter> FORMATTER
+        = ThreadLocal.withInitial(() -> ToolFactory.createCodeFormatter(ProfileHolder.OPTIONS));
+
+    private EclipseJavaFormatter() {
+    }
+
+    /**
+     * Formats the Java source.
+     *
+     * @param content the Java source.
+     * @return the formatted Java source.
+     * @throws IllegalArgumentException If the Java source cannot be parsed.
+     */
+    static String format(String content) {
+        String source = organizeImports(content);
+
+        TextEdit edit = FORMATTER.get().format(FORMAT_KIND, source, 0, source.length(), 0, LINE_SEPARATOR);
+        if (edit == null) {
+            throw new IllegalArgumentException("Eclipse formatter is unable to parse the Java source.");
+        }
+
+        Document document = new Document(source);
+        try {
+            edit.apply(document);
+        } catch (BadLocationException e) {
+            throw new IllegalStateException(e);
+        }
+        return document.get();
+    }
+
+    /**
+     * Removes unused imports, and sorts the remaining imports with static imports first.
+     * <p>
+     * If there is any comment between the import declarations, the imports are left unchanged.
+     *
+     * @param content the Java source.
+     * @return the Java source with imports organized.
+     */
+    static String organizeImports(String content) {
+        IScanner scanner = ToolFactory.createScanner(true, false, false, JAVA_SOURCE_LEVEL, JAVA_SOURCE_LEVEL);
+        scanner.setSource(content.toCharArray());
+
+        List<ImportDeclaration> imports = new ArrayList<>();
+        Set<String> usedNames = new HashSet<>();
+        try {
+            int token;
+            while ((token = scanner.getNextToken()) != ITerminalSymbols.TokenNameEOF) {
+                if (token == ITerminalSymbols.TokenNamepackage) {
+                    skipToSemicolon(scanner);
+                } else if (token == ITerminalSymbols.TokenNameimport) {
+                    imports.add(readImport(scanner));
+                } else if (token == ITerminalSymbols.TokenNameIdentifier) {
+                    usedNames.add(new String(scanner.getCurrentTokenSource()));
+                } else if (token == ITerminalSymbols.TokenNameCOMMENT_JAVADOC) {
+                    collectJavadocReferences(new String(scanner.getCurrentTokenSource()), usedNames);
+                }
+            }
+        } catch (InvalidInputException e) {
+            // let the formatter report the error
+            return content;
+        }
+
+        if (imports.isEmpty() || hasCommentBetween(content, imports)) {
+            return content;
+        }
+
+        Set<String> staticImports = new TreeSet<>();
+        Set<String> normalImports = new TreeSet<>();
+        for (ImportDeclaration importDeclaration : imports) {
+            if (importDeclaration.isUsed(usedNames)) {
+                (importDeclaration.isStatic ? staticImports : normalImports).add(importDeclaration.name);
+            }
+        }
+
+        StringBuilder sb = new StringBuilder(content.length());
+        sb.append(content, 0, imports.get(0).start);
+        for (String name : staticImports) {
+            sb.append("import static ").append(name).append(';').append(LINE_SEPARATOR);
+        }
+        if (!staticImports.isEmpty() && !normalImports.isEmpty()) {
+            sb.append(LINE_SEPARATOR);
+        }
+        for (String name : normalImports) {
+            sb.append("import ").append(name).append(';').append(LINE_SEPARATOR);
+        }
+        if (!staticImports.isEmpty() || !normalImports.isEmpty()) {
+            // remove the last line separator, as the remaining content starts with one
+            sb.setLength(sb.length() - LINE_SEPARATOR.length());
+        }
+        sb.append(content, imports.get(imports.size() - 1).end, content.length());
+        return sb.toString();
+    }
+
+    private static ImportDeclaration readImport(IScanner scanner) throws InvalidInputException {
+        int start = scanner.getCurrentTokenStartPosition();
+        boolean isStatic = false;
+        StringBuilder name = new StringBuilder();
+        int token;
+        while ((token = scanner.getNextToken()) != ITerminalSymbols.TokenNameSEMICOLON
+            && token != ITerminalSymbols.TokenNameEOF) {
+            if (token == ITerminalSymbols.TokenNamestatic) {
+                isStatic = true;
+            } else if (token != ITerminalSymbols.TokenNameCOMMENT_LINE
+                && token != ITerminalSymbols.TokenNameCOMMENT_BLOCK
+                && token != ITerminalSymbols.TokenNameCOMMENT_JAVADOC) {
+                name.append(scanner.getCurrentTokenSource());
+            }
+        }
+        return new ImportDeclaration(name.toString(), isStatic, start, scanner.getCurrentTokenEndPosition() + 1);
+    }
+
+    private static void skipToSemicolon(IScanner scanner) throws InvalidInputException {
+        int token;
+        do {
+            token = scanner.getNextToken();
+        } while (token != ITerminalSymbols.TokenNameSEMICOLON && token != ITerminalSymbols.TokenNameEOF);
+    }
+
+    private static void collectJavadocReferences(String javadoc, Set<String> usedNames) {
+        Matcher matcher = JAVADOC_REFERENCE_PATTERN.matcher(javadoc);
+        while (matcher.find()) {
+            addFirstSegment(matcher.group(1), usedNames);
+            if (matcher.group(2) != null) {
+                for (String parameter : matcher.group(2).split(",")) {
+                    String[] segments = parameter.trim().split("\\s+");
+                    addFirstSegment(segments[0].replace("[]", "").replace("...", ""), usedNames);
+                }
+            }
+        }
+    }
+
+    private static void addFirstSegment(String reference, Set<String> usedNames) {
+        if (!reference.isEmpty()) {
+            int dotIndex = reference.indexOf('.');
+            usedNames.add(dotIndex < 0 ? reference : reference.substring(0, dotIndex));
+        }
+    }
+
+    private static boolean hasCommentBetween(String content, List<ImportDeclaration> imports) {
+        for (int i = 1; i < imports.size(); ++i) {
+            if (!content.substring(imports.get(i - 1).end, imports.get(i).start).isBlank()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, String> loadProfile() {
+        try (InputStream inputStream
+            = EclipseJavaFormatter.class.getClassLoader().getResourceAsStream(PROFILE_RESOURCE)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Eclipse formatter profile '" + PROFILE_RESOURCE + "' not found.");
+            }
+
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            NodeList settings = factory.newDocumentBuilder().parse(inputStream).getElementsByTagName("setting");
+
+            Map<String, String> options = new HashMap<>();
+            for (int i = 0; i < settings.getLength(); ++i) {
+                Element setting = (Element) settings.item(i);
+                options.put(setting.getAttribute("id"), setting.getAttribute("value"));
+            }
+            // the profile does not specify the Java version, use one that parses all syntax of the generated code
+            options.putIfAbsent("org.eclipse.jdt.core.compiler.source", JAVA_SOURCE_LEVEL);
+            options.putIfAbsent("org.eclipse.jdt.core.compiler.compliance", JAVA_SOURCE_LEVEL);
+            options.putIfAbsent("org.eclipse.jdt.core.compiler.codegen.targetPlatform", JAVA_SOURCE_LEVEL);
+            return Collections.unmodifiableMap(options);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to load Eclipse formatter profile '" + PROFILE_RESOURCE + "'.", e);
+        }
+    }
+
+    private static final class ProfileHolder {
+        // the profile is loaded once, on first format
+        private static final Map<String, String> OPTIONS = loadProfile();
+    }
+
+    private static final class ImportDeclaration {
+        private final String name;
+        private final boolean isStatic;
+        private final int start;
+        private final int end;
+
+        private ImportDeclaration(String name, boolean isStatic, int start, int end) {
+            this.name = name;
+            this.isStatic = isStatic;
+            this.start = start;
+            this.end = end;
+        }
+
+        private boolean isUsed(Set<String> usedNames) {
+            return name.endsWith(".*") || usedNames.contains(name.substring(name.lastIndexOf('.') + 1));
+        }
+    }
+}
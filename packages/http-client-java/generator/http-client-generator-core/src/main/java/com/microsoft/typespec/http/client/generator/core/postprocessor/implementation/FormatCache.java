@@ -0,0 +1,235 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.HashUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eclipse.jdt.core.formatter.CodeFormatter;
+
+/**
+ * Persistent cache of formatted Java code.
+ * <p>
+ * The key of an entry is the hash of the unformatted code, together with the fingerprint of the formatter (engine,
+ * version of the JDT artifact, build of the code generator, and formatter profile). The value is the formatted code.
+ * Entries are stored as files in the cache directory, hence they are shared across runs.
+ * <p>
+ * The cache is bounded. Entries not used for {@link #MAX_AGE} are evicted, then the least recently used entries are
+ * evicted till the size of the cache is within {@link #MAX_SIZE}.
+ */
+final class FormatCache {
+    static final Duration MAX_AGE = Duration.ofDays(30);
+    static final long MAX_SIZE = 256L * 1024 * 1024;
+
+    // eviction walks the whole cache, hence it runs at most once per interval
+    private static final Duration EVICTION_INTERVAL = Duration.ofDays(1);
+    private static final String EVICTION_MARKER = ".last-eviction";
+
+    private final Path directory;
+    private final String fingerprint;
+
+    private FormatCache(Path directory, String fingerprint) {
+        this.directory = directory;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Creates the cache for the formatter.
+     *
+     * @param mode the formatter engine.
+     * @return the cache, or {@code null} if the cache directory cannot be created.
+     */
+    static FormatCache create(JavaSettings.CodeFormatterMode mode) {
+        try {
+            return create(mode, FileUtils.getCacheDirectory("format"));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    static FormatCache create(JavaSettings.CodeFormatterMode mode, Path directory) {
+        // the code generator removes and orders imports before the formatter, a new build of it invalidates the cache
+        String fingerprint = HashUtils.sha256(mode.name(), getFormatterVersion(),
+            FileUtils.getCodeSourceFingerprint(FormatCache.class),
+            readResource("readme/eclipse-format-azure-sdk-for-java.xml"), readResource("readme/pom.xml"));
+        FormatCache cache = new FormatCache(directory, fingerprint);
+        cache.evictIfDue();
+        return cache;
+    }
+
+    /**
+     * Computes the key of the unformatted code.
+     *
+     * @param content the unformatted code.
+     * @return the key.
+     */
+    String key(String content) {
+        return HashUtils.sha256(fingerprint, content);
+    }
+
+    /**
+     * Gets the formatted code.
+     *
+     * @param key the key of the unformatted code.
+     * @return the formatted code, or {@code null} if not in cache.
+     */
+    String get(String key) {
+        Path entryPath = entryPath(key);
+        try {
+            String formattedContent = Files.readString(entryPath);
+            // the last modified time is the last time the entry is used, for eviction
+            Files.setLastModifiedTime(entryPath, FileTime.fromMillis(System.currentTimeMillis()));
+            return formattedContent;
+        } catch (IOException e) {
+            // entry not exist, or not readable
+            return null;
+        }
+    }
+
+    /**
+     * Puts the formatted code to the cache.
+     * <p>
+     * Failure to write the entry is ignored, as the cache is only an optimization.
+     *
+     * @param key the key of the unformatted code.
+     * @param formattedContent the formatted code.
+     */
+    void put(String key, String formattedContent) {
+        Path entryPath = entryPath(key);
+        try {
+            Files.createDirectories(entryPath.getParent());
+            // write to a temporary file then move, so that a concurrent run never reads a partial entry
+            Path tempPath = Files.createTempFile(entryPath.getParent(), key, ".tmp");
+            Files.writeString(tempPath, formattedContent);
+            Files.move(tempPath, entryPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    /**
+     * Evicts the entries not used for the max age, then the least recently used entries till the size of the cache is
+     * within the max size.
+     * <p>
+     * Failure to delete an entry is ignored, e.g. the entry is deleted by a concurrent run.
+     *
+     * @param maxSize the max size of the cache, in bytes.
+     * @param maxAge the max duration since the entry is last used.
+     */
+    void evict(long maxSize, Duration maxAge) {
+        List<Entry> entries;
+        try (Stream<Path> paths = Files.walk(directory, 2)) {
+            entries = paths.filter(path -> !path.getParent().equals(directory))
+                .map(FormatCache::readEntry)
+                .filter(entry -> entry != null)
+                .sorted(Comparator.comparing((Entry entry) -> entry.lastModifiedTime).reversed())
+                .collect(Collectors.toCollection(ArrayList::new));
+        } catch (IOException | UncheckedIOException e) {
+            return;
+        }
+
+        long expiredTime = System.currentTimeMillis() - maxAge.toMillis();
+        long size = 0;
+        for (Entry entry : entries) {
+            size += entry.size;
+            if (size > maxSize || entry.lastModifiedTime < expiredTime) {
+                try {
+                    Files.deleteIfExists(entry.path);
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    private void evictIfDue() {
+        Path markerPath = directory.resolve(EVICTION_MARKER);
+        try {
+            if (Files.exists(markerPath) && Files.getLastModifiedTime(markerPath).toMillis()
+                > System.currentTimeMillis() - EVICTION_INTERVAL.toMillis()) {
+                return;
+            }
+            Files.writeString(markerPath, "");
+        } catch (IOException e) {
+            return;
+        }
+        evict(MAX_SIZE, MAX_AGE);
+    }
+
+    private static Entry readEntry(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes.isRegularFile()
+                ? new Entry(path, attributes.size(), attributes.lastModifiedTime().toMillis())
+                : null;
+        } catch (IOException e) {
+            // deleted by a concurrent run
+            return null;
+        }
+    }
+
+    private static final class Entry {
+        private final Path path;
+        private final long size;
+        private final long lastModifiedTime;
+
+        private Entry(Path path, long size, long lastModifiedTime) {
+            this.path = path;
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key.substring(2));
+    }
+
+    /**
+     * Gets the version of the JDT artifact of the in-process formatter, e.g. "3.27.0.v20210823-1758", as the output of
+     * the formatter depends on it.
+     */
+    private static String getFormatterVersion() {
+        URL classUrl = CodeFormatter.class.getResource("CodeFormatter.class");
+        try {
+            URLConnection connection = classUrl == null ? null : classUrl.openConnection();
+            if (connection instanceof JarURLConnection) {
+                Manifest manifest = ((JarURLConnection) connection).getManifest();
+                String version = manifest == null ? null : manifest.getMainAttributes().getValue("Bundle-Version");
+                if (version != null) {
+                    return version;
+                }
+            }
+        } catch (IOException e) {
+            // fallback to the fingerprint of the artifact
+        }
+        return FileUtils.getCodeSourceFingerprint(CodeFormatter.class);
+    }
+
+    private static String readResource(String name) {
+        try (InputStream inputStream = FormatCache.class.getClassLoader().getResourceAsStream(name)) {
+            return inputStream == null ? "" : new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
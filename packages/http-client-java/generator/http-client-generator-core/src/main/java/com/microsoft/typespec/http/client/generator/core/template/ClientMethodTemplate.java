@@ -455,7 +455,20 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                                 }
 
                                 // convert List<WireType> to String
-                                if (JavaSettings.getInstance().isAzureV1()) {
+                                String serializeItemValue = serializeItemValueExpression(elementWireType);
+                                if (serializeItemValue != null) {
+                                    // items have a well-known string form, convert them without a serializer
+                                    String itemStream = parameterName + ".stream()\n";
+                                    if (elementWireType != elementType) {
+                                        itemStream += "    .map(paramItemValue -> "
+                                            + elementWireType.convertFromClientType("paramItemValue") + ")\n";
+                                    }
+                                    if (!alreadyNullChecked) {
+                                        itemStream = "(" + parameterName + " == null) ? null : " + itemStream;
+                                    }
+                                    expression = itemStream + "    .map(paramItemValue -> " + serializeItemValue + ")\n"
+                                        + "    .collect(Collectors.joining(" + delimiter + "))";
+                                } else if (JavaSettings.getInstance().isAzureV1()) {
                                     // Always use serializeIterable as Iterable supports both Iterable and List.
                                     expression = String.format(
                                         "JacksonAdapter.createDefaultSerializerAdapter().serializeIterable(%s, CollectionFormat.%s)",
@@ -506,6 +519,42 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
         }
     }
 
+    /**
+     * Gets the expression converting "paramItemValue", an item of a collection query or header parameter, to its string
+     * form on the wire.
+     * <p>
+     * The expression gives the same value as the serializer of the item, without a JSON serialization per item.
+     *
+     * @param elementWireType the wire type of the items.
+     * @return the expression converting the item, or null if the items need to go through the serializer, e.g. Object
+     * or union items.
+     */
+    protected static String serializeItemValueExpression(IType elementWireType) {
+        if (JavaSettings.getInstance().isAzureV1()) {
+            // the serializer of azure-core writes date-time in UTC, and duration with days
+            if (ClassType.DATE_TIME.equals(elementWireType)) {
+                return "paramItemValue == null ? \"\" : DateTimeFormatter.ISO_INSTANT.format(paramItemValue)";
+            } else if (ClassType.DURATION.equals(elementWireType)) {
+                return "paramItemValue == null ? \"\" : CoreUtils.durationToStringWithDays(paramItemValue)";
+            }
+        }
+
+        if (elementWireType instanceof PrimitiveType
+            || (elementWireType instanceof ClassType && ((ClassType) elementWireType).isBoxedType())
+            || ClassType.STRING.equals(elementWireType)
+            || ClassType.CHARACTER.equals(elementWireType)
+            || ClassType.BIG_DECIMAL.equals(elementWireType)
+            || ClassType.DATE_TIME.equals(elementWireType)
+            || ClassType.DATE_TIME_RFC_1123.equals(elementWireType)
+            || ClassType.LOCAL_DATE.equals(elementWireType)
+            || ClassType.DURATION.equals(elementWireType)
+            || ClassType.UUID.equals(elementWireType)
+            || ClassType.BASE_64_URL.equals(elementWireType)) {
+            return "Objects.toString(paramItemValue, \"\")";
+        }
+        return null;
+    }
+
     private static boolean addSpecialHeadersToRequestOptions(JavaBlock function, ClientMethod clientMethod) {
         // logic only works for DPG, protocol API, on RequestOptions
 
@@ -884,24 +933,18 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
 
     protected void pagedSinglePageResponseConversion(ProxyMethod restAPIMethod, ClientMethod clientMethod,
         JavaSettings settings, JavaBlock function) {
+        if (settings.isDataPlaneClient()) {
+            function.line("return %s;", readPagedResponseExpression(clientMethod));
+            return;
+        }
         function.line("return new PagedResponseBase<>(");
         function.line("res.getRequest(),");
         function.line("res.getStatusCode(),");
         function.line("res.getHeaders(),");
-        if (settings.isDataPlaneClient()) {
-            function.line("getValues(res.getValue(), \"%s\"),",
-                clientMethod.getMethodPageDetails().getSerializedItemName());
-        } else {
-            function.line("res.getValue().%s(),",
-                CodeNamer.getModelNamer().modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
-        }
+        function.line("res.getValue().%s(),",
+            CodeNamer.getModelNamer().modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
         if (clientMethod.getMethodPageDetails().nonNullNextLink()) {
-            if (settings.isDataPlaneClient()) {
-                function.line("getNextLink(res.getValue(), \"%s\"),",
-                    clientMethod.getMethodPageDetails().getSerializedNextLinkName());
-            } else {
-                function.line(nextLinkLine(clientMethod));
-            }
+            function.line(nextLinkLine(clientMethod));
         } else {
             function.line("null,");
         }
@@ -1320,25 +1363,19 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                 function.line("return FluxUtil.withContext(context -> " + serviceMethodCall + ")");
             }
             function.indent(() -> {
+                if (settings.isDataPlaneClient() && settings.isAzureV1()) {
+                    function.line(".map(res -> %s);", readPagedResponseExpression(clientMethod));
+                    return;
+                }
                 function.line(".map(res -> new PagedResponseBase<>(");
                 function.indent(() -> {
                     function.line("res.getRequest(),");
                     function.line("res.getStatusCode(),");
                     function.line("res.getHeaders(),");
-                    if (settings.isDataPlaneClient() && settings.isAzureV1()) {
-                        function.line("getValues(res.getValue(), \"%s\"),",
-                            clientMethod.getMethodPageDetails().getSerializedItemName());
-                    } else {
-                        function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
-                            .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
-                    }
+                    function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
+                        .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
                     if (clientMethod.getMethodPageDetails().nonNullNextLink()) {
-                        if (settings.isDataPlaneClient() && settings.isAzureV1()) {
-                            function.line("getNextLink(res.getValue(), \"%s\"),",
-                                clientMethod.getMethodPageDetails().getSerializedNextLinkName());
-                        } else {
-                            function.line(nextLinkLine(clientMethod));
-                        }
+                        function.line(nextLinkLine(clientMethod));
                     } else {
                         function.line("null,");
                     }
@@ -1395,6 +1432,22 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
         }
     }
 
+    /**
+     * Get the expression that reads the page, for variable "res" of type "Response" with a "BinaryData" value.
+     * See "readPagedResponse" in {@link TemplateUtil}.
+     *
+     * @param clientMethod the client method to generate implementation
+     * @return the expression of the page
+     */
+    protected static String readPagedResponseExpression(ClientMethod clientMethod) {
+        MethodPageDetails pageDetails = clientMethod.getMethodPageDetails();
+        return String.format("readPagedResponse(res, \"%s\", %s, %s)", pageDetails.getSerializedItemName(),
+            pageDetails.nonNullNextLink() ? "\"" + pageDetails.getSerializedNextLinkName() + "\"" : "null",
+            responseTypeHasDeserializedHeaders(clientMethod.getProxyMethod().getReturnType())
+                ? "res.getDeserializedHeaders()"
+                : "null");
+    }
+
     private static boolean responseTypeHasDeserializedHeaders(IType type) {
         if (type instanceof GenericType && "Mono".equals(((GenericType) type).getName())) {
             type = ((GenericType) type).getTypeArguments()[0];
@@ -1493,6 +1546,13 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
 
             String serviceMethodCall
                 = checkAndReplaceParamNameCollision(clientMethod, restAPIMethod, requestOptionsLocal, settings);
+            if (GenericType.Mono(ClassType.STREAM_RESPONSE).equals(restAPIMethod.getReturnType())
+                && GenericType.Mono(GenericType.Response(ClassType.BINARY_DATA))
+                    .equals(clientMethod.getReturnValue().getType())) {
+                // the response body is not read into memory, it is streamed as the BinaryData is consumed
+                serviceMethodCall += ".flatMap(response -> BinaryData.fromFlux(response.getValue(), null, false)"
+                    + ".map(body -> new SimpleResponse<>(response, body)))";
+            }
             if (contextInParameters(clientMethod)) {
                 function.methodReturn(serviceMethodCall);
             } else {
@@ -10,6 +10,7 @@ import com.azure.core.util.FluxUtil;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ArrayType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ConvenienceMethod;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
@@ -19,6 +20,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlo
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import reactor.core.publisher.Flux;
 
 public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBase {
@@ -123,6 +125,25 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
         }
     }
 
+    @Override
+    protected IType getJsonLinesItemsType(IType itemType) {
+        return GenericType.Flux(itemType);
+    }
+
+    @Override
+    protected void writeJsonLinesRequestMethodImplementation(ClientMethod convenienceMethod,
+        ClientMethodParameter bodyParameter, boolean jsonLinesResponse, JavaBlock methodBlock) {
+        String invocation = getMethodName(convenienceMethod) + "("
+            + convenienceMethod.getMethodInputParameters()
+                .stream()
+                .map(p -> p == bodyParameter ? "jsonLinesBody" : p.getName())
+                .collect(Collectors.joining(", "))
+            + ")";
+        // the items are serialized when the request body is sent
+        methodBlock.methodReturn("JsonLinesHelper.toBinaryData(" + bodyParameter.getName() + ")"
+            + (jsonLinesResponse ? ".flatMapMany" : ".flatMap") + "(jsonLinesBody -> " + invocation + ")");
+    }
+
     private IType getResponseBodyType(ClientMethod method) {
         // no need to care about LRO
         // Mono<T> / PagedFlux<T>
@@ -136,6 +157,13 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
 
     private String expressionConvertFromBinaryData(IType responseBodyType, IType rawType, Set<String> mediaTypes,
         Set<GenericType> typeReferenceStaticClasses) {
+        if (SupportedMimeType.getResponseKnownMimeType(mediaTypes) == SupportedMimeType.JSON_LINES
+            && responseBodyType != ClassType.BINARY_DATA) {
+            // Flux of the items, deserialized from the lines, as they are requested
+            return String.format(".flatMapMany(protocolMethodData -> JsonLinesHelper.toFlux(protocolMethodData, "
+                + "%1$s::fromJson))", responseBodyType);
+        }
+
         String expressionMapFromBinaryData
             = expressionMapFromBinaryData(responseBodyType, rawType, mediaTypes, typeReferenceStaticClasses);
         if (expressionMapFromBinaryData != null) {
@@ -157,6 +185,7 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
                 break;
 
             case BINARY:
+            case JSON_LINES:
                 mapExpression = null;
                 break;
 
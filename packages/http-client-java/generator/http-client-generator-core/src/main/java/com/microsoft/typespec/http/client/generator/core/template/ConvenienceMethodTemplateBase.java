@@ -29,6 +29,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Param
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ParameterTransformations;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ReturnValue;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaType;
@@ -40,6 +41,8 @@ import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -72,28 +75,144 @@ abstract class ConvenienceMethodTemplateBase {
             .stream()
             .filter(this::isMethodIncluded)
             .forEach(convenienceMethod -> {
-                // javadoc
-                classBlock.javadocComment(comment -> ClientMethodTemplate.generateJavadoc(convenienceMethod, comment,
-                    convenienceMethod.getProxyMethod(), false));
+                writeConvenienceMethod(protocolMethod, convenienceMethod,
+                    convenienceMethodObj.getJsonLinesRequestItemType(), false, classBlock,
+                    typeReferenceStaticClasses);
+
+                // method that returns the items of the JSON Lines response body
+                IType responseItemType = convenienceMethodObj.getJsonLinesResponseItemType();
+                if (responseItemType != null && ClientModelUtil.isJsonLinesResponse(convenienceMethod)) {
+                    writeConvenienceMethod(protocolMethod,
+                        withJsonLinesResponseItems(convenienceMethod, responseItemType),
+                        convenienceMethodObj.getJsonLinesRequestItemType(), true, classBlock,
+                        typeReferenceStaticClasses);
+                }
+            });
+    }
 
-                addGeneratedAnnotation(classBlock);
-                TemplateUtil.writeClientMethodServiceMethodAnnotation(convenienceMethod, classBlock);
+    private void writeConvenienceMethod(ClientMethod protocolMethod, ClientMethod convenienceMethod,
+        IType jsonLinesRequestItemType, boolean jsonLinesResponse, JavaClass classBlock,
+        Set<GenericType> typeReferenceStaticClasses) {
+        // javadoc
+        classBlock.javadocComment(comment -> ClientMethodTemplate.generateJavadoc(convenienceMethod, comment,
+            convenienceMethod.getProxyMethod(), false));
 
-                JavaVisibility methodVisibility = convenienceMethod.getMethodVisibilityInWrapperClient();
+        addGeneratedAnnotation(classBlock);
+        if (jsonLinesResponse) {
+            classBlock.annotation("ServiceMethod(returns = ReturnType.COLLECTION)");
+        } else {
+            TemplateUtil.writeClientMethodServiceMethodAnnotation(convenienceMethod, classBlock);
+        }
 
-                // convenience method
-                String methodDeclaration
-                    = String.format("%1$s %2$s(%3$s)", convenienceMethod.getReturnValue().getType(),
-                        getMethodName(convenienceMethod), convenienceMethod.getParametersDeclaration());
-                classBlock.method(methodVisibility, null, methodDeclaration, methodBlock -> {
-                    methodBlock.line("// Generated convenience method for " + getMethodName(protocolMethod));
+        JavaVisibility methodVisibility = convenienceMethod.getMethodVisibilityInWrapperClient();
 
-                    writeMethodImplementation(protocolMethod, convenienceMethod, methodBlock,
-                        typeReferenceStaticClasses);
-                });
-            });
+        // convenience method
+        String methodDeclaration = String.format("%1$s %2$s(%3$s)", convenienceMethod.getReturnValue().getType(),
+            getMethodName(convenienceMethod), convenienceMethod.getParametersDeclaration());
+        classBlock.method(methodVisibility, null, methodDeclaration, methodBlock -> {
+            methodBlock.line("// Generated convenience method for " + getMethodName(protocolMethod));
+
+            writeMethodImplementation(protocolMethod, convenienceMethod, methodBlock, typeReferenceStaticClasses);
+        });
+
+        // overload that takes the items of the JSON Lines request body
+        if (jsonLinesRequestItemType != null) {
+            writeJsonLinesRequestMethod(convenienceMethod, jsonLinesRequestItemType, jsonLinesResponse, classBlock);
+        }
+    }
+
+    /**
+     * Gets the method that returns the items of the JSON Lines response body, instead of the body as BinaryData. It is
+     * named after the convenience method, with the "Items" suffix.
+     *
+     * @param convenienceMethod the convenience method.
+     * @param itemType the type of the items of the JSON Lines response body.
+     * @return the method that returns the items.
+     */
+    private ClientMethod withJsonLinesResponseItems(ClientMethod convenienceMethod, IType itemType) {
+        String methodName = getMethodName(convenienceMethod) + "Items";
+        return convenienceMethod.newBuilder()
+            .name(isMethodAsync(convenienceMethod) ? methodName + "Async" : methodName)
+            .returnValue(new ReturnValue(
+                "the items of the JSON Lines response body, each item is deserialized from a line.",
+                getJsonLinesItemsType(itemType)))
+            .build();
+    }
+
+    /**
+     * Write the overload of the convenience method, that takes the items of the JSON Lines request body. The items are
+     * serialized one line at a time.
+     *
+     * @param convenienceMethod the convenience method.
+     * @param itemType the type of the items of the JSON Lines request body.
+     * @param jsonLinesResponse whether the convenience method returns the items of the JSON Lines response body.
+     * @param classBlock the class block.
+     */
+    private void writeJsonLinesRequestMethod(ClientMethod convenienceMethod, IType itemType,
+        boolean jsonLinesResponse, JavaClass classBlock) {
+        ClientMethodParameter bodyParameter = ClientModelUtil.getJsonLinesRequestBodyParameter(convenienceMethod);
+        if (bodyParameter == null) {
+            return;
+        }
+
+        List<String> parameterDeclarations = new ArrayList<>();
+        for (ClientMethodParameter parameter : convenienceMethod.getMethodInputParameters()) {
+            parameterDeclarations.add(parameter == bodyParameter
+                ? getJsonLinesItemsType(itemType) + " " + parameter.getName()
+                : parameter.getDeclaration());
+        }
+
+        // javadoc
+        classBlock.javadocComment(comment -> {
+            comment.description(convenienceMethod.getDescription());
+            for (ClientMethodParameter parameter : convenienceMethod.getMethodInputParameters()) {
+                comment.param(parameter.getName(), parameter == bodyParameter
+                    ? "the items of the JSON Lines request body, each item is serialized to a line."
+                    : ClientMethodTemplate.parameterDescriptionOrDefault(parameter));
+            }
+            if (convenienceMethod.hasParameterDeclaration()) {
+                comment.methodThrows("IllegalArgumentException", "thrown if parameters fail the validation");
+            }
+            ClientMethodTemplateBase.generateJavadocExceptions(convenienceMethod, comment, false);
+            comment.methodThrows("RuntimeException",
+                "all other wrapped checked exceptions if the request fails to be sent");
+            comment.methodReturns(convenienceMethod.getReturnValue().getDescription());
+        });
+
+        addGeneratedAnnotation(classBlock);
+        if (jsonLinesResponse) {
+            classBlock.annotation("ServiceMethod(returns = ReturnType.COLLECTION)");
+        } else {
+            TemplateUtil.writeClientMethodServiceMethodAnnotation(convenienceMethod, classBlock);
+        }
+
+        String methodDeclaration = String.format("%1$s %2$s(%3$s)", convenienceMethod.getReturnValue().getType(),
+            getMethodName(convenienceMethod), String.join(", ", parameterDeclarations));
+        classBlock.method(convenienceMethod.getMethodVisibilityInWrapperClient(), null, methodDeclaration,
+            methodBlock -> writeJsonLinesRequestMethodImplementation(convenienceMethod, bodyParameter,
+                jsonLinesResponse, methodBlock));
     }
 
+    /**
+     * Gets the type of the items of the JSON Lines body, e.g. {@code Iterable<T>}.
+     *
+     * @param itemType the type of the items.
+     * @return the type of the items of the JSON Lines body.
+     */
+    protected abstract IType getJsonLinesItemsType(IType itemType);
+
+    /**
+     * Write the implementation of the JSON Lines request overload, which delegates to the convenience method with
+     * BinaryData request body.
+     *
+     * @param convenienceMethod the convenience method.
+     * @param bodyParameter the request body parameter, its items are in the parameter of the same name.
+     * @param jsonLinesResponse whether the convenience method returns the items of the JSON Lines response body.
+     * @param methodBlock the code block.
+     */
+    protected abstract void writeJsonLinesRequestMethodImplementation(ClientMethod convenienceMethod,
+        ClientMethodParameter bodyParameter, boolean jsonLinesResponse, JavaBlock methodBlock);
+
     /**
      * Write the implementation of the convenience method.
      *
@@ -405,6 +524,16 @@ abstract class ConvenienceMethodTemplateBase {
             }
         });
 
+        // items of JSON Lines body
+        for (ConvenienceMethod m : convenienceMethods) {
+            if (m.getJsonLinesRequestItemType() != null) {
+                m.getJsonLinesRequestItemType().addImportsTo(imports, false);
+            }
+            if (m.getJsonLinesResponseItemType() != null) {
+                m.getJsonLinesResponseItemType().addImportsTo(imports, false);
+            }
+        }
+
         ClassType.HTTP_HEADER_NAME.addImportsTo(imports, false);
         ClassType.BINARY_DATA.addImportsTo(imports, false);
         ClassType.REQUEST_OPTIONS.addImportsTo(imports, false);
@@ -417,6 +546,8 @@ abstract class ConvenienceMethodTemplateBase {
         imports.add(JacksonAdapter.class.getName());
         imports.add(CollectionFormat.class.getName());
         imports.add(TypeReference.class.getName());
+        ClassType.CORE_UTILS.addImportsTo(imports, false);
+        imports.add(DateTimeFormatter.class.getName());
         if (!JavaSettings.getInstance().isAzureV1() || JavaSettings.getInstance().isAzureV2()) {
             imports.add(Type.class.getName());
             imports.add(ParameterizedType.class.getName());
@@ -439,6 +570,12 @@ abstract class ConvenienceMethodTemplateBase {
         // JsonMergePatchHelper class
         imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
             + ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
+
+        // JsonLinesHelper class
+        if (settings.isAzureV1()) {
+            imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                + ClientModelUtil.JSON_LINES_HELPER_CLASS_NAME);
+        }
     }
 
     protected void addGeneratedAnnotation(JavaType typeBlock) {
@@ -504,7 +641,7 @@ abstract class ConvenienceMethodTemplateBase {
     }
 
     protected enum SupportedMimeType {
-        TEXT, XML, MULTIPART, BINARY, JSON;
+        TEXT, XML, MULTIPART, BINARY, JSON, JSON_LINES;
 
         // azure-core SerializerEncoding.SUPPORTED_MIME_TYPES
         private static final Map<String, SupportedMimeType> SUPPORTED_MIME_TYPES
@@ -520,6 +657,7 @@ abstract class ConvenienceMethodTemplateBase {
             SUPPORTED_MIME_TYPES.put("text/plain", SupportedMimeType.TEXT);
             // not in azure-core
             SUPPORTED_MIME_TYPES.put("application/merge-patch+json", SupportedMimeType.JSON);
+            SUPPORTED_MIME_TYPES.put("application/jsonl", SupportedMimeType.JSON_LINES);
         }
 
         public static SupportedMimeType getResponseKnownMimeType(Collection<String> mediaTypes) {
@@ -568,6 +706,8 @@ abstract class ConvenienceMethodTemplateBase {
                 return "BinaryData.fromString(" + name + ")";
 
             case BINARY:
+            case JSON_LINES:
+                // JSON Lines request body is BinaryData, the items are taken by the overload
                 return name;
 
             default:
@@ -676,14 +816,24 @@ abstract class ConvenienceMethodTemplateBase {
                     return name + ".stream()\n" + "    .map(paramItemValue -> Objects.toString(paramItemValue, \"\"))\n"
                         + "    .collect(Collectors.joining(" + delimiter + "))";
                 } else {
-                    // Always use serializeIterable as Iterable supports both Iterable and List.
-
                     // this logic depends on rawType of proxy method parameter be List<WireType>
                     // alternative would be check wireType of client method parameter
                     IType elementWireType = parameter.getRawType() instanceof IterableType
                         ? ((IterableType) parameter.getRawType()).getElementType()
                         : elementType;
 
+                    String serializeItemValue = ClientMethodTemplate.serializeItemValueExpression(elementWireType);
+                    if (serializeItemValue != null) {
+                        // items have a well-known string form, convert them without a serializer
+                        String itemStream = name + ".stream()\n";
+                        if (elementWireType != elementType) {
+                            itemStream += "    .map(paramItemValue -> "
+                                + elementWireType.convertFromClientType("paramItemValue") + ")\n";
+                        }
+                        return itemStream + "    .map(paramItemValue -> " + serializeItemValue + ")\n"
+                            + "    .collect(Collectors.joining(" + delimiter + "))";
+                    }
+
                     String serializeIterableInput = name;
                     if (elementWireType != elementType) {
                         // convert List<ClientType> to List<WireType>, if necessary
@@ -693,6 +843,7 @@ abstract class ConvenienceMethodTemplateBase {
                     }
 
                     // convert List<WireType> to String
+                    // Always use serializeIterable as Iterable supports both Iterable and List.
                     return String.format(
                         "JacksonAdapter.createDefaultSerializerAdapter().serializeIterable(%s, CollectionFormat.%s)",
                         serializeIterableInput, parameter.getCollectionFormat().toString().toUpperCase(Locale.ROOT));
@@ -16,6 +16,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Conve
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IterableType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import java.util.List;
@@ -159,6 +160,27 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
         }
     }
 
+    @Override
+    protected IType getJsonLinesItemsType(IType itemType) {
+        return new IterableType(itemType);
+    }
+
+    @Override
+    protected void writeJsonLinesRequestMethodImplementation(ClientMethod convenienceMethod,
+        ClientMethodParameter bodyParameter, boolean jsonLinesResponse, JavaBlock methodBlock) {
+        String invocation = getMethodName(convenienceMethod) + "("
+            + convenienceMethod.getMethodInputParameters()
+                .stream()
+                .map(p -> p == bodyParameter ? "JsonLinesHelper.toBinaryData(" + p.getName() + ")" : p.getName())
+                .collect(Collectors.joining(", "))
+            + ")";
+        if (convenienceMethod.getReturnValue().getType().asNullable() == ClassType.VOID) {
+            methodBlock.line(invocation + ";");
+        } else {
+            methodBlock.methodReturn(invocation);
+        }
+    }
+
     @Override
     protected void writeThrowException(ClientMethodType methodType, String exceptionExpression, JavaBlock methodBlock) {
         if (JavaSettings.getInstance().isUseClientLogger()) {
@@ -214,6 +236,15 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
             case BINARY:
                 return invocationExpression;
 
+            case JSON_LINES:
+                if (responseBodyType instanceof IterableType) {
+                    // the items are deserialized from the lines, as they are iterated
+                    return String.format("JsonLinesHelper.toIterable(%1$s, %2$s::fromJson)", invocationExpression,
+                        ((IterableType) responseBodyType).getElementType());
+                } else {
+                    return invocationExpression;
+                }
+
             default:
                 // JSON etc.
                 if (responseBodyType instanceof EnumType) {
@@ -39,6 +39,11 @@ public class DefaultTemplateFactory implements TemplateFactory {
         return ProxyTemplate.getInstance();
     }
 
+    @Override
+    public ServiceImplTemplate getServiceImplTemplate() {
+        return ServiceImplTemplate.getInstance();
+    }
+
     @Override
     public ClientMethodTemplate getClientMethodTemplate() {
         return ClientMethodTemplate.getInstance();
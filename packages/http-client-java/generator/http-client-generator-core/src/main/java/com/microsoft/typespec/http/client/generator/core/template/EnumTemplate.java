@@ -11,6 +11,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Clien
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaContext;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaEnum;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
@@ -20,7 +21,9 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVis
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Writes a EnumType to a JavaFile.
@@ -90,8 +93,9 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
                     ? "Static value " + value + " for " + enumName + "."
                     : enumValue.getDescription());
                 addGeneratedAnnotation(classBlock);
-                classBlock.publicStaticFinalVariable(String.format("%1$s %2$s = from%3$s(%4$s)", enumName,
-                    enumValue.getName(), pascalTypeName, elementType.defaultValueExpression(value)));
+                // created with the method of ExpandableStringEnum, as the public 'from' method returns the constants
+                classBlock.publicStaticFinalVariable(String.format("%1$s %2$s = from%3$s(%4$s, %1$s.class)",
+                    enumName, enumValue.getName(), pascalTypeName, elementType.defaultValueExpression(value)));
             }
 
             // ctor, marked as Deprecated
@@ -121,7 +125,15 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
             classBlock.publicStaticMethod(String.format("%1$s from%2$s(%3$s name)", enumName, pascalTypeName, typeName),
                 function -> {
                     String stringValue = (ClassType.STRING.equals(elementType)) ? "name" : "String.valueOf(name)";
-                    function.methodReturn("fromString(" + stringValue + ", " + enumName + ".class)");
+                    String fromStringCall = "fromString(" + stringValue + ", " + enumName + ".class)";
+                    if (ClassType.STRING.equals(elementType) && hasDistinctValues(enumType, false)) {
+                        // known values are returned without the lookup in the cache of ExpandableStringEnum
+                        function.ifBlock("name == null", ifBlock -> ifBlock.methodReturn("null"));
+                        writeKnownValuesSwitch(function, "name", enumType,
+                            defaultBlock -> defaultBlock.methodReturn(fromStringCall));
+                    } else {
+                        function.methodReturn(fromStringCall);
+                    }
                 });
 
             // values()
@@ -182,6 +194,10 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
                 if (elementType.isNullable()) {
                     function.ifBlock("value == null", ifAction -> ifAction.methodReturn("null"));
                 }
+                if (elementType == ClassType.STRING && hasDistinctValues(enumType, true)) {
+                    // exact match of a known value, otherwise values differing in case are matched below
+                    writeKnownValuesSwitch(function, "value", enumType, defaultBlock -> defaultBlock.line("break;"));
+                }
                 function.line(enumName + "[] items = " + enumName + ".values();");
                 function.block("for (" + enumName + " item : items)", foreachBlock -> foreachBlock
                     .ifBlock(createEnumJsonCreatorIfCheck(enumType), ifBlock -> ifBlock.methodReturn("item")));
@@ -359,6 +375,52 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
         });
     }
 
+    /**
+     * Writes a switch on a value of a String enum, returning the constant of each known value.
+     * <p>
+     * A switch on a String dispatches on the hash code of the value, with no allocation. It is used instead of
+     * iterating over the values, or looking up a cache by class then by value.
+     *
+     * @param block The method block.
+     * @param variableName The name of the variable holding the value, which must not be null.
+     * @param enumType The enum type.
+     * @param defaultAction The action for an unknown value.
+     */
+    private static void writeKnownValuesSwitch(JavaBlock block, String variableName, EnumType enumType,
+        Consumer<JavaBlock> defaultAction) {
+        block.block("switch (" + variableName + ")", switchBlock -> {
+            for (ClientEnumValue enumValue : enumType.getValues()) {
+                switchBlock.line("case " + ClassType.STRING.defaultValueExpression(enumValue.getValue()) + ":");
+                switchBlock.indent(() -> switchBlock.methodReturn(enumValue.getName()));
+            }
+
+            switchBlock.line("default:");
+            switchBlock.indent(() -> defaultAction.accept(switchBlock));
+        });
+    }
+
+    /**
+     * Checks whether the values of the enum are distinct, as required by the case labels of a switch.
+     *
+     * @param enumType The enum type.
+     * @param ignoreCase Whether values differing in case are considered equal. The sealed enum matches values ignoring
+     * case, so the first of such values would be returned without the switch.
+     * @return Whether the values of the enum are distinct.
+     */
+    private static boolean hasDistinctValues(EnumType enumType, boolean ignoreCase) {
+        List<ClientEnumValue> values = enumType.getValues();
+        for (int i = 0; i < values.size(); i++) {
+            for (int j = i + 1; j < values.size(); j++) {
+                String value = values.get(i).getValue();
+                String otherValue = values.get(j).getValue();
+                if (ignoreCase ? value.equalsIgnoreCase(otherValue) : value.equals(otherValue)) {
+                    return false;
+                }
+            }
+        }
+        return !values.isEmpty();
+    }
+
     /**
      * Creates the if check used by the JsonCreator method used in the Enum type.
      *
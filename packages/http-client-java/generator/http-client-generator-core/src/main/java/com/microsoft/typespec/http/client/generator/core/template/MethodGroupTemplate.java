@@ -16,7 +16,6 @@ import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ModelNamer;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import io.clientcore.core.serialization.ObjectSerializer;
-import java.lang.reflect.InvocationTargetException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -47,9 +46,11 @@ public class MethodGroupTemplate implements IJavaTemplate<MethodGroupClient, Jav
         String serviceClientPackageName
             = ClientModelUtil.getServiceClientPackageName(methodGroupClient.getServiceClientName());
         imports.add(String.format("%1$s.%2$s", serviceClientPackageName, methodGroupClient.getServiceClientName()));
-        imports.add(InvocationTargetException.class.getName());
         imports.add(ObjectSerializer.class.getName());
         ClassType.HTTP_PIPELINE.addImportsTo(imports, false);
+        if (Templates.getServiceImplTemplate().isSupported(methodGroupClient.getProxy())) {
+            Templates.getServiceImplTemplate().addImportsTo(methodGroupClient.getProxy(), imports);
+        }
         javaFile.declareImport(imports);
 
         List<String> interfaces
@@ -120,7 +121,10 @@ public class MethodGroupTemplate implements IJavaTemplate<MethodGroupClient, Jav
 
     protected void writeServiceProxyConstruction(JavaBlock constructor, MethodGroupClient methodGroupClient) {
         ClassType proxyType = ClassType.REST_PROXY;
-        if (JavaSettings.getInstance().isAzureV1()) {
+        if (Templates.getServiceImplTemplate().isSupported(methodGroupClient.getProxy())) {
+            constructor.line("this.service = new %1$s(client.getHttpPipeline());",
+                ServiceImplTemplate.getServiceImplName(methodGroupClient.getProxy()));
+        } else if (JavaSettings.getInstance().isAzureV1()) {
             constructor.line(String.format(
                 "this.service = %1$s.create(%2$s.class, client.getHttpPipeline(), client.getSerializerAdapter());",
                 proxyType.getName(), methodGroupClient.getProxy().getName()));
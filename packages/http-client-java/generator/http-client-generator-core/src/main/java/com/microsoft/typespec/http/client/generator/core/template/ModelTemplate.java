@@ -147,7 +147,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
 
             // add jsonMergePatch related properties and accessors
             if (ClientModelUtil.isJsonMergePatchModel(model, settings)) {
-                addJsonMergePatchRelatedPropertyAndAccessors(classBlock, model);
+                addJsonMergePatchRelatedPropertyAndAccessors(classBlock, propertiesManager);
             }
 
             // constructor
@@ -193,7 +193,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                         model.getName() + " " + property.getSetterName() + "(" + propertyClientType + " "
                             + property.getName() + ")",
                         methodBlock -> addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
+                            methodBlock, settings, getJsonMergePatchUpdateStatement(propertiesManager, property)));
                 } else if (ClientModelUtil.needsPackagePrivateSetter(model, property, settings, streamStyle)) {
                     generateSetterJavadoc(classBlock, model, property);
                     addGeneratedAnnotation(classBlock);
@@ -201,7 +201,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                         model.getName() + " " + property.getSetterName() + "(" + propertyClientType + " "
                             + property.getName() + ")",
                         methodBlock -> addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
+                            methodBlock, settings, getJsonMergePatchUpdateStatement(propertiesManager, property)));
                 }
 
                 // If the property is additional properties, and stream-style serialization isn't being used, add a
@@ -238,8 +238,9 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                     classBlock.publicMethod(methodSignature, methodBlock -> {
                         methodBlock
                             .line("super." + parentProperty.getSetterName() + "(" + parentProperty.getName() + ");");
-                        if (ClientModelUtil.isJsonMergePatchModel(model, settings)) {
-                            methodBlock.line("this.updatedProperties.add(\"" + parentProperty.getName() + "\");");
+                        String updateStatement = getJsonMergePatchUpdateStatement(propertiesManager, parentProperty);
+                        if (updateStatement != null) {
+                            methodBlock.line(updateStatement);
                         }
                         methodBlock.methodReturn("this");
                     });
@@ -470,8 +471,6 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
         if (ClientModelUtil.isJsonMergePatchModel(model, settings)) {
             imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
                 + ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
-            imports.add(Set.class.getName());
-            imports.add(HashSet.class.getName());
         }
     }
 
@@ -1093,10 +1092,11 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
      * @param property The property.
      * @param treatAsXml Whether the setter should treat the property as XML.
      * @param methodBlock Where the setter method is being added.
-     * @param isJsonMergePatchModel Whether the client model is a JSON merge patch model.
+     * @param jsonMergePatchUpdateStatement The statement tracking the update of the property in a JSON merge patch
+     * model, or null if the update isn't tracked.
      */
     private static void addSetterMethod(IType propertyWireType, IType propertyClientType, ClientModelProperty property,
-        boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings, boolean isJsonMergePatchModel) {
+        boolean treatAsXml, JavaBlock methodBlock, JavaSettings settings, String jsonMergePatchUpdateStatement) {
         String expression = (propertyClientType.equals(ArrayType.BYTE_ARRAY))
             ? TemplateHelper.getByteCloneExpression(property.getName())
             : property.getName();
@@ -1124,8 +1124,8 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             }
         }
 
-        if (isJsonMergePatchModel) {
-            methodBlock.line("this.updatedProperties.add(\"" + property.getName() + "\");");
+        if (jsonMergePatchUpdateStatement != null) {
+            methodBlock.line(jsonMergePatchUpdateStatement);
         }
 
         methodBlock.methodReturn("this");
@@ -1383,7 +1383,9 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
     /**
      * Add json-merge-patch related flag and accessors.
      */
-    private void addJsonMergePatchRelatedPropertyAndAccessors(JavaClass classBlock, ClientModel model) {
+    private void addJsonMergePatchRelatedPropertyAndAccessors(JavaClass classBlock,
+        ClientModelPropertiesManager propertiesManager) {
+        ClientModel model = propertiesManager.getModel();
         if (!model.getImplementationDetails().isInput()) {
             // Model doesn't get used in serialization, no need to add json merge patch related properties and
             // accessors.
@@ -1391,9 +1393,15 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
         }
 
         classBlock.javadocComment(comment -> comment
-            .description("Stores updated model property, the value is property name, not serialized name"));
+            .description("Stores updated model properties, the bit of a property is set when the property is updated"));
         addGeneratedAnnotation(classBlock);
-        classBlock.privateFinalMemberVariable("Set<String> updatedProperties = new HashSet<>()");
+        int propertyCount = propertiesManager.getJsonMergePatchPropertyCount();
+        if (propertyCount <= Long.SIZE) {
+            classBlock.privateMemberVariable("long updatedProperties");
+        } else {
+            classBlock.privateFinalMemberVariable(
+                "long[] updatedProperties = new long[" + ((propertyCount + Long.SIZE - 1) / Long.SIZE) + "]");
+        }
 
         if (model.isPolymorphic() && CoreUtils.isNullOrEmpty(model.getDerivedModels())) {
             // Only polymorphic parent models generate an accessor.
@@ -1460,4 +1468,50 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             staticBlock.line("});");
         });
     }
+
+    /**
+     * Gets the statement setting the bit of the property in the bitset tracking the updated properties of a JSON merge
+     * patch model.
+     *
+     * @param propertiesManager The properties manager of the model.
+     * @param property The property.
+     * @return The statement setting the bit of the property, or null if the update of the property isn't tracked.
+     */
+    protected static String getJsonMergePatchUpdateStatement(ClientModelPropertiesManager propertiesManager,
+        ClientModelPropertyAccess property) {
+        int index = propertiesManager.getJsonMergePatchPropertyIndex(property.getName());
+        if (index < 0) {
+            return null;
+        }
+        return "this." + getJsonMergePatchBitsetElement(propertiesManager, index) + " |= "
+            + getJsonMergePatchBitMask(index) + ";";
+    }
+
+    /**
+     * Gets the condition of whether the property of a JSON merge patch model is updated.
+     *
+     * @param propertiesManager The properties manager of the model.
+     * @param property The property.
+     * @return The condition of whether the property is updated.
+     */
+    protected static String getJsonMergePatchUpdatedCondition(ClientModelPropertiesManager propertiesManager,
+        ClientModelPropertyAccess property) {
+        int index = propertiesManager.getJsonMergePatchPropertyIndex(property.getName());
+        if (index < 0) {
+            throw new IllegalStateException("Update of property '" + property.getName() + "' isn't tracked in JSON "
+                + "merge patch model '" + propertiesManager.getModel().getName() + "'.");
+        }
+        return "(" + getJsonMergePatchBitsetElement(propertiesManager, index) + " & (" + getJsonMergePatchBitMask(index)
+            + ")) != 0";
+    }
+
+    private static String getJsonMergePatchBitsetElement(ClientModelPropertiesManager propertiesManager, int index) {
+        return propertiesManager.getJsonMergePatchPropertyCount() <= Long.SIZE
+            ? "updatedProperties"
+            : "updatedProperties[" + (index / Long.SIZE) + "]";
+    }
+
+    private static String getJsonMergePatchBitMask(int index) {
+        return "1L << " + (index % Long.SIZE);
+    }
 }
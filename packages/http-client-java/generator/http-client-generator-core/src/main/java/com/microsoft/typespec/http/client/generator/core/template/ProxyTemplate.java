@@ -59,36 +59,6 @@ public class ProxyTemplate implements IJavaTemplate<Proxy, JavaClass> {
 
             classBlock.interfaceBlock(visibility, restAPI.getName(), interfaceBlock -> {
 
-                if (settings.isAzureV2() || !settings.isAzureV1()) {
-                    StringBuilder params = new StringBuilder();
-                    params.append("HttpPipeline pipeline");
-
-                    StringBuilder paramTypes = new StringBuilder();
-                    paramTypes.append("HttpPipeline.class");
-
-                    StringBuilder reflectionParams = new StringBuilder();
-                    reflectionParams.append("pipeline");
-
-                    interfaceBlock.staticMethod(JavaVisibility.PackagePrivate,
-                        restAPI.getName() + " getNewInstance(" + params + ")", javaBlock -> {
-
-                            String serviceClientInterfacePackageName
-                                = ClientModelUtil.getServiceClientInterfacePackageName();
-                            javaBlock.tryBlock(tryBlock -> {
-                                tryBlock.line(
-                                    "Class<?> clazz = Class.forName(" + "\"" + JavaSettings.getInstance().getPackage()
-                                        + ".implementation." + restAPI.getName() + "Impl" + "\");");
-                                tryBlock.line("return (" + restAPI.getName() + ") clazz.getMethod(\"getNewInstance\", "
-                                    + paramTypes + ").invoke(null, " + reflectionParams + ");");
-                            })
-                                .catchBlock(
-                                    "ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e",
-                                    catchBlock -> {
-                                        catchBlock.line("throw new RuntimeException(e);");
-                                    });
-                        });
-                }
-
                 for (ProxyMethod restAPIMethod : restAPI.getMethods()) {
                     if (restAPIMethod.getRequestContentType().equals("multipart/form-data")
                         || restAPIMethod.getRequestContentType().equals("application/x-www-form-urlencoded")) {
@@ -158,6 +128,10 @@ public class ProxyTemplate implements IJavaTemplate<Proxy, JavaClass> {
                     writeProxyMethodSignature(parameterDeclarationList, restAPIMethod, interfaceBlock);
                 }
             });
+
+            if (Templates.getServiceImplTemplate().isSupported(restAPI)) {
+                Templates.getServiceImplTemplate().write(restAPI, classBlock);
+            }
         }
     }
 
@@ -23,7 +23,6 @@ import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ModelNamer;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import io.clientcore.core.serialization.ObjectSerializer;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -75,9 +74,11 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
             imports.add("com.azure.core.util.serializer.JacksonAdapter");
         }
 
-        imports.add(InvocationTargetException.class.getName());
         imports.add(ObjectSerializer.class.getName());
         ClassType.HTTP_PIPELINE.addImportsTo(imports, false);
+        if (Templates.getServiceImplTemplate().isSupported(serviceClient.getProxy())) {
+            Templates.getServiceImplTemplate().addImportsTo(serviceClient.getProxy(), imports);
+        }
 
         serviceClient.addImportsTo(imports, true, false, settings);
         additionalMethods.forEach(method -> method.addImportsTo(imports));
@@ -246,7 +247,10 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
                                         methodGroupClient.getVariableName(), methodGroupClient.getClassName()));
                                 }
 
-                                if (serviceClient.getProxy() != null) {
+                                if (Templates.getServiceImplTemplate().isSupported(serviceClient.getProxy())) {
+                                    constructorBlock.line("this.service = new %1$s(this.httpPipeline);",
+                                        ServiceImplTemplate.getServiceImplName(serviceClient.getProxy()));
+                                } else if (serviceClient.getProxy() != null) {
                                     constructorBlock.line(String.format(
                                         "this.service = %1$s.create(%2$s.class, this.httpPipeline, %3$s);",
                                         ClassType.REST_PROXY.getName(), serviceClient.getProxy().getName(),
@@ -387,7 +391,10 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
                 methodGroupClient.getClassName());
         }
 
-        if (serviceClient.getProxy() != null) {
+        if (Templates.getServiceImplTemplate().isSupported(serviceClient.getProxy())) {
+            constructorBlock.line("this.service = new %s(this.httpPipeline);",
+                ServiceImplTemplate.getServiceImplName(serviceClient.getProxy()));
+        } else if (serviceClient.getProxy() != null) {
             if (!JavaSettings.getInstance().isAzureV1()) {
                 constructorBlock.line("this.service = %s.create(%s.class, this.httpPipeline);",
                     ClassType.REST_PROXY.getName(), serviceClient.getProxy().getName());
@@ -0,0 +1,720 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.util.UrlBuilder;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ArrayType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Proxy;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the implementation of a Proxy to a JavaClass block.
+ * <p>
+ * The implementation builds the requests and handles the responses the same way as RestProxy does, but without
+ * reflection. It is written when "generate-service-impl" is enabled, and only for the Proxy of which every method is
+ * supported. Otherwise, the Proxy is still created by RestProxy.
+ */
+public class ServiceImplTemplate implements IJavaTemplate<Proxy, JavaClass> {
+    private static final ServiceImplTemplate INSTANCE = new ServiceImplTemplate();
+
+    private static final Pattern TEMPLATE_PARAMETER = Pattern.compile("\\{([^}]+)}");
+    private static final List<IType> SIMPLE_TYPES = Arrays.asList(ClassType.STRING, PrimitiveType.INT,
+        ClassType.INTEGER, PrimitiveType.LONG, ClassType.LONG, PrimitiveType.BOOLEAN, ClassType.BOOLEAN,
+        PrimitiveType.DOUBLE, ClassType.DOUBLE, PrimitiveType.FLOAT, ClassType.FLOAT, ClassType.UUID);
+    private static final List<ClassType> CORE_EXCEPTION_TYPES = Arrays.asList(ClassType.HTTP_RESPONSE_EXCEPTION,
+        ClassType.CLIENT_AUTHENTICATION_EXCEPTION, ClassType.RESOURCE_EXISTS_EXCEPTION,
+        ClassType.RESOURCE_MODIFIED_EXCEPTION, ClassType.RESOURCE_NOT_FOUND_EXCEPTION,
+        ClassType.TOO_MANY_REDIRECTS_EXCEPTION);
+
+    protected ServiceImplTemplate() {
+    }
+
+    public static ServiceImplTemplate getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the name of the implementation class of the Proxy.
+     *
+     * @param proxy the Proxy.
+     * @return the name of the implementation class.
+     */
+    public static String getServiceImplName(Proxy proxy) {
+        return proxy.getName() + "Impl";
+    }
+
+    /**
+     * Checks whether the implementation of the Proxy is generated, instead of creating the Proxy by RestProxy.
+     *
+     * @param proxy the Proxy.
+     * @return whether the implementation of the Proxy is generated.
+     */
+    public boolean isSupported(Proxy proxy) {
+        if (proxy == null || !isEnabled(JavaSettings.getInstance())) {
+            return false;
+        }
+        return getImplementedMethods(proxy).stream().allMatch(method -> isSupported(proxy, method));
+    }
+
+    /**
+     * Checks whether the implementations are generated with the settings.
+     *
+     * @param settings the settings.
+     * @return whether the implementations are generated.
+     */
+    protected boolean isEnabled(JavaSettings settings) {
+        return settings.isGenerateServiceImpl()
+            && settings.isAzureV1()
+            && !settings.isFluent()
+            && settings.isStreamStyleSerialization();
+    }
+
+    /**
+     * Adds the imports required by the implementation of the Proxy.
+     *
+     * @param proxy the Proxy.
+     * @param imports the set of imports.
+     */
+    public void addImportsTo(Proxy proxy, Set<String> imports) {
+        JavaSettings settings = JavaSettings.getInstance();
+        imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+            + ClientModelUtil.SERVICE_IMPL_UTILS_CLASS_NAME);
+        imports.add(HttpMethod.class.getName());
+        imports.add(UrlBuilder.class.getName());
+        ClassType.HTTP_PIPELINE.addImportsTo(imports, false);
+        ClassType.HTTP_REQUEST.addImportsTo(imports, false);
+        ClassType.HTTP_RESPONSE.addImportsTo(imports, false);
+        ClassType.HTTP_HEADER_NAME.addImportsTo(imports, false);
+        ClassType.HTTP_RESPONSE_EXCEPTION.addImportsTo(imports, false);
+        ClassType.CONTEXT.addImportsTo(imports, false);
+
+        for (ProxyMethod method : getImplementedMethods(proxy)) {
+            method.getReturnType().addImportsTo(imports, false);
+            if (ClassType.STREAM_RESPONSE.equals(getResponseType(method))) {
+                ClassType.STREAM_RESPONSE.addImportsTo(imports, false);
+            }
+            for (ClassType exceptionType : getExceptionTypes(method).keySet()) {
+                exceptionType.addImportsTo(imports, false);
+                ClientModel errorModel = getErrorModel(exceptionType);
+                if (errorModel != null) {
+                    imports.add(errorModel.getPackage() + "." + errorModel.getName());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void write(Proxy proxy, JavaClass classBlock) {
+        String serviceImplName = getServiceImplName(proxy);
+        List<ProxyMethod> methods = getImplementedMethods(proxy);
+
+        // the header names are created once, and the factories of the exceptions are shared by the methods
+        Map<String, String> headerNames = new LinkedHashMap<>();
+        Map<String, String> exceptionFactories = new LinkedHashMap<>();
+        for (ProxyMethod method : methods) {
+            for (ProxyMethodParameter parameter : method.getParameters()) {
+                if (parameter.getRequestParameterLocation() == RequestParameterLocation.HEADER
+                    && parameter.getHeaderCollectionPrefix() == null) {
+                    headerNames.putIfAbsent(getHeaderNameVariable(parameter.getRequestParameterName()),
+                        parameter.getRequestParameterName());
+                }
+            }
+            String exceptionFactoryKey = getExceptionFactoryKey(method);
+            if (!exceptionFactories.containsKey(exceptionFactoryKey)) {
+                int index = exceptionFactories.size() + 1;
+                exceptionFactories.put(exceptionFactoryKey, index == 1 ? "createException" : "createException" + index);
+            }
+        }
+
+        classBlock.javadocComment(String.format(
+            "The implementation of %1$s, which sends the requests without RestProxy.", proxy.getName()));
+        classBlock.privateStaticFinalClass(serviceImplName + " implements " + proxy.getName(), implBlock -> {
+            headerNames.forEach((variable, name) -> implBlock.privateStaticFinalVariable(
+                String.format("HttpHeaderName %1$s = HttpHeaderName.fromString(\"%2$s\")", variable, name)));
+
+            implBlock.privateFinalMemberVariable("HttpPipeline", "pipeline");
+
+            implBlock.constructor(JavaVisibility.PackagePrivate, serviceImplName + "(HttpPipeline pipeline)",
+                constructor -> constructor.line("this.pipeline = pipeline;"));
+
+            for (ProxyMethod method : methods) {
+                String exceptionFactory
+                    = serviceImplName + "::" + exceptionFactories.get(getExceptionFactoryKey(method));
+                implBlock.annotation("Override");
+                implBlock.publicMethod(getMethodSignature(method),
+                    methodBlock -> writeMethod(proxy, method, exceptionFactory, methodBlock));
+            }
+
+            Map<String, ProxyMethod> exceptionFactoryMethods = new LinkedHashMap<>();
+            for (ProxyMethod method : methods) {
+                exceptionFactoryMethods.putIfAbsent(exceptionFactories.get(getExceptionFactoryKey(method)), method);
+            }
+            exceptionFactoryMethods.forEach((name, method) -> implBlock.staticMethod(JavaVisibility.Private,
+                "HttpResponseException " + name + "(" + getResponseType() + " response, byte[] body)",
+                methodBlock -> writeExceptionFactory(method, methodBlock)));
+        });
+    }
+
+    /**
+     * Gets the type of the context parameter of the service methods, which is not sent in the request.
+     *
+     * @return the type of the context parameter.
+     */
+    protected ClassType getContextType() {
+        return ClassType.CONTEXT;
+    }
+
+    /**
+     * Gets the type of the URL builder returned by ServiceImplUtils.createUrl.
+     *
+     * @return the type of the URL builder.
+     */
+    protected String getUrlBuilderType() {
+        return "UrlBuilder";
+    }
+
+    /**
+     * Gets the expression creating the request.
+     *
+     * @param httpMethod the HTTP method of the request.
+     * @param url the expression of the URL of the request.
+     * @return the expression creating the request.
+     */
+    protected String getNewRequestExpression(String httpMethod, String url) {
+        return String.format("new HttpRequest(HttpMethod.%1$s, %2$s)", httpMethod, url);
+    }
+
+    /**
+     * Gets the expression of the context passed to ServiceImplUtils.send.
+     *
+     * @param contextParameter the name of the context parameter, or "null" if there is none.
+     * @param callerMethod the name of the service method.
+     * @param eagerlyReadResponse whether the response body is read into memory by the HTTP client.
+     * @param ignoreResponseBody whether the response body is not used by the service method.
+     * @return the expression of the context.
+     */
+    protected String getContextExpression(String contextParameter, String callerMethod, boolean eagerlyReadResponse,
+        boolean ignoreResponseBody) {
+        return String.format("ServiceImplUtils.createContext(%1$s, \"%2$s\", %3$s, %4$s)", contextParameter,
+            callerMethod, eagerlyReadResponse, ignoreResponseBody);
+    }
+
+    /**
+     * Gets the type of the response returned by ServiceImplUtils.send.
+     *
+     * @return the type of the response.
+     */
+    protected String getResponseType() {
+        return "HttpResponse";
+    }
+
+    /**
+     * Gets the expression of the response body as BinaryData.
+     *
+     * @param response the name of the response variable.
+     * @return the expression of the response body.
+     */
+    protected String getResponseBodyExpression(String response) {
+        return response + ".getBodyAsBinaryData()";
+    }
+
+    private void writeMethod(Proxy proxy, ProxyMethod method, String exceptionFactory, JavaBlock methodBlock) {
+        Map<String, ProxyMethodParameter> templateParameters = new LinkedHashMap<>();
+        String contextParameter = "null";
+        for (ProxyMethodParameter parameter : method.getParameters()) {
+            RequestParameterLocation location = parameter.getRequestParameterLocation();
+            if (location == RequestParameterLocation.URI || location == RequestParameterLocation.PATH) {
+                templateParameters.put(parameter.getRequestParameterName(), parameter);
+            } else if (location == RequestParameterLocation.NONE) {
+                contextParameter = parameter.getName();
+            }
+        }
+        LocalVariables locals = new LocalVariables(method);
+
+        methodBlock.line("%1$s %2$s = ServiceImplUtils.createUrl(%3$s, %4$s);", getUrlBuilderType(), locals.url,
+            substitute(proxy.getBaseURL(), templateParameters), substitute(method.getUrlPath(), templateParameters));
+        for (ProxyMethodParameter parameter : method.getParameters()) {
+            if (parameter.getRequestParameterLocation() == RequestParameterLocation.QUERY) {
+                methodBlock.line("ServiceImplUtils.%1$s(%2$s, \"%3$s\", %4$s, %5$s);",
+                    parameter.getExplode() ? "addQueryParameters" : "setQueryParameter", locals.url,
+                    parameter.getRequestParameterName(), parameter.getName(), parameter.getAlreadyEncoded());
+            }
+        }
+
+        methodBlock.line("HttpRequest %1$s = %2$s;", locals.request,
+            getNewRequestExpression(method.getHttpMethod().toString(), locals.url + ".toString()"));
+        // the header parameters are set after the body, they override its Content-Type as in RestProxy
+        ProxyMethodParameter bodyParameter = method.getParameters()
+            .stream()
+            .filter(parameter -> parameter.getRequestParameterLocation() == RequestParameterLocation.BODY)
+            .findFirst()
+            .orElse(null);
+        if (bodyParameter == null) {
+            methodBlock.line("ServiceImplUtils.setEmptyBody(%1$s);", locals.request);
+        } else {
+            methodBlock.line("ServiceImplUtils.%1$s(%2$s, %3$s, \"%4$s\");",
+                ClientModelUtil.isClientModel(bodyParameter.getWireType()) ? "setJsonBody" : "setBody", locals.request,
+                bodyParameter.getName(), method.getRequestContentType());
+        }
+        for (ProxyMethodParameter parameter : method.getParameters()) {
+            if (parameter.getRequestParameterLocation() == RequestParameterLocation.HEADER) {
+                if (parameter.getHeaderCollectionPrefix() != null) {
+                    methodBlock.line("ServiceImplUtils.setHeaders(%1$s, \"%2$s\", %3$s);", locals.request,
+                        parameter.getHeaderCollectionPrefix(), parameter.getName());
+                } else {
+                    methodBlock.line("ServiceImplUtils.setHeader(%1$s, %2$s, %3$s);", locals.request,
+                        getHeaderNameVariable(parameter.getRequestParameterName()), parameter.getName());
+                }
+            }
+        }
+
+        ResponseBodyKind bodyKind = getResponseBodyKind(method);
+        String context = getContextExpression(contextParameter, proxy.getName() + "." + method.getName(),
+            bodyKind.eagerlyReadResponse, bodyKind == ResponseBodyKind.VOID);
+        String send = String.format("%1$s, %2$s, %3$s, %4$s%5$s)", locals.pipeline, locals.request, context,
+            exceptionFactory,
+            method.getResponseExpectedStatusCodes().stream().map(code -> ", " + code).collect(Collectors.joining()));
+        String responseExpression = getResponseExpression(method, bodyKind, locals);
+        if (isMono(method.getReturnType())) {
+            methodBlock.line("return ServiceImplUtils.sendAsync(%1$s", send);
+            methodBlock.indent(() -> {
+                if (bodyKind.readsBody) {
+                    methodBlock.line(".flatMap(%1$s -> ServiceImplUtils.readBodyAsync(%1$s)", locals.response);
+                    methodBlock.indent(
+                        () -> methodBlock.line(".map(%1$s -> %2$s));", locals.body, responseExpression));
+                } else {
+                    methodBlock.line(".map(%1$s -> %2$s);", locals.response, responseExpression);
+                }
+            });
+        } else if (bodyKind.readsBody) {
+            String sendStatement = getResponseType() + " " + locals.response + " = ServiceImplUtils.send(" + send;
+            methodBlock.tryBlock(sendStatement, tryBlock -> {
+                if (bodyKind == ResponseBodyKind.JSON) {
+                    tryBlock.line("byte[] %1$s = ServiceImplUtils.readBody(%2$s);", locals.body, locals.response);
+                }
+                tryBlock.methodReturn(responseExpression);
+            });
+        } else {
+            // the response body is returned to the caller, hence the response is not closed
+            methodBlock.line("%1$s %2$s = ServiceImplUtils.send(%3$s;", getResponseType(), locals.response, send);
+            methodBlock.methodReturn(responseExpression);
+        }
+    }
+
+    private void writeExceptionFactory(ProxyMethod method, JavaBlock methodBlock) {
+        methodBlock.line("String message = ServiceImplUtils.getExceptionMessage(response, body);");
+        Map<ClassType, List<Integer>> exceptionTypes = getExceptionTypes(method);
+        ClassType defaultExceptionType = method.getUnexpectedResponseExceptionType() == null
+            ? ClassType.HTTP_RESPONSE_EXCEPTION
+            : method.getUnexpectedResponseExceptionType();
+        String defaultExceptionExpression = getExceptionExpression(defaultExceptionType);
+        if (exceptionTypes.keySet()
+            .stream()
+            .allMatch(exceptionType -> getExceptionExpression(exceptionType).equals(defaultExceptionExpression))) {
+            // every status code creates the same exception
+            methodBlock.methodReturn(defaultExceptionExpression);
+            return;
+        }
+
+        methodBlock.block("switch (response.getStatusCode())", switchBlock -> {
+            for (Map.Entry<ClassType, List<Integer>> exceptionType : exceptionTypes.entrySet()) {
+                if (exceptionType.getValue().isEmpty()) {
+                    continue;
+                }
+                for (Integer statusCode : exceptionType.getValue()) {
+                    switchBlock.line("case %1$s:", statusCode);
+                }
+                switchBlock.indent(() -> switchBlock.methodReturn(getExceptionExpression(exceptionType.getKey())));
+                switchBlock.line();
+            }
+            switchBlock.line("default:");
+            switchBlock.indent(() -> switchBlock.methodReturn(defaultExceptionExpression));
+        });
+    }
+
+    /**
+     * Gets the expression creating the exception, from the "message", "response" and "body" of the exception factory.
+     *
+     * @param exceptionType the type of the exception.
+     * @return the expression creating the exception.
+     */
+    protected String getExceptionExpression(ClassType exceptionType) {
+        ClientModel errorModel = getErrorModel(exceptionType);
+        String value = errorModel == null
+            ? "ServiceImplUtils.readErrorValue(body)"
+            : "ServiceImplUtils.readErrorValue(body, " + errorModel.getName() + "::fromJson)";
+        return String.format("new %1$s(message, response, %2$s)", exceptionType.getName(), value);
+    }
+
+    private static String getHeaderNameVariable(String headerName) {
+        // header names are case-insensitive
+        return "HEADER_" + headerName.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]", "_");
+    }
+
+    private static String getMethodSignature(ProxyMethod method) {
+        return String.format("%1$s %2$s(%3$s)", method.getReturnType().getClientType(), method.getName(),
+            method.getParameters()
+                .stream()
+                .map(parameter -> parameter.getWireType() + " " + parameter.getName())
+                .collect(Collectors.joining(", ")));
+    }
+
+    private static String substitute(String template, Map<String, ProxyMethodParameter> templateParameters) {
+        List<String> segments = new ArrayList<>();
+        Matcher matcher = TEMPLATE_PARAMETER.matcher(template);
+        int start = 0;
+        while (matcher.find()) {
+            if (matcher.start() > start) {
+                segments.add(quote(template.substring(start, matcher.start())));
+            }
+            ProxyMethodParameter parameter = templateParameters.get(matcher.group(1));
+            // host parameters are substituted as is, like @HostParam with its default "encoded = true"
+            boolean encoded = parameter.getRequestParameterLocation() == RequestParameterLocation.URI
+                || parameter.getAlreadyEncoded();
+            segments.add(String.format("ServiceImplUtils.toPathValue(%1$s, %2$s)", parameter.getName(), encoded));
+            start = matcher.end();
+        }
+        if (start < template.length() || segments.isEmpty()) {
+            segments.add(quote(template.substring(start)));
+        }
+        return String.join(" + ", segments);
+    }
+
+    private static String quote(String text) {
+        return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private String getResponseExpression(ProxyMethod method, ResponseBodyKind bodyKind, LocalVariables locals) {
+        String response = locals.response;
+        IType responseType = getResponseType(method);
+        if (ClassType.STREAM_RESPONSE.equals(responseType)) {
+            return "new StreamResponse(" + response + ")";
+        }
+
+        String value;
+        switch (bodyKind) {
+            case VOID:
+                value = "null";
+                break;
+
+            case STATUS:
+                value = response + ".getStatusCode() / 100 == 2";
+                break;
+
+            case BINARY:
+                value = getResponseBodyExpression(response);
+                break;
+
+            default:
+                value = String.format("ServiceImplUtils.readJson(%1$s, %2$s, %3$s)", response, locals.body,
+                    getJsonReader(getResponseBodyType(method), locals.reader));
+                break;
+        }
+
+        IType[] typeArguments = ((GenericType) responseType).getTypeArguments();
+        if (typeArguments.length == 2) {
+            return String.format("new ResponseBase<>(%1$s.getRequest(), %1$s.getStatusCode(), %1$s.getHeaders(), "
+                + "%2$s, new %3$s(%1$s.getHeaders()))", response, value, typeArguments[0]);
+        }
+        return "ServiceImplUtils.toResponse(" + response + ", " + value + ")";
+    }
+
+    private static String getJsonReader(IType type, String reader) {
+        if (type instanceof ListType) {
+            return reader + " -> " + reader + ".readArray(" + getJsonReader(((ListType) type).getElementType(),
+                reader + "1") + ")";
+        }
+        return ((ClassType) type).getName() + "::fromJson";
+    }
+
+    protected static List<ProxyMethod> getImplementedMethods(Proxy proxy) {
+        // methods with an implementation are the default methods of the service interface
+        return proxy.getMethods()
+            .stream()
+            .filter(method -> method.getImplementation() == null)
+            .collect(Collectors.toList());
+    }
+
+    private boolean isSupported(Proxy proxy, ProxyMethod method) {
+        if (method.isResumable()
+            || method.getReturnValueWireType() != null
+            || getResponseBodyKind(method) == null
+            || !isSupportedUrl(proxy, method)
+            || !getExceptionTypes(method).keySet().stream().allMatch(this::isSupportedExceptionType)) {
+            return false;
+        }
+
+        IType responseType = getResponseType(method);
+        if (responseType instanceof GenericType && ((GenericType) responseType).getTypeArguments().length == 2) {
+            ClientModel headersModel = getJsonModel(((GenericType) responseType).getTypeArguments()[0]);
+            if (headersModel == null || !headersModel.isStronglyTypedHeader()) {
+                return false;
+            }
+        }
+
+        int contextParameters = 0;
+        int bodyParameters = 0;
+        for (ProxyMethodParameter parameter : method.getParameters()) {
+            IType wireType = parameter.getWireType();
+            switch (parameter.getRequestParameterLocation()) {
+                case URI:
+                case PATH:
+                    if (!isSimpleType(wireType)) {
+                        return false;
+                    }
+                    break;
+
+                case QUERY:
+                    if (parameter.getExplode()
+                        ? !(wireType instanceof ListType && isSimpleType(((ListType) wireType).getElementType()))
+                        : !isSimpleType(wireType)) {
+                        return false;
+                    }
+                    break;
+
+                case HEADER:
+                    if (parameter.getHeaderCollectionPrefix() != null
+                        ? !(wireType instanceof MapType && isSimpleType(((MapType) wireType).getValueType()))
+                        : !isSimpleType(wireType)) {
+                        return false;
+                    }
+                    break;
+
+                case BODY:
+                    ++bodyParameters;
+                    ClientModel bodyModel = getJsonModel(wireType);
+                    boolean jsonBody = bodyModel != null
+                        && !bodyModel.isStronglyTypedHeader()
+                        && method.getRequestContentType().contains("json");
+                    boolean binaryBody
+                        = ClassType.BINARY_DATA.equals(wireType) || ArrayType.BYTE_ARRAY.equals(wireType);
+                    if (!jsonBody && !binaryBody) {
+                        return false;
+                    }
+                    break;
+
+                case NONE:
+                    // Context is the only parameter not sent in the request
+                    ++contextParameters;
+                    if (!getContextType().equals(wireType)) {
+                        return false;
+                    }
+                    break;
+
+                default:
+                    return false;
+            }
+        }
+        return contextParameters <= 1 && bodyParameters <= 1;
+    }
+
+    private static boolean isSupportedUrl(Proxy proxy, ProxyMethod method) {
+        Set<String> hostParameters = method.getParameters()
+            .stream()
+            .filter(parameter -> parameter.getRequestParameterLocation() == RequestParameterLocation.URI)
+            .map(ProxyMethodParameter::getRequestParameterName)
+            .collect(Collectors.toSet());
+        Set<String> pathParameters = method.getParameters()
+            .stream()
+            .filter(parameter -> parameter.getRequestParameterLocation() == RequestParameterLocation.PATH)
+            .map(ProxyMethodParameter::getRequestParameterName)
+            .collect(Collectors.toSet());
+        return hostParameters.containsAll(getTemplateParameters(proxy.getBaseURL()))
+            && pathParameters.containsAll(getTemplateParameters(method.getUrlPath()));
+    }
+
+    private static List<String> getTemplateParameters(String template) {
+        List<String> parameters = new ArrayList<>();
+        if (template != null) {
+            Matcher matcher = TEMPLATE_PARAMETER.matcher(template);
+            while (matcher.find()) {
+                parameters.add(matcher.group(1));
+            }
+        }
+        return parameters;
+    }
+
+    private static boolean isSimpleType(IType type) {
+        return type instanceof EnumType || SIMPLE_TYPES.contains(type);
+    }
+
+    /**
+     * Checks whether the exception of the type can be created by the implementation.
+     *
+     * @param exceptionType the type of the exception.
+     * @return whether the exception of the type can be created.
+     */
+    protected boolean isSupportedExceptionType(ClassType exceptionType) {
+        return CORE_EXCEPTION_TYPES.contains(exceptionType) || getErrorModel(exceptionType) != null;
+    }
+
+    private static ClientModel getErrorModel(ClassType exceptionType) {
+        return CORE_EXCEPTION_TYPES.contains(exceptionType)
+            ? null
+            : getJsonModel(ClientModelUtil.getErrorModelFromException(exceptionType));
+    }
+
+    private static ClientModel getJsonModel(IType type) {
+        return ClientModelUtil.isClientModel(type)
+            ? getJsonModel(ClientModelUtil.getClientModel(((ClassType) type).getName()))
+            : null;
+    }
+
+    private static ClientModel getJsonModel(ClientModel model) {
+        return model == null || model.isUsedInXml() ? null : model;
+    }
+
+    /**
+     * Gets the exception types of the method, mapped to their status codes. The default exception type, which is
+     * mapped to no status code, is always included.
+     */
+    protected static Map<ClassType, List<Integer>> getExceptionTypes(ProxyMethod method) {
+        Map<ClassType, List<Integer>> exceptionTypes = new LinkedHashMap<>();
+        if (method.getUnexpectedResponseExceptionTypes() != null) {
+            exceptionTypes.putAll(method.getUnexpectedResponseExceptionTypes());
+        }
+        exceptionTypes.putIfAbsent(method.getUnexpectedResponseExceptionType() == null
+            ? ClassType.HTTP_RESPONSE_EXCEPTION
+            : method.getUnexpectedResponseExceptionType(), new ArrayList<>());
+        return exceptionTypes;
+    }
+
+    private static String getExceptionFactoryKey(ProxyMethod method) {
+        return method.getUnexpectedResponseExceptionType() + "," + getExceptionTypes(method);
+    }
+
+    private static boolean isMono(IType type) {
+        return type instanceof GenericType
+            && "reactor.core.publisher".equals(((GenericType) type).getPackage())
+            && "Mono".equals(((GenericType) type).getName());
+    }
+
+    /**
+     * Gets the type of the response, which is the return type of the method without Mono.
+     */
+    private static IType getResponseType(ProxyMethod method) {
+        IType returnType = method.getReturnType();
+        return isMono(returnType) ? ((GenericType) returnType).getTypeArguments()[0] : returnType;
+    }
+
+    /**
+     * Gets the type of the body of a Response or ResponseBase, or null if the response is not of these types.
+     */
+    private static IType getResponseBodyType(ProxyMethod method) {
+        IType responseType = getResponseType(method);
+        if (responseType instanceof GenericType
+            && ClassType.RESPONSE.getPackage().equals(((GenericType) responseType).getPackage())) {
+            GenericType genericType = (GenericType) responseType;
+            if ("Response".equals(genericType.getName()) && genericType.getTypeArguments().length == 1) {
+                return genericType.getTypeArguments()[0];
+            } else if ("ResponseBase".equals(genericType.getName()) && genericType.getTypeArguments().length == 2) {
+                return genericType.getTypeArguments()[1];
+            }
+        }
+        return null;
+    }
+
+    private static ResponseBodyKind getResponseBodyKind(ProxyMethod method) {
+        IType bodyType = getResponseBodyType(method);
+        if (bodyType == null) {
+            return ClassType.STREAM_RESPONSE.equals(getResponseType(method)) ? ResponseBodyKind.BINARY : null;
+        } else if (ClassType.VOID.equals(bodyType)) {
+            return ResponseBodyKind.VOID;
+        } else if (ClassType.BINARY_DATA.equals(bodyType)) {
+            return ResponseBodyKind.BINARY;
+        } else if (ClassType.BOOLEAN.equals(bodyType) && method.getHttpMethod() == HttpMethod.HEAD) {
+            return ResponseBodyKind.STATUS;
+        } else if (isJsonType(bodyType)) {
+            return ResponseBodyKind.JSON;
+        }
+        return null;
+    }
+
+    private static boolean isJsonType(IType type) {
+        if (type instanceof ListType) {
+            return isJsonType(((ListType) type).getElementType());
+        }
+        ClientModel model = getJsonModel(type);
+        return model != null && !model.isStronglyTypedHeader();
+    }
+
+    /**
+     * The names of the local variables of an implemented method, which must not conflict with its parameters.
+     */
+    private static final class LocalVariables {
+        private final String url;
+        private final String request;
+        private final String response;
+        private final String body;
+        private final String reader;
+        private final String pipeline;
+
+        private LocalVariables(ProxyMethod method) {
+            Set<String> parameterNames
+                = method.getParameters().stream().map(ProxyMethodParameter::getName).collect(Collectors.toSet());
+            this.url = getName("url", parameterNames);
+            this.request = getName("request", parameterNames);
+            this.response = getName("response", parameterNames);
+            this.body = getName("body", parameterNames);
+            this.reader = getName("reader", parameterNames);
+            this.pipeline = parameterNames.contains("pipeline") ? "this.pipeline" : "pipeline";
+        }
+
+        private static String getName(String name, Set<String> parameterNames) {
+            String localName = name;
+            for (int i = 1; parameterNames.contains(localName); ++i) {
+                localName = name + i;
+            }
+            return localName;
+        }
+    }
+
+    /**
+     * The kind of the response body, which decides how the response is handled.
+     */
+    private enum ResponseBodyKind {
+        // no value, the response body is ignored
+        VOID(true, false),
+        // the value is whether the status code is 2xx, for HEAD requests
+        STATUS(true, true),
+        // the value is the response body, not read by the implementation
+        BINARY(false, false),
+        // the value is deserialized from the response body
+        JSON(true, true);
+
+        private final boolean readsBody;
+        private final boolean eagerlyReadResponse;
+
+        ResponseBodyKind(boolean readsBody, boolean eagerlyReadResponse) {
+            this.readsBody = readsBody;
+            this.eagerlyReadResponse = eagerlyReadResponse;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import static com.microsoft.typespec.http.client.generator.core.util.ClientModel
 import static com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil.includePropertyInConstructor;
 
 import com.azure.core.util.CoreUtils;
+import com.azure.json.JsonProviders;
 import com.azure.xml.XmlSerializable;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.implementation.ClientModelPropertiesManager;
@@ -33,6 +34,7 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +55,7 @@ import javax.xml.stream.XMLStreamException;
 public class StreamSerializationModelTemplate extends ModelTemplate {
     private static final StreamSerializationModelTemplate INSTANCE = new StreamSerializationModelTemplate();
     private static final String READ_MANAGEMENT_ERROR_METHOD_NAME = "readManagementError";
+    private static final String FROM_JSON_PROPERTIES_METHOD_NAME = "fromJsonProperties";
 
     // TODO (alzimmer): Future enhancements:
     // - Create a utility class in the implementation package containing base serialization for polymorphic types.
@@ -86,6 +89,10 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             ClassType.JSON_WRITER.addImportsTo(imports, false);
             ClassType.JSON_READER.addImportsTo(imports, false);
             ClassType.JSON_TOKEN.addImportsTo(imports, false);
+            if (settings.isAzureV1() && model.isPolymorphicParent()) {
+                // buffering the JSON object after the discriminator was read
+                imports.add(JsonProviders.class.getName());
+            }
         }
 
         ClassType.CORE_UTILS.addImportsTo(imports, false);
@@ -647,8 +654,8 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
          * terminal location of a flattened structure.
          * @param isJsonMergePatch Whether the serialization is for a JSON Merge Patch model.
          */
-        private static void serializeJsonProperty(JavaBlock methodBlock, ClientModelProperty property,
-            String serializedName, boolean fromSuperType, boolean ignoreFlattening, boolean isJsonMergePatch) {
+        private void serializeJsonProperty(JavaBlock methodBlock, ClientModelProperty property, String serializedName,
+            boolean fromSuperType, boolean ignoreFlattening, boolean isJsonMergePatch) {
             if ((ignoreFlattening && property.getNeedsFlatten()) || property.isAdditionalProperties()) {
                 // Property will be handled later by flattened or additional properties serialization.
                 return;
@@ -661,7 +668,8 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
             if (isJsonMergePatch) {
                 if (!property.isPolymorphicDiscriminator()) {
-                    methodBlock.ifBlock("updatedProperties.contains(\"" + property.getName() + "\")", codeBlock -> {
+                    String updatedCondition = getJsonMergePatchUpdatedCondition(propertiesManager, property);
+                    methodBlock.ifBlock(updatedCondition, codeBlock -> {
                         if (property.getClientType().isNullable()) {
                             codeBlock
                                 .ifBlock(getPropertyGetterStatement(property, fromSuperType) + " == null",
@@ -901,7 +909,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             }
         }
 
-        private static void handleFlattenedPropertiesSerializationHelper(JavaBlock methodBlock,
+        private void handleFlattenedPropertiesSerializationHelper(JavaBlock methodBlock,
             JsonFlattenedPropertiesTree flattenedProperties, boolean isJsonMergePatch,
             boolean callToJsonSharedForParentProperties) {
             ClientModelPropertyWithMetadata flattenedProperty = flattenedProperties.getProperty();
@@ -977,14 +985,28 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             // type as the field.
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
             ClientModelPropertyWithMetadata discriminatorProperty = propertiesManager.getDiscriminatorProperty();
+            // Subtypes sharing the discriminator, which can continue reading the JSON object after the discriminator.
+            // The method they read it with is package-private.
+            List<ClientModel> streamingChildTypes = getAllChildTypes(model, new ArrayList<>()).stream()
+                .filter(childType -> Objects.equals(childType.getPolymorphicDiscriminatorName(),
+                    model.getPolymorphicDiscriminatorName()))
+                .filter(childType -> Objects.equals(childType.getPackage(), model.getPackage()))
+                .filter(this::canReadPropertiesAfterDiscriminator)
+                .collect(Collectors.toList());
             readJsonObject(classBlock, false, methodBlock -> {
-                // For now, reading polymorphic types will always buffer the current object.
-                // In the future this can be enhanced to switch if the first property is the discriminator field and to
-                // use
-                // a Map to contain all properties found while searching for the discriminator field.
+                // Most services serialize the discriminator as the first property. In that case, the subtype reads the
+                // remaining properties from the reader, without buffering the object. Otherwise, the object is buffered
+                // while searching for the discriminator field.
                 // TODO (alzimmer): Need to handle non-string wire type discriminator types.
                 methodBlock.line("String discriminatorValue = null;");
-                methodBlock.tryBlock("JsonReader readerToUse = reader.bufferObject()", tryStatement -> {
+                String bufferedReader = "reader.bufferObject()";
+                if (!streamingChildTypes.isEmpty()) {
+                    writeDiscriminatorFirstFromJson(methodBlock,
+                        discriminatorProperty.getProperty().getSerializedName(), streamingChildTypes);
+                    bufferedReader = "bufferedReader";
+                }
+
+                methodBlock.tryBlock("JsonReader readerToUse = " + bufferedReader, tryStatement -> {
                     tryStatement.line("readerToUse.nextToken(); // Prepare for reading");
                     tryStatement.line("while (readerToUse.nextToken() != JsonToken.END_OBJECT) {");
                     tryStatement.increaseIndent();
@@ -1057,6 +1079,90 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             readJsonObject(classBlock, true, this::writeFromJsonDeserialization);
         }
 
+        /**
+         * Writes the deserialization of a super type when the discriminator is the first property of the JSON object.
+         * <p>
+         * If the discriminator value is one of the given subtypes, the subtype reads the remaining properties from the
+         * reader. Otherwise, a {@code bufferedReader} variable is initialized with the JSON object. As the
+         * discriminator has already been read from the reader, it is added back to the buffered JSON object.
+         *
+         * @param methodBlock The method handling deserialization.
+         * @param discriminatorName The serialized name of the discriminator.
+         * @param streamingChildTypes The subtypes that can read the properties after the discriminator.
+         */
+        private void writeDiscriminatorFirstFromJson(JavaBlock methodBlock, String discriminatorName,
+            List<ClientModel> streamingChildTypes) {
+            String createReader = settings.isAzureV1() ? "JsonProviders.createReader" : "JsonReader.fromString";
+
+            methodBlock.line("JsonReader bufferedReader;");
+            methodBlock.ifBlock("reader.nextToken() == JsonToken.FIELD_NAME && \"" + discriminatorName
+                + "\".equals(reader.getFieldName())", ifBlock -> {
+                    ifBlock.line("// The discriminator is the first property, no need to buffer the object.");
+                    ifBlock.line("reader.nextToken();");
+                    ifBlock.line("discriminatorValue = reader.getString();");
+                    JavaIfBlock childIfBlock = null;
+                    for (ClientModel childType : streamingChildTypes) {
+                        childIfBlock = ifOrElseIf(ifBlock, childIfBlock,
+                            "\"" + childType.getSerializedName() + "\".equals(discriminatorValue)",
+                            ifStatement -> ifStatement.methodReturn(
+                                childType.getName() + "." + FROM_JSON_PROPERTIES_METHOD_NAME + "(reader)"));
+                    }
+
+                    ifBlock.line();
+                    ifBlock.line("// Buffer the rest of the object, after the discriminator that was read.");
+                    ifBlock.line("StringBuilder json = new StringBuilder(\"{\\\"" + discriminatorName + "\\\":\");");
+                    ifBlock.ifBlock("reader.currentToken() == JsonToken.STRING",
+                        ifStatement -> ifStatement.line("json.append('\"').append(reader.getRawText()).append('\"');"))
+                        .elseBlock(elseBlock -> elseBlock.line("json.append(reader.getRawText());"));
+                    ifBlock.ifBlock("reader.nextToken() == JsonToken.END_OBJECT",
+                        ifStatement -> ifStatement.line("json.append('}');")).elseBlock(elseBlock -> {
+                            elseBlock.line("int fieldsStart = json.length();");
+                            elseBlock.line("reader.readRemainingFieldsAsJsonObject(json);");
+                            elseBlock.line("json.setCharAt(fieldsStart, ',');");
+                        });
+                    ifBlock.line("bufferedReader = " + createReader + "(json.toString());");
+                })
+                .elseIfBlock("reader.currentToken() == JsonToken.FIELD_NAME",
+                    ifBlock -> ifBlock.line("bufferedReader = reader.bufferObject();"))
+                .elseBlock(elseBlock -> {
+                    elseBlock.line("// Empty object.");
+                    elseBlock.line("bufferedReader = " + createReader + "(\"{}\");");
+                });
+        }
+
+        /**
+         * Whether the model reads its properties in a {@code fromJsonProperties} method, which the polymorphic super
+         * types call when the discriminator is the first property of the JSON object.
+         * <p>
+         * The method is called either with the reader pointing to the start of the JSON object, or pointing to the
+         * value of the discriminator. In the latter case, the discriminator keeps its default value, which is the
+         * discriminator value of the model.
+         *
+         * @param model The model.
+         * @return Whether the model reads its properties in a {@code fromJsonProperties} method.
+         */
+        private boolean canReadPropertiesAfterDiscriminator(ClientModel model) {
+            if (model.getXmlName() != null
+                || CoreUtils.isNullOrEmpty(model.getParentModelName())
+                || isManagementErrorSubclass.test(model)) {
+                return false;
+            }
+
+            ClientModel parentModel = ClientModelUtil.getClientModel(model.getParentModelName());
+            if (parentModel == null
+                || !isSuperTypeWithDiscriminator(parentModel)
+                || !Objects.equals(model.getPolymorphicDiscriminatorName(),
+                    parentModel.getPolymorphicDiscriminatorName())) {
+                return false;
+            }
+
+            // The discriminator isn't read by the subtype, it must not be validated as a required property.
+            return settings.isDisableRequiredJsonAnnotation()
+                || Stream.concat(model.getProperties().stream(), ClientModelUtil.getParentProperties(model).stream())
+                    .filter(ClientModelProperty::isPolymorphicDiscriminator)
+                    .noneMatch(property -> includePropertyInConstructor(property, settings));
+        }
+
         private static List<ClientModel> getAllChildTypes(ClientModel model, List<ClientModel> childTypes) {
             for (ClientModel childType : model.getDerivedModels()) {
                 childTypes.add(childType);
@@ -1117,16 +1223,15 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     // }
                     String ifBlockCondition = "!" + model.getName() + ".fromJsonShared(reader, " + fieldNameVariableName
                         + ", " + propertiesManager.getDeserializedModelName() + ")";
-                    methodBlock.ifBlock(ifBlockCondition, ifBlock -> generateUnknownFieldLogic(ifBlock, null));
+                    methodBlock.ifBlock(ifBlockCondition, generateUnknownFieldLogic());
                     return;
                 }
 
                 // Loop over all properties and generate their deserialization handling.
-                AtomicReference<JavaIfBlock> ifBlockReference = new AtomicReference<>(null);
+                JsonFieldBranches branches = new JsonFieldBranches(fieldNameVariableName, settings);
 
                 BiConsumer<ClientModelProperty, Boolean> consumer
-                    = (property, fromSuper) -> handleJsonPropertyDeserialization(property, whileBlock, ifBlockReference,
-                        fromSuper, false);
+                    = (property, fromSuper) -> handleJsonPropertyDeserialization(property, branches, fromSuper, false);
 
                 Map<String, ClientModelProperty> modelPropertyMap = new HashMap<>();
                 for (ClientModelProperty parentProperty : ClientModelUtil.getParentProperties(model)) {
@@ -1141,7 +1246,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     // deserialization of the parent model(s) in 'fromJson' call to the parent class's 'fromJsonShared'.
                     String ifBlockCondition = model.getParentModelName() + ".fromJsonShared(reader, "
                         + fieldNameVariableName + ", " + propertiesManager.getDeserializedModelName() + ")";
-                    ifBlockReference.set(methodBlock.ifBlock(ifBlockCondition, ifBlock -> ifBlock.line("continue;")));
+                    branches.addCondition(ifBlockCondition, ifBlock -> ifBlock.line("continue;"));
                 } else {
                     // Child classes may contain properties that shadow parents' ones.
                     // Thus, we only take the shadowing ones, not the ones shadowed.
@@ -1164,20 +1269,19 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     superSettersToDeserialized.values().forEach(property -> consumer.accept(property, true));
                 }
 
-                generateThisFromJson(ifBlockReference, consumer, methodBlock, false, useFromJsonShared);
+                generateThisFromJson(branches, consumer, false, useFromJsonShared);
 
                 // All properties have been checked for, add an else block that will either ignore unknown properties
                 // or add them into an additional properties bag.
-                generateUnknownFieldLogic(whileBlock, ifBlockReference.get());
+                branches.write(whileBlock, generateUnknownFieldLogic());
             });
 
             // Add the validation and return logic.
             handleReadReturn(methodBlock);
         }
 
-        private void generateThisFromJson(AtomicReference<JavaIfBlock> ifBlockReference,
-            BiConsumer<ClientModelProperty, Boolean> consumer, JavaBlock methodBlock, boolean isFromJsonShared,
-            boolean usingFromJsonShared) {
+        private void generateThisFromJson(JsonFieldBranches branches, BiConsumer<ClientModelProperty, Boolean> consumer,
+            boolean isFromJsonShared, boolean usingFromJsonShared) {
             propertiesManager.forEachRequiredProperty(property -> {
                 if (property.isConstant()) {
                     return;
@@ -1197,13 +1301,11 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 consumer.accept(property, false);
             });
 
-            JavaIfBlock ifBlock = ifBlockReference.get();
-
             // Add flattened properties if we aren't using 'fromJsonShared' or some of the flattened properties are
             // defined
             // by this model.
             if (!usingFromJsonShared || !propertiesManager.isAllFlattenedPropertiesFromParent()) {
-                handleFlattenedPropertiesDeserialization(methodBlock, ifBlock, isFromJsonShared);
+                handleFlattenedPropertiesDeserialization(branches, isFromJsonShared);
             }
         }
 
@@ -1216,9 +1318,9 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 && !model.isPolymorphicDiscriminatorDefinedByModel();
         }
 
-        private void generateUnknownFieldLogic(JavaBlock whileBlock, JavaIfBlock ifBlock) {
+        private Consumer<JavaBlock> generateUnknownFieldLogic() {
             ClientModelProperty additionalProperty = getAdditionalPropertiesPropertyInModelOrFromSuper();
-            handleUnknownJsonFieldDeserialization(whileBlock, ifBlock, additionalProperty);
+            return handleUnknownJsonFieldDeserialization(additionalProperty);
         }
 
         /**
@@ -1232,6 +1334,10 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
          * cannot pass to {@code fromJson} as this will be a circular call and if the specific type being deserialized
          * is an intermediate type (a type having both super and subclasses) it will attempt to perform discriminator
          * validation which has already been done.
+         * <p>
+         * If the super types can read the model after its discriminator, the deserialization logic is written to a
+         * package-private {@code fromJsonProperties} method instead, see
+         * {@link #canReadPropertiesAfterDiscriminator(ClientModel)}.
          *
          * @param classBlock The class where the {@code fromJson} method is being written.
          * @param superTypeReading Whether the object reading is for a super type.
@@ -1263,10 +1369,27 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 });
             }
 
+            // The method that super types call, when they dispatch to this model.
+            boolean readPropertiesAfterDiscriminator
+                = superTypeReading == isSuperTypeWithDiscriminator(model) && canReadPropertiesAfterDiscriminator(model);
+
             addGeneratedAnnotation.accept(classBlock);
             classBlock.staticMethod(visibility,
-                modelName + " " + methodName + "(JsonReader jsonReader) throws IOException",
-                methodBlock -> readJsonObjectMethodBody(methodBlock, deserializationBlock));
+                modelName + " " + methodName + "(JsonReader jsonReader) throws IOException", methodBlock -> {
+                    if (readPropertiesAfterDiscriminator) {
+                        methodBlock.methodReturn(
+                            "jsonReader.readObject(" + modelName + "::" + FROM_JSON_PROPERTIES_METHOD_NAME + ")");
+                    } else {
+                        readJsonObjectMethodBody(methodBlock, deserializationBlock);
+                    }
+                });
+
+            if (readPropertiesAfterDiscriminator) {
+                addGeneratedAnnotation.accept(classBlock);
+                classBlock.staticMethod(JavaVisibility.PackagePrivate,
+                    modelName + " " + FROM_JSON_PROPERTIES_METHOD_NAME + "(JsonReader reader) throws IOException",
+                    this::writeFromJsonDeserialization0);
+            }
 
             if (superTypeReading && useFromJsonShared && model.isPolymorphicParent()) {
                 // Add a package-private 'fromJsonShared' method that can handle deserializing properties defined in the
@@ -1278,20 +1401,20 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     + modelName + " " + modelDeserializedName + ") throws IOException";
                 addGeneratedAnnotation.accept(classBlock);
                 classBlock.staticMethod(JavaVisibility.PackagePrivate, methodDefinition, methodBlock -> {
-                    AtomicReference<JavaIfBlock> ifBlockReference = new AtomicReference<>();
+                    JsonFieldBranches branches = new JsonFieldBranches(fieldName, settings);
                     if (!CoreUtils.isNullOrEmpty(model.getParentModelName())) {
                         String callToSuperFromJsonShared = model.getParentModelName() + ".fromJsonShared(reader, "
                             + propertiesManager.getJsonReaderFieldNameVariableName() + ", "
                             + propertiesManager.getDeserializedModelName() + ")";
-                        ifBlockReference.set(
-                            methodBlock.ifBlock(callToSuperFromJsonShared, ifBlock -> ifBlock.methodReturn("true")));
+                        branches.addCondition(callToSuperFromJsonShared, ifBlock -> ifBlock.methodReturn("true"));
                     }
 
-                    BiConsumer<ClientModelProperty, Boolean> consumer
-                        = (property, fromSuper) -> handleJsonPropertyDeserialization(property, methodBlock,
-                            ifBlockReference, fromSuper, true);
-                    generateThisFromJson(ifBlockReference, consumer, methodBlock, true, false);
+                    BiConsumer<ClientModelProperty, Boolean> consumer = (property,
+                        fromSuper) -> handleJsonPropertyDeserialization(property, branches, fromSuper, true);
+                    generateThisFromJson(branches, consumer, true, false);
 
+                    // Unknown fields are handled by the caller.
+                    branches.write(methodBlock, null);
                     methodBlock.methodReturn("false");
                 });
             }
@@ -1438,78 +1561,66 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             });
         }
 
-        private void handleJsonPropertyDeserialization(ClientModelProperty property, JavaBlock methodBlock,
-            AtomicReference<JavaIfBlock> ifBlockReference, boolean fromSuper, boolean isFromJsonShared) {
+        private void handleJsonPropertyDeserialization(ClientModelProperty property, JsonFieldBranches branches,
+            boolean fromSuper, boolean isFromJsonShared) {
             // Property will be handled later by flattened deserialization.
             if (property.getNeedsFlatten()) {
                 return;
             }
 
-            JavaIfBlock ifBlock = ifBlockReference.get();
-            ifBlock = handleJsonPropertyDeserialization(property, methodBlock, ifBlock, fromSuper, isFromJsonShared);
-
-            ifBlockReference.set(ifBlock);
-        }
-
-        private JavaIfBlock handleJsonPropertyDeserialization(ClientModelProperty property, JavaBlock methodBlock,
-            JavaIfBlock ifBlock, boolean fromSuper, boolean isFromJsonShared) {
             String jsonPropertyName = property.getSerializedName();
             if (CoreUtils.isNullOrEmpty(jsonPropertyName)) {
-                return ifBlock;
+                return;
             }
 
-            return ifOrElseIf(methodBlock, ifBlock,
-                "\"" + jsonPropertyName + "\".equals(" + propertiesManager.getJsonReaderFieldNameVariableName() + ")",
-                deserializationBlock -> {
-                    generateJsonDeserializationLogic(deserializationBlock, property, fromSuper);
-                    if (isFromJsonShared) {
-                        deserializationBlock.methodReturn("true");
-                    }
-                });
+            branches.addField(jsonPropertyName, null, deserializationBlock -> {
+                generateJsonDeserializationLogic(deserializationBlock, property, fromSuper);
+                if (isFromJsonShared) {
+                    deserializationBlock.methodReturn("true");
+                }
+            }, isFromJsonShared);
         }
 
-        private void handleFlattenedPropertiesDeserialization(JavaBlock methodBlock, JavaIfBlock ifBlock,
-            boolean isFromJsonShared) {
+        private void handleFlattenedPropertiesDeserialization(JsonFieldBranches branches, boolean isFromJsonShared) {
             // The initial call to handle flattened properties is using the base node which is just a holder.
             for (JsonFlattenedPropertiesTree structure : propertiesManager.getJsonFlattenedPropertiesTree()
                 .getChildrenNodes()
                 .values()) {
-                handleFlattenedPropertiesDeserializationHelper(structure, methodBlock, ifBlock, isFromJsonShared, 0);
+                handleFlattenedPropertiesDeserializationHelper(structure, branches, isFromJsonShared, 0);
             }
         }
 
-        private JavaIfBlock handleFlattenedPropertiesDeserializationHelper(
-            JsonFlattenedPropertiesTree flattenedProperties, JavaBlock methodBlock, JavaIfBlock ifBlock,
-            boolean isFromJsonShared, int depth) {
-            String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
+        private void handleFlattenedPropertiesDeserializationHelper(JsonFlattenedPropertiesTree flattenedProperties,
+            JsonFieldBranches branches, boolean isFromJsonShared, int depth) {
             ClientModelPropertyWithMetadata propertyWithMetadata = flattenedProperties.getProperty();
             if (propertyWithMetadata != null) {
                 // This is a terminal location, so only need to handle checking for the property name.
-                return ifOrElseIf(methodBlock, ifBlock,
-                    "\"" + flattenedProperties.getNodeName() + "\".equals(" + fieldNameVariableName + ")",
+                branches.addField(flattenedProperties.getNodeName(), null,
                     deserializationBlock -> generateJsonDeserializationLogic(deserializationBlock,
-                        propertyWithMetadata.getProperty(), propertyWithMetadata.isFromSuperClass()));
+                        propertyWithMetadata.getProperty(), propertyWithMetadata.isFromSuperClass()),
+                    false);
             } else {
                 // Otherwise this is an intermediate location and a while loop reader needs to be added.
-                return ifOrElseIf(methodBlock, ifBlock, "\"" + flattenedProperties.getNodeName() + "\".equals("
-                    + fieldNameVariableName + ") && reader.currentToken() == JsonToken.START_OBJECT", ifAction -> {
+                branches.addField(flattenedProperties.getNodeName(), "reader.currentToken() == JsonToken.START_OBJECT",
+                    ifAction -> {
                         addReaderWhileLoop(ifAction, false, false, whileBlock -> {
-                            JavaIfBlock innerIfBlock = null;
+                            JsonFieldBranches innerBranches = new JsonFieldBranches(
+                                propertiesManager.getJsonReaderFieldNameVariableName(), settings);
                             for (JsonFlattenedPropertiesTree structure : flattenedProperties.getChildrenNodes()
                                 .values()) {
-                                innerIfBlock = handleFlattenedPropertiesDeserializationHelper(structure, methodBlock,
-                                    innerIfBlock, isFromJsonShared, depth + 1);
+                                handleFlattenedPropertiesDeserializationHelper(structure, innerBranches,
+                                    isFromJsonShared, depth + 1);
                             }
 
-                            handleUnknownJsonFieldDeserialization(whileBlock, innerIfBlock,
-                                propertiesManager.getAdditionalProperties());
+                            innerBranches.write(whileBlock,
+                                handleUnknownJsonFieldDeserialization(propertiesManager.getAdditionalProperties()));
                         });
 
                         if (isFromJsonShared && depth == 0) {
                             // Flattening will handle skipping and additional properties itself.
                             ifAction.methodReturn("true");
                         }
-                    });
+                    }, false);
             }
         }
 
@@ -1704,10 +1815,9 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 : wireType.jsonDeserializationMethod(readerName);
         }
 
-        private void handleUnknownJsonFieldDeserialization(JavaBlock methodBlock, JavaIfBlock ifBlock,
-            ClientModelProperty additionalProperties) {
+        private Consumer<JavaBlock> handleUnknownJsonFieldDeserialization(ClientModelProperty additionalProperties) {
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
-            Consumer<JavaBlock> unknownFieldConsumer = javaBlock -> {
+            return javaBlock -> {
                 if (additionalProperties != null) {
                     javaBlock.ifBlock(additionalProperties.getName() + " == null",
                         ifAction -> ifAction.line(additionalProperties.getName() + " = new LinkedHashMap<>();"));
@@ -1737,12 +1847,6 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     javaBlock.line("reader.skipChildren();");
                 }
             };
-
-            if (ifBlock == null) {
-                unknownFieldConsumer.accept(methodBlock);
-            } else {
-                ifBlock.elseBlock(unknownFieldConsumer);
-            }
         }
 
         /**
@@ -2541,4 +2645,139 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             }
         }
     }
+
+    /**
+     * The branches reading the known fields of a JSON object, written either as an if-else chain comparing the field
+     * name with each field, or as a switch on the field name.
+     * <p>
+     * The switch is used when there are at least {@link JavaSettings#getJsonFieldSwitchThreshold()} fields. A switch
+     * on a String dispatches on the hash code of the field name, so the cost of reading a field no longer grows with
+     * the number of properties of the model.
+     */
+    private static final class JsonFieldBranches {
+        private final String fieldNameVariableName;
+        private final int switchThreshold;
+        private final List<JsonFieldBranch> conditions = new ArrayList<>();
+        private final List<JsonFieldBranch> fields = new ArrayList<>();
+
+        private JsonFieldBranches(String fieldNameVariableName, JavaSettings settings) {
+            this.fieldNameVariableName = fieldNameVariableName;
+            this.switchThreshold = settings.getJsonFieldSwitchThreshold();
+        }
+
+        /**
+         * Adds a branch checked before the fields. The action must end the handling of the field, e.g. with
+         * {@code continue} or {@code return}, as it isn't part of the switch.
+         *
+         * @param condition The condition of the branch.
+         * @param action The action of the branch.
+         */
+        private void addCondition(String condition, Consumer<JavaBlock> action) {
+            conditions.add(new JsonFieldBranch(null, condition, action, true));
+        }
+
+        /**
+         * Adds a branch reading a field.
+         *
+         * @param fieldName The name of the field.
+         * @param guard An additional condition on the reader, or null. If the guard is false, the field is handled as
+         * an unknown field.
+         * @param action The action reading the field.
+         * @param returns Whether the action returns.
+         */
+        private void addField(String fieldName, String guard, Consumer<JavaBlock> action, boolean returns) {
+            fields.add(new JsonFieldBranch(fieldName, guard, action, returns));
+        }
+
+        /**
+         * Writes the branches.
+         *
+         * @param block The block handling the current field.
+         * @param unknownFieldAction The action handling a field that isn't known, or null if no action is needed.
+         */
+        private void write(JavaBlock block, Consumer<JavaBlock> unknownFieldAction) {
+            if (!useSwitch()) {
+                JavaIfBlock ifBlock = null;
+                for (JsonFieldBranch branch : conditions) {
+                    ifBlock = StreamSerializationGenerator.ifOrElseIf(block, ifBlock, branch.condition, branch.action);
+                }
+                for (JsonFieldBranch field : fields) {
+                    String condition = "\"" + field.fieldName + "\".equals(" + fieldNameVariableName + ")";
+                    if (field.condition != null) {
+                        condition += " && " + field.condition;
+                    }
+                    ifBlock = StreamSerializationGenerator.ifOrElseIf(block, ifBlock, condition, field.action);
+                }
+
+                if (unknownFieldAction != null) {
+                    if (ifBlock == null) {
+                        unknownFieldAction.accept(block);
+                    } else {
+                        ifBlock.elseBlock(unknownFieldAction);
+                    }
+                }
+                return;
+            }
+
+            for (JsonFieldBranch branch : conditions) {
+                block.ifBlock(branch.condition, branch.action);
+            }
+            block.block("switch (" + fieldNameVariableName + ")", switchBlock -> {
+                for (JsonFieldBranch field : fields) {
+                    switchBlock.line("case \"" + field.fieldName + "\":");
+                    switchBlock.indent(() -> {
+                        if (field.condition == null) {
+                            field.action.accept(switchBlock);
+                            if (field.returns) {
+                                return;
+                            }
+                        } else {
+                            JavaIfBlock ifBlock = switchBlock.ifBlock(field.condition, field.action);
+                            if (unknownFieldAction != null) {
+                                ifBlock.elseBlock(unknownFieldAction);
+                            }
+                        }
+                        switchBlock.line("break;");
+                    });
+                }
+
+                if (unknownFieldAction != null) {
+                    switchBlock.line("default:");
+                    switchBlock.indent(() -> {
+                        unknownFieldAction.accept(switchBlock);
+                        switchBlock.line("break;");
+                    });
+                }
+            });
+        }
+
+        private boolean useSwitch() {
+            if (switchThreshold <= 0 || fields.size() < switchThreshold) {
+                return false;
+            }
+
+            // A field name appearing twice is only valid in the if-else chain, where the first match wins.
+            Set<String> fieldNames = new HashSet<>();
+            for (JsonFieldBranch field : fields) {
+                if (!fieldNames.add(field.fieldName)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class JsonFieldBranch {
+        private final String fieldName;
+        private final String condition;
+        private final Consumer<JavaBlock> action;
+        private final boolean returns;
+
+        private JsonFieldBranch(String fieldName, String condition, Consumer<JavaBlock> action, boolean returns) {
+            this.fieldName = fieldName;
+            this.condition = condition;
+            this.action = action;
+            this.returns = returns;
+        }
+    }
 }
@@ -40,8 +40,9 @@ public class SwaggerReadmeTemplate {
     public String write(Project project) {
         JavaSettings settings = JavaSettings.getInstance();
 
-        // prepare OVERRIDE_SETTINGS
-        updateOverrideOptions(settings);
+        // prepare OVERRIDE_SETTINGS, a copy as it is updated with the settings of this code model
+        Map<String, Object> overrideOptions = new LinkedHashMap<>(OVERRIDE_OPTIONS);
+        updateOverrideOptions(overrideOptions, settings);
 
         // prepare YAML object
         DumperOptions dumperOptions = new DumperOptions();
@@ -51,14 +52,14 @@ public class SwaggerReadmeTemplate {
         Map<String, Object> objectNode = new LinkedHashMap<>();
         addRequireOrInputFile(objectNode, settings.getAutorestSettings());
         // settings from internal
-        for (Map.Entry<String, Object> entry : OVERRIDE_OPTIONS.entrySet()) {
+        for (Map.Entry<String, Object> entry : overrideOptions.entrySet()) {
             if (entry.getValue() != null) {
                 objectNode.put(entry.getKey(), entry.getValue());
             }
         }
         // settings from external
         for (Map.Entry<String, Object> entry : settings.getSimpleJavaSettings().entrySet()) {
-            if (!OVERRIDE_OPTIONS.containsKey(entry.getKey()) && entry.getValue() != null) {
+            if (!overrideOptions.containsKey(entry.getKey()) && entry.getValue() != null) {
                 objectNode.put(entry.getKey(), entry.getValue());
             }
         }
@@ -137,23 +138,23 @@ public class SwaggerReadmeTemplate {
         return defaultOptions;
     }
 
-    private static void updateOverrideOptions(JavaSettings settings) {
+    private static void updateOverrideOptions(Map<String, Object> overrideOptions, JavaSettings settings) {
         String title = settings.getAutorestSettings().getTitle();
         if (title != null) {
-            OVERRIDE_OPTIONS.put("title", title);
+            overrideOptions.put("title", title);
         }
 
         if (!settings.getAutorestSettings().getSecurity().isEmpty()) {
-            OVERRIDE_OPTIONS.putIfAbsent("security", stringOrArray(settings.getAutorestSettings().getSecurity()));
+            overrideOptions.putIfAbsent("security", stringOrArray(settings.getAutorestSettings().getSecurity()));
         }
         if (!settings.getAutorestSettings().getSecurityScopes().isEmpty()) {
-            OVERRIDE_OPTIONS.putIfAbsent("security-scopes",
+            overrideOptions.putIfAbsent("security-scopes",
                 stringOrArray(settings.getAutorestSettings().getSecurityScopes()));
         }
 
         String securityHeaderName = settings.getAutorestSettings().getSecurityHeaderName();
         if (securityHeaderName != null) {
-            OVERRIDE_OPTIONS.put("security-header-name", securityHeaderName);
+            overrideOptions.put("security-header-name", securityHeaderName);
         }
     }
 
@@ -19,6 +19,8 @@ public interface TemplateFactory {
 
     ProxyTemplate getProxyTemplate();
 
+    ServiceImplTemplate getServiceImplTemplate();
+
     ClientMethodTemplate getClientMethodTemplate();
 
     ModelTemplate getModelTemplate();
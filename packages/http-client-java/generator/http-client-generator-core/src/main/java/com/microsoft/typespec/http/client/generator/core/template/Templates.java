@@ -42,6 +42,10 @@ public class Templates {
         return factory.getProxyTemplate();
     }
 
+    public static ServiceImplTemplate getServiceImplTemplate() {
+        return factory.getServiceImplTemplate();
+    }
+
     public static ClientMethodTemplate getClientMethodTemplate() {
         return factory.getClientMethodTemplate();
     }
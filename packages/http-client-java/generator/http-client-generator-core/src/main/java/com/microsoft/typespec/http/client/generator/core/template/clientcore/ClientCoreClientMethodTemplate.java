@@ -467,7 +467,20 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
                                 }
 
                                 // convert List<WireType> to String
-                                if (JavaSettings.getInstance().isAzureV1()) {
+                                String serializeItemValue = serializeItemValueExpression(elementWireType);
+                                if (serializeItemValue != null) {
+                                    // items have a well-known string form, convert them without a serializer
+                                    String itemStream = parameterName + ".stream()\n";
+                                    if (elementWireType != elementType) {
+                                        itemStream += "    .map(paramItemValue -> "
+                                            + elementWireType.convertFromClientType("paramItemValue") + ")\n";
+                                    }
+                                    if (!alreadyNullChecked) {
+                                        itemStream = "(" + parameterName + " == null) ? null : " + itemStream;
+                                    }
+                                    expression = itemStream + "    .map(paramItemValue -> " + serializeItemValue + ")\n"
+                                        + "    .collect(Collectors.joining(" + delimiter + "))";
+                                } else if (JavaSettings.getInstance().isAzureV1()) {
                                     // Always use serializeIterable as Iterable supports both Iterable and List.
                                     expression = String.format(
                                         "JacksonAdapter.createDefaultSerializerAdapter().serializeIterable(%s, CollectionFormat.%s)",
@@ -682,25 +695,17 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
             String serviceMethodCall
                 = checkAndReplaceParamNameCollision(clientMethod, restAPIMethod, requestOptionsLocal, settings);
             function.line(String.format("%s res = %s;", restAPIMethod.getReturnType(), serviceMethodCall));
-            if (settings.isAzureV1()) {
+            if (settings.isAzureV1() && settings.isDataPlaneClient()) {
+                function.line("return %s;", readPagedResponseExpression(clientMethod));
+            } else if (settings.isAzureV1()) {
                 function.line("return new PagedResponseBase<>(");
                 function.line("res.getRequest(),");
                 function.line("res.getStatusCode(),");
                 function.line("res.getHeaders(),");
-                if (settings.isDataPlaneClient()) {
-                    function.line("getValues(res.getValue(), \"%s\"),",
-                        clientMethod.getMethodPageDetails().getSerializedItemName());
-                } else {
-                    function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
-                        .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
-                }
+                function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
+                    .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
                 if (clientMethod.getMethodPageDetails().nonNullNextLink()) {
-                    if (settings.isDataPlaneClient()) {
-                        function.line("getNextLink(res.getValue(), \"%s\"),",
-                            clientMethod.getMethodPageDetails().getSerializedNextLinkName());
-                    } else {
-                        function.line(nextLinkLine(clientMethod));
-                    }
+                    function.line(nextLinkLine(clientMethod));
                 } else {
                     function.line("null,");
                 }
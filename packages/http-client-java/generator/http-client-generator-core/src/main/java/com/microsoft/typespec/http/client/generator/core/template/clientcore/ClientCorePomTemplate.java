@@ -197,54 +197,6 @@ public class ClientCorePomTemplate extends PomTemplate {
             pluginBlock.block("configuration", configurationBlock -> {
                 configurationBlock.tag("release", "11");
             });
-
-            // Generate annotation processor configuration if not using Rest Proxy
-            if (!JavaSettings.getInstance().useRestProxy()) {
-                pluginBlock.block("executions", executionsBlock -> {
-                    executionsBlock.block("execution", executionBlock -> {
-                        executionBlock.tag("id", "run-annotation-processing");
-                        executionBlock.tag("phase", "generate-sources");
-                        executionBlock.block("goals", goalsBlock -> {
-                            goalsBlock.tag("goal", "compile");
-                        });
-
-                        executionBlock.block("configuration", configurationBlock -> {
-                            configurationBlock.tag("source", "1.8");
-                            configurationBlock.tag("target", "1.8");
-                            configurationBlock.tag("release", "8");
-                            configurationBlock.tag("proc", "only");
-                            configurationBlock.tag("generatedSourcesDirectory",
-                                "${project.build.directory}/generated-sources/");
-                            configurationBlock.block("annotationProcessorPaths", annotationProcessorPathsBlock -> {
-                                annotationProcessorPathsBlock.block("annotationProcessorPath", pathBlock -> {
-                                    pathBlock.tag("groupId", "io.clientcore");
-                                    pathBlock.tag("artifactId", "annotation-processor");
-                                    pathBlock.tag("version", "1.0.0-beta.2");
-                                });
-                            });
-                            configurationBlock.block("annotationProcessors", annotationProcessorsBlock -> {
-                                annotationProcessorsBlock.tag("annotationProcessor",
-                                    "io.clientcore.annotation.processor.AnnotationProcessor");
-                            });
-                            configurationBlock.block("compilerArgs", compilerArgsBlock -> {
-                                compilerArgsBlock.tag("arg", "-Xlint:-options");
-                            });
-                            configurationBlock.block("excludes", excludesBlock -> {
-                                excludesBlock.tag("exclude", "module-info.java");
-                            });
-                        });
-                    });
-                });
-
-                pluginBlock.block("dependencies", dependenciesBlock -> {
-                    dependenciesBlock.block("dependency", dependencyBlock -> {
-                        dependencyBlock.tag("groupId", "io.clientcore");
-                        dependencyBlock.tag("artifactId", "annotation-processor");
-                        dependencyBlock.tag("version", "1.0.0-beta.2");
-                    });
-                });
-            }
-
         });
     }
 }
@@ -0,0 +1,117 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template.clientcore;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Proxy;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
+import com.microsoft.typespec.http.client.generator.core.template.ServiceImplTemplate;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import java.util.Set;
+
+public class ClientCoreServiceImplTemplate extends ServiceImplTemplate {
+    private static final ClientCoreServiceImplTemplate INSTANCE = new ClientCoreServiceImplTemplate();
+
+    private ClientCoreServiceImplTemplate() {
+    }
+
+    public static ClientCoreServiceImplTemplate getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    protected boolean isEnabled(JavaSettings settings) {
+        // the implementation replaces the one generated by the annotation processor of clientcore
+        return !settings.isAzureV1() && !settings.useRestProxy() && settings.isStreamStyleSerialization();
+    }
+
+    @Override
+    public void addImportsTo(Proxy proxy, Set<String> imports) {
+        JavaSettings settings = JavaSettings.getInstance();
+        imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+            + ClientModelUtil.SERVICE_IMPL_UTILS_CLASS_NAME);
+        imports.add("io.clientcore.core.http.models.HttpMethod");
+        imports.add("io.clientcore.core.utils.UriBuilder");
+        ClassType.HTTP_PIPELINE.addImportsTo(imports, false);
+        ClassType.HTTP_REQUEST.addImportsTo(imports, false);
+        ClassType.RESPONSE.addImportsTo(imports, false);
+        ClassType.BINARY_DATA.addImportsTo(imports, false);
+        ClassType.HTTP_HEADER_NAME.addImportsTo(imports, false);
+        ClassType.HTTP_RESPONSE_EXCEPTION.addImportsTo(imports, false);
+        ClassType.REQUEST_CONTEXT.addImportsTo(imports, false);
+
+        for (ProxyMethod method : getImplementedMethods(proxy)) {
+            method.getReturnType().addImportsTo(imports, false);
+            for (ClassType exceptionType : getExceptionTypes(method).keySet()) {
+                ClientModel errorModel = getClientCoreErrorModel(exceptionType);
+                if (errorModel != null) {
+                    imports.add(errorModel.getPackage() + "." + errorModel.getName());
+                }
+            }
+        }
+    }
+
+    @Override
+    protected ClassType getContextType() {
+        return ClassType.REQUEST_CONTEXT;
+    }
+
+    @Override
+    protected String getUrlBuilderType() {
+        return "UriBuilder";
+    }
+
+    @Override
+    protected String getNewRequestExpression(String httpMethod, String url) {
+        return String.format("new HttpRequest().setMethod(HttpMethod.%1$s).setUri(%2$s)", httpMethod, url);
+    }
+
+    @Override
+    protected String getContextExpression(String contextParameter, String callerMethod, boolean eagerlyReadResponse,
+        boolean ignoreResponseBody) {
+        // RequestContext carries no response handling options, the caller's context is sent as is
+        return contextParameter;
+    }
+
+    @Override
+    protected String getResponseType() {
+        return "Response<BinaryData>";
+    }
+
+    @Override
+    protected String getResponseBodyExpression(String response) {
+        return response + ".getValue()";
+    }
+
+    @Override
+    protected boolean isSupportedExceptionType(ClassType exceptionType) {
+        // clientcore throws HttpResponseException for every status code, the error model is only its value
+        return getClientCoreErrorModel(exceptionType) != null
+            || JavaSettings.getInstance().isUseDefaultHttpStatusCodeToExceptionTypeMapping()
+            || ClientModelUtil.getErrorModelFromException(exceptionType) == null;
+    }
+
+    @Override
+    protected String getExceptionExpression(ClassType exceptionType) {
+        ClientModel errorModel = getClientCoreErrorModel(exceptionType);
+        String value = errorModel == null
+            ? "ServiceImplUtils.readErrorValue(body)"
+            : "ServiceImplUtils.readErrorValue(body, " + errorModel.getName() + "::fromJson)";
+        return "new HttpResponseException(message, response, " + value + ")";
+    }
+
+    /**
+     * Gets the error model decoded as the value of the exception, the same as the exceptionBodyClass of
+     * UnexpectedResponseExceptionDetail written by ProxyTemplate.
+     */
+    private static ClientModel getClientCoreErrorModel(ClassType exceptionType) {
+        if (JavaSettings.getInstance().isUseDefaultHttpStatusCodeToExceptionTypeMapping()) {
+            return null;
+        }
+        ClientModel errorModel = ClientModelUtil.getErrorModelFromException(exceptionType);
+        return errorModel == null || errorModel.isUsedInXml() ? null : errorModel;
+    }
+}
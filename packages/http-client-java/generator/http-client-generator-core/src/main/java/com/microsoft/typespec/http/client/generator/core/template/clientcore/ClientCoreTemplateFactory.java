@@ -8,9 +8,9 @@ import com.microsoft.typespec.http.client.generator.core.template.ConvenienceSyn
 import com.microsoft.typespec.http.client.generator.core.template.DefaultTemplateFactory;
 import com.microsoft.typespec.http.client.generator.core.template.EnumTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.ExceptionTemplate;
-import com.microsoft.typespec.http.client.generator.core.template.MethodGroupTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.PomTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.ServiceClientTemplate;
+import com.microsoft.typespec.http.client.generator.core.template.ServiceImplTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.ServiceSyncClientTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.WrapperClientMethodTemplate;
 
@@ -37,8 +37,8 @@ public class ClientCoreTemplateFactory extends DefaultTemplateFactory {
     }
 
     @Override
-    public MethodGroupTemplate getMethodGroupTemplate() {
-        return ClientCoreMethodGroupTemplate.getInstance();
+    public ServiceImplTemplate getServiceImplTemplate() {
+        return ClientCoreServiceImplTemplate.getInstance();
     }
 
     @Override
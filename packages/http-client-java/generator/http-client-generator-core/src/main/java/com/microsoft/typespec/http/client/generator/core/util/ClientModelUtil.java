@@ -8,15 +8,20 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Client;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ConstantSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.JsonLinesMetadata;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.KnownMediaType;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Parameter;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.AsyncSyncClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelPropertyAccess;
@@ -62,6 +67,11 @@ public class ClientModelUtil {
 
     public static final String JSON_MERGE_PATCH_HELPER_CLASS_NAME = "JsonMergePatchHelper";
 
+    public static final String JSON_LINES_HELPER_CLASS_NAME = "JsonLinesHelper";
+    public static final String SERVICE_IMPL_UTILS_CLASS_NAME = "ServiceImplUtils";
+    public static final String CLIENT_CORE_SERVICE_IMPL_UTILS_CLASS_NAME = "ClientCoreServiceImplUtils";
+    private static final String JSON_LINES_CONTENT_TYPE = "application/jsonl";
+
     public static final String OPERATION_LOCATION_POLLING_STRATEGY = "OperationLocationPollingStrategy";
     public static final String SYNC_OPERATION_LOCATION_POLLING_STRATEGY = "SyncOperationLocationPollingStrategy";
     public static final String POLLING_UTILS = "PollingUtils";
@@ -184,13 +194,27 @@ public class ClientModelUtil {
                     .stream()
                     .filter(m -> proxyMethodBaseName.equals(m.getProxyMethod().getBaseName())
                         && m.getMethodVisibility() == JavaVisibility.Public)
-                    .map(m -> new ConvenienceMethod(m, cMethods));
+                    .map(m -> new ConvenienceMethod(m, cMethods,
+                        getJsonLinesItemType(o, JsonLinesMetadata::getRequestItemType),
+                        getJsonLinesItemType(o, JsonLinesMetadata::getResponseItemType)));
             } else {
                 return Stream.empty();
             }
         }).collect(Collectors.toList());
     }
 
+    private static IType getJsonLinesItemType(Operation operation,
+        Function<JsonLinesMetadata, ObjectSchema> itemTypeGetter) {
+        // JsonLinesHelper is based on azure-core, and reads the items by their fromJson method
+        JavaSettings settings = JavaSettings.getInstance();
+        if (operation.getJsonLinesMetadata() == null || !settings.isAzureV1()
+            || !settings.isStreamStyleSerialization()) {
+            return null;
+        }
+        ObjectSchema itemType = itemTypeGetter.apply(operation.getJsonLinesMetadata());
+        return itemType == null ? null : Mappers.getSchemaMapper().map(itemType);
+    }
+
     /**
      * @param codeModel the code model
      * @return the interface name of service client.
@@ -430,9 +454,11 @@ public class ClientModelUtil {
         return Arrays.asList(values);
     }
 
-    private static Function<String, ClientModel> getClientModelFunction
+    private static final Function<String, ClientModel> DEFAULT_GET_CLIENT_MODEL_FUNCTION
         = name -> ClientModels.getInstance().getModel(name);
 
+    private static Function<String, ClientModel> getClientModelFunction = DEFAULT_GET_CLIENT_MODEL_FUNCTION;
+
     /**
      * Replace the default function of getting ClientModel by name.
      * <p>
@@ -445,6 +471,13 @@ public class ClientModelUtil {
         getClientModelFunction = function;
     }
 
+    /**
+     * Restore the default function of getting ClientModel by name.
+     */
+    public static void resetGetClientModelFunction() {
+        getClientModelFunction = DEFAULT_GET_CLIENT_MODEL_FUNCTION;
+    }
+
     /**
      * Get ClientModel by name.
      *
@@ -562,7 +595,7 @@ public class ClientModelUtil {
      * @return Returns all properties that are defined by super types of the client model.
      */
     public static List<ClientModelProperty> getParentProperties(ClientModel model, boolean parentPropertiesFirst) {
-        return getParentProperties(model, parentPropertiesFirst, m -> true);
+        return model.getInheritance().getParentProperties(parentPropertiesFirst);
     }
 
     /**
@@ -575,47 +608,41 @@ public class ClientModelUtil {
      */
     public static List<ClientModelProperty> getParentProperties(ClientModel model, boolean parentPropertiesFirst,
         Predicate<ClientModel> modelFilter) {
-        String lastParentName = model.getName();
-        ClientModel parentModel = getClientModel(model.getParentModelName());
+        if (modelFilter == null) {
+            return getParentProperties(model, parentPropertiesFirst);
+        }
+
+        List<ClientModel> parentModels = model.getInheritance().getParentModels();
         List<ClientModelProperty> parentProperties = new ArrayList<>();
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
-            if (modelFilter == null || modelFilter.test(parentModel)) {
-                // Add the properties in inverse order as they be reverse at the end.
-                List<ClientModelProperty> parentProps = new ArrayList<>(parentModel.getProperties());
-                for (int i = parentProps.size() - 1; i >= 0; i--) {
-                    parentProperties.add(parentProps.get(i));
+        if (parentPropertiesFirst) {
+            for (int i = parentModels.size() - 1; i >= 0; i--) {
+                ClientModel parentModel = parentModels.get(i);
+                if (modelFilter.test(parentModel)) {
+                    parentProperties.addAll(parentModel.getProperties());
+                }
+            }
+        } else {
+            for (ClientModel parentModel : parentModels) {
+                if (modelFilter.test(parentModel)) {
+                    List<ClientModelProperty> parentProps = parentModel.getProperties();
+                    for (int i = parentProps.size() - 1; i >= 0; i--) {
+                        parentProperties.add(parentProps.get(i));
+                    }
                 }
             }
-
-            lastParentName = parentModel.getName();
-            parentModel = getClientModel(parentModel.getParentModelName());
-        }
-        if (parentPropertiesFirst) {
-            Collections.reverse(parentProperties);
         }
         return parentProperties;
     }
 
+    /**
+     * Gets all the properties that parent models define that are required, not constant and not read-only.
+     *
+     * @param model The client model.
+     * @return All properties that are defined by super types of the client model that are required, not constant and
+     * not read-only.
+     */
     public static List<ClientModelProperty> getRequiredWritableParentProperties(ClientModel model) {
-        String lastParentName = model.getName();
-        ClientModel parentModel = getClientModel(model.getParentModelName());
-        List<ClientModelProperty> requiredParentProperties = new ArrayList<>();
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
-            // Add the properties in inverse order as they be reverse at the end.
-            List<ClientModelProperty> ctorArgs = parentModel.getProperties()
-                .stream()
-                .filter(property -> property.isRequired() && !property.isConstant() && !property.isReadOnly())
-                .collect(Collectors.toList());
-
-            for (int i = ctorArgs.size() - 1; i >= 0; i--) {
-                requiredParentProperties.add(ctorArgs.get(i));
-            }
-
-            lastParentName = parentModel.getName();
-            parentModel = getClientModel(parentModel.getParentModelName());
-        }
-        Collections.reverse(requiredParentProperties);
-        return requiredParentProperties;
+        return model.getInheritance().getRequiredWritableParentProperties();
     }
 
     /**
@@ -630,26 +657,7 @@ public class ClientModelUtil {
      * constructor.
      */
     public static List<ClientModelProperty> getParentConstructorProperties(ClientModel model, JavaSettings settings) {
-        String lastParentName = model.getName();
-        ClientModel parentModel = getClientModel(model.getParentModelName());
-        Set<ClientModelProperty> constructorProperties = new LinkedHashSet<>();
-        while (parentModel != null && !lastParentName.equals(parentModel.getName())) {
-            // Add the properties in inverse order as they be reverse at the end.
-            List<ClientModelProperty> parentProperties = parentModel.getProperties();
-            for (int i = parentProperties.size() - 1; i >= 0; i--) {
-                ClientModelProperty property = parentProperties.get(i);
-                if (includePropertyInConstructor(property, settings)) {
-                    constructorProperties.add(property);
-                }
-            }
-
-            lastParentName = parentModel.getName();
-            parentModel = getClientModel(parentModel.getParentModelName());
-        }
-
-        List<ClientModelProperty> propertyList = new ArrayList<>(constructorProperties);
-        Collections.reverse(propertyList);
-        return propertyList;
+        return model.getInheritance().getParentConstructorProperties(settings);
     }
 
     /**
@@ -972,6 +980,67 @@ public class ClientModelUtil {
         return model.getSerializationFormats().contains(KnownMediaType.MULTIPART.value());
     }
 
+    /**
+     * Gets the request body parameter of the convenience method, if the operation sends a JSON Lines request body.
+     *
+     * @param convenienceMethod the convenience method.
+     * @return the request body parameter of type BinaryData, or {@code null} if the request body is not JSON Lines.
+     */
+    public static ClientMethodParameter getJsonLinesRequestBodyParameter(ClientMethod convenienceMethod) {
+        if (!isSimpleMethod(convenienceMethod) || convenienceMethod.getProxyMethod() == null
+            || !JSON_LINES_CONTENT_TYPE.equals(convenienceMethod.getProxyMethod().getRequestContentType())) {
+            return null;
+        }
+        return convenienceMethod.getMethodInputParameters()
+            .stream()
+            .filter(p -> p.getRequestParameterLocation() == RequestParameterLocation.BODY
+                && p.getClientType() == ClassType.BINARY_DATA)
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Checks whether the convenience method returns a JSON Lines response body, as BinaryData.
+     *
+     * @param convenienceMethod the convenience method.
+     * @return whether the convenience method returns a JSON Lines response body.
+     */
+    public static boolean isJsonLinesResponse(ClientMethod convenienceMethod) {
+        if (!isSimpleMethod(convenienceMethod) || convenienceMethod.getProxyMethod() == null
+            || !convenienceMethod.getProxyMethod().getResponseContentTypes().contains(JSON_LINES_CONTENT_TYPE)) {
+            return false;
+        }
+        IType returnType = convenienceMethod.getReturnValue().getType();
+        return returnType == ClassType.BINARY_DATA || GenericType.Mono(ClassType.BINARY_DATA).equals(returnType);
+    }
+
+    /**
+     * Checks whether any convenience method of the clients sends or receives a JSON Lines body of a known item type.
+     *
+     * @param clients the sync or async clients.
+     * @return whether JsonLinesHelper is required.
+     */
+    public static boolean requireJsonLinesHelper(List<AsyncSyncClient> clients) {
+        return clients.stream()
+            .flatMap(c -> c.getConvenienceMethods().stream())
+            .anyMatch(ClientModelUtil::hasJsonLinesItems);
+    }
+
+    private static boolean hasJsonLinesItems(ConvenienceMethod convenienceMethod) {
+        for (ClientMethod method : convenienceMethod.getConvenienceMethods()) {
+            if ((convenienceMethod.getJsonLinesRequestItemType() != null
+                && getJsonLinesRequestBodyParameter(method) != null)
+                || (convenienceMethod.getJsonLinesResponseItemType() != null && isJsonLinesResponse(method))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSimpleMethod(ClientMethod method) {
+        return method.getType() == ClientMethodType.SimpleSync || method.getType() == ClientMethodType.SimpleAsync;
+    }
+
     public static ClientModel getErrorModelFromException(ClassType exceptionType) {
         String errorBodyClassName = exceptionType.getName();
         if (errorBodyClassName.endsWith("Exception")) {
@@ -40,9 +40,19 @@ public class ModelTestCaseUtil {
         private final int maxDict = 4 + 1;
     }
 
-    private static final Random RANDOM = new Random(3);
+    private static final long SEED = 3;
+
+    // re-seeded on clear, so that the test cases of a code model do not depend on what is generated before it
+    private static Random random = new Random(SEED);
     private static final Configuration CONFIGURATION = new Configuration();
 
+    /**
+     * Resets the random generator to its initial seed.
+     */
+    public static void clear() {
+        random = new Random(SEED);
+    }
+
     /**
      * Compose a random JSON object according to the structure of client model.
      *
@@ -95,33 +105,33 @@ public class ModelTestCaseUtil {
      */
     public static Object jsonFromType(int depth, IType type) {
         if (type.asNullable() == ClassType.INTEGER) {
-            return RANDOM.nextInt() & Integer.MAX_VALUE;
+            return random.nextInt() & Integer.MAX_VALUE;
         } else if (type.asNullable() == ClassType.LONG) {
-            return RANDOM.nextLong() & Long.MAX_VALUE;
+            return random.nextLong() & Long.MAX_VALUE;
         } else if (type.asNullable() == ClassType.BIG_DECIMAL) {
-            return RANDOM.nextLong() & Long.MAX_VALUE;
+            return random.nextLong() & Long.MAX_VALUE;
         } else if (type.asNullable() == ClassType.FLOAT) {
-            return RANDOM.nextFloat() * 100;
+            return random.nextFloat() * 100;
         } else if (type.asNullable() == ClassType.DOUBLE) {
-            return RANDOM.nextDouble() * 100;
+            return random.nextDouble() * 100;
         } else if (type.asNullable() == ClassType.BOOLEAN) {
-            return RANDOM.nextBoolean();
+            return random.nextBoolean();
         } else if (type == ClassType.STRING) {
             return randomString();
         } else if (type.asNullable() == ClassType.UNIX_TIME_LONG) {
-            return RANDOM.nextLong() & Long.MAX_VALUE;
+            return random.nextLong() & Long.MAX_VALUE;
         } else if (type == ClassType.DATE_TIME) {
             return randomDateTime().toString();
         } else if (type == ClassType.DATE_TIME_RFC_1123) {
             return DateTimeRfc1123.toRfc1123String(randomDateTime());
         } else if (type == ClassType.DURATION) {
             Duration duration = Duration.ZERO;
-            duration = duration.plusSeconds(RANDOM.nextInt(10 * 24 * 60 * 60));
+            duration = duration.plusSeconds(random.nextInt(10 * 24 * 60 * 60));
             return duration.toString();
         } else if (type.asNullable() == ClassType.DURATION_LONG) {
-            return RANDOM.nextLong() & Long.MAX_VALUE;
+            return random.nextLong() & Long.MAX_VALUE;
         } else if (type.asNullable() == ClassType.DURATION_DOUBLE) {
-            return Math.abs(RANDOM.nextDouble() * 10);
+            return Math.abs(random.nextDouble() * 10);
         } else if (type == ClassType.UUID) {
             return UUID.randomUUID().toString();
         } else if (type == ClassType.URL) {
@@ -137,7 +147,7 @@ public class ModelTestCaseUtil {
                 // empty enum
                 return null;
             }
-            int index = RANDOM.nextInt(values.size());
+            int index = random.nextInt(values.size());
             String value = values.get(index);
             if (elementType.asNullable() == ClassType.INTEGER) {
                 return Integer.valueOf(value);
@@ -156,7 +166,7 @@ public class ModelTestCaseUtil {
             List<Object> list = new ArrayList<>();
             if (depth <= CONFIGURATION.maxDepth) {
                 IType elementType = ((IterableType) type).getElementType();
-                int count = RANDOM.nextInt(CONFIGURATION.maxList - 1) + 1;
+                int count = random.nextInt(CONFIGURATION.maxList - 1) + 1;
                 for (int i = 0; i < count; ++i) {
                     Object element = jsonFromType(depth + 1, elementType);
                     if (element != null) {
@@ -169,7 +179,7 @@ public class ModelTestCaseUtil {
             Map<String, Object> map = new LinkedHashMap<>();
             if (depth <= CONFIGURATION.maxDepth) {
                 IType elementType = ((MapType) type).getValueType();
-                int count = RANDOM.nextInt(CONFIGURATION.maxDict - 1) + 1;
+                int count = random.nextInt(CONFIGURATION.maxDict - 1) + 1;
                 for (int i = 0; i < count; ++i) {
                     Object element = jsonFromType(depth + 1, elementType);
                     if (element != null) {
@@ -211,7 +221,7 @@ public class ModelTestCaseUtil {
         property.isRequired()
             // optional property only be generated when still have depth remains
             // we assume here that there is no infinitely nested required properties
-            || (!maxDepthReached && RANDOM.nextFloat() > CONFIGURATION.nullableProbability))) {
+            || (!maxDepthReached && random.nextFloat() > CONFIGURATION.nullableProbability))) {
             Object value = jsonFromType(depth, property.getWireType());
             if (property.isAdditionalProperties()) {
                 if (value != null) {
@@ -277,9 +287,9 @@ public class ModelTestCaseUtil {
     private static String randomString() {
         int leftLimit = 97; // letter 'a'
         int rightLimit = 122; // letter 'z'
-        int targetStringLength = RANDOM.nextInt(CONFIGURATION.maxStringLen - 1) + 1;
+        int targetStringLength = random.nextInt(CONFIGURATION.maxStringLen - 1) + 1;
 
-        return RANDOM.ints(leftLimit, rightLimit + 1)
+        return random.ints(leftLimit, rightLimit + 1)
             .limit(targetStringLength)
             .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
             .toString();
@@ -288,6 +298,6 @@ public class ModelTestCaseUtil {
     private static final OffsetDateTime TIME = OffsetDateTime.parse("2020-12-20T00:00:00.000Z");
 
     private static OffsetDateTime randomDateTime() {
-        return TIME.plusSeconds(RANDOM.nextInt(356 * 24 * 60 * 60));
+        return TIME.plusSeconds(random.nextInt(356 * 24 * 60 * 60));
     }
 }
@@ -242,24 +242,46 @@ public class TemplateUtil {
     }
 
     /**
-     * Helper function to write helper methods for LLC paging
+     * Helper function to write helper methods for LLC paging.
+     * <p>
+     * The page is read in a single streaming pass, which extracts the next link and copies each item as JSON text,
+     * without materializing the page as a Map. JsonReader does not expose the offsets of a token in the input, hence
+     * an object or array item is re-written by {@code readChildren} rather than sliced from the response bytes.
      *
      * @param classBlock Java class block
      */
     private static void writePagingHelperMethods(JavaClass classBlock) {
-        classBlock.privateMethod("List<BinaryData> getValues(BinaryData binaryData, String path)", block -> {
-            block.line("try {");
-            block.line("Map<?, ?> obj = binaryData.toObject(Map.class);");
-            block.line("List<?> values = (List<?>) obj.get(path);");
-            block.line("return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());");
-            block.line("} catch (RuntimeException e) { return null; }");
-        });
-        classBlock.privateMethod("String getNextLink(BinaryData binaryData, String path)", block -> {
-            block.line("try {");
-            block.line("Map<?, ?> obj = binaryData.toObject(Map.class);");
-            block.line("return (String) obj.get(path);");
-            block.line("} catch (RuntimeException e) { return null; }");
-        });
+        classBlock.privateMethod("<H> PagedResponse<BinaryData> readPagedResponse(Response<BinaryData> response, "
+            + "String itemPath, String nextLinkPath, H deserializedHeaders)", block -> {
+                block.line("List<BinaryData> values = null;");
+                block.line("String nextLink = null;");
+                block.line("try (JsonReader jsonReader = JsonProviders.createReader(response.getValue().toBytes())) {");
+                block.line("if (jsonReader.nextToken() == JsonToken.START_OBJECT) {");
+                block.line("while (jsonReader.nextToken() != JsonToken.END_OBJECT) {");
+                block.line("String fieldName = jsonReader.getFieldName();");
+                block.line("jsonReader.nextToken();");
+                block.line("if (fieldName.equals(itemPath) && jsonReader.currentToken() == JsonToken.START_ARRAY) {");
+                block.line("values = new ArrayList<>();");
+                block.line("while (jsonReader.nextToken() != JsonToken.END_ARRAY) {");
+                block.line("values.add(jsonReader.isStartArrayOrObject()");
+                block.line("? BinaryData.fromString(jsonReader.readChildren())");
+                block.line(": BinaryData.fromObject(jsonReader.readUntyped()));");
+                block.line("}");
+                block.line(
+                    "} else if (fieldName.equals(nextLinkPath) && jsonReader.currentToken() == JsonToken.STRING) {");
+                block.line("nextLink = jsonReader.getString();");
+                block.line("} else {");
+                block.line("jsonReader.skipChildren();");
+                block.line("}");
+                block.line("}");
+                block.line("}");
+                block.line("} catch (IOException | RuntimeException e) {");
+                block.line("values = null;");
+                block.line("nextLink = null;");
+                block.line("}");
+                block.line("return new PagedResponseBase<>(response.getRequest(), response.getStatusCode(), "
+                    + "response.getHeaders(), values, nextLink, deserializedHeaders);");
+            });
     }
 
     /**
@@ -0,0 +1,248 @@
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonWriter;
+import com.azure.json.ReadValueCallback;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+// DO NOT modify this helper class
+
+/**
+ * Helper for JSON Lines (application/jsonl) request and response bodies.
+ * <p>
+ * Items are serialized and deserialized one line at a time, so that the body is never held in memory as a whole.
+ */
+public final class JsonLinesHelper {
+    private static final int BUFFER_SIZE = 8192;
+
+    private JsonLinesHelper() {
+    }
+
+    /**
+     * Creates the JSON Lines request body of the items.
+     * <p>
+     * Each item is serialized to its line only when the request body is read.
+     *
+     * @param items the items of the request body.
+     * @param <T> the type of the items.
+     * @return the request body.
+     */
+    public static <T extends JsonSerializable<T>> BinaryData toBinaryData(Iterable<T> items) {
+        return BinaryData.fromStream(new LinesInputStream(items.iterator()));
+    }
+
+    /**
+     * Creates the JSON Lines request body of the items.
+     * <p>
+     * Each item is serialized to its line only when it is requested by the subscriber of the request body.
+     *
+     * @param items the items of the request body.
+     * @param <T> the type of the items.
+     * @return the request body.
+     */
+    public static <T extends JsonSerializable<T>> Mono<BinaryData> toBinaryData(Flux<T> items) {
+        return BinaryData.fromFlux(items.map(item -> ByteBuffer.wrap(writeLine(item))), null, false);
+    }
+
+    /**
+     * Reads the items of the JSON Lines response body.
+     * <p>
+     * The response body is read as the returned {@link Iterable} is iterated, hence it can only be iterated once.
+     *
+     * @param body the response body.
+     * @param itemReader the reader of an item from its line, e.g. the fromJson method of the model.
+     * @param <T> the type of the items.
+     * @return the items of the response body.
+     */
+    public static <T> Iterable<T> toIterable(BinaryData body, ReadValueCallback<JsonReader, T> itemReader) {
+        return () -> new LinesIterator<>(body.toStream(), itemReader);
+    }
+
+    /**
+     * Reads the items of the JSON Lines response body.
+     * <p>
+     * The response body is read as the items are requested by the subscriber.
+     *
+     * @param body the response body.
+     * @param itemReader the reader of an item from its line, e.g. the fromJson method of the model.
+     * @param <T> the type of the items.
+     * @return the items of the response body.
+     */
+    public static <T> Flux<T> toFlux(BinaryData body, ReadValueCallback<JsonReader, T> itemReader) {
+        return Flux.defer(() -> {
+            LineSplitter lineSplitter = new LineSplitter();
+            return body.toFluxByteBuffer()
+                .concatMapIterable(lineSplitter::split)
+                .concatWith(Flux.defer(() -> Flux.fromIterable(lineSplitter.end())))
+                .map(line -> readLine(line, itemReader));
+        });
+    }
+
+    private static byte[] writeLine(JsonSerializable<?> item) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+            item.toJson(jsonWriter);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        outputStream.write('\n');
+        return outputStream.toByteArray();
+    }
+
+    private static <T> T readLine(byte[] line, ReadValueCallback<JsonReader, T> itemReader) {
+        try (JsonReader jsonReader = JsonProviders.createReader(line)) {
+            return itemReader.read(jsonReader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Splits the bytes of the body into lines. Blank lines are skipped.
+     */
+    private static final class LineSplitter {
+        private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+
+        private List<byte[]> split(ByteBuffer buffer) {
+            if (buffer.hasArray()) {
+                return split(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            } else {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.duplicate().get(bytes);
+                return split(bytes, 0, bytes.length);
+            }
+        }
+
+        private List<byte[]> split(byte[] bytes, int offset, int length) {
+            List<byte[]> lines = new ArrayList<>();
+            int lineStart = offset;
+            int end = offset + length;
+            for (int i = offset; i < end; ++i) {
+                if (bytes[i] == '\n') {
+                    partialLine.write(bytes, lineStart, i - lineStart);
+                    addLine(lines);
+                    lineStart = i + 1;
+                }
+            }
+            partialLine.write(bytes, lineStart, end - lineStart);
+            return lines;
+        }
+
+        private List<byte[]> end() {
+            List<byte[]> lines = new ArrayList<>(1);
+            addLine(lines);
+            return lines;
+        }
+
+        private void addLine(List<byte[]> lines) {
+            byte[] line = partialLine.toByteArray();
+            partialLine.reset();
+            for (byte b : line) {
+                if (b != ' ' && b != '\t' && b != '\r') {
+                    lines.add(line);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class LinesIterator<T> implements Iterator<T> {
+        private final InputStream inputStream;
+        private final ReadValueCallback<JsonReader, T> itemReader;
+        private final LineSplitter lineSplitter = new LineSplitter();
+        private final Queue<byte[]> lines = new ArrayDeque<>();
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        private boolean done = false;
+
+        private LinesIterator(InputStream inputStream, ReadValueCallback<JsonReader, T> itemReader) {
+            this.inputStream = inputStream;
+            this.itemReader = itemReader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (lines.isEmpty() && !done) {
+                    int read = inputStream.read(buffer);
+                    if (read == -1) {
+                        done = true;
+                        inputStream.close();
+                        lines.addAll(lineSplitter.end());
+                    } else {
+                        lines.addAll(lineSplitter.split(buffer, 0, read));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return !lines.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return readLine(lines.poll(), itemReader);
+        }
+    }
+
+    private static final class LinesInputStream extends InputStream {
+        private final Iterator<? extends JsonSerializable<?>> items;
+
+        private byte[] line = new byte[0];
+        private int linePosition = 0;
+
+        private LinesInputStream(Iterator<? extends JsonSerializable<?>> items) {
+            this.items = items;
+        }
+
+        @Override
+        public int read() {
+            if (!nextLine()) {
+                return -1;
+            }
+            return line[linePosition++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextLine()) {
+                return -1;
+            }
+            int read = Math.min(len, line.length - linePosition);
+            System.arraycopy(line, linePosition, b, off, read);
+            linePosition += read;
+            return read;
+        }
+
+        private boolean nextLine() {
+            while (linePosition == line.length) {
+                if (!items.hasNext()) {
+                    return false;
+                }
+                line = writeLine(items.next());
+                linePosition = 0;
+            }
+            return true;
+        }
+    }
+}
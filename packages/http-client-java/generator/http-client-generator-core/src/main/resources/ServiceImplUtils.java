@@ -0,0 +1,441 @@
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.SimpleResponse;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.UrlBuilder;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonToken;
+import com.azure.json.JsonWriter;
+import com.azure.json.ReadValueCallback;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+// DO NOT modify this helper class
+
+/**
+ * Helper for the generated service implementations, which send the requests without the reflection based RestProxy.
+ * <p>
+ * The requests are built and the responses are handled the same way as RestProxy does.
+ */
+public final class ServiceImplUtils {
+    private static final byte[] EMPTY_BODY = new byte[0];
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final boolean[] PATH_SAFE_CHARACTERS = safeCharacters("-._~!$&'()*+,;=:@");
+    private static final boolean[] QUERY_SAFE_CHARACTERS = safeCharacters("-._~/?");
+
+    private ServiceImplUtils() {
+    }
+
+    /**
+     * Adds the data of the service method to the context of the request.
+     *
+     * @param context the context of the call, can be null.
+     * @param callerMethod the name of the service method.
+     * @param eagerlyReadResponse whether the response body is read into memory by the HTTP client.
+     * @param ignoreResponseBody whether the response body is not used by the service method.
+     * @return the context of the request.
+     */
+    public static Context createContext(Context context, String callerMethod, boolean eagerlyReadResponse,
+        boolean ignoreResponseBody) {
+        Context result = (context == null ? Context.NONE : context).addData("caller-method", callerMethod);
+        if (eagerlyReadResponse) {
+            result = result.addData("azure-eagerly-read-response", true);
+        }
+        if (ignoreResponseBody) {
+            result = result.addData("azure-ignore-response-body", true);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the URL of the request from the host and the path.
+     * <p>
+     * An absolute path, e.g. the next link of a page, is the URL of the request by itself.
+     *
+     * @param host the host, with its parameters substituted.
+     * @param path the path, with its parameters substituted.
+     * @return the URL of the request.
+     */
+    public static UrlBuilder createUrl(String host, String path) {
+        UrlBuilder pathUrl = UrlBuilder.parse(path);
+        if (pathUrl.getScheme() != null) {
+            return pathUrl;
+        }
+
+        UrlBuilder url = UrlBuilder.parse(host);
+        if (!path.isEmpty() && !"/".equals(path)) {
+            String hostPath = url.getPath();
+            if (hostPath == null || hostPath.isEmpty() || "/".equals(hostPath)) {
+                url.setPath(path);
+            } else {
+                url.setPath(path.startsWith("/") ? hostPath + path : hostPath + "/" + path);
+            }
+        }
+        return url;
+    }
+
+    /**
+     * Converts the value of a host or path parameter to the text substituted in the URL.
+     *
+     * @param value the value of the parameter.
+     * @param encoded whether the value is already encoded.
+     * @return the text substituted in the URL.
+     */
+    public static String toPathValue(Object value, boolean encoded) {
+        if (value == null) {
+            return "";
+        }
+        String text = String.valueOf(value);
+        return encoded ? text : escape(text, PATH_SAFE_CHARACTERS);
+    }
+
+    /**
+     * Sets the query parameter of the request. A null value is skipped.
+     *
+     * @param url the URL of the request.
+     * @param name the name of the query parameter.
+     * @param value the value of the query parameter.
+     * @param encoded whether the value is already encoded.
+     */
+    public static void setQueryParameter(UrlBuilder url, String name, Object value, boolean encoded) {
+        if (value != null) {
+            url.setQueryParameter(name, toQueryValue(value, encoded));
+        }
+    }
+
+    /**
+     * Adds a query parameter to the request for each of the values. Null values are skipped.
+     *
+     * @param url the URL of the request.
+     * @param name the name of the query parameter.
+     * @param values the values of the query parameter.
+     * @param encoded whether the values are already encoded.
+     */
+    public static void addQueryParameters(UrlBuilder url, String name, Iterable<?> values, boolean encoded) {
+        if (values != null) {
+            for (Object value : values) {
+                if (value != null) {
+                    url.addQueryParameter(name, toQueryValue(value, encoded));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the header of the request. A null value is skipped.
+     *
+     * @param request the request.
+     * @param name the name of the header.
+     * @param value the value of the header.
+     */
+    public static void setHeader(HttpRequest request, HttpHeaderName name, Object value) {
+        if (value != null) {
+            request.setHeader(name, String.valueOf(value));
+        }
+    }
+
+    /**
+     * Sets the headers of the request, named by the prefix and the keys of the map. Null values are skipped.
+     *
+     * @param request the request.
+     * @param prefix the prefix of the names of the headers.
+     * @param values the values of the headers.
+     */
+    public static void setHeaders(HttpRequest request, String prefix, Map<String, ?> values) {
+        if (values != null) {
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                if (entry.getValue() != null) {
+                    request.setHeader(HttpHeaderName.fromString(prefix + entry.getKey()),
+                        String.valueOf(entry.getValue()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the body of the request, and its Content-Type. A null body is sent as an empty body.
+     *
+     * @param request the request.
+     * @param body the body of the request.
+     * @param contentType the content type of the body.
+     */
+    public static void setBody(HttpRequest request, BinaryData body, String contentType) {
+        if (body == null) {
+            setEmptyBody(request);
+        } else {
+            request.setHeader(HttpHeaderName.CONTENT_TYPE, contentType);
+            request.setBody(body);
+        }
+    }
+
+    /**
+     * Sets the body of the request, and its Content-Type. A null body is sent as an empty body.
+     *
+     * @param request the request.
+     * @param body the body of the request.
+     * @param contentType the content type of the body.
+     */
+    public static void setBody(HttpRequest request, byte[] body, String contentType) {
+        setBody(request, body == null ? null : BinaryData.fromBytes(body), contentType);
+    }
+
+    /**
+     * Sets the JSON body of the request, and its Content-Type. A null body is sent as an empty body.
+     *
+     * @param request the request.
+     * @param body the model of the body.
+     * @param contentType the content type of the body.
+     */
+    public static void setJsonBody(HttpRequest request, JsonSerializable<?> body, String contentType) {
+        if (body == null) {
+            setEmptyBody(request);
+        } else {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+                body.toJson(jsonWriter);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            setBody(request, outputStream.toByteArray(), contentType);
+        }
+    }
+
+    /**
+     * Sets the empty body of the request.
+     *
+     * @param request the request.
+     */
+    public static void setEmptyBody(HttpRequest request) {
+        request.setHeader(HttpHeaderName.CONTENT_LENGTH, "0");
+    }
+
+    /**
+     * Sends the request, and checks the status code of the response.
+     *
+     * @param pipeline the HTTP pipeline.
+     * @param request the request.
+     * @param context the context of the request.
+     * @param exceptionFactory the factory of the exception for an unexpected status code, from the response and its
+     * body.
+     * @param expectedStatusCodes the expected status codes. Any status code below 400 is expected, if there is none.
+     * @return the response.
+     */
+    public static HttpResponse send(HttpPipeline pipeline, HttpRequest request, Context context,
+        BiFunction<HttpResponse, byte[], ? extends HttpResponseException> exceptionFactory,
+        int... expectedStatusCodes) {
+        HttpResponse response = pipeline.sendSync(request, context);
+        if (!isExpectedStatusCode(response.getStatusCode(), expectedStatusCodes)) {
+            byte[] body;
+            try {
+                body = readBody(response);
+            } finally {
+                response.close();
+            }
+            throw exceptionFactory.apply(response, body);
+        }
+        return response;
+    }
+
+    /**
+     * Sends the request, and checks the status code of the response.
+     *
+     * @param pipeline the HTTP pipeline.
+     * @param request the request.
+     * @param context the context of the request.
+     * @param exceptionFactory the factory of the exception for an unexpected status code, from the response and its
+     * body.
+     * @param expectedStatusCodes the expected status codes. Any status code below 400 is expected, if there is none.
+     * @return the response.
+     */
+    public static Mono<HttpResponse> sendAsync(HttpPipeline pipeline, HttpRequest request, Context context,
+        BiFunction<HttpResponse, byte[], ? extends HttpResponseException> exceptionFactory,
+        int... expectedStatusCodes) {
+        return pipeline.send(request, context).flatMap(response -> {
+            if (isExpectedStatusCode(response.getStatusCode(), expectedStatusCodes)) {
+                return Mono.just(response);
+            }
+            return readBodyAsync(response).flatMap(body -> Mono.error(exceptionFactory.apply(response, body)));
+        });
+    }
+
+    /**
+     * Reads the body of the response. The response is not closed.
+     *
+     * @param response the response.
+     * @return the body of the response, empty if there is no body.
+     */
+    public static byte[] readBody(HttpResponse response) {
+        BinaryData body = response.getBodyAsBinaryData();
+        byte[] bytes = body == null ? null : body.toBytes();
+        return bytes == null ? EMPTY_BODY : bytes;
+    }
+
+    /**
+     * Reads the body of the response, and closes the response.
+     *
+     * @param response the response.
+     * @return the body of the response, empty if there is no body.
+     */
+    public static Mono<byte[]> readBodyAsync(HttpResponse response) {
+        return response.getBodyAsByteArray().defaultIfEmpty(EMPTY_BODY).doFinally(ignored -> response.close());
+    }
+
+    /**
+     * Reads the JSON body of the response.
+     *
+     * @param response the response.
+     * @param body the body of the response.
+     * @param valueReader the reader of the value, e.g. the fromJson method of the model.
+     * @param <T> the type of the value.
+     * @return the value, or null if the body is empty.
+     * @throws HttpResponseException if the body is not valid JSON of the value.
+     */
+    public static <T> T readJson(HttpResponse response, byte[] body, ReadValueCallback<JsonReader, T> valueReader) {
+        if (body.length == 0) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader(body)) {
+            return readValue(jsonReader, valueReader);
+        } catch (IOException | RuntimeException e) {
+            throw new HttpResponseException("HTTP response has a malformed body.", response, e);
+        }
+    }
+
+    /**
+     * Reads the JSON body of an error response, as untyped value.
+     *
+     * @param body the body of the response.
+     * @return the value, or null if the body is empty or not valid JSON.
+     */
+    public static Object readErrorValue(byte[] body) {
+        return readErrorValue(body, JsonReader::readUntyped);
+    }
+
+    /**
+     * Reads the JSON body of an error response.
+     *
+     * @param body the body of the response.
+     * @param valueReader the reader of the value, e.g. the fromJson method of the error model.
+     * @param <T> the type of the value.
+     * @return the value, or null if the body is empty or not valid JSON of the value.
+     */
+    public static <T> T readErrorValue(byte[] body, ReadValueCallback<JsonReader, T> valueReader) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader(body)) {
+            return readValue(jsonReader, valueReader);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the message of the exception for an unexpected status code.
+     *
+     * @param response the response.
+     * @param body the body of the response.
+     * @return the message of the exception.
+     */
+    public static String getExceptionMessage(HttpResponse response, byte[] body) {
+        String message = "Status code " + response.getStatusCode() + ", ";
+        if (body == null || body.length == 0) {
+            return message + "(empty body)";
+        } else if ("application/octet-stream".equalsIgnoreCase(response.getHeaderValue(HttpHeaderName.CONTENT_TYPE))) {
+            return message + "(" + body.length + "-byte body)";
+        } else {
+            return message + "\"" + new String(body, StandardCharsets.UTF_8) + "\"";
+        }
+    }
+
+    /**
+     * Creates the response of the service method.
+     *
+     * @param response the HTTP response.
+     * @param value the value of the response.
+     * @param <T> the type of the value.
+     * @return the response of the service method.
+     */
+    public static <T> SimpleResponse<T> toResponse(HttpResponse response, T value) {
+        return new SimpleResponse<>(response.getRequest(), response.getStatusCode(), response.getHeaders(), value);
+    }
+
+    private static <T> T readValue(JsonReader jsonReader, ReadValueCallback<JsonReader, T> valueReader)
+        throws IOException {
+        if (jsonReader.currentToken() == null) {
+            jsonReader.nextToken();
+        }
+        return jsonReader.currentToken() == JsonToken.NULL ? null : valueReader.read(jsonReader);
+    }
+
+    private static boolean isExpectedStatusCode(int statusCode, int[] expectedStatusCodes) {
+        if (expectedStatusCodes.length == 0) {
+            return statusCode < 400;
+        }
+        for (int expectedStatusCode : expectedStatusCodes) {
+            if (statusCode == expectedStatusCode) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toQueryValue(Object value, boolean encoded) {
+        String text = String.valueOf(value);
+        return encoded ? text : escape(text, QUERY_SAFE_CHARACTERS);
+    }
+
+    private static String escape(String text, boolean[] safeCharacters) {
+        int i = 0;
+        while (i < text.length() && isSafe(text.charAt(i), safeCharacters)) {
+            ++i;
+        }
+        if (i == text.length()) {
+            return text;
+        }
+
+        StringBuilder builder = new StringBuilder(text.length() + 16).append(text, 0, i);
+        byte[] bytes = text.substring(i).getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            if (b >= 0 && isSafe((char) b, safeCharacters)) {
+                builder.append((char) b);
+            } else {
+                builder.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isSafe(char c, boolean[] safeCharacters) {
+        return c < safeCharacters.length && safeCharacters[c];
+    }
+
+    private static boolean[] safeCharacters(String safeSymbols) {
+        boolean[] safeCharacters = new boolean[128];
+        for (char c = '0'; c <= '9'; ++c) {
+            safeCharacters[c] = true;
+        }
+        for (char c = 'a'; c <= 'z'; ++c) {
+            safeCharacters[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; ++c) {
+            safeCharacters[c] = true;
+        }
+        for (char c : safeSymbols.toCharArray()) {
+            safeCharacters[c] = true;
+        }
+        return safeCharacters;
+    }
+}
@@ -0,0 +1,81 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.base.util;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileUtilsTests {
+
+    private static final String CACHE_DIRECTORY_PROPERTY = "codegen.java.cache.directory";
+
+    @TempDir
+    private Path tempDirectory;
+
+    @BeforeEach
+    public void setCacheDirectory() {
+        System.setProperty(CACHE_DIRECTORY_PROPERTY, tempDirectory.resolve("cache").toString());
+    }
+
+    @AfterEach
+    public void clearCacheDirectory() {
+        System.clearProperty(CACHE_DIRECTORY_PROPERTY);
+    }
+
+    @Test
+    public void testGetCacheDirectory() throws IOException {
+        Path directory = FileUtils.getCacheDirectory("format");
+        Assertions.assertEquals(tempDirectory.resolve("cache").resolve("format"), directory);
+        Assertions.assertTrue(Files.isDirectory(directory));
+        Assertions.assertTrue(FileUtils.isPrivate(directory));
+
+        if (isPosix()) {
+            Assertions.assertEquals("rwx------",
+                PosixFilePermissions.toString(Files.getPosixFilePermissions(directory.getParent())));
+            Assertions.assertEquals("rwx------",
+                PosixFilePermissions.toString(Files.getPosixFilePermissions(directory)));
+        }
+
+        // existing directory
+        Assertions.assertEquals(directory, FileUtils.getCacheDirectory("format"));
+    }
+
+    @Test
+    public void testGetCacheDirectoryWritableByOthers() throws IOException {
+        Assumptions.assumeTrue(isPosix());
+
+        Path directory = Files.createDirectories(tempDirectory.resolve("cache").resolve("format"));
+        Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwxrwxrwx"));
+        Assertions.assertFalse(FileUtils.isPrivate(directory));
+        Assertions.assertThrows(IOException.class, () -> FileUtils.getCacheDirectory("format"));
+    }
+
+    @Test
+    public void testGetCacheDirectorySymbolicLink() throws IOException {
+        Path target = Files.createDirectories(tempDirectory.resolve("target"));
+        Files.createDirectories(tempDirectory.resolve("cache"));
+        Path link;
+        try {
+            link = Files.createSymbolicLink(tempDirectory.resolve("cache").resolve("format"), target);
+        } catch (UnsupportedOperationException | IOException e) {
+            Assumptions.abort("symbolic link is not supported");
+            return;
+        }
+        Assertions.assertFalse(FileUtils.isPrivate(link));
+        Assertions.assertThrows(IOException.class, () -> FileUtils.getCacheDirectory("format"));
+    }
+
+    private static boolean isPosix() {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    }
+}
@@ -0,0 +1,107 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionTests {
+
+    @Test
+    public void testFramedAndUnframedMessages() throws Exception {
+        String framed = "{\"jsonrpc\":\"2.0\",\"method\":\"generate\",\"params\":[\"a{b\",\"c\\\"}]\"],\"id\":1}";
+        String unframed = "{\n  \"jsonrpc\": \"2.0\",\n  \"params\": [\"d\", \"e\"],\n  \"method\": \"generate\",\n"
+            + "  \"id\": 2\n}\n";
+        byte[] framedBytes = framed.getBytes(StandardCharsets.UTF_8);
+        String input = "Content-Length: " + framedBytes.length + "\r\n\r\n" + framed + unframed;
+
+        List<String> arguments = new CopyOnWriteArrayList<>();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        // read a byte at a time, so that the messages cross the boundaries of the buffer
+        Connection connection = new Connection(output, new OneByteInputStream(input.getBytes(StandardCharsets.UTF_8)),
+            c -> c.dispatch("generate", (first, second) -> {
+                arguments.add(first + "|" + second);
+                return true;
+            }));
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (arguments.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        connection.stop();
+
+        Assertions.assertTrue(arguments.contains("a{b|c\"}]"));
+        Assertions.assertTrue(arguments.contains("d|e"));
+
+        deadline = System.currentTimeMillis() + 10000;
+        String responses = "";
+        while (System.currentTimeMillis() < deadline) {
+            responses = output.toString(StandardCharsets.UTF_8);
+            if (responses.contains("\"id\":1") && responses.contains("\"id\":2")) {
+                break;
+            }
+            Thread.sleep(10);
+        }
+        Assertions.assertTrue(responses.contains("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":true}"));
+        Assertions.assertTrue(responses.contains("{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":true}"));
+    }
+
+    @Test
+    public void testReadJson() throws Exception {
+        String json = "{\"a\":[1,{\"b\":\"}\\\\\"},\"\\\"{\"]}";
+        PeekingBinaryReader reader
+            = new PeekingBinaryReader(new OneByteInputStream((json + "\n{}").getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertEquals(json, new String(reader.readJson(), StandardCharsets.UTF_8));
+        Assertions.assertEquals('\n', reader.readByte());
+        Assertions.assertEquals("{}", new String(reader.readJson(), StandardCharsets.UTF_8));
+        Assertions.assertEquals(-1, reader.peekByte());
+    }
+
+    @Test
+    public void testNotifyBuffered() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Connection connection = new Connection(output, new ByteArrayInputStream(new byte[0]));
+
+        int size = connection.notifyBuffered("WriteFile", "session", "File.java", "class File {\n}\n", null);
+        int size2 = connection.notifyBuffered("WriteFile", "session", "Empty.java", "", null);
+        // buffered until flush
+        Assertions.assertEquals(0, output.size());
+
+        connection.flush();
+        String expected = "{\"jsonrpc\":\"2.0\",\"method\":\"WriteFile\",\"params\":[\"session\",\"File.java\","
+            + "\"class File {\\n}\\n\",null]}";
+        String expected2 = "{\"jsonrpc\":\"2.0\",\"method\":\"WriteFile\",\"params\":[\"session\",\"Empty.java\",\"\","
+            + "null]}";
+        Assertions.assertEquals(expected.length(), size);
+        Assertions.assertEquals(expected2.length(), size2);
+        Assertions.assertEquals("Content-Length: " + size + "\r\n\r\n" + expected + "Content-Length: " + size2
+            + "\r\n\r\n" + expected2, output.toString(StandardCharsets.UTF_8));
+        connection.stop();
+    }
+
+    private static final class OneByteInputStream extends InputStream {
+        private final ByteArrayInputStream inputStream;
+
+        private OneByteInputStream(byte[] bytes) {
+            this.inputStream = new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public int read() {
+            return inputStream.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return inputStream.read(b, off, Math.min(len, 1));
+        }
+    }
+}
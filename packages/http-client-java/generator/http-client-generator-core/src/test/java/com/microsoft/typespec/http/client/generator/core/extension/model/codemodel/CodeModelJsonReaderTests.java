@@ -0,0 +1,206 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.inspector.TrustedTagInspector;
+import org.yaml.snakeyaml.representer.Representer;
+
+public class CodeModelJsonReaderTests {
+
+    private static final String MODEL_PACKAGE_PREFIX = "com.microsoft.typespec.http.client.generator.core.extension.model.";
+
+    private static final String YAML = String.join("\n", "info:", "  title: Test", "schemas:", "  objects:",
+        "  - type: object", "    language:", "      default:", "        name: Pet", "    usage:", "    - input",
+        "    - output", "    extensions:", "      x-ms-long-running-operation-options:",
+        "        final-state-via: location", "        other: 1", "    properties:", "    - serializedName: name",
+        "      schema: &ref_0", "        type: string", "        language:", "          default:",
+        "            name: name", "    - serializedName: tags", "      extensions:",
+        "        x-ms-client-flatten: true",
+        "        x-ms-examples:", "          Create:", "            count: 1", "            size: 2.5",
+        "            values:", "            - a", "      schema:", "        language:", "          default:",
+        "            name: tags", "        type: array", "        elementType: *ref_0", "  strings:", "  - *ref_0", "");
+
+    // "type" of the array schema is not the first field
+    private static final String JSON = "{\"info\":{\"title\":\"Test\"},\"schemas\":{\"objects\":[{\"type\":\"object\","
+        + "\"language\":{\"default\":{\"name\":\"Pet\"}},\"usage\":[\"input\",\"output\"],"
+        + "\"extensions\":{\"x-ms-long-running-operation-options\":{\"final-state-via\":\"location\",\"other\":1}},"
+        + "\"properties\":[{\"serializedName\":\"name\","
+        + "\"schema\":{\"$id\":\"1\",\"type\":\"string\",\"language\":{\"default\":{\"name\":\"name\"}}}},"
+        + "{\"serializedName\":\"tags\",\"extensions\":{\"x-ms-client-flatten\":true,"
+        + "\"x-ms-examples\":{\"Create\":{\"count\":1,\"size\":2.5,\"values\":[\"a\"]}}},"
+        + "\"schema\":{\"language\":{\"default\":{\"name\":\"tags\"}},\"type\":\"array\","
+        + "\"elementType\":{\"$ref\":\"1\"}}}"
+        + "]}],\"strings\":[{\"$ref\":\"1\"}]}}";
+
+    @Test
+    public void testReadYaml() {
+        assertCodeModel(createYaml().loadAs(YAML, CodeModel.class));
+    }
+
+    @Test
+    public void testReadJson() throws Exception {
+        try (JsonReader jsonReader = JsonProviders.createReader(JSON)) {
+            assertCodeModel(CodeModelJsonReader.read(jsonReader));
+        }
+    }
+
+    /**
+     * Reads the same code model from YAML, and from JSON serialized by "serializeCodeModelToJson" of the emitter, and
+     * compares the results, including which objects are shared.
+     */
+    @Test
+    public void testReadYamlAndJsonOfSameCodeModel() throws Exception {
+        CodeModel yamlCodeModel = createYaml().loadAs(readResource("codemodel/widget.yaml"), CodeModel.class);
+        CodeModel jsonCodeModel;
+        try (JsonReader jsonReader = JsonProviders.createReader(readResource("codemodel/widget.json"))) {
+            jsonCodeModel = CodeModelJsonReader.read(jsonReader);
+        }
+
+        Assertions.assertFalse(yamlCodeModel.getClients().get(0).getOperationGroups().isEmpty());
+        assertSameModel(yamlCodeModel, jsonCodeModel, "codeModel", new IdentityHashMap<>());
+    }
+
+    @Test
+    public void testUnresolvedReference() throws Exception {
+        try (JsonReader jsonReader
+            = JsonProviders.createReader("{\"schemas\":{\"strings\":[{\"$ref\":\"1\"}]}}")) {
+            Assertions.assertThrows(IllegalStateException.class, () -> CodeModelJsonReader.read(jsonReader));
+        }
+    }
+
+    private static void assertCodeModel(CodeModel codeModel) {
+        Assertions.assertEquals("Test", codeModel.getInfo().getTitle());
+
+        ObjectSchema pet = codeModel.getSchemas().getObjects().get(0);
+        Assertions.assertEquals("Pet", pet.getLanguage().getDefault().getName());
+        Assertions.assertEquals(Arrays.asList(SchemaContext.INPUT, SchemaContext.OUTPUT),
+            Arrays.asList(pet.getUsage().toArray()));
+        Assertions.assertEquals("location",
+            pet.getExtensions().getXmsLongRunningOperationOptions().getFinalStateVia());
+
+        Property name = pet.getProperties().get(0);
+        Assertions.assertInstanceOf(StringSchema.class, name.getSchema());
+        // the same instance for the reference
+        Assertions.assertSame(name.getSchema(), codeModel.getSchemas().getStrings().get(0));
+
+        Property tags = pet.getProperties().get(1);
+        Assertions.assertTrue(tags.getExtensions().isXmsClientFlatten());
+        ArraySchema tagsSchema = Assertions.assertInstanceOf(ArraySchema.class, tags.getSchema());
+        Assertions.assertSame(name.getSchema(), tagsSchema.getElementType());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> example
+            = (Map<String, Object>) tags.getExtensions().getXmsExamples().getExamples().get("Create");
+        Assertions.assertEquals(1, example.get("count"));
+        Assertions.assertEquals(2.5, example.get("size"));
+        Assertions.assertEquals(Arrays.asList("a"), example.get("values"));
+    }
+
+    private static Yaml createYaml() {
+        Representer representer = new Representer(new DumperOptions());
+        representer.setPropertyUtils(new AnnotatedPropertyUtils());
+        representer.getPropertyUtils().setSkipMissingProperties(true);
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setTagInspector(new TrustedTagInspector());
+        return new Yaml(new CodeModelCustomConstructor(loaderOptions), representer, new DumperOptions(),
+            loaderOptions);
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream inputStream = CodeModelJsonReaderTests.class.getClassLoader().getResourceAsStream(name)) {
+            Assertions.assertNotNull(inputStream, name);
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Compares the two models by the properties of the model classes. An object seen before in the first model must correspond to the same
+     * object in the second model.
+     */
+    private static void assertSameModel(Object expected, Object actual, String path, Map<Object, Object> visited)
+        throws ReflectiveOperationException {
+        if (expected == null || actual == null) {
+            Assertions.assertSame(expected, actual, path);
+            return;
+        }
+        Assertions.assertEquals(expected.getClass(), actual.getClass(), path);
+
+        if (expected instanceof String || expected instanceof Number || expected instanceof Boolean
+            || expected instanceof Enum) {
+            Assertions.assertEquals(expected, actual, path);
+            return;
+        }
+
+        if (visited.containsKey(expected)) {
+            Assertions.assertSame(visited.get(expected), actual, path);
+            return;
+        }
+        visited.put(expected, actual);
+
+        if (expected instanceof Map) {
+            Map<?, ?> expectedMap = (Map<?, ?>) expected;
+            Map<?, ?> actualMap = (Map<?, ?>) actual;
+            Assertions.assertEquals(expectedMap.keySet(), actualMap.keySet(), path);
+            for (Map.Entry<?, ?> entry : expectedMap.entrySet()) {
+                assertSameModel(entry.getValue(), actualMap.get(entry.getKey()), path + "." + entry.getKey(),
+                    visited);
+            }
+        } else if (expected instanceof Collection) {
+            List<?> expectedList = new ArrayList<>((Collection<?>) expected);
+            List<?> actualList = new ArrayList<>((Collection<?>) actual);
+            Assertions.assertEquals(expectedList.size(), actualList.size(), path);
+            for (int i = 0; i < expectedList.size(); ++i) {
+                assertSameModel(expectedList.get(i), actualList.get(i), path + "[" + i + "]", visited);
+            }
+        } else {
+            // codemodel and extensionmodel classes
+            Assertions.assertTrue(expected.getClass().getName().startsWith(MODEL_PACKAGE_PREFIX), path);
+            for (Method method : expected.getClass().getMethods()) {
+                if (isPropertyGetter(method)) {
+                    assertSameModel(method.invoke(expected), method.invoke(actual), path + "." + method.getName(),
+                        visited);
+                }
+            }
+        }
+    }
+
+    // getter with a setter, i.e. a property read from the code model
+    private static boolean isPropertyGetter(Method method) {
+        String name = method.getName();
+        String propertyName;
+        if (name.startsWith("get")) {
+            propertyName = name.substring(3);
+        } else if (name.startsWith("is")) {
+            propertyName = name.substring(2);
+        } else {
+            return false;
+        }
+        if (method.getParameterCount() != 0 || propertyName.isEmpty()) {
+            return false;
+        }
+        try {
+            method.getDeclaringClass().getMethod("set" + propertyName, method.getReturnType());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
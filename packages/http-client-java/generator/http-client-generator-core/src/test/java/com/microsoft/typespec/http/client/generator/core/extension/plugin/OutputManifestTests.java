@@ -0,0 +1,77 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.plugin;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.helpers.NOPLogger;
+
+public class OutputManifestTests {
+
+    @Test
+    public void testWriteIfChanged(@TempDir Path outputDir) throws Exception {
+        String fileName = "src/main/java/com/azure/mock/Mock.java";
+        Path file = outputDir.resolve(fileName);
+
+        OutputManifest manifest = OutputManifest.load(outputDir);
+        Assertions.assertTrue(manifest.writeFile(fileName, "class Mock {}"));
+        Assertions.assertTrue(manifest.writeFile("README.md", "readme"));
+        manifest.save(NOPLogger.NOP_LOGGER);
+        Assertions.assertTrue(Files.exists(outputDir.resolve(OutputManifest.MANIFEST_FILE_NAME)));
+
+        FileTime lastModified = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(file, lastModified);
+
+        // unchanged, compared by content as the last modified time differs from the manifest
+        manifest = OutputManifest.load(outputDir);
+        Assertions.assertFalse(manifest.writeFile(fileName, "class Mock {}"));
+        Assertions.assertEquals(lastModified, Files.getLastModifiedTime(file));
+        manifest.save(NOPLogger.NOP_LOGGER);
+        Assertions.assertTrue(Files.readString(outputDir.resolve(OutputManifest.MANIFEST_FILE_NAME))
+            .contains("\"deleted\":[\"README.md\"]"));
+
+        // unchanged, compared by hash in the manifest
+        manifest = OutputManifest.load(outputDir);
+        Assertions.assertFalse(manifest.writeFile(fileName, "class Mock {}"));
+
+        // changed
+        Assertions.assertTrue(manifest.writeFile(fileName, "class Mock { }"));
+        Assertions.assertEquals("class Mock { }", Files.readString(file));
+        manifest.save(NOPLogger.NOP_LOGGER);
+
+        String manifestContent = Files.readString(outputDir.resolve(OutputManifest.MANIFEST_FILE_NAME));
+        Assertions.assertTrue(manifestContent.contains("\"changed\":[\"" + fileName + "\"]"));
+        Assertions.assertTrue(manifestContent.contains("\"deleted\":[]"));
+    }
+
+    @Test
+    public void testReuseIfUpToDate(@TempDir Path outputDir) throws Exception {
+        String fileName = "src/main/java/com/azure/mock/Mock.java";
+
+        OutputManifest manifest = OutputManifest.load(outputDir);
+        Assertions.assertFalse(manifest.reuseIfUpToDate("input1"));
+        manifest.writeFile(fileName, "class Mock {}");
+        manifest.save(NOPLogger.NOP_LOGGER);
+
+        // same input, output unchanged
+        manifest = OutputManifest.load(outputDir);
+        Assertions.assertTrue(manifest.reuseIfUpToDate("input1"));
+        manifest.save(NOPLogger.NOP_LOGGER);
+        Assertions.assertTrue(Files.readString(outputDir.resolve(OutputManifest.MANIFEST_FILE_NAME))
+            .contains("\"" + fileName + "\""));
+
+        // different input
+        manifest = OutputManifest.load(outputDir);
+        Assertions.assertFalse(manifest.reuseIfUpToDate("input2"));
+
+        // same input, output modified after the last run
+        Files.setLastModifiedTime(outputDir.resolve(fileName), FileTime.fromMillis(1000));
+        manifest = OutputManifest.load(outputDir);
+        Assertions.assertFalse(manifest.reuseIfUpToDate("input1"));
+    }
+}
@@ -0,0 +1,77 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ClientModelInheritanceTests {
+
+    @AfterEach
+    public void clearModels() {
+        ClientModels.getInstance().clear();
+    }
+
+    @Test
+    public void testParentModelsAndProperties() {
+        ClientModelProperty kind = property("kind", true, false);
+        ClientModelProperty age = property("age", true, false);
+        ClientModelProperty id = property("id", true, true);
+        ClientModelProperty length = property("length", true, false);
+        ClientModelProperty color = property("color", false, false);
+
+        ClientModel fish = model("Fish", null, kind, age, id);
+        ClientModel shark = model("Shark", "Fish", length, color);
+        ClientModel sawshark = model("Sawshark", "Shark");
+        ClientModel loop = model("Loop", "Loop", color);
+
+        ClientModelInheritance inheritance = sawshark.getInheritance();
+        Assertions.assertEquals(Arrays.asList(shark, fish), inheritance.getParentModels());
+        Assertions.assertEquals(Arrays.asList(kind, age, id, length, color), inheritance.getParentProperties(true));
+        Assertions.assertEquals(Arrays.asList(color, length, id, age, kind), inheritance.getParentProperties(false));
+        Assertions.assertEquals(Arrays.asList(kind, age, length), inheritance.getRequiredWritableParentProperties());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+            () -> inheritance.getParentProperties(true).add(color));
+
+        // memoized
+        Assertions.assertSame(inheritance, sawshark.getInheritance());
+
+        Assertions.assertEquals(Collections.emptyList(), fish.getInheritance().getParentModels());
+        Assertions.assertEquals(Collections.emptyList(), loop.getInheritance().getParentModels());
+    }
+
+    @Test
+    public void testComputeInheritance() {
+        ClientModel salmon = model("Salmon", "Fish");
+
+        // parent model not mapped yet
+        Assertions.assertEquals(Collections.emptyList(), salmon.getInheritance().getParentModels());
+
+        ClientModel fish = model("Fish", null, property("kind", true, false));
+        salmon.computeInheritance();
+        Assertions.assertEquals(Collections.singletonList(fish), salmon.getInheritance().getParentModels());
+        Assertions.assertEquals(fish.getProperties(), salmon.getInheritance().getParentProperties(true));
+    }
+
+    private static ClientModel model(String name, String parentModelName, ClientModelProperty... properties) {
+        ClientModel model = new ClientModel.Builder().packageName("com.azure.mock.models")
+            .name(name)
+            .parentModelName(parentModelName)
+            .properties(Arrays.asList(properties))
+            .build();
+        ClientModels.getInstance().addModel(model);
+        return model;
+    }
+
+    private static ClientModelProperty property(String name, boolean required, boolean readOnly) {
+        return new ClientModelProperty.Builder().name(name)
+            .serializedName(name)
+            .required(required)
+            .readOnly(readOnly)
+            .build();
+    }
+}
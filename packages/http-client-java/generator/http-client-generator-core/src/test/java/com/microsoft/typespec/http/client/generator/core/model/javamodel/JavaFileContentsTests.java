@@ -0,0 +1,75 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JavaFileContentsTests {
+
+    @Test
+    public void testContents() {
+        JavaFileContents contents = new JavaFileContents();
+        contents.declarePackage("com.azure.mock");
+        contents.line();
+        contents.javadocComment(comment -> comment.description("Mock.\n\nMultiple lines."));
+        contents.classBlock(JavaVisibility.Public, Collections.singletonList(JavaModifier.Final), "Mock",
+            classBlock -> {
+                classBlock.lineComment("comment");
+                classBlock.method(JavaVisibility.Public, null, "void run(int i)", method -> {
+                    method.ifBlock("i > 0", ifBlock -> ifBlock.line("i = 0;"))
+                        .elseBlock(elseBlock -> elseBlock.line("i = 1;\n\ni = 2;"));
+                    method.text("return");
+                    method.text(";");
+                    method.line();
+                });
+            });
+
+        String expected = String.join("\n", "package com.azure.mock;", "", "/**", " * Mock.", " * ",
+            " * Multiple lines.", " */", "public final class Mock {", "    // comment", "    public void run(int i) {",
+            "        if (i > 0) {", "            i = 0;", "        } else {", "            i = 1;", "",
+            "            i = 2;", "        }", "        return;", "    }", "}");
+        Assertions.assertEquals(expected, contents.toString());
+    }
+
+    @Test
+    public void testIncompleteLine() {
+        JavaFileContents contents = new JavaFileContents();
+        Assertions.assertEquals("", contents.toString());
+
+        contents.text("a");
+        Assertions.assertEquals("a", contents.toString());
+        Assertions.assertFalse(contents.contains("a"));
+        Assertions.assertFalse(contents.contains(""));
+
+        contents.line("b");
+        contents.text("c");
+        Assertions.assertEquals("abc", contents.toString());
+        Assertions.assertTrue(contents.contains("ab"));
+        Assertions.assertTrue(contents.contains(""));
+        Assertions.assertFalse(contents.contains("c"));
+
+        contents.line();
+        contents.line("d");
+        Assertions.assertEquals("ab\nc\nd", contents.toString());
+    }
+
+    @Test
+    public void testContains() {
+        JavaFileContents contents = new JavaFileContents();
+        contents.line("private static final ClientLogger");
+        Assertions.assertFalse(contents.contains("LOGGER"));
+
+        contents.text("    LOGGER");
+        Assertions.assertFalse(contents.contains("LOGGER"));
+        Assertions.assertFalse(contents.contains("ClientLogger    LOGGER"));
+
+        contents.line(" = new ClientLogger(Mock.class);");
+        Assertions.assertTrue(contents.contains("LOGGER"));
+        Assertions.assertTrue(contents.contains("LOGGER"));
+        Assertions.assertFalse(contents.contains("ClientLogger\n    LOGGER"));
+        Assertions.assertFalse(contents.contains("ClientLogger    LOGGER"));
+    }
+}
@@ -14,6 +14,7 @@ import com.github.javaparser.ast.AccessSpecifier;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ConstructorDeclaration;
 import com.github.javaparser.ast.body.InitializerDeclaration;
+import com.github.javaparser.ast.nodeTypes.NodeWithSimpleName;
 import com.github.javaparser.ast.stmt.BlockStmt;
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -686,4 +687,70 @@ public class PartialUpdateHandlerTest {
         Assertions.assertTrue(lines.contains("// @formatter:off"));
         Assertions.assertTrue(lines.contains("// @formatter:on"));
     }
+
+    @Test
+    public void testNeedsMerge() throws Exception {
+        String generatedFileContent = Files.readString(Paths
+            .get(getClass().getClassLoader().getResource("partialupdate/StringOperationGeneratedClient.java").toURI()));
+        String existingFileContent = Files.readString(Paths.get(
+            getClass().getClassLoader().getResource("partialupdate/StringOperationWithAddedMemberClient.java").toURI()));
+
+        // no merge, the generated file content is returned
+        Assertions.assertSame(generatedFileContent,
+            PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent, generatedFileContent));
+        Assertions.assertNotSame(generatedFileContent,
+            PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent, existingFileContent));
+    }
+
+    @Test
+    public void testNeedsMergeValidatesGeneratedFile() {
+        String generatedFileContent = String.join("\n", "package com.azure.mock;", "", "public final class Mock {",
+            "    @Generated", "    public void run() {", "    }", "", "    @Generated", "    public void run() {",
+            "    }", "}", "");
+
+        // the generated file is validated, even if the existing file needs no merge
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent, generatedFileContent));
+        assertTrue(exception.getMessage().contains("Found duplicate methods in the generated file"));
+    }
+
+    @Test
+    public void testNeedsMergeForReorderedMembersAndImports() {
+        String generatedFileContent = String.join("\n", "package com.azure.mock;", "", "import java.util.List;", "",
+            "public final class Mock {", "    @Generated", "    private List<String> values;", "", "    @Generated",
+            "    public Mock() {", "    }", "", "    @Generated", "    public List<String> getValues() {",
+            "        return values;", "    }", "", "    @Generated", "    public String getName() {",
+            "        return null;", "    }", "}", "");
+
+        // same layout, a new member is appended
+        String existingFileContent = String.join("\n", "package com.azure.mock;", "", "import java.util.List;", "",
+            "public final class Mock {", "    @Generated", "    private List<String> values;", "", "    @Generated",
+            "    public Mock() {", "    }", "", "    @Generated", "    public List<String> getValues() {",
+            "        return values;", "    }", "}", "");
+        Assertions.assertSame(generatedFileContent,
+            PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent, existingFileContent));
+
+        // reordered members, merge keeps the existing order
+        String reorderedFileContent = String.join("\n", "package com.azure.mock;", "", "import java.util.List;", "",
+            "public final class Mock {", "    @Generated", "    public List<String> getValues() {",
+            "        return values;", "    }", "", "    @Generated", "    private List<String> values;", "",
+            "    @Generated", "    public Mock() {", "    }", "}", "");
+        Assertions.assertNotSame(generatedFileContent,
+            PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent, reorderedFileContent));
+        List<String> memberNames = parse(
+            PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent, reorderedFileContent)).getType(0)
+            .getMembers()
+            .stream()
+            .map(member -> member.isFieldDeclaration()
+                ? member.asFieldDeclaration().getVariable(0).getNameAsString()
+                : ((NodeWithSimpleName<?>) member).getNameAsString())
+            .collect(Collectors.toList());
+        assertEquals(Arrays.asList("getValues", "values", "Mock", "getName"), memberNames);
+
+        // import not in the newly generated file, merge keeps it
+        String extraImportFileContent = existingFileContent.replace("import java.util.List;",
+            "import java.util.List;\nimport java.util.Map;");
+        assertTrue(PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent, extraImportFileContent)
+            .contains("import java.util.Map;"));
+    }
 }
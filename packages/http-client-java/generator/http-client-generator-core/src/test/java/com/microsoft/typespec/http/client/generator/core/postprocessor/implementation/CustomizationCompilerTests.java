@@ -0,0 +1,69 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CustomizationCompilerTests {
+
+    private static final String CODE = String.join("\n",
+        "import com.microsoft.typespec.http.client.generator.core.customization.Customization;",
+        "import com.microsoft.typespec.http.client.generator.core.customization.LibraryCustomization;",
+        "import org.slf4j.Logger;", "", "public class MockCustomization extends Customization {", "    @Override",
+        "    public void customize(LibraryCustomization customization, Logger logger) {",
+        "        Runnable runnable = () -> { };", "    }", "}");
+
+    @Test
+    public void testCompileAndCache(@TempDir Path cacheDirectory) throws Exception {
+        Path classesDirectory = CustomizationCompiler.compile("MockCustomization", CODE, cacheDirectory);
+        Path classFile = classesDirectory.resolve("MockCustomization.class");
+        Assertions.assertTrue(Files.isRegularFile(classFile));
+
+        // compiled classes are reused
+        FileTime lastModified = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(classFile, lastModified);
+        Assertions.assertEquals(classesDirectory,
+            CustomizationCompiler.compile("MockCustomization", CODE, cacheDirectory));
+        Assertions.assertEquals(lastModified, Files.getLastModifiedTime(classFile));
+
+        // changed code is compiled again
+        Assertions.assertNotEquals(classesDirectory,
+            CustomizationCompiler.compile("MockCustomization", CODE + "\n", cacheDirectory));
+    }
+
+    @Test
+    public void testCacheEntryWritableByOthers(@TempDir Path cacheDirectory) throws Exception {
+        Assumptions.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+
+        Path classesDirectory = CustomizationCompiler.compile("MockCustomization", CODE, cacheDirectory);
+        Path classFile = classesDirectory.resolve("MockCustomization.class");
+        Files.setPosixFilePermissions(classFile, PosixFilePermissions.fromString("rw-rw-rw-"));
+
+        // entry is not used, the code is compiled to another directory
+        Path recompiledClassesDirectory = CustomizationCompiler.compile("MockCustomization", CODE, cacheDirectory);
+        Assertions.assertNotEquals(classesDirectory, recompiledClassesDirectory);
+        Assertions.assertTrue(Files.isRegularFile(recompiledClassesDirectory.resolve("MockCustomization.class")));
+    }
+
+    @Test
+    public void testCompileError(@TempDir Path cacheDirectory) throws Exception {
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+            () -> CustomizationCompiler.compile("MockCustomization", CODE.replace("Runnable", "Unknown"),
+                cacheDirectory));
+        Assertions.assertTrue(e.getMessage().contains("MockCustomization.java:8:"));
+        // nothing left in cache
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EclipseJavaFormatterTests {
+
+    // generated files, formatted by "mvn spotless:apply" with the Eclipse profile in "readme/pom.xml"
+    private static final List<String> SPOTLESS_FORMATTED_FILES = List.of("DatetimeProperty.java",
+        "DatetimeOperationsImpl.java", "DatetimeOperationAsyncClient.java", "Bird.java",
+        "DaysOfWeekExtensibleEnum.java", "SingleDiscriminatorClientBuilder.java");
+
+    @Test
+    public void testFormatMatchesSpotless() throws IOException {
+        for (String fileName : SPOTLESS_FORMATTED_FILES) {
+            String expected = readResource("formatter/" + fileName);
+
+            // already formatted code is unchanged
+            Assertions.assertEquals(expected, EclipseJavaFormatter.format(expected), fileName);
+            // code with indentation, line wrapping and imports undone is formatted to the same output
+            Assertions.assertEquals(expected, EclipseJavaFormatter.format(unformat(expected)), fileName);
+        }
+    }
+
+    @Test
+    public void testOrganizeImports() {
+        String content = String.join("\n", "package com.azure.mock;", "", "import java.util.Map;",
+            "import com.azure.core.util.Context;", "import java.util.List;",
+            "import static org.junit.jupiter.api.Assertions.assertEquals;", "import java.util.function.Function;",
+            "import java.io.IOException;", "import com.azure.core.util.BinaryData;", "import java.util.*;", "",
+            "/**", " * {@link Function} and {@link Map#get(Object)}.", " */", "public class Mock {",
+            "    // List, in comment", "    private final String value = \"Context\";",
+            "    void run(BinaryData data) throws IOException {", "        assertEquals(1, 1);", "    }", "}", "");
+
+        String expected = String.join("\n", "package com.azure.mock;", "",
+            "import static org.junit.jupiter.api.Assertions.assertEquals;", "", "import com.azure.core.util.BinaryData;",
+            "import java.io.IOException;", "import java.util.*;", "import java.util.Map;",
+            "import java.util.function.Function;", "",
+            "/**", " * {@link Function} and {@link Map#get(Object)}.", " */", "public class Mock {",
+            "    // List, in comment", "    private final String value = \"Context\";",
+            "    void run(BinaryData data) throws IOException {", "        assertEquals(1, 1);", "    }", "}", "");
+
+        Assertions.assertEquals(expected, EclipseJavaFormatter.organizeImports(content));
+    }
+
+    @Test
+    public void testOrganizeImportsWithComment() {
+        String content = String.join("\n", "package com.azure.mock;", "", "import java.util.Map;",
+            "// keep this comment", "import java.util.List;", "", "public class Mock {", "}", "");
+
+        Assertions.assertEquals(content, EclipseJavaFormatter.organizeImports(content));
+    }
+
+    /**
+     * Removes the indentation of code, joins the wrapped lines, and reverses the order of imports with an unused import
+     * added. Comments are kept as they are, as the formatter does not reflow Javadoc.
+     */
+    private static String unformat(String content) {
+        StringBuilder sb = new StringBuilder();
+        List<String> imports = new ArrayList<>();
+        int importsIndex = -1;
+        for (String line : content.split("\n", -1)) {
+            String trimmed = line.strip();
+            if (trimmed.startsWith("*") || trimmed.startsWith("/*") || trimmed.startsWith("//")) {
+                sb.append('\n').append(line);
+            } else if (trimmed.startsWith("import ")) {
+                imports.add(trimmed);
+                if (importsIndex < 0) {
+                    importsIndex = sb.length();
+                }
+            } else if (isWrappedLine(trimmed)) {
+                sb.append(' ').append(trimmed);
+            } else {
+                sb.append('\n').append(trimmed);
+            }
+        }
+        if (importsIndex >= 0) {
+            Collections.reverse(imports);
+            imports.add("import java.util.concurrent.ConcurrentHashMap;");
+            sb.insert(importsIndex, "\n" + String.join("\n", imports));
+        }
+        return sb.substring(1);
+    }
+
+    private static boolean isWrappedLine(String line) {
+        return line.startsWith(".") || line.startsWith("= ") || line.startsWith("+ ") || line.startsWith("&& ")
+            || line.startsWith("|| ") || line.startsWith("? ") || line.startsWith(": ");
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream inputStream = EclipseJavaFormatterTests.class.getClassLoader().getResourceAsStream(name)) {
+            Assertions.assertNotNull(inputStream, name);
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
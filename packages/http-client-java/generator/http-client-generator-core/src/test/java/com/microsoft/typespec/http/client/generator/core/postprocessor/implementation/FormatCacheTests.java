@@ -0,0 +1,73 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FormatCacheTests {
+
+    @Test
+    public void testGetAndPut(@TempDir Path cacheDirectory) {
+        FormatCache cache = FormatCache.create(JavaSettings.CodeFormatterMode.IN_PROCESS, cacheDirectory);
+
+        String content = "public class Mock { }";
+        String key = cache.key(content);
+        Assertions.assertNull(cache.get(key));
+
+        cache.put(key, "formatted");
+        Assertions.assertEquals("formatted", cache.get(key));
+
+        // key depends on formatter
+        FormatCache mavenCache = FormatCache.create(JavaSettings.CodeFormatterMode.MAVEN, cacheDirectory);
+        Assertions.assertNotEquals(key, mavenCache.key(content));
+    }
+
+    @Test
+    public void testEvict(@TempDir Path cacheDirectory) throws Exception {
+        FormatCache cache = FormatCache.create(JavaSettings.CodeFormatterMode.IN_PROCESS, cacheDirectory);
+
+        String expiredKey = cache.key("expired");
+        String oldKey = cache.key("old");
+        String recentKey = cache.key("recent");
+        cache.put(expiredKey, "0123456789");
+        cache.put(oldKey, "0123456789");
+        cache.put(recentKey, "0123456789");
+        long now = System.currentTimeMillis();
+        setLastUsedTime(cacheDirectory, expiredKey, now - Duration.ofDays(60).toMillis());
+        setLastUsedTime(cacheDirectory, oldKey, now - Duration.ofDays(2).toMillis());
+        setLastUsedTime(cacheDirectory, recentKey, now - Duration.ofDays(1).toMillis());
+
+        // within size, only the expired entry is evicted
+        cache.evict(100, Duration.ofDays(30));
+        Assertions.assertNull(cache.get(expiredKey));
+        Assertions.assertEquals(2, countEntries(cacheDirectory));
+
+        // "get" marks the entry as used, the least recently used entry is evicted
+        setLastUsedTime(cacheDirectory, oldKey, now - Duration.ofDays(2).toMillis());
+        setLastUsedTime(cacheDirectory, recentKey, now - Duration.ofDays(1).toMillis());
+        Assertions.assertNotNull(cache.get(oldKey));
+        cache.evict(15, Duration.ofDays(30));
+        Assertions.assertEquals("0123456789", cache.get(oldKey));
+        Assertions.assertNull(cache.get(recentKey));
+    }
+
+    private static void setLastUsedTime(Path cacheDirectory, String key, long time) throws Exception {
+        Files.setLastModifiedTime(cacheDirectory.resolve(key.substring(0, 2)).resolve(key.substring(2)),
+            FileTime.fromMillis(time));
+    }
+
+    private static long countEntries(Path cacheDirectory) throws Exception {
+        try (Stream<Path> paths = Files.walk(cacheDirectory, 2)) {
+            return paths.filter(path -> Files.isRegularFile(path) && !path.getParent().equals(cacheDirectory)).count();
+        }
+    }
+}
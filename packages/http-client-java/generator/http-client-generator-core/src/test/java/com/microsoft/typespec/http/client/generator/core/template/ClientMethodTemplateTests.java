@@ -0,0 +1,33 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.BeforeAllTestsExtension;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(BeforeAllTestsExtension.class)
+public class ClientMethodTemplateTests {
+
+    @Test
+    public void testSerializeItemValueExpression() {
+        String toString = "Objects.toString(paramItemValue, \"\")";
+        Assertions.assertEquals(toString, ClientMethodTemplate.serializeItemValueExpression(PrimitiveType.INT));
+        Assertions.assertEquals(toString, ClientMethodTemplate.serializeItemValueExpression(ClassType.UNIX_TIME_LONG));
+        Assertions.assertEquals(toString, ClientMethodTemplate.serializeItemValueExpression(ClassType.UUID));
+        Assertions.assertEquals(toString, ClientMethodTemplate.serializeItemValueExpression(ClassType.BASE_64_URL));
+
+        Assertions.assertEquals("paramItemValue == null ? \"\" : DateTimeFormatter.ISO_INSTANT.format(paramItemValue)",
+            ClientMethodTemplate.serializeItemValueExpression(ClassType.DATE_TIME));
+        Assertions.assertEquals("paramItemValue == null ? \"\" : CoreUtils.durationToStringWithDays(paramItemValue)",
+            ClientMethodTemplate.serializeItemValueExpression(ClassType.DURATION));
+
+        // items of unknown type still go through the serializer
+        Assertions.assertNull(ClientMethodTemplate.serializeItemValueExpression(ClassType.OBJECT));
+        Assertions.assertNull(ClientMethodTemplate.serializeItemValueExpression(ClassType.BINARY_DATA));
+    }
+}
@@ -0,0 +1,60 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.BeforeAllTestsExtension;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientEnumValue;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(BeforeAllTestsExtension.class)
+public class EnumTemplateTests {
+
+    @Test
+    public void testEnumFromStringSwitch() {
+        String code = write(enumType("DaysOfWeek", false, "Monday", "Tuesday"));
+        Assertions.assertTrue(code.contains("switch (value) {"));
+        Assertions.assertTrue(code.contains("case \"Monday\":"));
+        Assertions.assertTrue(code.contains("return MONDAY;"));
+        // values differing in case are still matched
+        Assertions.assertTrue(code.contains("item.toString().equalsIgnoreCase(value)"));
+
+        // the first of the values equal ignoring case is returned
+        String caseCode = write(enumType("Letter", false, "a", "A"));
+        Assertions.assertFalse(caseCode.contains("switch (value)"));
+    }
+
+    @Test
+    public void testExpandableStringEnumFromStringSwitch() {
+        String code = write(enumType("DaysOfWeekExtensibleEnum", true, "Monday", "Tuesday"));
+        Assertions.assertTrue(
+            code.contains("DaysOfWeekExtensibleEnum MONDAY = fromString(\"Monday\", DaysOfWeekExtensibleEnum.class);"));
+        Assertions.assertTrue(code.contains("switch (name) {"));
+        Assertions.assertTrue(code.contains("return TUESDAY;"));
+        Assertions.assertTrue(code.contains("return fromString(name, DaysOfWeekExtensibleEnum.class);"));
+    }
+
+    private static EnumType enumType(String name, boolean expandable, String... values) {
+        return new EnumType.Builder().packageName("com.azure.mock.models")
+            .name(name)
+            .expandable(expandable)
+            .elementType(ClassType.STRING)
+            .values(Arrays.stream(values)
+                .map(value -> new ClientEnumValue(value.toUpperCase(), value))
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    private static String write(EnumType enumType) {
+        JavaFile javaFile = new JavaFile(enumType.getName() + ".java");
+        EnumTemplate.getInstance().write(enumType, javaFile);
+        return javaFile.getContents().toString();
+    }
+}
@@ -0,0 +1,159 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.azure.core.http.HttpMethod;
+import com.microsoft.typespec.http.client.generator.core.BeforeAllTestsExtension;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Proxy;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFileContents;
+import com.microsoft.typespec.http.client.generator.core.template.clientcore.ClientCoreServiceImplTemplate;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(BeforeAllTestsExtension.class)
+public class ServiceImplTemplateTests {
+
+    @Test
+    public void testNotSupportedByDefault() {
+        Assertions.assertFalse(ServiceImplTemplate.getInstance().isSupported(createProxy()));
+        Assertions.assertFalse(ServiceImplTemplate.getInstance().isSupported(null));
+    }
+
+    @Test
+    public void testWrite() {
+        JavaFileContents contents = new JavaFileContents();
+        ServiceImplTemplate.getInstance().write(createProxy(), new JavaClass(contents));
+        String code = contents.toString();
+
+        Assertions.assertTrue(code.contains("private static final class PathsServiceImpl implements PathsService {"));
+        Assertions.assertTrue(code.contains(
+            "private static final HttpHeaderName HEADER_ACCEPT = HttpHeaderName.fromString(\"Accept\");"));
+
+        // URL, query, header and body
+        Assertions.assertTrue(code.contains("UrlBuilder url = ServiceImplUtils.createUrl(ServiceImplUtils"
+            + ".toPathValue(endpoint, true), \"/paths/\" + ServiceImplUtils.toPathValue(name, false) + \"/items\");"));
+        Assertions.assertTrue(code.contains("ServiceImplUtils.setQueryParameter(url, \"top\", top, false);"));
+        Assertions.assertTrue(code.contains("ServiceImplUtils.addQueryParameters(url, \"tag\", tags, true);"));
+        Assertions.assertTrue(code.contains("ServiceImplUtils.setHeader(request, HEADER_ACCEPT, accept);"));
+        Assertions.assertTrue(code.contains("ServiceImplUtils.setEmptyBody(request);"));
+        Assertions.assertTrue(code.contains("ServiceImplUtils.setBody(request, body, \"application/octet-stream\");"));
+
+        // async and sync calls
+        Assertions.assertTrue(code.contains("return ServiceImplUtils.sendAsync(pipeline, request, ServiceImplUtils"
+            + ".createContext(context, \"PathsService.get\", false, false), PathsServiceImpl::createException, 200)"));
+        Assertions.assertTrue(code.contains(".map(response -> ServiceImplUtils.toResponse(response, "
+            + "response.getBodyAsBinaryData()));"));
+        Assertions.assertTrue(code.contains("try (HttpResponse response = ServiceImplUtils.send(pipeline, request, "
+            + "ServiceImplUtils.createContext(context, \"PathsService.putSync\", false, true), "
+            + "PathsServiceImpl::createException2, 201, 204)) {"));
+        Assertions.assertTrue(code.contains("return ServiceImplUtils.toResponse(response, null);"));
+
+        // exceptions
+        Assertions.assertTrue(code.contains("private static HttpResponseException createException(HttpResponse "
+            + "response, byte[] body) {"));
+        Assertions.assertTrue(code.contains("return new HttpResponseException(message, response, "
+            + "ServiceImplUtils.readErrorValue(body));"));
+        Assertions.assertTrue(code.contains("case 404:"));
+        Assertions.assertTrue(code.contains("return new ResourceNotFoundException(message, response, "
+            + "ServiceImplUtils.readErrorValue(body));"));
+    }
+
+    @Test
+    public void testWriteClientCore() {
+        ProxyMethodParameter requestContext
+            = createParameter("requestContext", ClassType.REQUEST_CONTEXT, RequestParameterLocation.NONE);
+        JavaFileContents contents = new JavaFileContents();
+        ClientCoreServiceImplTemplate.getInstance()
+            .write(createProxy(GenericType.Response(ClassType.BINARY_DATA), requestContext), new JavaClass(contents));
+        String code = contents.toString();
+
+        Assertions.assertTrue(code.contains("UriBuilder url = ServiceImplUtils.createUrl("));
+        Assertions.assertTrue(
+            code.contains("HttpRequest request = new HttpRequest().setMethod(HttpMethod.GET).setUri(url.toString());"));
+
+        // the RequestContext is passed as is
+        Assertions.assertTrue(code.contains("Response<BinaryData> response = ServiceImplUtils.send(pipeline, request, "
+            + "requestContext, PathsServiceImpl::createException, 200);"));
+        Assertions.assertTrue(code.contains("return ServiceImplUtils.toResponse(response, response.getValue());"));
+        Assertions.assertTrue(code.contains("try (Response<BinaryData> response = ServiceImplUtils.send(pipeline, "
+            + "request, requestContext, PathsServiceImpl::createException2, 201, 204)) {"));
+
+        // clientcore throws HttpResponseException for every status code
+        Assertions.assertTrue(code.contains("private static HttpResponseException createException2("
+            + "Response<BinaryData> response, byte[] body) {"));
+        Assertions.assertFalse(code.contains("switch"));
+        Assertions.assertFalse(code.contains("ResourceNotFoundException"));
+    }
+
+    private static Proxy createProxy() {
+        return createProxy(GenericType.Mono(GenericType.Response(ClassType.BINARY_DATA)),
+            ProxyMethodParameter.CONTEXT_PARAMETER);
+    }
+
+    private static Proxy createProxy(IType getReturnType, ProxyMethodParameter context) {
+        ProxyMethodParameter endpoint = createParameter("endpoint", ClassType.STRING, RequestParameterLocation.URI);
+        ProxyMethodParameter name = createParameter("name", ClassType.STRING, RequestParameterLocation.PATH);
+        ProxyMethodParameter top = createParameter("top", PrimitiveType.INT, RequestParameterLocation.QUERY);
+        ProxyMethodParameter tags
+            = createParameter("tags", new ListType(ClassType.STRING), RequestParameterLocation.QUERY).newBuilder()
+                .requestParameterName("tag")
+                .alreadyEncoded(true)
+                .explode(true)
+                .build();
+        ProxyMethodParameter accept = createParameter("accept", ClassType.STRING, RequestParameterLocation.HEADER)
+            .newBuilder()
+            .requestParameterName("Accept")
+            .build();
+        ProxyMethodParameter body = createParameter("body", ClassType.BINARY_DATA, RequestParameterLocation.BODY);
+
+        ProxyMethod get = createMethod("get", HttpMethod.GET, getReturnType)
+            .parameters(Arrays.asList(endpoint, name, top, tags, accept, context))
+            .responseExpectedStatusCodes(Collections.singletonList(200))
+            .build();
+        ProxyMethod put = createMethod("putSync", HttpMethod.PUT, GenericType.Response(ClassType.VOID))
+            .parameters(Arrays.asList(endpoint, name, body, context))
+            .responseExpectedStatusCodes(Arrays.asList(201, 204))
+            .unexpectedResponseExceptionTypes(
+                Collections.singletonMap(ClassType.RESOURCE_NOT_FOUND_EXCEPTION, Collections.singletonList(404)))
+            .requestContentType("application/octet-stream")
+            .isSync(true)
+            .build();
+
+        return new Proxy.Builder().name("PathsService")
+            .clientTypeName("PathsClient")
+            .baseURL("{endpoint}")
+            .methods(Arrays.asList(get, put))
+            .build();
+    }
+
+    private static ProxyMethod.Builder createMethod(String name, HttpMethod httpMethod, IType returnType) {
+        return new ProxyMethod.Builder().name(name)
+            .httpMethod(httpMethod)
+            .returnType(returnType)
+            .urlPath("/paths/{name}/items")
+            .requestContentType("application/json");
+    }
+
+    private static ProxyMethodParameter createParameter(String name, IType type, RequestParameterLocation location) {
+        return new ProxyMethodParameter.Builder().name(name)
+            .wireType(type)
+            .clientType(type)
+            .rawType(type)
+            .requestParameterLocation(location)
+            .requestParameterName(name)
+            .build();
+    }
+}
@@ -0,0 +1,154 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.BeforeAllTestsExtension;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ImplementationDetails;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(BeforeAllTestsExtension.class)
+public class StreamSerializationModelTemplateTests {
+
+    private static final String PACKAGE_NAME = "com.azure.mock.models";
+
+    @AfterEach
+    public void clearModels() {
+        ClientModels.getInstance().clear();
+    }
+
+    @Test
+    public void testDiscriminatorFirstFromJson() {
+        ClientModel golden = model("Golden", "Dog", "golden", Collections.emptyList(),
+            Arrays.asList(kind("\"golden\""), weight()));
+        ClientModel dog = model("Dog", null, null, Collections.singletonList(golden),
+            Arrays.asList(kind(null), weight()));
+
+        // the subtype is read without buffering when the discriminator is the first property
+        String dogCode = write(dog);
+        Assertions.assertTrue(dogCode.contains("\"kind\".equals(reader.getFieldName())"));
+        Assertions.assertTrue(dogCode.contains("return Golden.fromJsonProperties(reader);"));
+        Assertions.assertTrue(dogCode.contains("reader.bufferObject()"));
+        Assertions.assertFalse(dogCode.contains("static Dog fromJsonProperties"));
+
+        String goldenCode = write(golden);
+        Assertions.assertTrue(goldenCode.contains("return jsonReader.readObject(Golden::fromJsonProperties);"));
+        Assertions
+            .assertTrue(goldenCode.contains("static Golden fromJsonProperties(JsonReader reader) throws IOException"));
+    }
+
+    @Test
+    public void testFieldSwitchFromJson() {
+        // the default threshold is 16 fields
+        String wideCode = write(wideModel("Wide", 16));
+        Assertions.assertTrue(wideCode.contains("switch (fieldName) {"));
+        Assertions.assertTrue(wideCode.contains("case \"property15\":"));
+        Assertions.assertTrue(wideCode.contains("default:"));
+        Assertions.assertFalse(wideCode.contains(".equals(fieldName)"));
+
+        String narrowCode = write(wideModel("Narrow", 15));
+        Assertions.assertFalse(narrowCode.contains("switch (fieldName)"));
+        Assertions.assertTrue(narrowCode.contains("} else if (\"property14\".equals(fieldName)) {"));
+    }
+
+    @Test
+    public void testJsonMergePatchBitset() {
+        String patchCode = write(jsonMergePatchModel("Patch", 3));
+        Assertions.assertTrue(patchCode.contains("private long updatedProperties;"));
+        Assertions.assertTrue(patchCode.contains("this.updatedProperties |= 1L << 2;"));
+        Assertions.assertTrue(patchCode.contains("if ((updatedProperties & (1L << 2)) != 0) {"));
+        Assertions.assertFalse(patchCode.contains("Set<String>"));
+
+        // more than 64 properties are tracked in an array of bitsets
+        String widePatchCode = write(jsonMergePatchModel("WidePatch", 70));
+        Assertions.assertTrue(widePatchCode.contains("private final long[] updatedProperties = new long[2];"));
+        Assertions.assertTrue(widePatchCode.contains("this.updatedProperties[0] |= 1L << 63;"));
+        Assertions.assertTrue(widePatchCode.contains("this.updatedProperties[1] |= 1L << 5;"));
+        Assertions.assertTrue(widePatchCode.contains("if ((updatedProperties[1] & (1L << 5)) != 0) {"));
+    }
+
+    private static ClientModel jsonMergePatchModel(String name, int propertyCount) {
+        return wideModel(name, propertyCount,
+            new ImplementationDetails.Builder()
+                .usages(new HashSet<>(
+                    Arrays.asList(ImplementationDetails.Usage.INPUT, ImplementationDetails.Usage.JSON_MERGE_PATCH)))
+                .build());
+    }
+
+    private static ClientModel wideModel(String name, int propertyCount) {
+        return wideModel(name, propertyCount, null);
+    }
+
+    private static ClientModel wideModel(String name, int propertyCount, ImplementationDetails implementationDetails) {
+        List<ClientModelProperty> properties = new ArrayList<>();
+        for (int i = 0; i < propertyCount; i++) {
+            properties.add(new ClientModelProperty.Builder().name("property" + i)
+                .serializedName("property" + i)
+                .wireType(ClassType.STRING)
+                .clientType(ClassType.STRING)
+                .build());
+        }
+        ClientModel model = new ClientModel.Builder().packageName(PACKAGE_NAME)
+            .name(name)
+            .properties(properties)
+            .implementationDetails(implementationDetails)
+            .build();
+        ClientModels.getInstance().addModel(model);
+        return model;
+    }
+
+    private static ClientModel model(String name, String parentModelName, String serializedName,
+        List<ClientModel> derivedModels, List<ClientModelProperty> properties) {
+        ClientModel model = new ClientModel.Builder().packageName(PACKAGE_NAME)
+            .name(name)
+            .parentModelName(parentModelName)
+            .serializedName(serializedName)
+            .polymorphic(true)
+            .polymorphicDiscriminatorName("kind")
+            .polymorphicDiscriminator(properties.get(0))
+            .derivedModels(derivedModels)
+            .properties(properties)
+            .build();
+        ClientModels.getInstance().addModel(model);
+        return model;
+    }
+
+    private static ClientModelProperty kind(String defaultValue) {
+        return new ClientModelProperty.Builder().name("kind")
+            .serializedName("kind")
+            .wireType(ClassType.STRING)
+            .clientType(ClassType.STRING)
+            .polymorphicDiscriminator(true)
+            .defaultValue(defaultValue)
+            .build();
+    }
+
+    private static ClientModelProperty weight() {
+        return new ClientModelProperty.Builder().name("weight")
+            .serializedName("weight")
+            .wireType(PrimitiveType.INT)
+            .clientType(PrimitiveType.INT)
+            .required(true)
+            .build();
+    }
+
+    private static String write(ClientModel model) {
+        JavaFile javaFile = new JavaFile(model.getName() + ".java");
+        StreamSerializationModelTemplate.getInstance().write(model, javaFile);
+        return javaFile.getContents().toString();
+    }
+}
@@ -10,7 +10,11 @@ import java.util.Arrays;
 import java.util.Objects;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 
+// the random generator is shared by the tests
+@Execution(ExecutionMode.SAME_THREAD)
 public class ModelTestCaseUtilTests {
 
     @Test
@@ -31,4 +35,15 @@ public class ModelTestCaseUtilTests {
         Assertions.assertTrue(jsonObject instanceof Integer);
         Assertions.assertTrue(Objects.equals(200, jsonObject) || Objects.equals(404, jsonObject));
     }
+
+    @Test
+    public void testClear() {
+        ModelTestCaseUtil.clear();
+        Object first = ModelTestCaseUtil.jsonFromType(0, ClassType.STRING);
+
+        // the random values are the same after clear
+        ModelTestCaseUtil.jsonFromType(0, ClassType.STRING);
+        ModelTestCaseUtil.clear();
+        Assertions.assertEquals(first, ModelTestCaseUtil.jsonFromType(0, ClassType.STRING));
+    }
 }
@@ -0,0 +1,87 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package type.enums.extensible.models;
+
+import com.azure.core.annotation.Generated;
+import com.azure.core.util.ExpandableStringEnum;
+import java.util.Collection;
+
+/**
+ * Days of the week.
+ */
+public final class DaysOfWeekExtensibleEnum extends ExpandableStringEnum<DaysOfWeekExtensibleEnum> {
+    /**
+     * Monday.
+     */
+    @Generated
+    public static final DaysOfWeekExtensibleEnum MONDAY = fromString("Monday");
+
+    /**
+     * Tuesday.
+     */
+    @Generated
+    public static final DaysOfWeekExtensibleEnum TUESDAY = fromString("Tuesday");
+
+    /**
+     * Wednesday.
+     */
+    @Generated
+    public static final DaysOfWeekExtensibleEnum WEDNESDAY = fromString("Wednesday");
+
+    /**
+     * Thursday.
+     */
+    @Generated
+    public static final DaysOfWeekExtensibleEnum THURSDAY = fromString("Thursday");
+
+    /**
+     * Friday.
+     */
+    @Generated
+    public static final DaysOfWeekExtensibleEnum FRIDAY = fromString("Friday");
+
+    /**
+     * Saturday.
+     */
+    @Generated
+    public static final DaysOfWeekExtensibleEnum SATURDAY = fromString("Saturday");
+
+    /**
+     * Sunday.
+     */
+    @Generated
+    public static final DaysOfWeekExtensibleEnum SUNDAY = fromString("Sunday");
+
+    /**
+     * Creates a new instance of DaysOfWeekExtensibleEnum value.
+     * 
+     * @deprecated Use the {@link #fromString(String)} factory method.
+     */
+    @Generated
+    @Deprecated
+    public DaysOfWeekExtensibleEnum() {
+    }
+
+    /**
+     * Creates or finds a DaysOfWeekExtensibleEnum from its string representation.
+     * 
+     * @param name a name to look for.
+     * @return the corresponding DaysOfWeekExtensibleEnum.
+     */
+    @Generated
+    public static DaysOfWeekExtensibleEnum fromString(String name) {
+        return fromString(name, DaysOfWeekExtensibleEnum.class);
+    }
+
+    /**
+     * Gets known DaysOfWeekExtensibleEnum values.
+     * 
+     * @return known DaysOfWeekExtensibleEnum values.
+     */
+    @Generated
+    public static Collection<DaysOfWeekExtensibleEnum> values() {
+        return values(DaysOfWeekExtensibleEnum.class);
+    }
+}
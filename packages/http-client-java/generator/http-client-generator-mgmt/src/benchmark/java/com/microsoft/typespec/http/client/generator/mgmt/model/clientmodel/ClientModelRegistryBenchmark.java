@@ -0,0 +1,128 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel;
+
+import com.azure.core.util.CoreUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModels;
+import com.microsoft.typespec.http.client.generator.mgmt.FluentGenAccessor;
+import com.microsoft.typespec.http.client.generator.mgmt.TestUtils;
+import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ErrorClientModel;
+import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ResourceClientModel;
+import com.microsoft.typespec.http.client.generator.mgmt.model.javamodel.FluentJavaPackage;
+import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of {@link ClientModelRegistry}, on the code model of an ARM spec.
+ * <p>
+ * "generate" maps and renders the code model. "lookupWithRegistry" and "lookupWithScan" resolve every client model
+ * and its parent models, as the templates do, with the registry and with the previous linear scan of the models of
+ * the client.
+ * <p>
+ * The code model is kept by the "generate-code-model" dev option, which is on in http-client-generator-test, e.g.
+ * "npx tsp compile tsp/arm.tsp" writes "tsp-output/code-model.yaml".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientModelRegistryBenchmark {
+
+    @Param({ "../http-client-generator-test/tsp-output/code-model.yaml" })
+    public String codeModelFile;
+
+    private FluentGenAccessor fluentGenAccessor;
+    private CodeModel codeModel;
+    private Client client;
+
+    @Setup
+    public void setup() throws IOException {
+        fluentGenAccessor = new FluentGenAccessor(new TestUtils.MockFluentGen());
+        codeModel = fluentGenAccessor
+            .handleYaml(new String(Files.readAllBytes(Paths.get(codeModelFile)), StandardCharsets.UTF_8));
+
+        client = fluentGenAccessor.handleMap(codeModel);
+        FluentStatic.setClient(client);
+    }
+
+    @Benchmark
+    public void generate(Blackhole blackhole) {
+        ClientModels.getInstance().clear();
+        UnionModels.getInstance().clear();
+        Mappers.clear();
+        FluentStatic.setClient(null);
+
+        Client client = fluentGenAccessor.handleMap(codeModel);
+        FluentJavaPackage javaPackage = fluentGenAccessor.handleTemplate(client);
+        fluentGenAccessor.handleFluentLite(codeModel, client, javaPackage);
+        blackhole.consume(javaPackage.getJavaFiles().size());
+
+        // restore the client of the lookup benchmarks
+        FluentStatic.setClient(this.client);
+    }
+
+    @Benchmark
+    public void lookupWithRegistry(Blackhole blackhole) {
+        for (ClientModel model : client.getModels()) {
+            blackhole.consume(FluentUtils.getClientModel(model.getName()));
+            blackhole.consume(FluentUtils.getParentModels(model));
+        }
+    }
+
+    @Benchmark
+    public void lookupWithScan(Blackhole blackhole) {
+        for (ClientModel model : client.getModels()) {
+            blackhole.consume(getClientModelWithScan(model.getName()));
+
+            String parentModelName = model.getParentModelName();
+            while (!CoreUtils.isNullOrEmpty(parentModelName)) {
+                ClientModel parentModel = getClientModelWithScan(parentModelName);
+                blackhole.consume(parentModel);
+                parentModelName = parentModel == null ? null : parentModel.getParentModelName();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ClientModelRegistryBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private ClientModel getClientModelWithScan(String name) {
+        // the lookup before ClientModelRegistry
+        for (ClientModel model : client.getModels()) {
+            if (name.equals(model.getName())) {
+                return model;
+            }
+        }
+        return ResourceClientModel.getResourceClientModel(name)
+            .or(() -> ErrorClientModel.getErrorClientModel(name))
+            .orElse(null);
+    }
+}
@@ -394,9 +394,7 @@ public class FluentGen extends Javagen {
     }
 
     void clear() {
-        FluentStatic.setClient(null);
-        FluentStatic.setFluentClient(null);
-        FluentStatic.setFluentJavaSettings(null);
+        FluentStatic.clear();
 
         JavaSettings.clear();
         ClientModels.getInstance().clear();
@@ -47,6 +47,13 @@ public class FluentNamer extends Preprocessor {
         return instance;
     }
 
+    /**
+     * Clears the plugin instance, which is set on construction.
+     */
+    public static void clearPluginInstance() {
+        instance = null;
+    }
+
     public CodeModel processCodeModel() {
         this.clear();
 
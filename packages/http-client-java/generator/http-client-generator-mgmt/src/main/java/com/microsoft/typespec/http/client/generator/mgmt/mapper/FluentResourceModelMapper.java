@@ -3,7 +3,6 @@
 
 package com.microsoft.typespec.http.client.generator.mgmt.mapper;
 
-import com.azure.core.util.CoreUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
 import com.microsoft.typespec.http.client.generator.core.mapper.IMapper;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
@@ -27,16 +26,7 @@ public class FluentResourceModelMapper implements IMapper<ObjectSchema, FluentRe
 
         ClientModel clientModel = Mappers.getModelMapper().map(objectSchema);
         if (clientModel != null && FluentUtils.isInnerClassType(clientModel.getPackage(), clientModel.getName())) {
-            List<ClientModel> parentModels = new ArrayList<>();
-            String parentModelName = clientModel.getParentModelName();
-            while (!CoreUtils.isNullOrEmpty(parentModelName)) {
-                ClientModel parentModel = FluentUtils.getClientModel(parentModelName);
-                if (parentModel != null) {
-                    parentModels.add(parentModel);
-                }
-                parentModelName = parentModel == null ? null : parentModel.getParentModelName();
-            }
-
+            List<ClientModel> parentModels = new ArrayList<>(FluentUtils.getParentModels(clientModel));
             fluentResourceModel = new FluentResourceModel(clientModel, parentModels);
         }
 
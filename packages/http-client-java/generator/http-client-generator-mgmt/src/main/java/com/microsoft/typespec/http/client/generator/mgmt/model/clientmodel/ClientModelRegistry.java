@@ -0,0 +1,107 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel;
+
+import com.azure.core.util.CoreUtils;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ErrorClientModel;
+import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ResourceClientModel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the client models of the client, by name.
+ * <p>
+ * The parent models of each client model are resolved when the index is built. The index is read-only afterward, and
+ * safe to be used by concurrent templates.
+ */
+public final class ClientModelRegistry {
+
+    private final Map<String, ClientModel> modelsByName;
+    private final Map<String, List<ClientModel>> parentModelsByName;
+
+    /**
+     * Creates an index of the client models.
+     *
+     * @param models the client models. When models share a name, the first one takes precedence.
+     */
+    public ClientModelRegistry(Collection<ClientModel> models) {
+        this.modelsByName = new HashMap<>(models.size() * 2);
+        for (ClientModel model : models) {
+            modelsByName.putIfAbsent(model.getName(), model);
+        }
+
+        this.parentModelsByName = new HashMap<>(modelsByName.size() * 2);
+        for (ClientModel model : modelsByName.values()) {
+            parentModelsByName.put(model.getName(), resolveParentModels(model));
+        }
+    }
+
+    /**
+     * Gets the client model by name. Models from azure-core-management, e.g. Resource, ManagementError, are included.
+     *
+     * @param name the name of the client model, without package.
+     * @return the client model, or {@code null} if not found.
+     */
+    public ClientModel getModel(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        ClientModel model = modelsByName.get(name);
+        if (model == null) {
+            model = getExternalModel(name);
+        }
+        return model;
+    }
+
+    /**
+     * Gets the parent models of the client model, from the direct parent to the root.
+     * <p>
+     * The chain stops at the first parent model that is not found.
+     *
+     * @param model the client model.
+     * @return the parent models.
+     */
+    public List<ClientModel> getParentModels(ClientModel model) {
+        List<ClientModel> parentModels = parentModelsByName.get(model.getName());
+        if (parentModels == null || modelsByName.get(model.getName()) != model) {
+            // model not in the client, e.g. Resource
+            parentModels = resolveParentModels(model);
+        }
+        return parentModels;
+    }
+
+    private List<ClientModel> resolveParentModels(ClientModel model) {
+        if (CoreUtils.isNullOrEmpty(model.getParentModelName())) {
+            return Collections.emptyList();
+        }
+
+        List<ClientModel> parentModels = new ArrayList<>();
+        Set<String> visitedNames = new HashSet<>();
+        visitedNames.add(model.getName());
+        String parentModelName = model.getParentModelName();
+        while (!CoreUtils.isNullOrEmpty(parentModelName) && visitedNames.add(parentModelName)) {
+            ClientModel parentModel = getModel(parentModelName);
+            if (parentModel == null) {
+                break;
+            }
+            parentModels.add(parentModel);
+            parentModelName = parentModel.getParentModelName();
+        }
+        return Collections.unmodifiableList(parentModels);
+    }
+
+    private static ClientModel getExternalModel(String name) {
+        return ResourceClientModel.getResourceClientModel(name)
+            .or(() -> ErrorClientModel.getErrorClientModel(name))
+            .orElse(null);
+    }
+}
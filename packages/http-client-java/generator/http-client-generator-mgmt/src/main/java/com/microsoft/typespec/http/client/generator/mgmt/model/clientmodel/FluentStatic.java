@@ -15,6 +15,8 @@ public class FluentStatic {
 
     private static Client client;
 
+    private static ClientModelRegistry clientModelRegistry;
+
     private static FluentClient fluentClient;
 
     private static FluentJavaSettings fluentJavaSettings;
@@ -31,6 +33,14 @@ public class FluentStatic {
 
     public static void setClient(Client client) {
         FluentStatic.client = client;
+        FluentStatic.clientModelRegistry = client == null ? null : new ClientModelRegistry(client.getModels());
+    }
+
+    /**
+     * @return the index of the client models on the client, {@code null} if client is not set.
+     */
+    public static ClientModelRegistry getClientModelRegistry() {
+        return clientModelRegistry;
     }
 
     /**
@@ -54,4 +64,14 @@ public class FluentStatic {
     public static void setFluentJavaSettings(FluentJavaSettings fluentJavaSettings) {
         FluentStatic.fluentJavaSettings = fluentJavaSettings;
     }
+
+    /**
+     * Clears the global variables.
+     */
+    public static void clear() {
+        client = null;
+        clientModelRegistry = null;
+        fluentClient = null;
+        fluentJavaSettings = null;
+    }
 }
@@ -3,7 +3,6 @@
 
 package com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.fluentmodel;
 
-import com.azure.core.util.CoreUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
@@ -231,15 +230,7 @@ public abstract class ResourceOperation {
             requestBodyModelPropertiesMap = new LinkedHashMap<>();
             requestBodyModelProperties = new ArrayList<>();
 
-            List<ClientModel> parentModels = new ArrayList<>();
-            String parentModelName = requestBodyParameterModel.getParentModelName();
-            while (!CoreUtils.isNullOrEmpty(parentModelName)) {
-                ClientModel parentModel = FluentUtils.getClientModel(parentModelName);
-                if (parentModel != null) {
-                    parentModels.add(parentModel);
-                }
-                parentModelName = parentModel == null ? null : parentModel.getParentModelName();
-            }
+            List<ClientModel> parentModels = FluentUtils.getParentModels(requestBodyParameterModel);
 
             List<List<ModelProperty>> propertiesFromTypeAndParents = new ArrayList<>();
             propertiesFromTypeAndParents.add(new ArrayList<>());
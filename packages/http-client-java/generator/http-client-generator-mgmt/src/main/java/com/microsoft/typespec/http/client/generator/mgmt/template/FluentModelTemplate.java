@@ -24,7 +24,7 @@ public class FluentModelTemplate extends ModelTemplate {
 
     private static final FluentModelTemplate INSTANCE = new FluentModelTemplate();
 
-    private static ModelNamer modelNamer;
+    private static final ModelNamer MODEL_NAMER = new ModelNamer();
 
     protected FluentModelTemplate() {
     }
@@ -73,11 +73,7 @@ public class FluentModelTemplate extends ModelTemplate {
     protected String getGetterName(ClientModel model, ClientModelProperty property) {
         if (FluentType.MANAGEMENT_ERROR.getName().equals(model.getParentModelName())) {
             // subclass of ManagementError
-
-            if (modelNamer == null) {
-                modelNamer = new ModelNamer();
-            }
-            return modelNamer.modelPropertyGetterName(property);
+            return MODEL_NAMER.modelPropertyGetterName(property);
 
             // disabled for now, as e.g.
             // https://github.com/Azure/azure-rest-api-specs/blob/8fa9b5051129dd4808c9be1f5b753af226b044db/specification/iothub/resource-manager/Microsoft.Devices/stable/2023-06-30/iothub.json#L298-L303
@@ -104,30 +100,22 @@ public class FluentModelTemplate extends ModelTemplate {
     protected List<ClientModelPropertyReference> getClientModelPropertyReferences(ClientModel model) {
         List<ClientModelPropertyReference> propertyReferences = new ArrayList<>();
 
-        String lastParentName = model.getName();
-        String parentModelName = model.getParentModelName();
-        while (parentModelName != null && !lastParentName.equals(parentModelName)) {
-            ClientModel parentModel = FluentUtils.getClientModel(parentModelName);
-            if (parentModel != null) {
-                if (parentModel.getProperties() != null) {
-                    propertyReferences.addAll(parentModel.getProperties()
-                        .stream()
-                        .filter(p -> !p.getClientFlatten() && !p.isAdditionalProperties())
-                        .map(ClientModelPropertyReference::ofParentProperty)
-                        .collect(Collectors.toList()));
-                }
-
-                if (parentModel.getPropertyReferences() != null) {
-                    propertyReferences.addAll(parentModel.getPropertyReferences()
-                        .stream()
-                        .filter(ClientModelPropertyReference::isFromFlattenedProperty)
-                        .map(ClientModelPropertyReference::ofParentProperty)
-                        .collect(Collectors.toList()));
-                }
+        for (ClientModel parentModel : FluentUtils.getParentModels(model)) {
+            if (parentModel.getProperties() != null) {
+                propertyReferences.addAll(parentModel.getProperties()
+                    .stream()
+                    .filter(p -> !p.getClientFlatten() && !p.isAdditionalProperties())
+                    .map(ClientModelPropertyReference::ofParentProperty)
+                    .collect(Collectors.toList()));
             }
 
-            lastParentName = parentModelName;
-            parentModelName = parentModel == null ? null : parentModel.getParentModelName();
+            if (parentModel.getPropertyReferences() != null) {
+                propertyReferences.addAll(parentModel.getPropertyReferences()
+                    .stream()
+                    .filter(ClientModelPropertyReference::isFromFlattenedProperty)
+                    .map(ClientModelPropertyReference::ofParentProperty)
+                    .collect(Collectors.toList()));
+            }
         }
 
         return propertyReferences;
@@ -3,7 +3,6 @@
 
 package com.microsoft.typespec.http.client.generator.mgmt.template;
 
-import com.azure.core.util.CoreUtils;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelPropertyReference;
@@ -33,20 +32,7 @@ public class FluentStreamStyleSerializationModelTemplate extends StreamSerializa
 
     @Override
     protected boolean isManagementErrorSubclass(ClientModel model) {
-        if (CoreUtils.isNullOrEmpty(model.getParentModelName())) {
-            return false;
-        }
-        boolean manageErrorParent = false;
-        String parentModelName = model.getParentModelName();
-        while (parentModelName != null) {
-            ClientModel parentModel = FluentUtils.getClientModel(parentModelName);
-            if (parentModel == ErrorClientModel.MANAGEMENT_ERROR) {
-                manageErrorParent = true;
-                break;
-            }
-            parentModelName = parentModel.getParentModelName();
-        }
-        return manageErrorParent;
+        return FluentUtils.getParentModels(model).contains(ErrorClientModel.MANAGEMENT_ERROR);
     }
 
     @Override
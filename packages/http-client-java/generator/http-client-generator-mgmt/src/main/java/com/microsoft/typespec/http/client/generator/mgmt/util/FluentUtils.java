@@ -31,12 +31,14 @@ import com.microsoft.typespec.http.client.generator.mgmt.FluentGen;
 import com.microsoft.typespec.http.client.generator.mgmt.model.ResourceTypeName;
 import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ErrorClientModel;
 import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ResourceClientModel;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.ClientModelRegistry;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentCollectionMethod;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentResourceModel;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentStatic;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.ModelNaming;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.fluentmodel.LocalVariable;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.fluentmodel.ResourceLocalVariables;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -212,17 +214,12 @@ public class FluentUtils {
             return null;
         }
 
-        ClientModel clientModel = null;
-        if (FluentStatic.getClient() == null) {
-            clientModel = ClientModels.getInstance().getModel(name);
-        } else {
-            for (ClientModel model : FluentStatic.getClient().getModels()) {
-                if (name.equals(model.getName())) {
-                    clientModel = model;
-                    break;
-                }
-            }
+        ClientModelRegistry clientModelRegistry = FluentStatic.getClientModelRegistry();
+        if (clientModelRegistry != null) {
+            return clientModelRegistry.getModel(name);
         }
+
+        ClientModel clientModel = ClientModels.getInstance().getModel(name);
         if (clientModel == null) {
             clientModel = ResourceClientModel.getResourceClientModel(name)
                 .or(() -> ErrorClientModel.getErrorClientModel(name))
@@ -231,6 +228,33 @@ public class FluentUtils {
         return clientModel;
     }
 
+    /**
+     * Gets the parent models of the client model, from the direct parent to the root.
+     *
+     * @param model the client model.
+     * @return the parent models.
+     */
+    public static List<ClientModel> getParentModels(ClientModel model) {
+        ClientModelRegistry clientModelRegistry = FluentStatic.getClientModelRegistry();
+        if (clientModelRegistry != null) {
+            return clientModelRegistry.getParentModels(model);
+        }
+
+        List<ClientModel> parentModels = new ArrayList<>();
+        String lastParentName = model.getName();
+        String parentModelName = model.getParentModelName();
+        while (!CoreUtils.isNullOrEmpty(parentModelName) && !lastParentName.equals(parentModelName)) {
+            ClientModel parentModel = getClientModel(parentModelName);
+            if (parentModel == null) {
+                break;
+            }
+            parentModels.add(parentModel);
+            lastParentName = parentModelName;
+            parentModelName = parentModel.getParentModelName();
+        }
+        return parentModels;
+    }
+
     public static String loadTextFromResource(String filename, String... replacements) {
         return TemplateUtil.loadTextFromResource(filename, replacements);
     }
@@ -0,0 +1,69 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel;
+
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.mgmt.TestUtils;
+import com.microsoft.typespec.http.client.generator.mgmt.model.ResourceTypeName;
+import com.microsoft.typespec.http.client.generator.mgmt.model.arm.ResourceClientModel;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class ClientModelRegistryTests {
+
+    private static final String PACKAGE_NAME = "com.azure.resourcemanager.mock.models";
+
+    private static final ClientModel RESOURCE
+        = ResourceClientModel.getResourceClientModel(ResourceTypeName.RESOURCE).get();
+    private static final ClientModel PROXY_RESOURCE
+        = ResourceClientModel.getResourceClientModel(ResourceTypeName.PROXY_RESOURCE).get();
+
+    @BeforeAll
+    public static void ensurePlugin() {
+        new TestUtils.MockFluentGen();
+    }
+
+    @Test
+    public void testGetModel() {
+        ClientModel fish = model("Fish", null);
+        ClientModel salmon = model("Salmon", "Fish");
+        ClientModelRegistry registry = new ClientModelRegistry(Arrays.asList(fish, salmon, model("Fish", null)));
+
+        Assertions.assertSame(fish, registry.getModel("Fish"));
+        Assertions.assertSame(salmon, registry.getModel("Salmon"));
+        Assertions.assertNull(registry.getModel("Shark"));
+        Assertions.assertNull(registry.getModel(null));
+
+        // model from azure-core-management
+        Assertions.assertSame(RESOURCE, registry.getModel(ResourceTypeName.RESOURCE));
+    }
+
+    @Test
+    public void testGetParentModels() {
+        ClientModel fish = model("Fish", ResourceTypeName.RESOURCE);
+        ClientModel salmon = model("Salmon", "Fish");
+        ClientModel orphan = model("Orphan", "Unknown");
+        ClientModel loop = model("Loop", "Loop");
+        ClientModelRegistry registry = new ClientModelRegistry(Arrays.asList(fish, salmon, orphan, loop));
+
+        Assertions.assertEquals(Arrays.asList(fish, RESOURCE, PROXY_RESOURCE), registry.getParentModels(salmon));
+        Assertions.assertEquals(Arrays.asList(RESOURCE, PROXY_RESOURCE), registry.getParentModels(fish));
+        Assertions.assertEquals(Collections.emptyList(), registry.getParentModels(orphan));
+        Assertions.assertEquals(Collections.emptyList(), registry.getParentModels(loop));
+
+        // model not in the client
+        Assertions.assertEquals(Collections.singletonList(PROXY_RESOURCE), registry.getParentModels(RESOURCE));
+    }
+
+    private static ClientModel model(String name, String parentModelName) {
+        return new ClientModel.Builder().packageName(PACKAGE_NAME)
+            .name(name)
+            .parentModelName(parentModelName)
+            .properties(Collections.emptyList())
+            .build();
+    }
+}
@@ -0,0 +1,99 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package tsptest;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tsptest.builtin.models.Builtin;
+import tsptest.optional.models.AllPropertiesOptional;
+
+/**
+ * Benchmark of the generated "fromJson" of the models of the test module with the most properties, which dispatch on
+ * the field name with a switch.
+ * <p>
+ * "reversed" writes the JSON fields in the reverse order of the properties, the worst case of an if-else chain
+ * comparing the field name with each property. Regenerate the models with "json-field-switch-threshold: 0" to
+ * compare with the if-else chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WideModelDeserializationBenchmark {
+    private static final List<String> BUILTIN_FIELDS = Arrays.asList("\"boolean\":true", "\"string\":\"value\"",
+        "\"bytes\":\"AQID\"", "\"int\":1", "\"safeint\":2", "\"decimal\":1.5", "\"long\":3", "\"float\":1.5",
+        "\"double\":2.5", "\"duration\":\"PT1H\"", "\"date\":\"2024-01-01\"", "\"dateTime\":\"2024-01-01T00:00:00Z\"",
+        "\"stringList\":[\"a\",\"b\"]", "\"bytesDict\":{\"k\":\"AQID\"}", "\"url\":\"https://example.com\"",
+        "\"nullableFloatDict\":{\"k\":1.5,\"n\":null}", "\"encoded\":{}");
+
+    private static final List<String> ALL_PROPERTIES_OPTIONAL_FIELDS = Arrays.asList("\"boolean\":true",
+        "\"booleanNullable\":true", "\"booleanRequired\":true", "\"booleanRequiredNullable\":true",
+        "\"string\":\"value\"", "\"stringNullable\":\"value\"", "\"stringRequired\":\"value\"",
+        "\"stringRequiredNullable\":\"value\"", "\"bytes\":\"AQID\"", "\"int\":1", "\"long\":2", "\"float\":1.5",
+        "\"double\":2.5", "\"duration\":\"PT1H\"", "\"dateTime\":\"2024-01-01T00:00:00Z\"",
+        "\"stringList\":[\"a\",\"b\"]", "\"bytesDict\":{\"k\":\"AQID\"}",
+        "\"epochDateTimeRequiredNullable\":1704067200", "\"epochDateTimeNullable\":1704067200",
+        "\"immutable\":{\"stringReadWriteRequired\":\"value\"}");
+
+    @Param({ "false", "true" })
+    public boolean reversed;
+
+    private String builtinJson;
+    private String allPropertiesOptionalJson;
+
+    @Setup
+    public void setup() {
+        builtinJson = toJson(BUILTIN_FIELDS);
+        allPropertiesOptionalJson = toJson(ALL_PROPERTIES_OPTIONAL_FIELDS);
+    }
+
+    @Benchmark
+    public Builtin readBuiltin() throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(builtinJson)) {
+            return Builtin.fromJson(jsonReader);
+        }
+    }
+
+    @Benchmark
+    public AllPropertiesOptional readAllPropertiesOptional() throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(allPropertiesOptionalJson)) {
+            return AllPropertiesOptional.fromJson(jsonReader);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WideModelDeserializationBenchmark.class.getSimpleName()).build())
+            .run();
+    }
+
+    private String toJson(List<String> fields) {
+        List<String> orderedFields = new ArrayList<>(fields);
+        if (reversed) {
+            Collections.reverse(orderedFields);
+        }
+        return "{" + String.join(",", orderedFields) + "}";
+    }
+}
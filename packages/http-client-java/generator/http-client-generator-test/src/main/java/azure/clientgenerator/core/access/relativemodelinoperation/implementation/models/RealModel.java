@@ -66,25 +66,28 @@ public final class RealModel extends AbstractModel {
      */
     @Generated
     public static RealModel fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            String name = null;
-            String kind = "real";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(RealModel::fromJsonProperties);
+    }
+
+    @Generated
+    static RealModel fromJsonProperties(JsonReader reader) throws IOException {
+        String name = null;
+        String kind = "real";
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("name".equals(fieldName)) {
-                    name = reader.getString();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("name".equals(fieldName)) {
+                name = reader.getString();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            RealModel deserializedRealModel = new RealModel(name);
-            deserializedRealModel.kind = kind;
+        }
+        RealModel deserializedRealModel = new RealModel(name);
+        deserializedRealModel.kind = kind;
 
-            return deserializedRealModel;
-        });
+        return deserializedRealModel;
     }
 }
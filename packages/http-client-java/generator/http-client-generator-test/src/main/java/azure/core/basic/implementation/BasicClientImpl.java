@@ -42,9 +42,12 @@ import com.azure.core.util.FluxUtil;
 import com.azure.core.util.UrlBuilder;
 import com.azure.core.util.serializer.JacksonAdapter;
 import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -695,8 +698,7 @@ public final class BasicClientImpl {
         return FluxUtil
             .withContext(context -> service.list(this.getEndpoint(), this.getServiceVersion().getVersion(), accept,
                 requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPagedResponse(res, "value", "nextLink", null));
     }
 
     /**
@@ -825,8 +827,7 @@ public final class BasicClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listSync(this.getEndpoint(), this.getServiceVersion().getVersion(), accept,
             requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPagedResponse(res, "value", "nextLink", null);
     }
 
     /**
@@ -1142,8 +1143,7 @@ public final class BasicClientImpl {
         final String accept = "application/json";
         return FluxUtil
             .withContext(context -> service.listNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPagedResponse(res, "value", "nextLink", null));
     }
 
     /**
@@ -1182,26 +1182,37 @@ public final class BasicClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPagedResponse(res, "value", "nextLink", null);
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            List<?> values = (List<?>) obj.get(path);
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            return (String) obj.get(path);
-        } catch (RuntimeException e) {
-            return null;
+    private <H> PagedResponse<BinaryData> readPagedResponse(Response<BinaryData> response, String itemPath,
+        String nextLinkPath, H deserializedHeaders) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (JsonReader jsonReader = JsonProviders.createReader(response.getValue().toBytes())) {
+            if (jsonReader.nextToken() == JsonToken.START_OBJECT) {
+                while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = jsonReader.getFieldName();
+                    jsonReader.nextToken();
+                    if (fieldName.equals(itemPath) && jsonReader.currentToken() == JsonToken.START_ARRAY) {
+                        values = new ArrayList<>();
+                        while (jsonReader.nextToken() != JsonToken.END_ARRAY) {
+                            values.add(jsonReader.isStartArrayOrObject()
+                                ? BinaryData.fromString(jsonReader.readChildren())
+                                : BinaryData.fromObject(jsonReader.readUntyped()));
+                        }
+                    } else if (fieldName.equals(nextLinkPath) && jsonReader.currentToken() == JsonToken.STRING) {
+                        nextLink = jsonReader.getString();
+                    } else {
+                        jsonReader.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            values = null;
+            nextLink = null;
         }
+        return new PagedResponseBase<>(response.getRequest(), response.getStatusCode(), response.getHeaders(), values,
+            nextLink, deserializedHeaders);
     }
 }
@@ -12,9 +12,7 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Details about a user.
@@ -46,10 +44,10 @@ public final class User implements JsonSerializable<User> {
     private String etag;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -111,7 +109,7 @@ public final class User implements JsonSerializable<User> {
     @Generated
     public User setName(String name) {
         this.name = name;
-        this.updatedProperties.add("name");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -134,7 +132,7 @@ public final class User implements JsonSerializable<User> {
     @Generated
     public User setOrders(List<UserOrder> orders) {
         this.orders = orders;
-        this.updatedProperties.add("orders");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -167,14 +165,14 @@ public final class User implements JsonSerializable<User> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("name")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             if (this.name == null) {
                 jsonWriter.writeNullField("name");
             } else {
                 jsonWriter.writeStringField("name", this.name);
             }
         }
-        if (updatedProperties.contains("orders")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (this.orders == null) {
                 jsonWriter.writeNullField("orders");
             } else {
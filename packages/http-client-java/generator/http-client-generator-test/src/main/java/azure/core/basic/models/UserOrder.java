@@ -12,8 +12,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * UserOrder for testing list with expand.
@@ -39,10 +37,10 @@ public final class UserOrder implements JsonSerializable<UserOrder> {
     private String detail;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -104,7 +102,7 @@ public final class UserOrder implements JsonSerializable<UserOrder> {
     @Generated
     public UserOrder setUserId(int userId) {
         this.userId = userId;
-        this.updatedProperties.add("userId");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -128,7 +126,7 @@ public final class UserOrder implements JsonSerializable<UserOrder> {
     @Generated
     public UserOrder setDetail(String detail) {
         this.detail = detail;
-        this.updatedProperties.add("detail");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -151,10 +149,10 @@ public final class UserOrder implements JsonSerializable<UserOrder> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("userId")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             jsonWriter.writeIntField("userId", this.userId);
         }
-        if (updatedProperties.contains("detail")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (this.detail == null) {
                 jsonWriter.writeNullField("detail");
             } else {
@@ -38,9 +38,12 @@ import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
 import com.azure.core.util.serializer.JacksonAdapter;
 import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -363,8 +366,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithPage(this.getEndpoint(), this.getServiceVersion().getVersion(),
                 accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPagedResponse(res, "value", "nextLink", null));
     }
 
     /**
@@ -437,8 +439,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithPageSync(this.getEndpoint(), this.getServiceVersion().getVersion(),
             accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPagedResponse(res, "value", "nextLink", null);
     }
 
     /**
@@ -532,8 +533,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithParameters(this.getEndpoint(),
                 this.getServiceVersion().getVersion(), accept, bodyInput, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPagedResponse(res, "value", "nextLink", null));
     }
 
     /**
@@ -645,8 +645,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithParametersSync(this.getEndpoint(),
             this.getServiceVersion().getVersion(), accept, bodyInput, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPagedResponse(res, "value", "nextLink", null);
     }
 
     /**
@@ -739,8 +738,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithCustomPageModel(this.getEndpoint(),
                 this.getServiceVersion().getVersion(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPagedResponse(res, "items", "nextLink", null));
     }
 
     /**
@@ -813,8 +811,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithCustomPageModelSync(this.getEndpoint(),
             this.getServiceVersion().getVersion(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPagedResponse(res, "items", "nextLink", null);
     }
 
     /**
@@ -896,8 +893,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.withParameterizedNextLink(this.getEndpoint(), select, accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPagedResponse(res, "values", "nextLink", null));
     }
 
     /**
@@ -987,8 +983,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.withParameterizedNextLinkSync(this.getEndpoint(), select, accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPagedResponse(res, "values", "nextLink", null);
     }
 
     /**
@@ -1072,8 +1067,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(
                 context -> service.listWithPageNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPagedResponse(res, "value", "nextLink", null));
     }
 
     /**
@@ -1110,8 +1104,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listWithPageNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPagedResponse(res, "value", "nextLink", null);
     }
 
     /**
@@ -1149,8 +1142,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.listWithParametersNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPagedResponse(res, "value", "nextLink", null));
     }
 
     /**
@@ -1187,8 +1179,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listWithParametersNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPagedResponse(res, "value", "nextLink", null);
     }
 
     /**
@@ -1227,8 +1218,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithCustomPageModelNext(nextLink, this.getEndpoint(), accept,
                 requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPagedResponse(res, "items", "nextLink", null));
     }
 
     /**
@@ -1266,8 +1256,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithCustomPageModelNextSync(nextLink, this.getEndpoint(), accept,
             requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPagedResponse(res, "items", "nextLink", null);
     }
 
     /**
@@ -1306,8 +1295,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.withParameterizedNextLinkNext(nextLink, this.getEndpoint(), accept,
                 requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPagedResponse(res, "values", "nextLink", null));
     }
 
     /**
@@ -1345,26 +1333,37 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.withParameterizedNextLinkNextSync(nextLink, this.getEndpoint(), accept,
             requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "values"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPagedResponse(res, "values", "nextLink", null);
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            List<?> values = (List<?>) obj.get(path);
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            return (String) obj.get(path);
-        } catch (RuntimeException e) {
-            return null;
+    private <H> PagedResponse<BinaryData> readPagedResponse(Response<BinaryData> response, String itemPath,
+        String nextLinkPath, H deserializedHeaders) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (JsonReader jsonReader = JsonProviders.createReader(response.getValue().toBytes())) {
+            if (jsonReader.nextToken() == JsonToken.START_OBJECT) {
+                while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = jsonReader.getFieldName();
+                    jsonReader.nextToken();
+                    if (fieldName.equals(itemPath) && jsonReader.currentToken() == JsonToken.START_ARRAY) {
+                        values = new ArrayList<>();
+                        while (jsonReader.nextToken() != JsonToken.END_ARRAY) {
+                            values.add(jsonReader.isStartArrayOrObject()
+                                ? BinaryData.fromString(jsonReader.readChildren())
+                                : BinaryData.fromObject(jsonReader.readUntyped()));
+                        }
+                    } else if (fieldName.equals(nextLinkPath) && jsonReader.currentToken() == JsonToken.STRING) {
+                        nextLink = jsonReader.getString();
+                    } else {
+                        jsonReader.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            values = null;
+            nextLink = null;
         }
+        return new PagedResponseBase<>(response.getRequest(), response.getStatusCode(), response.getHeaders(), values,
+            nextLink, deserializedHeaders);
     }
 }
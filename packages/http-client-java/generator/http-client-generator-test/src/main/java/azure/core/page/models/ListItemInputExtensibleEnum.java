@@ -37,6 +37,16 @@ public enum ListItemInputExtensibleEnum {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "First":
+                return FIRST;
+
+            case "Second":
+                return SECOND;
+
+            default:
+                break;
+        }
         ListItemInputExtensibleEnum[] items = ListItemInputExtensibleEnum.values();
         for (ListItemInputExtensibleEnum item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -16,7 +16,7 @@ public final class Enum extends ExpandableStringEnum<Enum> {
      * Static value EnumValue1 for Enum.
      */
     @Generated
-    public static final Enum ENUM_VALUE1 = fromString("EnumValue1");
+    public static final Enum ENUM_VALUE1 = fromString("EnumValue1", Enum.class);
 
     /**
      * Creates a new instance of Enum value.
@@ -36,7 +36,16 @@ public final class Enum extends ExpandableStringEnum<Enum> {
      */
     @Generated
     public static Enum fromString(String name) {
-        return fromString(name, Enum.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "EnumValue1":
+                return ENUM_VALUE1;
+
+            default:
+                return fromString(name, Enum.class);
+        }
     }
 
     /**
@@ -14,7 +14,7 @@ public final class ActionType extends ExpandableStringEnum<ActionType> {
     /**
      * Actions are for internal-only APIs.
      */
-    public static final ActionType INTERNAL = fromString("Internal");
+    public static final ActionType INTERNAL = fromString("Internal", ActionType.class);
 
     /**
      * Creates a new instance of ActionType value.
@@ -32,7 +32,16 @@ public final class ActionType extends ExpandableStringEnum<ActionType> {
      * @return the corresponding ActionType.
      */
     public static ActionType fromString(String name) {
-        return fromString(name, ActionType.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "Internal":
+                return INTERNAL;
+
+            default:
+                return fromString(name, ActionType.class);
+        }
     }
 
     /**
@@ -15,17 +15,17 @@ public final class Origin extends ExpandableStringEnum<Origin> {
     /**
      * Indicates the operation is initiated by a user.
      */
-    public static final Origin USER = fromString("user");
+    public static final Origin USER = fromString("user", Origin.class);
 
     /**
      * Indicates the operation is initiated by a system.
      */
-    public static final Origin SYSTEM = fromString("system");
+    public static final Origin SYSTEM = fromString("system", Origin.class);
 
     /**
      * Indicates the operation is initiated by a user or system.
      */
-    public static final Origin USER_SYSTEM = fromString("user,system");
+    public static final Origin USER_SYSTEM = fromString("user,system", Origin.class);
 
     /**
      * Creates a new instance of Origin value.
@@ -43,7 +43,22 @@ public final class Origin extends ExpandableStringEnum<Origin> {
      * @return the corresponding Origin.
      */
     public static Origin fromString(String name) {
-        return fromString(name, Origin.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "user":
+                return USER;
+
+            case "system":
+                return SYSTEM;
+
+            case "user,system":
+                return USER_SYSTEM;
+
+            default:
+                return fromString(name, Origin.class);
+        }
     }
 
     /**
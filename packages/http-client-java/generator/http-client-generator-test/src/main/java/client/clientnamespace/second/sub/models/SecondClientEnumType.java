@@ -16,7 +16,7 @@ public final class SecondClientEnumType extends ExpandableStringEnum<SecondClien
      * Static value second for SecondClientEnumType.
      */
     @Generated
-    public static final SecondClientEnumType SECOND = fromString("second");
+    public static final SecondClientEnumType SECOND = fromString("second", SecondClientEnumType.class);
 
     /**
      * Creates a new instance of SecondClientEnumType value.
@@ -36,7 +36,16 @@ public final class SecondClientEnumType extends ExpandableStringEnum<SecondClien
      */
     @Generated
     public static SecondClientEnumType fromString(String name) {
-        return fromString(name, SecondClientEnumType.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "second":
+                return SECOND;
+
+            default:
+                return fromString(name, SecondClientEnumType.class);
+        }
     }
 
     /**
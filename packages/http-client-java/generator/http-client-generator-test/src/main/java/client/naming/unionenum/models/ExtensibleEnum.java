@@ -16,13 +16,13 @@ public final class ExtensibleEnum extends ExpandableStringEnum<ExtensibleEnum> {
      * Static value value1 for ExtensibleEnum.
      */
     @Generated
-    public static final ExtensibleEnum CLIENT_ENUM_VALUE1 = fromString("value1");
+    public static final ExtensibleEnum CLIENT_ENUM_VALUE1 = fromString("value1", ExtensibleEnum.class);
 
     /**
      * Static value value2 for ExtensibleEnum.
      */
     @Generated
-    public static final ExtensibleEnum CLIENT_ENUM_VALUE2 = fromString("value2");
+    public static final ExtensibleEnum CLIENT_ENUM_VALUE2 = fromString("value2", ExtensibleEnum.class);
 
     /**
      * Creates a new instance of ExtensibleEnum value.
@@ -42,7 +42,19 @@ public final class ExtensibleEnum extends ExpandableStringEnum<ExtensibleEnum> {
      */
     @Generated
     public static ExtensibleEnum fromString(String name) {
-        return fromString(name, ExtensibleEnum.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "value1":
+                return CLIENT_ENUM_VALUE1;
+
+            case "value2":
+                return CLIENT_ENUM_VALUE2;
+
+            default:
+                return fromString(name, ExtensibleEnum.class);
+        }
     }
 
     /**
@@ -52,6 +52,25 @@ public enum ClientType {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "default":
+                return DEFAULT;
+
+            case "multi-client":
+                return MULTI_CLIENT;
+
+            case "renamed-operation":
+                return RENAMED_OPERATION;
+
+            case "two-operation-group":
+                return TWO_OPERATION_GROUP;
+
+            case "client-operation-group":
+                return CLIENT_OPERATION_GROUP;
+
+            default:
+                break;
+        }
         ClientType[] items = ClientType.values();
         for (ClientType item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -24,9 +24,8 @@ import com.azure.core.util.Base64Url;
 import com.azure.core.util.Base64Util;
 import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
-import com.azure.core.util.serializer.CollectionFormat;
-import com.azure.core.util.serializer.JacksonAdapter;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
@@ -252,10 +251,10 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> base64urlArrayWithResponseAsync(List<byte[]> value, RequestOptions requestOptions) {
-        String valueConverted = JacksonAdapter.createDefaultSerializerAdapter()
-            .serializeIterable(
-                value.stream().map(paramItemValue -> Base64Url.encode(paramItemValue)).collect(Collectors.toList()),
-                CollectionFormat.CSV);
+        String valueConverted = value.stream()
+            .map(paramItemValue -> Base64Url.encode(paramItemValue))
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return FluxUtil.withContext(
             context -> service.base64urlArray(this.client.getEndpoint(), valueConverted, requestOptions, context));
     }
@@ -273,10 +272,10 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> base64urlArrayWithResponse(List<byte[]> value, RequestOptions requestOptions) {
-        String valueConverted = JacksonAdapter.createDefaultSerializerAdapter()
-            .serializeIterable(
-                value.stream().map(paramItemValue -> Base64Url.encode(paramItemValue)).collect(Collectors.toList()),
-                CollectionFormat.CSV);
+        String valueConverted = value.stream()
+            .map(paramItemValue -> Base64Url.encode(paramItemValue))
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return service.base64urlArraySync(this.client.getEndpoint(), valueConverted, requestOptions, Context.NONE);
     }
 }
@@ -23,10 +23,9 @@ import com.azure.core.http.rest.RestProxy;
 import com.azure.core.util.Context;
 import com.azure.core.util.DateTimeRfc1123;
 import com.azure.core.util.FluxUtil;
-import com.azure.core.util.serializer.CollectionFormat;
-import com.azure.core.util.serializer.JacksonAdapter;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
@@ -304,10 +303,10 @@ public final class HeadersImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> unixTimestampArrayWithResponseAsync(List<OffsetDateTime> value,
         RequestOptions requestOptions) {
-        String valueConverted = JacksonAdapter.createDefaultSerializerAdapter()
-            .serializeIterable(
-                value.stream().map(paramItemValue -> paramItemValue.toEpochSecond()).collect(Collectors.toList()),
-                CollectionFormat.CSV);
+        String valueConverted = value.stream()
+            .map(paramItemValue -> paramItemValue.toEpochSecond())
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return FluxUtil.withContext(
             context -> service.unixTimestampArray(this.client.getEndpoint(), valueConverted, requestOptions, context));
     }
@@ -325,10 +324,10 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> unixTimestampArrayWithResponse(List<OffsetDateTime> value, RequestOptions requestOptions) {
-        String valueConverted = JacksonAdapter.createDefaultSerializerAdapter()
-            .serializeIterable(
-                value.stream().map(paramItemValue -> paramItemValue.toEpochSecond()).collect(Collectors.toList()),
-                CollectionFormat.CSV);
+        String valueConverted = value.stream()
+            .map(paramItemValue -> paramItemValue.toEpochSecond())
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return service.unixTimestampArraySync(this.client.getEndpoint(), valueConverted, requestOptions, Context.NONE);
     }
 }
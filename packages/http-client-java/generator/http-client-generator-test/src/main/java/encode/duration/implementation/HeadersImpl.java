@@ -21,11 +21,11 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.http.rest.RestProxy;
 import com.azure.core.util.Context;
+import com.azure.core.util.CoreUtils;
 import com.azure.core.util.FluxUtil;
-import com.azure.core.util.serializer.CollectionFormat;
-import com.azure.core.util.serializer.JacksonAdapter;
 import java.time.Duration;
 import java.util.List;
+import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -247,8 +247,9 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> iso8601ArrayWithResponseAsync(List<Duration> duration, RequestOptions requestOptions) {
-        String durationConverted
-            = JacksonAdapter.createDefaultSerializerAdapter().serializeIterable(duration, CollectionFormat.CSV);
+        String durationConverted = duration.stream()
+            .map(paramItemValue -> paramItemValue == null ? "" : CoreUtils.durationToStringWithDays(paramItemValue))
+            .collect(Collectors.joining(","));
         return FluxUtil.withContext(
             context -> service.iso8601Array(this.client.getEndpoint(), durationConverted, requestOptions, context));
     }
@@ -266,8 +267,9 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> iso8601ArrayWithResponse(List<Duration> duration, RequestOptions requestOptions) {
-        String durationConverted
-            = JacksonAdapter.createDefaultSerializerAdapter().serializeIterable(duration, CollectionFormat.CSV);
+        String durationConverted = duration.stream()
+            .map(paramItemValue -> paramItemValue == null ? "" : CoreUtils.durationToStringWithDays(paramItemValue))
+            .collect(Collectors.joining(","));
         return service.iso8601ArraySync(this.client.getEndpoint(), durationConverted, requestOptions, Context.NONE);
     }
 
@@ -27,9 +27,12 @@ import com.azure.core.http.rest.RestProxy;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -178,8 +181,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         return FluxUtil
             .withContext(
                 context -> service.requestQueryResponseBody(this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), null, null));
+            .map(res -> readPagedResponse(res, "pets", null, null));
     }
 
     /**
@@ -262,8 +264,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.requestQueryResponseBodySync(this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), null, null);
+        return readPagedResponse(res, "pets", null, null);
     }
 
     /**
@@ -346,8 +347,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.requestHeaderResponseBody(this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), null, null));
+            .map(res -> readPagedResponse(res, "pets", null, null));
     }
 
     /**
@@ -430,8 +430,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.requestHeaderResponseBodySync(this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), null, null);
+        return readPagedResponse(res, "pets", null, null);
     }
 
     /**
@@ -514,8 +513,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.requestQueryResponseHeader(this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), null, null));
+            .map(res -> readPagedResponse(res, "pets", null, null));
     }
 
     /**
@@ -598,8 +596,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.requestQueryResponseHeaderSync(this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), null, null);
+        return readPagedResponse(res, "pets", null, null);
     }
 
     /**
@@ -682,8 +679,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.requestHeaderResponseHeader(this.client.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "pets"), null, null));
+            .map(res -> readPagedResponse(res, "pets", null, null));
     }
 
     /**
@@ -766,8 +762,7 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.requestHeaderResponseHeaderSync(this.client.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "pets"), null, null);
+        return readPagedResponse(res, "pets", null, null);
     }
 
     /**
@@ -810,22 +805,34 @@ public final class ServerDrivenPaginationContinuationTokensImpl {
         return new PagedIterable<>(() -> requestHeaderResponseHeaderSinglePage(requestOptions));
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            List<?> values = (List<?>) obj.get(path);
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            return (String) obj.get(path);
-        } catch (RuntimeException e) {
-            return null;
+    private <H> PagedResponse<BinaryData> readPagedResponse(Response<BinaryData> response, String itemPath,
+        String nextLinkPath, H deserializedHeaders) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (JsonReader jsonReader = JsonProviders.createReader(response.getValue().toBytes())) {
+            if (jsonReader.nextToken() == JsonToken.START_OBJECT) {
+                while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = jsonReader.getFieldName();
+                    jsonReader.nextToken();
+                    if (fieldName.equals(itemPath) && jsonReader.currentToken() == JsonToken.START_ARRAY) {
+                        values = new ArrayList<>();
+                        while (jsonReader.nextToken() != JsonToken.END_ARRAY) {
+                            values.add(jsonReader.isStartArrayOrObject()
+                                ? BinaryData.fromString(jsonReader.readChildren())
+                                : BinaryData.fromObject(jsonReader.readUntyped()));
+                        }
+                    } else if (fieldName.equals(nextLinkPath) && jsonReader.currentToken() == JsonToken.STRING) {
+                        nextLink = jsonReader.getString();
+                    } else {
+                        jsonReader.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            values = null;
+            nextLink = null;
         }
+        return new PagedResponseBase<>(response.getRequest(), response.getStatusCode(), response.getHeaders(), values,
+            nextLink, deserializedHeaders);
     }
 }
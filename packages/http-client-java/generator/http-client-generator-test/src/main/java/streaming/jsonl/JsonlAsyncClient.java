@@ -16,8 +16,11 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import streaming.jsonl.basic.models.Info;
 import streaming.jsonl.implementation.BasicsImpl;
+import streaming.jsonl.implementation.JsonLinesHelper;
 
 /**
  * Initializes a new instance of the asynchronous JsonlClient type.
@@ -104,6 +107,24 @@ public final class JsonlAsyncClient {
         return sendWithResponse(body, requestOptions).flatMap(FluxUtil::toMono);
     }
 
+    /**
+     * The send operation.
+     * 
+     * @param body the items of the JSON Lines request body, each item is serialized to a line.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws HttpResponseException thrown if the request is rejected by server.
+     * @throws ClientAuthenticationException thrown if the request is rejected by server on status code 401.
+     * @throws ResourceNotFoundException thrown if the request is rejected by server on status code 404.
+     * @throws ResourceModifiedException thrown if the request is rejected by server on status code 409.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return A {@link Mono} that completes when a successful response is received.
+     */
+    @Generated
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Void> send(Flux<Info> body) {
+        return JsonLinesHelper.toBinaryData(body).flatMap(jsonLinesBody -> send(jsonLinesBody));
+    }
+
     /**
      * The receive operation.
      * 
@@ -121,4 +142,23 @@ public final class JsonlAsyncClient {
         RequestOptions requestOptions = new RequestOptions();
         return receiveWithResponse(requestOptions).flatMap(FluxUtil::toMono);
     }
+
+    /**
+     * The receive operation.
+     * 
+     * @throws HttpResponseException thrown if the request is rejected by server.
+     * @throws ClientAuthenticationException thrown if the request is rejected by server on status code 401.
+     * @throws ResourceNotFoundException thrown if the request is rejected by server on status code 404.
+     * @throws ResourceModifiedException thrown if the request is rejected by server on status code 409.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of the JSON Lines response body, each item is deserialized from a line.
+     */
+    @Generated
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public Flux<Info> receiveItems() {
+        // Generated convenience method for receiveWithResponse
+        RequestOptions requestOptions = new RequestOptions();
+        return receiveWithResponse(requestOptions).flatMap(FluxUtil::toMono)
+            .flatMapMany(protocolMethodData -> JsonLinesHelper.toFlux(protocolMethodData, Info::fromJson));
+    }
 }
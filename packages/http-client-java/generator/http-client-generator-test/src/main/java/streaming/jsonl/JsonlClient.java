@@ -15,7 +15,9 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import streaming.jsonl.basic.models.Info;
 import streaming.jsonl.implementation.BasicsImpl;
+import streaming.jsonl.implementation.JsonLinesHelper;
 
 /**
  * Initializes a new instance of the synchronous JsonlClient type.
@@ -101,6 +103,23 @@ public final class JsonlClient {
         sendWithResponse(body, requestOptions).getValue();
     }
 
+    /**
+     * The send operation.
+     * 
+     * @param body the items of the JSON Lines request body, each item is serialized to a line.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws HttpResponseException thrown if the request is rejected by server.
+     * @throws ClientAuthenticationException thrown if the request is rejected by server on status code 401.
+     * @throws ResourceNotFoundException thrown if the request is rejected by server on status code 404.
+     * @throws ResourceModifiedException thrown if the request is rejected by server on status code 409.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @Generated
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void send(Iterable<Info> body) {
+        send(JsonLinesHelper.toBinaryData(body));
+    }
+
     /**
      * The receive operation.
      * 
@@ -118,4 +137,22 @@ public final class JsonlClient {
         RequestOptions requestOptions = new RequestOptions();
         return receiveWithResponse(requestOptions).getValue();
     }
+
+    /**
+     * The receive operation.
+     * 
+     * @throws HttpResponseException thrown if the request is rejected by server.
+     * @throws ClientAuthenticationException thrown if the request is rejected by server on status code 401.
+     * @throws ResourceNotFoundException thrown if the request is rejected by server on status code 404.
+     * @throws ResourceModifiedException thrown if the request is rejected by server on status code 409.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of the JSON Lines response body, each item is deserialized from a line.
+     */
+    @Generated
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public Iterable<Info> receiveItems() {
+        // Generated convenience method for receiveWithResponse
+        RequestOptions requestOptions = new RequestOptions();
+        return JsonLinesHelper.toIterable(receiveWithResponse(requestOptions).getValue(), Info::fromJson);
+    }
 }
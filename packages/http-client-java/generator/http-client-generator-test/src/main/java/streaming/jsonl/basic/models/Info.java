@@ -0,0 +1,83 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package streaming.jsonl.basic.models;
+
+import com.azure.core.annotation.Generated;
+import com.azure.core.annotation.Immutable;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonToken;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+
+/**
+ * The Info model.
+ */
+@Immutable
+public final class Info implements JsonSerializable<Info> {
+    /*
+     * The desc property.
+     */
+    @Generated
+    private final String desc;
+
+    /**
+     * Creates an instance of Info class.
+     * 
+     * @param desc the desc value to set.
+     */
+    @Generated
+    public Info(String desc) {
+        this.desc = desc;
+    }
+
+    /**
+     * Get the desc property: The desc property.
+     * 
+     * @return the desc value.
+     */
+    @Generated
+    public String getDesc() {
+        return this.desc;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Generated
+    @Override
+    public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        jsonWriter.writeStartObject();
+        jsonWriter.writeStringField("desc", this.desc);
+        return jsonWriter.writeEndObject();
+    }
+
+    /**
+     * Reads an instance of Info from the JsonReader.
+     * 
+     * @param jsonReader The JsonReader being read.
+     * @return An instance of Info if the JsonReader was pointing to an instance of it, or null if it was
+     * pointing to JSON null.
+     * @throws IllegalStateException If the deserialized JSON object was missing any required properties.
+     * @throws IOException If an error occurs while reading the Info.
+     */
+    @Generated
+    public static Info fromJson(JsonReader jsonReader) throws IOException {
+        return jsonReader.readObject(reader -> {
+            String desc = null;
+            while (reader.nextToken() != JsonToken.END_OBJECT) {
+                String fieldName = reader.getFieldName();
+                reader.nextToken();
+
+                if ("desc".equals(fieldName)) {
+                    desc = reader.getString();
+                } else {
+                    reader.skipChildren();
+                }
+            }
+            return new Info(desc);
+        });
+    }
+}
@@ -22,6 +22,8 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.http.rest.RestProxy;
+import com.azure.core.http.rest.SimpleResponse;
+import com.azure.core.http.rest.StreamResponse;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
@@ -83,7 +85,7 @@ public final class BasicsImpl {
         @UnexpectedResponseExceptionType(value = ResourceNotFoundException.class, code = { 404 })
         @UnexpectedResponseExceptionType(value = ResourceModifiedException.class, code = { 409 })
         @UnexpectedResponseExceptionType(HttpResponseException.class)
-        Mono<Response<BinaryData>> receive(@HostParam("endpoint") String endpoint, @HeaderParam("Accept") String accept,
+        Mono<StreamResponse> receive(@HostParam("endpoint") String endpoint, @HeaderParam("Accept") String accept,
             RequestOptions requestOptions, Context context);
 
         @Get("/streaming/jsonl/basic/receive")
@@ -166,7 +168,9 @@ public final class BasicsImpl {
     public Mono<Response<BinaryData>> receiveWithResponseAsync(RequestOptions requestOptions) {
         final String accept = "application/jsonl";
         return FluxUtil
-            .withContext(context -> service.receive(this.client.getEndpoint(), accept, requestOptions, context));
+            .withContext(context -> service.receive(this.client.getEndpoint(), accept, requestOptions, context)
+                .flatMap(response -> BinaryData.fromFlux(response.getValue(), null, false)
+                    .map(body -> new SimpleResponse<>(response, body))));
     }
 
     /**
@@ -14,7 +14,7 @@ public final class DogKind extends ExpandableStringEnum<DogKind> {
     /**
      * Species golden.
      */
-    public static final DogKind GOLDEN = fromString("golden_dog");
+    public static final DogKind GOLDEN = fromString("golden_dog", DogKind.class);
 
     /**
      * Creates a new instance of DogKind value.
@@ -32,7 +32,16 @@ public final class DogKind extends ExpandableStringEnum<DogKind> {
      * @return the corresponding DogKind.
      */
     public static DogKind fromString(String name) {
-        return fromString(name, DogKind.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "golden_dog":
+                return GOLDEN;
+
+            default:
+                return fromString(name, DogKind.class);
+        }
     }
 
     /**
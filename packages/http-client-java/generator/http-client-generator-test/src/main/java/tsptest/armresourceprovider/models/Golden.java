@@ -75,22 +75,24 @@ public final class Golden extends Dog {
      * @throws IOException If an error occurs while reading the Golden.
      */
     public static Golden fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            Golden deserializedGolden = new Golden();
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(Golden::fromJsonProperties);
+    }
+
+    static Golden fromJsonProperties(JsonReader reader) throws IOException {
+        Golden deserializedGolden = new Golden();
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("weight".equals(fieldName)) {
-                    deserializedGolden.withWeight(reader.getInt());
-                } else if ("kind".equals(fieldName)) {
-                    deserializedGolden.kind = DogKind.fromString(reader.getString());
-                } else {
-                    reader.skipChildren();
-                }
+            if ("weight".equals(fieldName)) {
+                deserializedGolden.withWeight(reader.getInt());
+            } else if ("kind".equals(fieldName)) {
+                deserializedGolden.kind = DogKind.fromString(reader.getString());
+            } else {
+                reader.skipChildren();
             }
+        }
 
-            return deserializedGolden;
-        });
+        return deserializedGolden;
     }
 }
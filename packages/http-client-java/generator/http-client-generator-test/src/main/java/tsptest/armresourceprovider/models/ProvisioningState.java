@@ -14,37 +14,37 @@ public final class ProvisioningState extends ExpandableStringEnum<ProvisioningSt
     /**
      * Resource has been created.
      */
-    public static final ProvisioningState SUCCEEDED = fromString("Succeeded");
+    public static final ProvisioningState SUCCEEDED = fromString("Succeeded", ProvisioningState.class);
 
     /**
      * Resource creation failed.
      */
-    public static final ProvisioningState FAILED = fromString("Failed");
+    public static final ProvisioningState FAILED = fromString("Failed", ProvisioningState.class);
 
     /**
      * Resource creation was canceled.
      */
-    public static final ProvisioningState CANCELED = fromString("Canceled");
+    public static final ProvisioningState CANCELED = fromString("Canceled", ProvisioningState.class);
 
     /**
      * Static value Provisioning for ProvisioningState.
      */
-    public static final ProvisioningState PROVISIONING = fromString("Provisioning");
+    public static final ProvisioningState PROVISIONING = fromString("Provisioning", ProvisioningState.class);
 
     /**
      * Static value Updating for ProvisioningState.
      */
-    public static final ProvisioningState UPDATING = fromString("Updating");
+    public static final ProvisioningState UPDATING = fromString("Updating", ProvisioningState.class);
 
     /**
      * Static value Deleting for ProvisioningState.
      */
-    public static final ProvisioningState DELETING = fromString("Deleting");
+    public static final ProvisioningState DELETING = fromString("Deleting", ProvisioningState.class);
 
     /**
      * Static value Accepted for ProvisioningState.
      */
-    public static final ProvisioningState ACCEPTED = fromString("Accepted");
+    public static final ProvisioningState ACCEPTED = fromString("Accepted", ProvisioningState.class);
 
     /**
      * Creates a new instance of ProvisioningState value.
@@ -62,7 +62,34 @@ public final class ProvisioningState extends ExpandableStringEnum<ProvisioningSt
      * @return the corresponding ProvisioningState.
      */
     public static ProvisioningState fromString(String name) {
-        return fromString(name, ProvisioningState.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "Succeeded":
+                return SUCCEEDED;
+
+            case "Failed":
+                return FAILED;
+
+            case "Canceled":
+                return CANCELED;
+
+            case "Provisioning":
+                return PROVISIONING;
+
+            case "Updating":
+                return UPDATING;
+
+            case "Deleting":
+                return DELETING;
+
+            case "Accepted":
+                return ACCEPTED;
+
+            default:
+                return fromString(name, ProvisioningState.class);
+        }
     }
 
     /**
@@ -340,36 +340,38 @@ public final class SalmonInner extends FishInner {
      * @throws IOException If an error occurs while reading the SalmonInner.
      */
     public static SalmonInner fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            SalmonInner deserializedSalmonInner = new SalmonInner();
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
-
-                if ("age".equals(fieldName)) {
-                    deserializedSalmonInner.withAge(reader.getInt());
-                } else if ("dna".equals(fieldName)) {
-                    deserializedSalmonInner.dna = reader.getString();
-                } else if ("properties".equals(fieldName)) {
-                    deserializedSalmonInner.innerProperties = FishProperties.fromJson(reader);
-                } else if ("anotherProperties".equals(fieldName)) {
-                    deserializedSalmonInner.innerAnotherProperties = AnotherFishProperties.fromJson(reader);
-                } else if ("kind".equals(fieldName)) {
-                    deserializedSalmonInner.kind = reader.getString();
-                } else if ("friends".equals(fieldName)) {
-                    List<FishInner> friends = reader.readArray(reader1 -> FishInner.fromJson(reader1));
-                    deserializedSalmonInner.friends = friends;
-                } else if ("hate".equals(fieldName)) {
-                    Map<String, FishInner> hate = reader.readMap(reader1 -> FishInner.fromJson(reader1));
-                    deserializedSalmonInner.hate = hate;
-                } else if ("partner".equals(fieldName)) {
-                    deserializedSalmonInner.partner = FishInner.fromJson(reader);
-                } else {
-                    reader.skipChildren();
-                }
+        return jsonReader.readObject(SalmonInner::fromJsonProperties);
+    }
+
+    static SalmonInner fromJsonProperties(JsonReader reader) throws IOException {
+        SalmonInner deserializedSalmonInner = new SalmonInner();
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
+
+            if ("age".equals(fieldName)) {
+                deserializedSalmonInner.withAge(reader.getInt());
+            } else if ("dna".equals(fieldName)) {
+                deserializedSalmonInner.dna = reader.getString();
+            } else if ("properties".equals(fieldName)) {
+                deserializedSalmonInner.innerProperties = FishProperties.fromJson(reader);
+            } else if ("anotherProperties".equals(fieldName)) {
+                deserializedSalmonInner.innerAnotherProperties = AnotherFishProperties.fromJson(reader);
+            } else if ("kind".equals(fieldName)) {
+                deserializedSalmonInner.kind = reader.getString();
+            } else if ("friends".equals(fieldName)) {
+                List<FishInner> friends = reader.readArray(reader1 -> FishInner.fromJson(reader1));
+                deserializedSalmonInner.friends = friends;
+            } else if ("hate".equals(fieldName)) {
+                Map<String, FishInner> hate = reader.readMap(reader1 -> FishInner.fromJson(reader1));
+                deserializedSalmonInner.hate = hate;
+            } else if ("partner".equals(fieldName)) {
+                deserializedSalmonInner.partner = FishInner.fromJson(reader);
+            } else {
+                reader.skipChildren();
             }
+        }
 
-            return deserializedSalmonInner;
-        });
+        return deserializedSalmonInner;
     }
 }
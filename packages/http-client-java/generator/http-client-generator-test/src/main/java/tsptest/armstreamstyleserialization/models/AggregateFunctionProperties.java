@@ -123,22 +123,24 @@ public final class AggregateFunctionProperties extends FunctionProperties {
      * @throws IOException If an error occurs while reading the AggregateFunctionProperties.
      */
     public static AggregateFunctionProperties fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            AggregateFunctionProperties deserializedAggregateFunctionProperties = new AggregateFunctionProperties();
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
-
-                if ("properties".equals(fieldName)) {
-                    deserializedAggregateFunctionProperties.withInnerProperties(FunctionConfiguration.fromJson(reader));
-                } else if ("kind".equals(fieldName)) {
-                    deserializedAggregateFunctionProperties.kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+        return jsonReader.readObject(AggregateFunctionProperties::fromJsonProperties);
+    }
+
+    static AggregateFunctionProperties fromJsonProperties(JsonReader reader) throws IOException {
+        AggregateFunctionProperties deserializedAggregateFunctionProperties = new AggregateFunctionProperties();
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
+
+            if ("properties".equals(fieldName)) {
+                deserializedAggregateFunctionProperties.withInnerProperties(FunctionConfiguration.fromJson(reader));
+            } else if ("kind".equals(fieldName)) {
+                deserializedAggregateFunctionProperties.kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
+        }
 
-            return deserializedAggregateFunctionProperties;
-        });
+        return deserializedAggregateFunctionProperties;
     }
 }
@@ -264,28 +264,30 @@ public final class GoblinShark extends Shark {
      * @throws IOException If an error occurs while reading the GoblinShark.
      */
     public static GoblinShark fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            GoblinShark deserializedGoblinShark = new GoblinShark();
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(GoblinShark::fromJsonProperties);
+    }
+
+    static GoblinShark fromJsonProperties(JsonReader reader) throws IOException {
+        GoblinShark deserializedGoblinShark = new GoblinShark();
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("age".equals(fieldName)) {
-                    deserializedGoblinShark.withAge(reader.getInt());
-                } else if ("dna".equals(fieldName)) {
-                    deserializedGoblinShark.dna = reader.getString();
-                } else if ("properties".equals(fieldName)) {
-                    deserializedGoblinShark.innerProperties = FishProperties.fromJson(reader);
-                } else if ("anotherProperties".equals(fieldName)) {
-                    deserializedGoblinShark.innerAnotherProperties = AnotherFishProperties.fromJson(reader);
-                } else if ("sharktype".equals(fieldName)) {
-                    deserializedGoblinShark.sharktype = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("age".equals(fieldName)) {
+                deserializedGoblinShark.withAge(reader.getInt());
+            } else if ("dna".equals(fieldName)) {
+                deserializedGoblinShark.dna = reader.getString();
+            } else if ("properties".equals(fieldName)) {
+                deserializedGoblinShark.innerProperties = FishProperties.fromJson(reader);
+            } else if ("anotherProperties".equals(fieldName)) {
+                deserializedGoblinShark.innerAnotherProperties = AnotherFishProperties.fromJson(reader);
+            } else if ("sharktype".equals(fieldName)) {
+                deserializedGoblinShark.sharktype = reader.getString();
+            } else {
+                reader.skipChildren();
             }
+        }
 
-            return deserializedGoblinShark;
-        });
+        return deserializedGoblinShark;
     }
 }
@@ -295,28 +295,30 @@ public final class SawShark extends Shark {
      * @throws IOException If an error occurs while reading the SawShark.
      */
     public static SawShark fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            SawShark deserializedSawShark = new SawShark();
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
-
-                if ("properties".equals(fieldName)) {
-                    deserializedSawShark.innerProperties = FishProperties.fromJson(reader);
-                } else if ("anotherProperties".equals(fieldName)) {
-                    deserializedSawShark.innerAnotherProperties = AnotherFishProperties.fromJson(reader);
-                } else if ("dna".equals(fieldName)) {
-                    deserializedSawShark.dna = reader.getString();
-                } else if ("age".equals(fieldName)) {
-                    deserializedSawShark.age = reader.getInt();
-                } else if ("sharktype".equals(fieldName)) {
-                    deserializedSawShark.sharktype = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+        return jsonReader.readObject(SawShark::fromJsonProperties);
+    }
+
+    static SawShark fromJsonProperties(JsonReader reader) throws IOException {
+        SawShark deserializedSawShark = new SawShark();
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
+
+            if ("properties".equals(fieldName)) {
+                deserializedSawShark.innerProperties = FishProperties.fromJson(reader);
+            } else if ("anotherProperties".equals(fieldName)) {
+                deserializedSawShark.innerAnotherProperties = AnotherFishProperties.fromJson(reader);
+            } else if ("dna".equals(fieldName)) {
+                deserializedSawShark.dna = reader.getString();
+            } else if ("age".equals(fieldName)) {
+                deserializedSawShark.age = reader.getInt();
+            } else if ("sharktype".equals(fieldName)) {
+                deserializedSawShark.sharktype = reader.getString();
+            } else {
+                reader.skipChildren();
             }
+        }
 
-            return deserializedSawShark;
-        });
+        return deserializedSawShark;
     }
 }
@@ -405,43 +405,79 @@ public final class Builtin implements JsonSerializable<Builtin> {
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("boolean".equals(fieldName)) {
-                    booleanProperty = reader.getBoolean();
-                } else if ("string".equals(fieldName)) {
-                    string = reader.getString();
-                } else if ("bytes".equals(fieldName)) {
-                    bytes = reader.getBinary();
-                } else if ("int".equals(fieldName)) {
-                    intProperty = reader.getInt();
-                } else if ("safeint".equals(fieldName)) {
-                    safeint = reader.getLong();
-                } else if ("decimal".equals(fieldName)) {
-                    decimal = reader.getNullable(nonNullReader -> new BigDecimal(nonNullReader.getString()));
-                } else if ("long".equals(fieldName)) {
-                    longProperty = reader.getLong();
-                } else if ("float".equals(fieldName)) {
-                    floatProperty = reader.getDouble();
-                } else if ("double".equals(fieldName)) {
-                    doubleProperty = reader.getDouble();
-                } else if ("duration".equals(fieldName)) {
-                    duration = reader.getNullable(nonNullReader -> Duration.parse(nonNullReader.getString()));
-                } else if ("date".equals(fieldName)) {
-                    date = reader.getNullable(nonNullReader -> LocalDate.parse(nonNullReader.getString()));
-                } else if ("dateTime".equals(fieldName)) {
-                    dateTime = reader
-                        .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
-                } else if ("stringList".equals(fieldName)) {
-                    stringList = reader.readArray(reader1 -> reader1.getString());
-                } else if ("bytesDict".equals(fieldName)) {
-                    bytesDict = reader.readMap(reader1 -> reader1.getBinary());
-                } else if ("url".equals(fieldName)) {
-                    url = reader.getString();
-                } else if ("nullableFloatDict".equals(fieldName)) {
-                    nullableFloatDict = reader.readMap(reader1 -> reader1.getNullable(JsonReader::getDouble));
-                } else if ("encoded".equals(fieldName)) {
-                    encoded = Encoded.fromJson(reader);
-                } else {
-                    reader.skipChildren();
+                switch (fieldName) {
+                    case "boolean":
+                        booleanProperty = reader.getBoolean();
+                        break;
+
+                    case "string":
+                        string = reader.getString();
+                        break;
+
+                    case "bytes":
+                        bytes = reader.getBinary();
+                        break;
+
+                    case "int":
+                        intProperty = reader.getInt();
+                        break;
+
+                    case "safeint":
+                        safeint = reader.getLong();
+                        break;
+
+                    case "decimal":
+                        decimal = reader.getNullable(nonNullReader -> new BigDecimal(nonNullReader.getString()));
+                        break;
+
+                    case "long":
+                        longProperty = reader.getLong();
+                        break;
+
+                    case "float":
+                        floatProperty = reader.getDouble();
+                        break;
+
+                    case "double":
+                        doubleProperty = reader.getDouble();
+                        break;
+
+                    case "duration":
+                        duration = reader.getNullable(nonNullReader -> Duration.parse(nonNullReader.getString()));
+                        break;
+
+                    case "date":
+                        date = reader.getNullable(nonNullReader -> LocalDate.parse(nonNullReader.getString()));
+                        break;
+
+                    case "dateTime":
+                        dateTime = reader
+                            .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
+                        break;
+
+                    case "stringList":
+                        stringList = reader.readArray(reader1 -> reader1.getString());
+                        break;
+
+                    case "bytesDict":
+                        bytesDict = reader.readMap(reader1 -> reader1.getBinary());
+                        break;
+
+                    case "url":
+                        url = reader.getString();
+                        break;
+
+                    case "nullableFloatDict":
+                        nullableFloatDict = reader.readMap(reader1 -> reader1.getNullable(JsonReader::getDouble));
+                        break;
+
+                    case "encoded":
+                        encoded = Encoded.fromJson(reader);
+                        break;
+
+                    default:
+                        reader.skipChildren();
+                        break;
                 }
             }
             return new Builtin(booleanProperty, string, bytes, intProperty, safeint, decimal, longProperty,
@@ -70,32 +70,35 @@ public final class GrandChildWithAnotherDiscriminator extends ChildWithAnotherDi
      */
     @Generated
     public static GrandChildWithAnotherDiscriminator fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            String discriminator = null;
-            String aProperty = null;
-            String yetAnotherProperty = null;
-            String differentDiscriminator = "anotherValue";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(GrandChildWithAnotherDiscriminator::fromJsonProperties);
+    }
+
+    @Generated
+    static GrandChildWithAnotherDiscriminator fromJsonProperties(JsonReader reader) throws IOException {
+        String discriminator = null;
+        String aProperty = null;
+        String yetAnotherProperty = null;
+        String differentDiscriminator = "anotherValue";
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("discriminator".equals(fieldName)) {
-                    discriminator = reader.getString();
-                } else if ("aProperty".equals(fieldName)) {
-                    aProperty = reader.getString();
-                } else if ("yetAnotherProperty".equals(fieldName)) {
-                    yetAnotherProperty = reader.getString();
-                } else if ("differentDiscriminator".equals(fieldName)) {
-                    differentDiscriminator = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("discriminator".equals(fieldName)) {
+                discriminator = reader.getString();
+            } else if ("aProperty".equals(fieldName)) {
+                aProperty = reader.getString();
+            } else if ("yetAnotherProperty".equals(fieldName)) {
+                yetAnotherProperty = reader.getString();
+            } else if ("differentDiscriminator".equals(fieldName)) {
+                differentDiscriminator = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            GrandChildWithAnotherDiscriminator deserializedGrandChildWithAnotherDiscriminator
-                = new GrandChildWithAnotherDiscriminator(discriminator, aProperty, yetAnotherProperty);
-            deserializedGrandChildWithAnotherDiscriminator.differentDiscriminator = differentDiscriminator;
+        }
+        GrandChildWithAnotherDiscriminator deserializedGrandChildWithAnotherDiscriminator
+            = new GrandChildWithAnotherDiscriminator(discriminator, aProperty, yetAnotherProperty);
+        deserializedGrandChildWithAnotherDiscriminator.differentDiscriminator = differentDiscriminator;
 
-            return deserializedGrandChildWithAnotherDiscriminator;
-        });
+        return deserializedGrandChildWithAnotherDiscriminator;
     }
 }
@@ -69,29 +69,32 @@ public final class GrandChildWithRequiredProperty extends ChildWithRequiredPrope
      */
     @Generated
     public static GrandChildWithRequiredProperty fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            String aProperty = null;
-            String anotherProperty = null;
-            String discriminator = "aValue";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(GrandChildWithRequiredProperty::fromJsonProperties);
+    }
+
+    @Generated
+    static GrandChildWithRequiredProperty fromJsonProperties(JsonReader reader) throws IOException {
+        String aProperty = null;
+        String anotherProperty = null;
+        String discriminator = "aValue";
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("aProperty".equals(fieldName)) {
-                    aProperty = reader.getString();
-                } else if ("anotherProperty".equals(fieldName)) {
-                    anotherProperty = reader.getString();
-                } else if ("discriminator".equals(fieldName)) {
-                    discriminator = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("aProperty".equals(fieldName)) {
+                aProperty = reader.getString();
+            } else if ("anotherProperty".equals(fieldName)) {
+                anotherProperty = reader.getString();
+            } else if ("discriminator".equals(fieldName)) {
+                discriminator = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            GrandChildWithRequiredProperty deserializedGrandChildWithRequiredProperty
-                = new GrandChildWithRequiredProperty(discriminator, aProperty, anotherProperty);
-            deserializedGrandChildWithRequiredProperty.discriminator = discriminator;
+        }
+        GrandChildWithRequiredProperty deserializedGrandChildWithRequiredProperty
+            = new GrandChildWithRequiredProperty(discriminator, aProperty, anotherProperty);
+        deserializedGrandChildWithRequiredProperty.discriminator = discriminator;
 
-            return deserializedGrandChildWithRequiredProperty;
-        });
+        return deserializedGrandChildWithRequiredProperty;
     }
 }
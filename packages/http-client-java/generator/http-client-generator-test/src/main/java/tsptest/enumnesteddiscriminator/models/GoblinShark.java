@@ -84,25 +84,28 @@ public final class GoblinShark extends Shark {
      */
     @Generated
     public static GoblinShark fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int age = 0;
-            SharkKind sharktype = SharkKind.GOBLIN;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(GoblinShark::fromJsonProperties);
+    }
+
+    @Generated
+    static GoblinShark fromJsonProperties(JsonReader reader) throws IOException {
+        int age = 0;
+        SharkKind sharktype = SharkKind.GOBLIN;
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("age".equals(fieldName)) {
-                    age = reader.getInt();
-                } else if ("sharktype".equals(fieldName)) {
-                    sharktype = SharkKind.fromString(reader.getString());
-                } else {
-                    reader.skipChildren();
-                }
+            if ("age".equals(fieldName)) {
+                age = reader.getInt();
+            } else if ("sharktype".equals(fieldName)) {
+                sharktype = SharkKind.fromString(reader.getString());
+            } else {
+                reader.skipChildren();
             }
-            GoblinShark deserializedGoblinShark = new GoblinShark(age);
-            deserializedGoblinShark.sharktype = sharktype;
+        }
+        GoblinShark deserializedGoblinShark = new GoblinShark(age);
+        deserializedGoblinShark.sharktype = sharktype;
 
-            return deserializedGoblinShark;
-        });
+        return deserializedGoblinShark;
     }
 }
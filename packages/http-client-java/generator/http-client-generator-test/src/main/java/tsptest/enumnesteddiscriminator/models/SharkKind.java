@@ -16,13 +16,13 @@ public final class SharkKind extends ExpandableStringEnum<SharkKind> {
      * The kind of shark is saw.
      */
     @Generated
-    public static final SharkKind SAW = fromString("saw");
+    public static final SharkKind SAW = fromString("saw", SharkKind.class);
 
     /**
      * The kind of shark is goblin.
      */
     @Generated
-    public static final SharkKind GOBLIN = fromString("goblin");
+    public static final SharkKind GOBLIN = fromString("goblin", SharkKind.class);
 
     /**
      * Creates a new instance of SharkKind value.
@@ -42,7 +42,19 @@ public final class SharkKind extends ExpandableStringEnum<SharkKind> {
      */
     @Generated
     public static SharkKind fromString(String name) {
-        return fromString(name, SharkKind.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "saw":
+                return SAW;
+
+            case "goblin":
+                return GOBLIN;
+
+            default:
+                return fromString(name, SharkKind.class);
+        }
     }
 
     /**
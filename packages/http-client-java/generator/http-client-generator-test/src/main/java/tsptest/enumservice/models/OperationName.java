@@ -37,6 +37,16 @@ public enum OperationName {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "Read":
+                return READ;
+
+            case "Write":
+                return WRITE;
+
+            default:
+                break;
+        }
         OperationName[] items = OperationName.values();
         for (OperationName item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -42,6 +42,19 @@ public enum SendLongRequestStatus {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "NotStarted":
+                return NOT_STARTED;
+
+            case "InProgress":
+                return IN_PROGRESS;
+
+            case "Completed":
+                return COMPLETED;
+
+            default:
+                break;
+        }
         SendLongRequestStatus[] items = SendLongRequestStatus.values();
         for (SendLongRequestStatus item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
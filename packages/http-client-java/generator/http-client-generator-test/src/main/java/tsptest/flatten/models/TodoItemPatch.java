@@ -11,8 +11,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.flatten.implementation.JsonMergePatchHelper;
 
 /**
@@ -39,10 +37,10 @@ public final class TodoItemPatch implements JsonSerializable<TodoItemPatch> {
     private TodoItemPatchStatus status;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -93,7 +91,7 @@ public final class TodoItemPatch implements JsonSerializable<TodoItemPatch> {
     @Generated
     public TodoItemPatch setTitle(String title) {
         this.title = title;
-        this.updatedProperties.add("title");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -116,7 +114,7 @@ public final class TodoItemPatch implements JsonSerializable<TodoItemPatch> {
     @Generated
     public TodoItemPatch setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -139,7 +137,7 @@ public final class TodoItemPatch implements JsonSerializable<TodoItemPatch> {
     @Generated
     public TodoItemPatch setStatus(TodoItemPatchStatus status) {
         this.status = status;
-        this.updatedProperties.add("status");
+        this.updatedProperties |= 1L << 2;
         return this;
     }
 
@@ -163,21 +161,21 @@ public final class TodoItemPatch implements JsonSerializable<TodoItemPatch> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("title")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             if (this.title == null) {
                 jsonWriter.writeNullField("title");
             } else {
                 jsonWriter.writeStringField("title", this.title);
             }
         }
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
                 jsonWriter.writeStringField("description", this.description);
             }
         }
-        if (updatedProperties.contains("status")) {
+        if ((updatedProperties & (1L << 2)) != 0) {
             if (this.status == null) {
                 jsonWriter.writeNullField("status");
             } else {
@@ -42,6 +42,19 @@ public enum TodoItemPatchStatus {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "NotStarted":
+                return NOT_STARTED;
+
+            case "InProgress":
+                return IN_PROGRESS;
+
+            case "Completed":
+                return COMPLETED;
+
+            default:
+                break;
+        }
         TodoItemPatchStatus[] items = TodoItemPatchStatus.values();
         for (TodoItemPatchStatus item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
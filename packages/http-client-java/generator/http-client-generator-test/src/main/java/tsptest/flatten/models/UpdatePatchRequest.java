@@ -11,8 +11,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.flatten.implementation.JsonMergePatchHelper;
 
 /**
@@ -27,10 +25,10 @@ public final class UpdatePatchRequest implements JsonSerializable<UpdatePatchReq
     private TodoItemPatch patch;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -83,7 +81,7 @@ public final class UpdatePatchRequest implements JsonSerializable<UpdatePatchReq
     @Generated
     public UpdatePatchRequest setPatch(TodoItemPatch patch) {
         this.patch = patch;
-        this.updatedProperties.add("patch");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -105,7 +103,7 @@ public final class UpdatePatchRequest implements JsonSerializable<UpdatePatchReq
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("patch")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             if (this.patch == null) {
                 jsonWriter.writeNullField("patch");
             } else {
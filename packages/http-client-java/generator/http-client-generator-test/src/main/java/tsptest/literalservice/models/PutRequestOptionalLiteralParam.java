@@ -32,6 +32,13 @@ public enum PutRequestOptionalLiteralParam {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "optionalLiteralParam":
+                return OPTIONAL_LITERAL_PARAM;
+
+            default:
+                break;
+        }
         PutRequestOptionalLiteralParam[] items = PutRequestOptionalLiteralParam.values();
         for (PutRequestOptionalLiteralParam item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
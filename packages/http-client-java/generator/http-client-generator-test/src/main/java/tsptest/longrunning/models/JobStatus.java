@@ -16,31 +16,31 @@ public final class JobStatus extends ExpandableStringEnum<JobStatus> {
      * Static value notStarted for JobStatus.
      */
     @Generated
-    public static final JobStatus NOT_STARTED = fromString("notStarted");
+    public static final JobStatus NOT_STARTED = fromString("notStarted", JobStatus.class);
 
     /**
      * Static value running for JobStatus.
      */
     @Generated
-    public static final JobStatus RUNNING = fromString("running");
+    public static final JobStatus RUNNING = fromString("running", JobStatus.class);
 
     /**
      * Static value Succeeded for JobStatus.
      */
     @Generated
-    public static final JobStatus SUCCEEDED = fromString("Succeeded");
+    public static final JobStatus SUCCEEDED = fromString("Succeeded", JobStatus.class);
 
     /**
      * Static value Failed for JobStatus.
      */
     @Generated
-    public static final JobStatus FAILED = fromString("Failed");
+    public static final JobStatus FAILED = fromString("Failed", JobStatus.class);
 
     /**
      * Static value canceled for JobStatus.
      */
     @Generated
-    public static final JobStatus CANCELED = fromString("canceled");
+    public static final JobStatus CANCELED = fromString("canceled", JobStatus.class);
 
     /**
      * Creates a new instance of JobStatus value.
@@ -60,7 +60,28 @@ public final class JobStatus extends ExpandableStringEnum<JobStatus> {
      */
     @Generated
     public static JobStatus fromString(String name) {
-        return fromString(name, JobStatus.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "notStarted":
+                return NOT_STARTED;
+
+            case "running":
+                return RUNNING;
+
+            case "Succeeded":
+                return SUCCEEDED;
+
+            case "Failed":
+                return FAILED;
+
+            case "canceled":
+                return CANCELED;
+
+            default:
+                return fromString(name, JobStatus.class);
+        }
     }
 
     /**
@@ -16,13 +16,13 @@ public final class ImageType extends ExpandableStringEnum<ImageType> {
      * Static value JPEG for ImageType.
      */
     @Generated
-    public static final ImageType JPEG = fromString("JPEG");
+    public static final ImageType JPEG = fromString("JPEG", ImageType.class);
 
     /**
      * Static value PNG for ImageType.
      */
     @Generated
-    public static final ImageType PNG = fromString("PNG");
+    public static final ImageType PNG = fromString("PNG", ImageType.class);
 
     /**
      * Creates a new instance of ImageType value.
@@ -42,7 +42,19 @@ public final class ImageType extends ExpandableStringEnum<ImageType> {
      */
     @Generated
     public static ImageType fromString(String name) {
-        return fromString(name, ImageType.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "JPEG":
+                return JPEG;
+
+            case "PNG":
+                return PNG;
+
+            default:
+                return fromString(name, ImageType.class);
+        }
     }
 
     /**
@@ -83,25 +83,28 @@ public final class BytesData extends Data {
      */
     @Generated
     public static BytesData fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            byte[] dataAsBytes = null;
-            String type = "bytes";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(BytesData::fromJsonProperties);
+    }
+
+    @Generated
+    static BytesData fromJsonProperties(JsonReader reader) throws IOException {
+        byte[] dataAsBytes = null;
+        String type = "bytes";
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("data_bytes".equals(fieldName)) {
-                    dataAsBytes = reader.getBinary();
-                } else if ("@data.kind".equals(fieldName)) {
-                    type = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("data_bytes".equals(fieldName)) {
+                dataAsBytes = reader.getBinary();
+            } else if ("@data.kind".equals(fieldName)) {
+                type = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            BytesData deserializedBytesData = new BytesData(dataAsBytes);
-            deserializedBytesData.type = type;
+        }
+        BytesData deserializedBytesData = new BytesData(dataAsBytes);
+        deserializedBytesData.type = type;
 
-            return deserializedBytesData;
-        });
+        return deserializedBytesData;
     }
 }
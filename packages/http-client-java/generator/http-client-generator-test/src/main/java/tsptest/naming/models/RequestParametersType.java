@@ -37,6 +37,16 @@ public enum RequestParametersType {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "Type1":
+                return TYPE1;
+
+            case "Type2":
+                return TYPE2;
+
+            default:
+                break;
+        }
         RequestParametersType[] items = RequestParametersType.values();
         for (RequestParametersType item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -405,54 +405,97 @@ public final class AllPropertiesOptional implements JsonSerializable<AllProperti
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("boolean".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.booleanProperty = reader.getNullable(JsonReader::getBoolean);
-                } else if ("booleanNullable".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.booleanNullable = reader.getNullable(JsonReader::getBoolean);
-                } else if ("booleanRequired".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.booleanRequired = reader.getNullable(JsonReader::getBoolean);
-                } else if ("booleanRequiredNullable".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.booleanRequiredNullable
-                        = reader.getNullable(JsonReader::getBoolean);
-                } else if ("string".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.string = reader.getString();
-                } else if ("stringNullable".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.stringNullable = reader.getString();
-                } else if ("stringRequired".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.stringRequired = reader.getString();
-                } else if ("stringRequiredNullable".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.stringRequiredNullable = reader.getString();
-                } else if ("bytes".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.bytes = reader.getBinary();
-                } else if ("int".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.intProperty = reader.getNullable(JsonReader::getInt);
-                } else if ("long".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.longProperty = reader.getNullable(JsonReader::getLong);
-                } else if ("float".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.floatProperty = reader.getNullable(JsonReader::getDouble);
-                } else if ("double".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.doubleProperty = reader.getNullable(JsonReader::getDouble);
-                } else if ("duration".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.duration
-                        = reader.getNullable(nonNullReader -> Duration.parse(nonNullReader.getString()));
-                } else if ("dateTime".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.dateTime = reader
-                        .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
-                } else if ("stringList".equals(fieldName)) {
-                    List<String> stringList = reader.readArray(reader1 -> reader1.getString());
-                    deserializedAllPropertiesOptional.stringList = stringList;
-                } else if ("bytesDict".equals(fieldName)) {
-                    Map<String, byte[]> bytesDict = reader.readMap(reader1 -> reader1.getBinary());
-                    deserializedAllPropertiesOptional.bytesDict = bytesDict;
-                } else if ("epochDateTimeRequiredNullable".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.epochDateTimeRequiredNullable
-                        = reader.getNullable(JsonReader::getLong);
-                } else if ("epochDateTimeNullable".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.epochDateTimeNullable = reader.getNullable(JsonReader::getLong);
-                } else if ("immutable".equals(fieldName)) {
-                    deserializedAllPropertiesOptional.immutable = ImmutableModel.fromJson(reader);
-                } else {
-                    reader.skipChildren();
+                switch (fieldName) {
+                    case "boolean":
+                        deserializedAllPropertiesOptional.booleanProperty = reader.getNullable(JsonReader::getBoolean);
+                        break;
+
+                    case "booleanNullable":
+                        deserializedAllPropertiesOptional.booleanNullable = reader.getNullable(JsonReader::getBoolean);
+                        break;
+
+                    case "booleanRequired":
+                        deserializedAllPropertiesOptional.booleanRequired = reader.getNullable(JsonReader::getBoolean);
+                        break;
+
+                    case "booleanRequiredNullable":
+                        deserializedAllPropertiesOptional.booleanRequiredNullable
+                            = reader.getNullable(JsonReader::getBoolean);
+                        break;
+
+                    case "string":
+                        deserializedAllPropertiesOptional.string = reader.getString();
+                        break;
+
+                    case "stringNullable":
+                        deserializedAllPropertiesOptional.stringNullable = reader.getString();
+                        break;
+
+                    case "stringRequired":
+                        deserializedAllPropertiesOptional.stringRequired = reader.getString();
+                        break;
+
+                    case "stringRequiredNullable":
+                        deserializedAllPropertiesOptional.stringRequiredNullable = reader.getString();
+                        break;
+
+                    case "bytes":
+                        deserializedAllPropertiesOptional.bytes = reader.getBinary();
+                        break;
+
+                    case "int":
+                        deserializedAllPropertiesOptional.intProperty = reader.getNullable(JsonReader::getInt);
+                        break;
+
+                    case "long":
+                        deserializedAllPropertiesOptional.longProperty = reader.getNullable(JsonReader::getLong);
+                        break;
+
+                    case "float":
+                        deserializedAllPropertiesOptional.floatProperty = reader.getNullable(JsonReader::getDouble);
+                        break;
+
+                    case "double":
+                        deserializedAllPropertiesOptional.doubleProperty = reader.getNullable(JsonReader::getDouble);
+                        break;
+
+                    case "duration":
+                        deserializedAllPropertiesOptional.duration
+                            = reader.getNullable(nonNullReader -> Duration.parse(nonNullReader.getString()));
+                        break;
+
+                    case "dateTime":
+                        deserializedAllPropertiesOptional.dateTime = reader
+                            .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
+                        break;
+
+                    case "stringList":
+                        List<String> stringList = reader.readArray(reader1 -> reader1.getString());
+                        deserializedAllPropertiesOptional.stringList = stringList;
+                        break;
+
+                    case "bytesDict":
+                        Map<String, byte[]> bytesDict = reader.readMap(reader1 -> reader1.getBinary());
+                        deserializedAllPropertiesOptional.bytesDict = bytesDict;
+                        break;
+
+                    case "epochDateTimeRequiredNullable":
+                        deserializedAllPropertiesOptional.epochDateTimeRequiredNullable
+                            = reader.getNullable(JsonReader::getLong);
+                        break;
+
+                    case "epochDateTimeNullable":
+                        deserializedAllPropertiesOptional.epochDateTimeNullable
+                            = reader.getNullable(JsonReader::getLong);
+                        break;
+
+                    case "immutable":
+                        deserializedAllPropertiesOptional.immutable = ImmutableModel.fromJson(reader);
+                        break;
+
+                    default:
+                        reader.skipChildren();
+                        break;
                 }
             }
 
@@ -595,51 +595,91 @@ public final class Optional implements JsonSerializable<Optional> {
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
-                if ("booleanRequired".equals(fieldName)) {
-                    booleanRequired = reader.getBoolean();
-                } else if ("booleanRequiredNullable".equals(fieldName)) {
-                    booleanRequiredNullable = reader.getNullable(JsonReader::getBoolean);
-                } else if ("stringRequired".equals(fieldName)) {
-                    stringRequired = reader.getString();
-                } else if ("stringRequiredNullable".equals(fieldName)) {
-                    stringRequiredNullable = reader.getString();
-                } else if ("epochDateTimeRequiredNullable".equals(fieldName)) {
-                    Long epochDateTimeRequiredNullableHolder = reader.getNullable(JsonReader::getLong);
-                    if (epochDateTimeRequiredNullableHolder != null) {
-                        epochDateTimeRequiredNullable = OffsetDateTime
-                            .ofInstant(Instant.ofEpochSecond(epochDateTimeRequiredNullableHolder), ZoneOffset.UTC);
-                    }
-                } else if ("boolean".equals(fieldName)) {
-                    booleanProperty = reader.getNullable(JsonReader::getBoolean);
-                } else if ("booleanNullable".equals(fieldName)) {
-                    booleanNullable = reader.getNullable(JsonReader::getBoolean);
-                } else if ("string".equals(fieldName)) {
-                    string = reader.getString();
-                } else if ("stringNullable".equals(fieldName)) {
-                    stringNullable = reader.getString();
-                } else if ("bytes".equals(fieldName)) {
-                    bytes = reader.getBinary();
-                } else if ("int".equals(fieldName)) {
-                    intProperty = reader.getNullable(JsonReader::getInt);
-                } else if ("long".equals(fieldName)) {
-                    longProperty = reader.getNullable(JsonReader::getLong);
-                } else if ("float".equals(fieldName)) {
-                    floatProperty = reader.getNullable(JsonReader::getDouble);
-                } else if ("double".equals(fieldName)) {
-                    doubleProperty = reader.getNullable(JsonReader::getDouble);
-                } else if ("duration".equals(fieldName)) {
-                    duration = reader.getNullable(nonNullReader -> Duration.parse(nonNullReader.getString()));
-                } else if ("dateTime".equals(fieldName)) {
-                    dateTime = reader
-                        .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
-                } else if ("stringList".equals(fieldName)) {
-                    stringList = reader.readArray(reader1 -> reader1.getString());
-                } else if ("bytesDict".equals(fieldName)) {
-                    bytesDict = reader.readMap(reader1 -> reader1.getBinary());
-                } else if ("epochDateTimeNullable".equals(fieldName)) {
-                    epochDateTimeNullable = reader.getNullable(JsonReader::getLong);
-                } else {
-                    reader.skipChildren();
+                switch (fieldName) {
+                    case "booleanRequired":
+                        booleanRequired = reader.getBoolean();
+                        break;
+
+                    case "booleanRequiredNullable":
+                        booleanRequiredNullable = reader.getNullable(JsonReader::getBoolean);
+                        break;
+
+                    case "stringRequired":
+                        stringRequired = reader.getString();
+                        break;
+
+                    case "stringRequiredNullable":
+                        stringRequiredNullable = reader.getString();
+                        break;
+
+                    case "epochDateTimeRequiredNullable":
+                        Long epochDateTimeRequiredNullableHolder = reader.getNullable(JsonReader::getLong);
+                        if (epochDateTimeRequiredNullableHolder != null) {
+                            epochDateTimeRequiredNullable = OffsetDateTime
+                                .ofInstant(Instant.ofEpochSecond(epochDateTimeRequiredNullableHolder), ZoneOffset.UTC);
+                        }
+                        break;
+
+                    case "boolean":
+                        booleanProperty = reader.getNullable(JsonReader::getBoolean);
+                        break;
+
+                    case "booleanNullable":
+                        booleanNullable = reader.getNullable(JsonReader::getBoolean);
+                        break;
+
+                    case "string":
+                        string = reader.getString();
+                        break;
+
+                    case "stringNullable":
+                        stringNullable = reader.getString();
+                        break;
+
+                    case "bytes":
+                        bytes = reader.getBinary();
+                        break;
+
+                    case "int":
+                        intProperty = reader.getNullable(JsonReader::getInt);
+                        break;
+
+                    case "long":
+                        longProperty = reader.getNullable(JsonReader::getLong);
+                        break;
+
+                    case "float":
+                        floatProperty = reader.getNullable(JsonReader::getDouble);
+                        break;
+
+                    case "double":
+                        doubleProperty = reader.getNullable(JsonReader::getDouble);
+                        break;
+
+                    case "duration":
+                        duration = reader.getNullable(nonNullReader -> Duration.parse(nonNullReader.getString()));
+                        break;
+
+                    case "dateTime":
+                        dateTime = reader
+                            .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
+                        break;
+
+                    case "stringList":
+                        stringList = reader.readArray(reader1 -> reader1.getString());
+                        break;
+
+                    case "bytesDict":
+                        bytesDict = reader.readMap(reader1 -> reader1.getBinary());
+                        break;
+
+                    case "epochDateTimeNullable":
+                        epochDateTimeNullable = reader.getNullable(JsonReader::getLong);
+                        break;
+
+                    default:
+                        reader.skipChildren();
+                        break;
                 }
             }
             Optional deserializedOptional = new Optional(booleanRequired, booleanRequiredNullable, stringRequired,
@@ -6,13 +6,12 @@ package tsptest.patch.models;
 
 import com.azure.core.annotation.Fluent;
 import com.azure.core.annotation.Generated;
+import com.azure.json.JsonProviders;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.patch.implementation.JsonMergePatchHelper;
 
 /**
@@ -51,10 +50,10 @@ public class Fish implements JsonSerializable<Fish> {
     private String color;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -156,7 +155,7 @@ public class Fish implements JsonSerializable<Fish> {
     @Generated
     public Fish setAge(int age) {
         this.age = age;
-        this.updatedProperties.add("age");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -179,7 +178,7 @@ public class Fish implements JsonSerializable<Fish> {
     @Generated
     public Fish setColor(String color) {
         this.color = color;
-        this.updatedProperties.add("color");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -204,10 +203,10 @@ public class Fish implements JsonSerializable<Fish> {
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("kind", this.kind);
-        if (updatedProperties.contains("age")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             jsonWriter.writeIntField("age", this.age);
         }
-        if (updatedProperties.contains("color")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (this.color == null) {
                 jsonWriter.writeNullField("color");
             } else {
@@ -230,7 +229,37 @@ public class Fish implements JsonSerializable<Fish> {
     public static Fish fromJson(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
             String discriminatorValue = null;
-            try (JsonReader readerToUse = reader.bufferObject()) {
+            JsonReader bufferedReader;
+            if (reader.nextToken() == JsonToken.FIELD_NAME && "kind".equals(reader.getFieldName())) {
+                // The discriminator is the first property, no need to buffer the object.
+                reader.nextToken();
+                discriminatorValue = reader.getString();
+                if ("salmon".equals(discriminatorValue)) {
+                    return Salmon.fromJsonProperties(reader);
+                }
+
+                // Buffer the rest of the object, after the discriminator that was read.
+                StringBuilder json = new StringBuilder("{\"kind\":");
+                if (reader.currentToken() == JsonToken.STRING) {
+                    json.append('"').append(reader.getRawText()).append('"');
+                } else {
+                    json.append(reader.getRawText());
+                }
+                if (reader.nextToken() == JsonToken.END_OBJECT) {
+                    json.append('}');
+                } else {
+                    int fieldsStart = json.length();
+                    reader.readRemainingFieldsAsJsonObject(json);
+                    json.setCharAt(fieldsStart, ',');
+                }
+                bufferedReader = JsonProviders.createReader(json.toString());
+            } else if (reader.currentToken() == JsonToken.FIELD_NAME) {
+                bufferedReader = reader.bufferObject();
+            } else {
+                // Empty object.
+                bufferedReader = JsonProviders.createReader("{}");
+            }
+            try (JsonReader readerToUse = bufferedReader) {
                 readerToUse.nextToken(); // Prepare for reading
                 while (readerToUse.nextToken() != JsonToken.END_OBJECT) {
                     String fieldName = readerToUse.getFieldName();
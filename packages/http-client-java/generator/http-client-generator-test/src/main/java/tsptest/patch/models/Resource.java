@@ -11,10 +11,8 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import tsptest.patch.implementation.JsonMergePatchHelper;
 
 /**
@@ -83,10 +81,10 @@ public final class Resource implements JsonSerializable<Resource> {
     private Fish fish;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -157,7 +155,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -181,7 +179,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setMap(Map<String, InnerModel> map) {
         this.map = map;
-        this.updatedProperties.add("map");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -204,7 +202,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setLongValue(Long longValue) {
         this.longValue = longValue;
-        this.updatedProperties.add("longValue");
+        this.updatedProperties |= 1L << 2;
         return this;
     }
 
@@ -227,7 +225,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setIntValue(Integer intValue) {
         this.intValue = intValue;
-        this.updatedProperties.add("intValue");
+        this.updatedProperties |= 1L << 3;
         return this;
     }
 
@@ -250,7 +248,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setEnumValue(ResourceEnumValue enumValue) {
         this.enumValue = enumValue;
-        this.updatedProperties.add("enumValue");
+        this.updatedProperties |= 1L << 4;
         return this;
     }
 
@@ -273,7 +271,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setInnerModelProperty(InnerModel innerModelProperty) {
         this.innerModelProperty = innerModelProperty;
-        this.updatedProperties.add("innerModelProperty");
+        this.updatedProperties |= 1L << 5;
         return this;
     }
 
@@ -296,7 +294,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setArray(List<InnerModel> array) {
         this.array = array;
-        this.updatedProperties.add("array");
+        this.updatedProperties |= 1L << 6;
         return this;
     }
 
@@ -319,7 +317,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setFish(Fish fish) {
         this.fish = fish;
-        this.updatedProperties.add("fish");
+        this.updatedProperties |= 1L << 7;
         return this;
     }
 
@@ -348,14 +346,14 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
                 jsonWriter.writeStringField("description", this.description);
             }
         }
-        if (updatedProperties.contains("map")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (this.map == null) {
                 jsonWriter.writeNullField("map");
             } else {
@@ -370,28 +368,28 @@ public final class Resource implements JsonSerializable<Resource> {
                 });
             }
         }
-        if (updatedProperties.contains("longValue")) {
+        if ((updatedProperties & (1L << 2)) != 0) {
             if (this.longValue == null) {
                 jsonWriter.writeNullField("longValue");
             } else {
                 jsonWriter.writeNumberField("longValue", this.longValue);
             }
         }
-        if (updatedProperties.contains("intValue")) {
+        if ((updatedProperties & (1L << 3)) != 0) {
             if (this.intValue == null) {
                 jsonWriter.writeNullField("intValue");
             } else {
                 jsonWriter.writeNumberField("intValue", this.intValue);
             }
         }
-        if (updatedProperties.contains("enumValue")) {
+        if ((updatedProperties & (1L << 4)) != 0) {
             if (this.enumValue == null) {
                 jsonWriter.writeNullField("enumValue");
             } else {
                 jsonWriter.writeStringField("enumValue", this.enumValue.toString());
             }
         }
-        if (updatedProperties.contains("innerModelProperty")) {
+        if ((updatedProperties & (1L << 5)) != 0) {
             if (this.innerModelProperty == null) {
                 jsonWriter.writeNullField("wireNameForInnerModelProperty");
             } else {
@@ -402,14 +400,14 @@ public final class Resource implements JsonSerializable<Resource> {
                     .prepareModelForJsonMergePatch(this.innerModelProperty, false);
             }
         }
-        if (updatedProperties.contains("array")) {
+        if ((updatedProperties & (1L << 6)) != 0) {
             if (this.array == null) {
                 jsonWriter.writeNullField("array");
             } else {
                 jsonWriter.writeArrayField("array", this.array, (writer, element) -> writer.writeJson(element));
             }
         }
-        if (updatedProperties.contains("fish")) {
+        if ((updatedProperties & (1L << 7)) != 0) {
             if (this.fish == null) {
                 jsonWriter.writeNullField("fish");
             } else {
@@ -10,10 +10,8 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import tsptest.patch.implementation.JsonMergePatchHelper;
 
 /**
@@ -47,10 +45,10 @@ public final class Salmon extends Fish {
     private Fish partner;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     /**
      * Creates an instance of Salmon class.
@@ -89,7 +87,7 @@ public final class Salmon extends Fish {
     @Generated
     public Salmon setFriends(List<Fish> friends) {
         this.friends = friends;
-        this.updatedProperties.add("friends");
+        this.updatedProperties |= 1L << 2;
         return this;
     }
 
@@ -112,7 +110,7 @@ public final class Salmon extends Fish {
     @Generated
     public Salmon setHate(Map<String, Fish> hate) {
         this.hate = hate;
-        this.updatedProperties.add("hate");
+        this.updatedProperties |= 1L << 3;
         return this;
     }
 
@@ -135,7 +133,7 @@ public final class Salmon extends Fish {
     @Generated
     public Salmon setPartner(Fish partner) {
         this.partner = partner;
-        this.updatedProperties.add("partner");
+        this.updatedProperties |= 1L << 4;
         return this;
     }
 
@@ -146,7 +144,7 @@ public final class Salmon extends Fish {
     @Override
     public Salmon setAge(int age) {
         super.setAge(age);
-        this.updatedProperties.add("age");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -157,7 +155,7 @@ public final class Salmon extends Fish {
     @Override
     public Salmon setColor(String color) {
         super.setColor(color);
-        this.updatedProperties.add("color");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -184,10 +182,10 @@ public final class Salmon extends Fish {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("age")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             jsonWriter.writeIntField("age", getAge());
         }
-        if (updatedProperties.contains("color")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (getColor() == null) {
                 jsonWriter.writeNullField("color");
             } else {
@@ -195,14 +193,14 @@ public final class Salmon extends Fish {
             }
         }
         jsonWriter.writeStringField("kind", this.kind);
-        if (updatedProperties.contains("friends")) {
+        if ((updatedProperties & (1L << 2)) != 0) {
             if (this.friends == null) {
                 jsonWriter.writeNullField("friends");
             } else {
                 jsonWriter.writeArrayField("friends", this.friends, (writer, element) -> writer.writeJson(element));
             }
         }
-        if (updatedProperties.contains("hate")) {
+        if ((updatedProperties & (1L << 3)) != 0) {
             if (this.hate == null) {
                 jsonWriter.writeNullField("hate");
             } else {
@@ -217,7 +215,7 @@ public final class Salmon extends Fish {
                 });
             }
         }
-        if (updatedProperties.contains("partner")) {
+        if ((updatedProperties & (1L << 4)) != 0) {
             if (this.partner == null) {
                 jsonWriter.writeNullField("partner");
             } else {
@@ -240,36 +238,39 @@ public final class Salmon extends Fish {
      */
     @Generated
     public static Salmon fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            Salmon deserializedSalmon = new Salmon();
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(Salmon::fromJsonProperties);
+    }
+
+    @Generated
+    static Salmon fromJsonProperties(JsonReader reader) throws IOException {
+        Salmon deserializedSalmon = new Salmon();
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("id".equals(fieldName)) {
-                    JsonMergePatchHelper.getFishAccessor().setId(deserializedSalmon, reader.getString());
-                } else if ("name".equals(fieldName)) {
-                    JsonMergePatchHelper.getFishAccessor().setName(deserializedSalmon, reader.getString());
-                } else if ("age".equals(fieldName)) {
-                    JsonMergePatchHelper.getFishAccessor().setAge(deserializedSalmon, reader.getInt());
-                } else if ("color".equals(fieldName)) {
-                    JsonMergePatchHelper.getFishAccessor().setColor(deserializedSalmon, reader.getString());
-                } else if ("kind".equals(fieldName)) {
-                    deserializedSalmon.kind = reader.getString();
-                } else if ("friends".equals(fieldName)) {
-                    List<Fish> friends = reader.readArray(reader1 -> Fish.fromJson(reader1));
-                    deserializedSalmon.friends = friends;
-                } else if ("hate".equals(fieldName)) {
-                    Map<String, Fish> hate = reader.readMap(reader1 -> Fish.fromJson(reader1));
-                    deserializedSalmon.hate = hate;
-                } else if ("partner".equals(fieldName)) {
-                    deserializedSalmon.partner = Fish.fromJson(reader);
-                } else {
-                    reader.skipChildren();
-                }
+            if ("id".equals(fieldName)) {
+                JsonMergePatchHelper.getFishAccessor().setId(deserializedSalmon, reader.getString());
+            } else if ("name".equals(fieldName)) {
+                JsonMergePatchHelper.getFishAccessor().setName(deserializedSalmon, reader.getString());
+            } else if ("age".equals(fieldName)) {
+                JsonMergePatchHelper.getFishAccessor().setAge(deserializedSalmon, reader.getInt());
+            } else if ("color".equals(fieldName)) {
+                JsonMergePatchHelper.getFishAccessor().setColor(deserializedSalmon, reader.getString());
+            } else if ("kind".equals(fieldName)) {
+                deserializedSalmon.kind = reader.getString();
+            } else if ("friends".equals(fieldName)) {
+                List<Fish> friends = reader.readArray(reader1 -> Fish.fromJson(reader1));
+                deserializedSalmon.friends = friends;
+            } else if ("hate".equals(fieldName)) {
+                Map<String, Fish> hate = reader.readMap(reader1 -> Fish.fromJson(reader1));
+                deserializedSalmon.hate = hate;
+            } else if ("partner".equals(fieldName)) {
+                deserializedSalmon.partner = Fish.fromJson(reader);
+            } else {
+                reader.skipChildren();
             }
+        }
 
-            return deserializedSalmon;
-        });
+        return deserializedSalmon;
     }
 }
@@ -10,8 +10,6 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.patch.implementation.JsonMergePatchHelper;
 
 /**
@@ -32,10 +30,10 @@ public final class SawShark extends Shark {
     private String sharktype = "saw";
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     /**
      * Creates an instance of SawShark class.
@@ -73,7 +71,7 @@ public final class SawShark extends Shark {
     @Override
     public SawShark setWeight(Integer weight) {
         super.setWeight(weight);
-        this.updatedProperties.add("weight");
+        this.updatedProperties |= 1L << 2;
         return this;
     }
 
@@ -84,7 +82,7 @@ public final class SawShark extends Shark {
     @Override
     public SawShark setAge(int age) {
         super.setAge(age);
-        this.updatedProperties.add("age");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -95,7 +93,7 @@ public final class SawShark extends Shark {
     @Override
     public SawShark setColor(String color) {
         super.setColor(color);
-        this.updatedProperties.add("color");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -122,17 +120,17 @@ public final class SawShark extends Shark {
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("kind", this.kind);
-        if (updatedProperties.contains("age")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             jsonWriter.writeIntField("age", getAge());
         }
-        if (updatedProperties.contains("color")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (getColor() == null) {
                 jsonWriter.writeNullField("color");
             } else {
                 jsonWriter.writeStringField("color", getColor());
             }
         }
-        if (updatedProperties.contains("weight")) {
+        if ((updatedProperties & (1L << 2)) != 0) {
             if (getWeight() == null) {
                 jsonWriter.writeNullField("weight");
             } else {
@@ -154,31 +152,34 @@ public final class SawShark extends Shark {
      */
     @Generated
     public static SawShark fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            SawShark deserializedSawShark = new SawShark();
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
-
-                if ("id".equals(fieldName)) {
-                    JsonMergePatchHelper.getFishAccessor().setId(deserializedSawShark, reader.getString());
-                } else if ("name".equals(fieldName)) {
-                    JsonMergePatchHelper.getFishAccessor().setName(deserializedSawShark, reader.getString());
-                } else if ("age".equals(fieldName)) {
-                    JsonMergePatchHelper.getFishAccessor().setAge(deserializedSawShark, reader.getInt());
-                } else if ("color".equals(fieldName)) {
-                    JsonMergePatchHelper.getFishAccessor().setColor(deserializedSawShark, reader.getString());
-                } else if ("weight".equals(fieldName)) {
-                    JsonMergePatchHelper.getSharkAccessor()
-                        .setWeight(deserializedSawShark, reader.getNullable(JsonReader::getInt));
-                } else if ("sharktype".equals(fieldName)) {
-                    deserializedSawShark.sharktype = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+        return jsonReader.readObject(SawShark::fromJsonProperties);
+    }
+
+    @Generated
+    static SawShark fromJsonProperties(JsonReader reader) throws IOException {
+        SawShark deserializedSawShark = new SawShark();
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
+
+            if ("id".equals(fieldName)) {
+                JsonMergePatchHelper.getFishAccessor().setId(deserializedSawShark, reader.getString());
+            } else if ("name".equals(fieldName)) {
+                JsonMergePatchHelper.getFishAccessor().setName(deserializedSawShark, reader.getString());
+            } else if ("age".equals(fieldName)) {
+                JsonMergePatchHelper.getFishAccessor().setAge(deserializedSawShark, reader.getInt());
+            } else if ("color".equals(fieldName)) {
+                JsonMergePatchHelper.getFishAccessor().setColor(deserializedSawShark, reader.getString());
+            } else if ("weight".equals(fieldName)) {
+                JsonMergePatchHelper.getSharkAccessor()
+                    .setWeight(deserializedSawShark, reader.getNullable(JsonReader::getInt));
+            } else if ("sharktype".equals(fieldName)) {
+                deserializedSawShark.sharktype = reader.getString();
+            } else {
+                reader.skipChildren();
             }
+        }
 
-            return deserializedSawShark;
-        });
+        return deserializedSawShark;
     }
 }
@@ -6,12 +6,11 @@ package tsptest.patch.models;
 
 import com.azure.core.annotation.Fluent;
 import com.azure.core.annotation.Generated;
+import com.azure.json.JsonProviders;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.patch.implementation.JsonMergePatchHelper;
 
 /**
@@ -38,10 +37,10 @@ public class Shark extends Fish {
     private Integer weight;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     static {
         JsonMergePatchHelper.setSharkAccessor(new JsonMergePatchHelper.SharkAccessor() {
@@ -99,7 +98,7 @@ public class Shark extends Fish {
     @Generated
     public Shark setWeight(Integer weight) {
         this.weight = weight;
-        this.updatedProperties.add("weight");
+        this.updatedProperties |= 1L << 2;
         return this;
     }
 
@@ -110,7 +109,7 @@ public class Shark extends Fish {
     @Override
     public Shark setAge(int age) {
         super.setAge(age);
-        this.updatedProperties.add("age");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -121,7 +120,7 @@ public class Shark extends Fish {
     @Override
     public Shark setColor(String color) {
         super.setColor(color);
-        this.updatedProperties.add("color");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -148,10 +147,10 @@ public class Shark extends Fish {
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("kind", this.kind);
-        if (updatedProperties.contains("age")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             jsonWriter.writeIntField("age", getAge());
         }
-        if (updatedProperties.contains("color")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (getColor() == null) {
                 jsonWriter.writeNullField("color");
             } else {
@@ -159,7 +158,7 @@ public class Shark extends Fish {
             }
         }
         jsonWriter.writeStringField("sharktype", this.sharktype);
-        if (updatedProperties.contains("weight")) {
+        if ((updatedProperties & (1L << 2)) != 0) {
             if (this.weight == null) {
                 jsonWriter.writeNullField("weight");
             } else {
@@ -182,7 +181,37 @@ public class Shark extends Fish {
     public static Shark fromJson(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
             String discriminatorValue = null;
-            try (JsonReader readerToUse = reader.bufferObject()) {
+            JsonReader bufferedReader;
+            if (reader.nextToken() == JsonToken.FIELD_NAME && "sharktype".equals(reader.getFieldName())) {
+                // The discriminator is the first property, no need to buffer the object.
+                reader.nextToken();
+                discriminatorValue = reader.getString();
+                if ("saw".equals(discriminatorValue)) {
+                    return SawShark.fromJsonProperties(reader);
+                }
+
+                // Buffer the rest of the object, after the discriminator that was read.
+                StringBuilder json = new StringBuilder("{\"sharktype\":");
+                if (reader.currentToken() == JsonToken.STRING) {
+                    json.append('"').append(reader.getRawText()).append('"');
+                } else {
+                    json.append(reader.getRawText());
+                }
+                if (reader.nextToken() == JsonToken.END_OBJECT) {
+                    json.append('}');
+                } else {
+                    int fieldsStart = json.length();
+                    reader.readRemainingFieldsAsJsonObject(json);
+                    json.setCharAt(fieldsStart, ',');
+                }
+                bufferedReader = JsonProviders.createReader(json.toString());
+            } else if (reader.currentToken() == JsonToken.FIELD_NAME) {
+                bufferedReader = reader.bufferObject();
+            } else {
+                // Empty object.
+                bufferedReader = JsonProviders.createReader("{}");
+            }
+            try (JsonReader readerToUse = bufferedReader) {
                 readerToUse.nextToken(); // Prepare for reading
                 while (readerToUse.nextToken() != JsonToken.END_OBJECT) {
                     String fieldName = readerToUse.getFieldName();
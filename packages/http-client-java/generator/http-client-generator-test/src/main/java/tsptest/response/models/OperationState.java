@@ -16,31 +16,31 @@ public final class OperationState extends ExpandableStringEnum<OperationState> {
      * The operation has not started.
      */
     @Generated
-    public static final OperationState NOT_STARTED = fromString("NotStarted");
+    public static final OperationState NOT_STARTED = fromString("NotStarted", OperationState.class);
 
     /**
      * The operation is in progress.
      */
     @Generated
-    public static final OperationState RUNNING = fromString("Running");
+    public static final OperationState RUNNING = fromString("Running", OperationState.class);
 
     /**
      * The operation has completed successfully.
      */
     @Generated
-    public static final OperationState SUCCEEDED = fromString("Succeeded");
+    public static final OperationState SUCCEEDED = fromString("Succeeded", OperationState.class);
 
     /**
      * The operation has failed.
      */
     @Generated
-    public static final OperationState FAILED = fromString("Failed");
+    public static final OperationState FAILED = fromString("Failed", OperationState.class);
 
     /**
      * The operation has been canceled by the user.
      */
     @Generated
-    public static final OperationState CANCELED = fromString("Canceled");
+    public static final OperationState CANCELED = fromString("Canceled", OperationState.class);
 
     /**
      * Creates a new instance of OperationState value.
@@ -60,7 +60,28 @@ public final class OperationState extends ExpandableStringEnum<OperationState> {
      */
     @Generated
     public static OperationState fromString(String name) {
-        return fromString(name, OperationState.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "NotStarted":
+                return NOT_STARTED;
+
+            case "Running":
+                return RUNNING;
+
+            case "Succeeded":
+                return SUCCEEDED;
+
+            case "Failed":
+                return FAILED;
+
+            case "Canceled":
+                return CANCELED;
+
+            default:
+                return fromString(name, OperationState.class);
+        }
     }
 
     /**
@@ -11,8 +11,6 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.HashSet;
-import java.util.Set;
 import tsptest.specialheaders.implementation.JsonMergePatchHelper;
 
 /**
@@ -45,10 +43,10 @@ public final class Resource implements JsonSerializable<Resource> {
     private String type;
 
     /**
-     * Stores updated model property, the value is property name, not serialized name.
+     * Stores updated model properties, the bit of a property is set when the property is updated.
      */
     @Generated
-    private final Set<String> updatedProperties = new HashSet<>();
+    private long updatedProperties;
 
     @Generated
     private boolean jsonMergePatch;
@@ -119,7 +117,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setDescription(String description) {
         this.description = description;
-        this.updatedProperties.add("description");
+        this.updatedProperties |= 1L << 0;
         return this;
     }
 
@@ -143,7 +141,7 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     public Resource setType(String type) {
         this.type = type;
-        this.updatedProperties.add("type");
+        this.updatedProperties |= 1L << 1;
         return this;
     }
 
@@ -166,14 +164,14 @@ public final class Resource implements JsonSerializable<Resource> {
     @Generated
     private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        if (updatedProperties.contains("description")) {
+        if ((updatedProperties & (1L << 0)) != 0) {
             if (this.description == null) {
                 jsonWriter.writeNullField("description");
             } else {
                 jsonWriter.writeStringField("description", this.description);
             }
         }
-        if (updatedProperties.contains("type")) {
+        if ((updatedProperties & (1L << 1)) != 0) {
             if (this.type == null) {
                 jsonWriter.writeNullField("type");
             } else {
@@ -16,7 +16,7 @@ public final class DogKind extends ExpandableStringEnum<DogKind> {
      * Species golden.
      */
     @Generated
-    public static final DogKind GOLDEN = fromString("golden");
+    public static final DogKind GOLDEN = fromString("golden", DogKind.class);
 
     /**
      * Creates a new instance of DogKind value.
@@ -36,7 +36,16 @@ public final class DogKind extends ExpandableStringEnum<DogKind> {
      */
     @Generated
     public static DogKind fromString(String name) {
-        return fromString(name, DogKind.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "golden":
+                return GOLDEN;
+
+            default:
+                return fromString(name, DogKind.class);
+        }
     }
 
     /**
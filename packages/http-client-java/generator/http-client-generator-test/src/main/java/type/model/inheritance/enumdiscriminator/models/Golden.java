@@ -66,25 +66,28 @@ public final class Golden extends Dog {
      */
     @Generated
     public static Golden fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int weight = 0;
-            DogKind kind = DogKind.GOLDEN;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(Golden::fromJsonProperties);
+    }
+
+    @Generated
+    static Golden fromJsonProperties(JsonReader reader) throws IOException {
+        int weight = 0;
+        DogKind kind = DogKind.GOLDEN;
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("weight".equals(fieldName)) {
-                    weight = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = DogKind.fromString(reader.getString());
-                } else {
-                    reader.skipChildren();
-                }
+            if ("weight".equals(fieldName)) {
+                weight = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = DogKind.fromString(reader.getString());
+            } else {
+                reader.skipChildren();
             }
-            Golden deserializedGolden = new Golden(weight);
-            deserializedGolden.kind = kind;
+        }
+        Golden deserializedGolden = new Golden(weight);
+        deserializedGolden.kind = kind;
 
-            return deserializedGolden;
-        });
+        return deserializedGolden;
     }
 }
@@ -84,25 +84,28 @@ public final class SawShark extends Shark {
      */
     @Generated
     public static SawShark fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int age = 0;
-            String sharktype = "saw";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(SawShark::fromJsonProperties);
+    }
+
+    @Generated
+    static SawShark fromJsonProperties(JsonReader reader) throws IOException {
+        int age = 0;
+        String sharktype = "saw";
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("age".equals(fieldName)) {
-                    age = reader.getInt();
-                } else if ("sharktype".equals(fieldName)) {
-                    sharktype = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("age".equals(fieldName)) {
+                age = reader.getInt();
+            } else if ("sharktype".equals(fieldName)) {
+                sharktype = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            SawShark deserializedSawShark = new SawShark(age);
-            deserializedSawShark.sharktype = sharktype;
+        }
+        SawShark deserializedSawShark = new SawShark(age);
+        deserializedSawShark.sharktype = sharktype;
 
-            return deserializedSawShark;
-        });
+        return deserializedSawShark;
     }
 }
@@ -156,37 +156,40 @@ public final class Eagle extends Bird {
      */
     @Generated
     public static Eagle fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int wingspan = 0;
-            String kind = "eagle";
-            List<Bird> friends = null;
-            Map<String, Bird> hate = null;
-            Bird partner = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
-
-                if ("wingspan".equals(fieldName)) {
-                    wingspan = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else if ("friends".equals(fieldName)) {
-                    friends = reader.readArray(reader1 -> Bird.fromJson(reader1));
-                } else if ("hate".equals(fieldName)) {
-                    hate = reader.readMap(reader1 -> Bird.fromJson(reader1));
-                } else if ("partner".equals(fieldName)) {
-                    partner = Bird.fromJson(reader);
-                } else {
-                    reader.skipChildren();
-                }
+        return jsonReader.readObject(Eagle::fromJsonProperties);
+    }
+
+    @Generated
+    static Eagle fromJsonProperties(JsonReader reader) throws IOException {
+        int wingspan = 0;
+        String kind = "eagle";
+        List<Bird> friends = null;
+        Map<String, Bird> hate = null;
+        Bird partner = null;
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
+
+            if ("wingspan".equals(fieldName)) {
+                wingspan = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else if ("friends".equals(fieldName)) {
+                friends = reader.readArray(reader1 -> Bird.fromJson(reader1));
+            } else if ("hate".equals(fieldName)) {
+                hate = reader.readMap(reader1 -> Bird.fromJson(reader1));
+            } else if ("partner".equals(fieldName)) {
+                partner = Bird.fromJson(reader);
+            } else {
+                reader.skipChildren();
             }
-            Eagle deserializedEagle = new Eagle(wingspan);
-            deserializedEagle.kind = kind;
-            deserializedEagle.friends = friends;
-            deserializedEagle.hate = hate;
-            deserializedEagle.partner = partner;
-
-            return deserializedEagle;
-        });
+        }
+        Eagle deserializedEagle = new Eagle(wingspan);
+        deserializedEagle.kind = kind;
+        deserializedEagle.friends = friends;
+        deserializedEagle.hate = hate;
+        deserializedEagle.partner = partner;
+
+        return deserializedEagle;
     }
 }
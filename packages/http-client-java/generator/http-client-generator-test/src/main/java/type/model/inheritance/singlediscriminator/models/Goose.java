@@ -66,25 +66,28 @@ public final class Goose extends Bird {
      */
     @Generated
     public static Goose fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int wingspan = 0;
-            String kind = "goose";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(Goose::fromJsonProperties);
+    }
+
+    @Generated
+    static Goose fromJsonProperties(JsonReader reader) throws IOException {
+        int wingspan = 0;
+        String kind = "goose";
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("wingspan".equals(fieldName)) {
-                    wingspan = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("wingspan".equals(fieldName)) {
+                wingspan = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            Goose deserializedGoose = new Goose(wingspan);
-            deserializedGoose.kind = kind;
+        }
+        Goose deserializedGoose = new Goose(wingspan);
+        deserializedGoose.kind = kind;
 
-            return deserializedGoose;
-        });
+        return deserializedGoose;
     }
 }
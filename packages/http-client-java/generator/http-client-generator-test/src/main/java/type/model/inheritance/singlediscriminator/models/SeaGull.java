@@ -66,25 +66,28 @@ public final class SeaGull extends Bird {
      */
     @Generated
     public static SeaGull fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            int wingspan = 0;
-            String kind = "seagull";
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
+        return jsonReader.readObject(SeaGull::fromJsonProperties);
+    }
+
+    @Generated
+    static SeaGull fromJsonProperties(JsonReader reader) throws IOException {
+        int wingspan = 0;
+        String kind = "seagull";
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                if ("wingspan".equals(fieldName)) {
-                    wingspan = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else {
-                    reader.skipChildren();
-                }
+            if ("wingspan".equals(fieldName)) {
+                wingspan = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else {
+                reader.skipChildren();
             }
-            SeaGull deserializedSeaGull = new SeaGull(wingspan);
-            deserializedSeaGull.kind = kind;
+        }
+        SeaGull deserializedSeaGull = new SeaGull(wingspan);
+        deserializedSeaGull.kind = kind;
 
-            return deserializedSeaGull;
-        });
+        return deserializedSeaGull;
     }
 }
@@ -128,40 +128,43 @@ public final class IsUnknownAdditionalPropertiesDiscriminatedDerived
      */
     @Generated
     public static IsUnknownAdditionalPropertiesDiscriminatedDerived fromJson(JsonReader jsonReader) throws IOException {
-        return jsonReader.readObject(reader -> {
-            String name = null;
-            int index = 0;
-            String kind = "derived";
-            Double age = null;
-            Map<String, BinaryData> additionalProperties = null;
-            while (reader.nextToken() != JsonToken.END_OBJECT) {
-                String fieldName = reader.getFieldName();
-                reader.nextToken();
-
-                if ("name".equals(fieldName)) {
-                    name = reader.getString();
-                } else if ("index".equals(fieldName)) {
-                    index = reader.getInt();
-                } else if ("kind".equals(fieldName)) {
-                    kind = reader.getString();
-                } else if ("age".equals(fieldName)) {
-                    age = reader.getNullable(JsonReader::getDouble);
-                } else {
-                    if (additionalProperties == null) {
-                        additionalProperties = new LinkedHashMap<>();
-                    }
+        return jsonReader.readObject(IsUnknownAdditionalPropertiesDiscriminatedDerived::fromJsonProperties);
+    }
+
+    @Generated
+    static IsUnknownAdditionalPropertiesDiscriminatedDerived fromJsonProperties(JsonReader reader) throws IOException {
+        String name = null;
+        int index = 0;
+        String kind = "derived";
+        Double age = null;
+        Map<String, BinaryData> additionalProperties = null;
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
 
-                    additionalProperties.put(fieldName,
-                        reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped())));
+            if ("name".equals(fieldName)) {
+                name = reader.getString();
+            } else if ("index".equals(fieldName)) {
+                index = reader.getInt();
+            } else if ("kind".equals(fieldName)) {
+                kind = reader.getString();
+            } else if ("age".equals(fieldName)) {
+                age = reader.getNullable(JsonReader::getDouble);
+            } else {
+                if (additionalProperties == null) {
+                    additionalProperties = new LinkedHashMap<>();
                 }
+
+                additionalProperties.put(fieldName,
+                    reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped())));
             }
-            IsUnknownAdditionalPropertiesDiscriminatedDerived deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived
-                = new IsUnknownAdditionalPropertiesDiscriminatedDerived(name, index);
-            deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.kind = kind;
-            deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.age = age;
-            deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.setAdditionalProperties(additionalProperties);
-
-            return deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived;
-        });
+        }
+        IsUnknownAdditionalPropertiesDiscriminatedDerived deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived
+            = new IsUnknownAdditionalPropertiesDiscriminatedDerived(name, index);
+        deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.kind = kind;
+        deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.age = age;
+        deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived.setAdditionalProperties(additionalProperties);
+
+        return deserializedIsUnknownAdditionalPropertiesDiscriminatedDerived;
     }
 }
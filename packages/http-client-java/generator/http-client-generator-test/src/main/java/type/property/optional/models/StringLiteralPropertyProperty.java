@@ -32,6 +32,13 @@ public enum StringLiteralPropertyProperty {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "hello":
+                return HELLO;
+
+            default:
+                break;
+        }
         StringLiteralPropertyProperty[] items = StringLiteralPropertyProperty.values();
         for (StringLiteralPropertyProperty item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -16,7 +16,7 @@ public final class ExtendedEnum extends ExpandableStringEnum<ExtendedEnum> {
      * Static value value2 for ExtendedEnum.
      */
     @Generated
-    public static final ExtendedEnum ENUM_VALUE2 = fromString("value2");
+    public static final ExtendedEnum ENUM_VALUE2 = fromString("value2", ExtendedEnum.class);
 
     /**
      * Creates a new instance of ExtendedEnum value.
@@ -36,7 +36,16 @@ public final class ExtendedEnum extends ExpandableStringEnum<ExtendedEnum> {
      */
     @Generated
     public static ExtendedEnum fromString(String name) {
-        return fromString(name, ExtendedEnum.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "value2":
+                return ENUM_VALUE2;
+
+            default:
+                return fromString(name, ExtendedEnum.class);
+        }
     }
 
     /**
@@ -37,6 +37,16 @@ public enum FixedInnerEnum {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "ValueOne":
+                return VALUE_ONE;
+
+            case "ValueTwo":
+                return VALUE_TWO;
+
+            default:
+                break;
+        }
         FixedInnerEnum[] items = FixedInnerEnum.values();
         for (FixedInnerEnum item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
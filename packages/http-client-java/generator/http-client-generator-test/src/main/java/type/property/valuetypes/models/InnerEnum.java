@@ -16,13 +16,13 @@ public final class InnerEnum extends ExpandableStringEnum<InnerEnum> {
      * First value.
      */
     @Generated
-    public static final InnerEnum VALUE_ONE = fromString("ValueOne");
+    public static final InnerEnum VALUE_ONE = fromString("ValueOne", InnerEnum.class);
 
     /**
      * Second value.
      */
     @Generated
-    public static final InnerEnum VALUE_TWO = fromString("ValueTwo");
+    public static final InnerEnum VALUE_TWO = fromString("ValueTwo", InnerEnum.class);
 
     /**
      * Creates a new instance of InnerEnum value.
@@ -42,7 +42,19 @@ public final class InnerEnum extends ExpandableStringEnum<InnerEnum> {
      */
     @Generated
     public static InnerEnum fromString(String name) {
-        return fromString(name, InnerEnum.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "ValueOne":
+                return VALUE_ONE;
+
+            case "ValueTwo":
+                return VALUE_TWO;
+
+            default:
+                return fromString(name, InnerEnum.class);
+        }
     }
 
     /**
@@ -37,6 +37,16 @@ public enum UnionStringLiteralPropertyProperty {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "hello":
+                return HELLO;
+
+            case "world":
+                return WORLD;
+
+            default:
+                break;
+        }
         UnionStringLiteralPropertyProperty[] items = UnionStringLiteralPropertyProperty.values();
         for (UnionStringLiteralPropertyProperty item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -47,6 +47,22 @@ public enum EnumsOnlyCasesLr {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "left":
+                return LEFT;
+
+            case "right":
+                return RIGHT;
+
+            case "up":
+                return UP;
+
+            case "down":
+                return DOWN;
+
+            default:
+                break;
+        }
         EnumsOnlyCasesLr[] items = EnumsOnlyCasesLr.values();
         for (EnumsOnlyCasesLr item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
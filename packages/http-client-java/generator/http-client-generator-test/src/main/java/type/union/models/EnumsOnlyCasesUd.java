@@ -37,6 +37,16 @@ public enum EnumsOnlyCasesUd {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "up":
+                return UP;
+
+            case "down":
+                return DOWN;
+
+            default:
+                break;
+        }
         EnumsOnlyCasesUd[] items = EnumsOnlyCasesUd.values();
         for (EnumsOnlyCasesUd item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
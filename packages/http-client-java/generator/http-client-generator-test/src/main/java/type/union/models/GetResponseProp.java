@@ -42,6 +42,19 @@ public enum GetResponseProp {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "a":
+                return A;
+
+            case "b":
+                return B;
+
+            case "c":
+                return C;
+
+            default:
+                break;
+        }
         GetResponseProp[] items = GetResponseProp.values();
         for (GetResponseProp item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
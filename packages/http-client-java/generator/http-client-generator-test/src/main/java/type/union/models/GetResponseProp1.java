@@ -16,13 +16,13 @@ public final class GetResponseProp1 extends ExpandableStringEnum<GetResponseProp
      * Static value b for GetResponseProp1.
      */
     @Generated
-    public static final GetResponseProp1 B = fromString("b");
+    public static final GetResponseProp1 B = fromString("b", GetResponseProp1.class);
 
     /**
      * Static value c for GetResponseProp1.
      */
     @Generated
-    public static final GetResponseProp1 C = fromString("c");
+    public static final GetResponseProp1 C = fromString("c", GetResponseProp1.class);
 
     /**
      * Creates a new instance of GetResponseProp1 value.
@@ -42,7 +42,19 @@ public final class GetResponseProp1 extends ExpandableStringEnum<GetResponseProp
      */
     @Generated
     public static GetResponseProp1 fromString(String name) {
-        return fromString(name, GetResponseProp1.class);
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "b":
+                return B;
+
+            case "c":
+                return C;
+
+            default:
+                return fromString(name, GetResponseProp1.class);
+        }
     }
 
     /**
@@ -37,6 +37,16 @@ public enum EnumV3 {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "enumMemberV1":
+                return ENUM_MEMBER_V1;
+
+            case "enumMemberV2Preview":
+                return ENUM_MEMBER_V2PREVIEW;
+
+            default:
+                break;
+        }
         EnumV3[] items = EnumV3.values();
         for (EnumV3 item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -37,6 +37,16 @@ public enum Versions {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "v1":
+                return V1;
+
+            case "v2":
+                return V2;
+
+            default:
+                break;
+        }
         Versions[] items = Versions.values();
         for (Versions item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -3,15 +3,30 @@
 
 package streaming.jsonl;
 
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
 import com.azure.core.util.BinaryData;
+import com.azure.core.util.FluxUtil;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import streaming.jsonl.basic.models.Info;
 
 public final class JsonlTests {
 
     private final JsonlClient client = new JsonlClientBuilder().buildClient();
+    private final JsonlAsyncClient asyncClient = new JsonlClientBuilder().buildAsyncClient();
 
     @Test
     public void testJsonl() {
@@ -23,4 +38,93 @@ public final class JsonlTests {
         BinaryData data = client.receive();
         Assertions.assertEquals(3, data.toString().split("\n").length);
     }
+
+    @Test
+    public void testJsonlItems() {
+        client.send(List.of(new Info("one"), new Info("two"), new Info("three")));
+
+        List<String> descriptions = new ArrayList<>();
+        for (Info info : client.receiveItems()) {
+            descriptions.add(info.getDesc());
+        }
+        Assertions.assertEquals(List.of("one", "two", "three"), descriptions);
+    }
+
+    @Test
+    public void testJsonlItemsAsync() {
+        asyncClient.send(Flux.just(new Info("one"), new Info("two"), new Info("three"))).block();
+
+        List<String> descriptions = asyncClient.receiveItems().map(Info::getDesc).collectList().block();
+        Assertions.assertEquals(List.of("one", "two", "three"), descriptions);
+    }
+
+    @Test
+    public void testJsonlItemsAsyncBeforeBodyCompletes() {
+        Sinks.Many<ByteBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+        JsonlAsyncClient client = new JsonlClientBuilder()
+            .httpClient(request -> Mono.just(new StreamingHttpResponse(request, body.asFlux())))
+            .buildAsyncClient();
+
+        // the first item is read while the rest of the response body is still to come
+        StepVerifier.create(client.receiveItems().map(Info::getDesc))
+            .then(() -> body.tryEmitNext(toByteBuffer("{\"desc\": \"one\"}\n{\"desc\": \"t")))
+            .expectNext("one")
+            .then(() -> {
+                body.tryEmitNext(toByteBuffer("wo\"}\n"));
+                body.tryEmitComplete();
+            })
+            .expectNext("two")
+            .expectComplete()
+            .verify(Duration.ofSeconds(10));
+    }
+
+    private static ByteBuffer toByteBuffer(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class StreamingHttpResponse extends HttpResponse {
+        private final HttpHeaders headers = new HttpHeaders().set("Content-Type", "application/jsonl");
+        private final Flux<ByteBuffer> body;
+
+        private StreamingHttpResponse(HttpRequest request, Flux<ByteBuffer> body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return 200;
+        }
+
+        @Override
+        @Deprecated
+        public String getHeaderValue(String name) {
+            return headers.getValue(name);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return body;
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return FluxUtil.collectBytesInByteBufferStream(body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return getBodyAsString(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return getBodyAsByteArray().map(bytes -> new String(bytes, charset));
+        }
+    }
 }
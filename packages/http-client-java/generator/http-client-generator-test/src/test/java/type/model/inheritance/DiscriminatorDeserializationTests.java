@@ -0,0 +1,98 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package type.model.inheritance;
+
+import com.azure.core.util.BinaryData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import type.model.inheritance.nesteddiscriminator.models.Fish;
+import type.model.inheritance.nesteddiscriminator.models.GoblinShark;
+import type.model.inheritance.nesteddiscriminator.models.Salmon;
+import type.model.inheritance.nesteddiscriminator.models.SawShark;
+import type.model.inheritance.nesteddiscriminator.models.Shark;
+import type.model.inheritance.singlediscriminator.models.Bird;
+import type.model.inheritance.singlediscriminator.models.Eagle;
+import type.model.inheritance.singlediscriminator.models.Goose;
+import type.model.inheritance.singlediscriminator.models.Sparrow;
+
+public class DiscriminatorDeserializationTests {
+
+    @Test
+    public void testDiscriminatorFirst() {
+        // the subtype reads the remaining properties, without buffering
+        Bird bird = BinaryData.fromString("{\"kind\":\"sparrow\",\"wingspan\":1}").toObject(Bird.class);
+        Assertions.assertEquals(Sparrow.class, bird.getClass());
+        Assertions.assertEquals("sparrow", bird.getKind());
+        Assertions.assertEquals(1, bird.getWingspan());
+
+        Eagle eagle = (Eagle) BinaryData.fromString("{\"kind\":\"eagle\",\"wingspan\":2,"
+            + "\"partner\":{\"kind\":\"goose\",\"wingspan\":3},\"friends\":[{\"kind\":\"sparrow\",\"wingspan\":4}]}")
+            .toObject(Bird.class);
+        Assertions.assertEquals(2, eagle.getWingspan());
+        Assertions.assertEquals(Goose.class, eagle.getPartner().getClass());
+        Assertions.assertEquals(3, eagle.getPartner().getWingspan());
+        Assertions.assertEquals(Sparrow.class, eagle.getFriends().get(0).getClass());
+        Assertions.assertEquals(4, eagle.getFriends().get(0).getWingspan());
+
+        // only the discriminator
+        bird = BinaryData.fromString("{\"kind\":\"goose\"}").toObject(Bird.class);
+        Assertions.assertEquals(Goose.class, bird.getClass());
+        Assertions.assertEquals(0, bird.getWingspan());
+
+        Shark shark = BinaryData.fromString("{\"sharktype\":\"goblin\",\"age\":5,\"kind\":\"shark\"}")
+            .toObject(Shark.class);
+        Assertions.assertEquals(GoblinShark.class, shark.getClass());
+        Assertions.assertEquals("goblin", shark.getSharktype());
+        Assertions.assertEquals(5, shark.getAge());
+    }
+
+    @Test
+    public void testDiscriminatorFirstBuffered() {
+        // a nested subtype, the object is rebuilt from the discriminator and the remaining properties
+        Fish fish = BinaryData.fromString("{\"kind\":\"shark\",\"sharktype\":\"saw\",\"age\":6}").toObject(Fish.class);
+        Assertions.assertEquals(SawShark.class, fish.getClass());
+        Assertions.assertEquals("shark", fish.getKind());
+        Assertions.assertEquals(6, fish.getAge());
+
+        // only the discriminator of a nested subtype
+        fish = BinaryData.fromString("{\"kind\":\"shark\"}").toObject(Fish.class);
+        Assertions.assertEquals(Shark.class, fish.getClass());
+        Assertions.assertEquals("shark", fish.getKind());
+
+        // an unknown discriminator
+        Bird bird = BinaryData.fromString("{\"kind\":\"penguin\",\"wingspan\":7}").toObject(Bird.class);
+        Assertions.assertEquals(Bird.class, bird.getClass());
+        Assertions.assertEquals("penguin", bird.getKind());
+        Assertions.assertEquals(7, bird.getWingspan());
+    }
+
+    @Test
+    public void testDiscriminatorLater() {
+        // the object is buffered to find the discriminator
+        Bird bird = BinaryData.fromString("{\"wingspan\":8,\"kind\":\"sparrow\"}").toObject(Bird.class);
+        Assertions.assertEquals(Sparrow.class, bird.getClass());
+        Assertions.assertEquals(8, bird.getWingspan());
+
+        Fish fish = BinaryData
+            .fromString("{\"age\":9,\"partner\":{\"age\":10,\"sharktype\":\"goblin\",\"kind\":\"shark\"},"
+                + "\"kind\":\"salmon\"}")
+            .toObject(Fish.class);
+        Assertions.assertEquals(Salmon.class, fish.getClass());
+        Assertions.assertEquals(9, fish.getAge());
+        Fish partner = ((Salmon) fish).getPartner();
+        Assertions.assertEquals(GoblinShark.class, partner.getClass());
+        Assertions.assertEquals(10, partner.getAge());
+    }
+
+    @Test
+    public void testEmptyObject() {
+        Bird bird = BinaryData.fromString("{}").toObject(Bird.class);
+        Assertions.assertEquals(Bird.class, bird.getClass());
+        Assertions.assertNull(bird.getKind());
+
+        Fish fish = BinaryData.fromString("{}").toObject(Fish.class);
+        Assertions.assertEquals(Fish.class, fish.getClass());
+        Assertions.assertNull(fish.getKind());
+    }
+}
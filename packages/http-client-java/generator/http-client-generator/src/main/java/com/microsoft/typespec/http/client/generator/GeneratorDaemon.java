@@ -0,0 +1,139 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.mapper.DefaultMapperFactory;
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientBuilderTrait;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModels;
+import com.microsoft.typespec.http.client.generator.core.template.DefaultTemplateFactory;
+import com.microsoft.typespec.http.client.generator.core.template.Templates;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import com.microsoft.typespec.http.client.generator.core.util.DefaultNamerFactory;
+import com.microsoft.typespec.http.client.generator.core.util.ModelTestCaseUtil;
+import com.microsoft.typespec.http.client.generator.mgmt.FluentNamer;
+import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.FluentStatic;
+import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the generator as a daemon, which generates the code models requested over JSON-RPC on stdin.
+ * <p>
+ * The JVM is kept between the requests, along with the JIT compiled code, the YAML loader, the formatter and the
+ * other caches, so that only the first request pays for the startup and warm-up. The state of a request, that is
+ * JavaSettings, ClientModels, UnionModels, the caches of the mappers and the other static state derived from the code
+ * model or the plugin, is cleared after the request.
+ * <p>
+ * The messages are JSON-RPC 2.0, with "Content-Length" headers, see {@link Connection}.
+ * <ul>
+ * <li>"ready" notification, sent by the daemon when it accepts requests.</li>
+ * <li>"generate" request, with the code model file and the emitter options JSON as params. The result is whether the
+ * generation succeeded.</li>
+ * </ul>
+ * The requests are processed one at a time, and they should be of the same flavor. The daemon exits when stdin is
+ * closed.
+ */
+final class GeneratorDaemon {
+    /**
+     * The argument of Main to run the generator as a daemon.
+     */
+    static final String DAEMON_ARGUMENT = "--daemon";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorDaemon.class);
+    // the generator has global state, e.g. JavaSettings
+    private static final Object LOCK = new Object();
+    // the flavor of the first request, guarded by LOCK
+    private static String flavor;
+
+    private GeneratorDaemon() {
+    }
+
+    /**
+     * Processes the requests from the input, until it is closed.
+     *
+     * @param input the input of the requests.
+     * @param output the output of the responses.
+     */
+    static void run(InputStream input, OutputStream output) {
+        // the output is reserved for the responses, anything else printed goes to stderr
+        System.setOut(System.err);
+
+        Connection connection
+            = new Connection(output, input, c -> c.dispatch("generate", GeneratorDaemon::generate));
+        connection.notifyWithSerializedObject("ready", null);
+        LOGGER.info("Daemon started.");
+
+        connection.waitForAll();
+        LOGGER.info("Daemon stopped.");
+    }
+
+    private static Boolean generate(String codeModelFileName, String emitterOptionsJson) {
+        synchronized (LOCK) {
+            long startNanos = System.nanoTime();
+            try {
+                // ClassType and other constants are initialized with the settings of the flavor, on first use
+                String requestFlavor = getFlavor(emitterOptionsJson);
+                if (flavor == null) {
+                    flavor = requestFlavor;
+                } else if (!flavor.equals(requestFlavor)) {
+                    LOGGER.error("Daemon is started with flavor '{}', it cannot generate for flavor '{}'.", flavor,
+                        requestFlavor);
+                    return false;
+                }
+
+                Main.generate(codeModelFileName, emitterOptionsJson);
+                return true;
+            } catch (Throwable e) {
+                LOGGER.error("Unhandled error.", e);
+                return false;
+            } finally {
+                clear();
+                LOGGER.info("Code model {} processed in {} ms.", codeModelFileName,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            }
+        }
+    }
+
+    private static String getFlavor(String emitterOptionsJson) throws IOException {
+        EmitterOptions options = new EmitterOptions();
+        if (emitterOptionsJson != null) {
+            try (JsonReader jsonReader = JsonProviders.createReader(emitterOptionsJson)) {
+                options = EmitterOptions.fromJson(jsonReader);
+            }
+        }
+        return String.valueOf(options.getFlavor()).toLowerCase(Locale.ROOT);
+    }
+
+    private static void clear() {
+        ClientModels.getInstance().clear();
+        UnionModels.getInstance().clear();
+        if (JavaSettings.isInitialized()) {
+            // the mappers are not initialized before the settings
+            Mappers.clear();
+        }
+        JavaSettings.clear();
+
+        // the static state derived from the code model, or set by the plugin of the request, e.g. Fluent for ARM
+        ClientBuilderTrait.clear();
+        ModelTestCaseUtil.clear();
+        ClientModelUtil.resetGetClientModelFunction();
+        Mappers.setFactory(new DefaultMapperFactory());
+        Templates.setFactory(new DefaultTemplateFactory());
+        CodeNamer.setFactory(new DefaultNamerFactory());
+        FluentStatic.clear();
+        FluentNamer.clearPluginInstance();
+    }
+}
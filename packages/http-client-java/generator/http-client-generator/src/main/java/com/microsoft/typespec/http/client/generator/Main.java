@@ -7,9 +7,13 @@ import com.azure.core.util.Configuration;
 import com.azure.core.util.CoreUtils;
 import com.azure.json.JsonProviders;
 import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.HashUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.AnnotatedPropertyUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModelCustomConstructor;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModelJsonReader;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
@@ -21,10 +25,13 @@ import com.microsoft.typespec.http.client.generator.mgmt.model.javamodel.FluentJ
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
 import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -49,6 +56,12 @@ public class Main {
 
     // java -jar target/azure-typespec-extension-jar-with-dependencies.jar
     public static void main(String[] args) throws IOException {
+        if (args.length >= 1 && GeneratorDaemon.DAEMON_ARGUMENT.equals(args[0])) {
+            // generate the code models received on stdin, until it is closed
+            GeneratorDaemon.run(System.in, System.out);
+            System.exit(0);
+        }
+
         try {
             // parameters
             String inputYamlFileName = DEFAULT_OUTPUT_DIR + "code-model.yaml";
@@ -56,38 +69,7 @@ public class Main {
                 inputYamlFileName = args[0];
             }
 
-            LOGGER.info("Code model file: {}", inputYamlFileName);
-
-            // load code-model.yaml
-            CodeModel codeModel = loadCodeModel(inputYamlFileName);
-
-            EmitterOptions emitterOptions = loadEmitterOptions(codeModel);
-
-            boolean sdkIntegration = true;
-            String outputDir = emitterOptions.getOutputDir();
-            Path outputDirPath = Paths.get(outputDir);
-            if (Files.exists(outputDirPath)) {
-                if (emitterOptions.getArm()) {
-                    // check ../../parents/azure-client-sdk-parent
-                    sdkIntegration = Files.exists(Paths.get(outputDir, "../../parents/azure-client-sdk-parent"));
-                } else {
-                    try (Stream<Path> filestream = Files.list(outputDirPath)) {
-                        Set<String> filenames = filestream.map(p -> p.getFileName().toString())
-                            .map(name -> name.toLowerCase(Locale.ROOT))
-                            .collect(Collectors.toSet());
-
-                        // if there is already pom and source, do not overwrite them (includes README.md, CHANGELOG.md
-                        // etc.)
-                        sdkIntegration = !filenames.containsAll(Arrays.asList("pom.xml", "src"));
-                    }
-                }
-            }
-
-            if (emitterOptions.getArm()) {
-                handleFluent(codeModel, emitterOptions, sdkIntegration);
-            } else {
-                handleDPG(codeModel, emitterOptions, sdkIntegration, outputDir);
-            }
+            generate(inputYamlFileName, Configuration.getGlobalConfiguration().get("emitterOptions"));
 
             // ensure the process exits as expected
             System.exit(0);
@@ -97,9 +79,59 @@ public class Main {
         }
     }
 
-    private static void handleFluent(CodeModel codeModel, EmitterOptions emitterOptions, boolean sdkIntegration) {
+    /**
+     * Generates the code of the code model.
+     *
+     * @param inputYamlFileName the code model file, in YAML or JSON.
+     * @param emitterOptionsJson the emitter options in JSON, may be null.
+     * @throws IOException thrown if the code model or the output folder cannot be read.
+     */
+    static void generate(String inputYamlFileName, String emitterOptionsJson) throws IOException {
+        LOGGER.info("Code model file: {}", inputYamlFileName);
+
+        // load code-model.yaml
+        CodeModel codeModel = loadCodeModel(inputYamlFileName);
+
+        EmitterOptions emitterOptions = loadEmitterOptions(codeModel, emitterOptionsJson);
+
+        boolean sdkIntegration = true;
+        String outputDir = emitterOptions.getOutputDir();
+        Path outputDirPath = Paths.get(outputDir);
+        if (Files.exists(outputDirPath)) {
+            if (emitterOptions.getArm()) {
+                // check ../../parents/azure-client-sdk-parent
+                sdkIntegration = Files.exists(Paths.get(outputDir, "../../parents/azure-client-sdk-parent"));
+            } else {
+                try (Stream<Path> filestream = Files.list(outputDirPath)) {
+                    Set<String> filenames = filestream.map(p -> p.getFileName().toString())
+                        .map(name -> name.toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toSet());
+
+                    // if there is already pom and source, do not overwrite them (includes README.md, CHANGELOG.md
+                    // etc.)
+                    sdkIntegration = !filenames.containsAll(Arrays.asList("pom.xml", "src"));
+                }
+            }
+        }
+
+        String inputFingerprint
+            = getInputFingerprint(inputYamlFileName, emitterOptionsJson, emitterOptions, sdkIntegration);
+        if (emitterOptions.getArm()) {
+            handleFluent(codeModel, emitterOptions, sdkIntegration, inputFingerprint);
+        } else {
+            handleDPG(codeModel, emitterOptions, sdkIntegration, outputDir, inputFingerprint);
+        }
+    }
+
+    private static void handleFluent(CodeModel codeModel, EmitterOptions emitterOptions, boolean sdkIntegration,
+        String inputFingerprint) {
         // initialize plugin
         TypeSpecFluentPlugin fluentPlugin = new TypeSpecFluentPlugin(emitterOptions, sdkIntegration);
+        if (fluentPlugin.isOutputUpToDate(inputFingerprint)) {
+            LOGGER.info("Input and output are unchanged since the last run, skip generation.");
+            fluentPlugin.saveOutputManifest();
+            return;
+        }
 
         codeModel = fluentPlugin.preProcess(codeModel);
 
@@ -134,12 +166,19 @@ public class Main {
         // Others
         javaPackage.getTextFiles()
             .forEach(textFile -> fluentPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
+
+        fluentPlugin.saveOutputManifest();
     }
 
     private static void handleDPG(CodeModel codeModel, EmitterOptions emitterOptions, boolean sdkIntegration,
-        String outputDir) {
+        String outputDir, String inputFingerprint) {
         // initialize plugin
         TypeSpecPlugin typeSpecPlugin = new TypeSpecPlugin(emitterOptions, sdkIntegration);
+        if (typeSpecPlugin.isOutputUpToDate(inputFingerprint)) {
+            LOGGER.info("Input and output are unchanged since the last run, skip generation.");
+            typeSpecPlugin.saveOutputManifest();
+            return;
+        }
 
         // client
         Client client = typeSpecPlugin.processClient(codeModel);
@@ -178,12 +217,85 @@ public class Main {
                     "name=${project.artifactId}\nversion=${project.version}\n", null);
             }
         }
+
+        typeSpecPlugin.saveOutputManifest();
     }
 
-    private static EmitterOptions loadEmitterOptions(CodeModel codeModel) {
+    /**
+     * Computes the fingerprint of the input of the generation, which consists of the code model, the emitter options,
+     * the customization code, and the version and build of the code generator.
+     * <p>
+     * If the fingerprint is the same as that of the last run, and the output of the last run is not modified, this run
+     * is a no-op rerun and the generation is skipped as a whole. Any change to the input regenerates everything.
+     */
+    private static String getInputFingerprint(String inputYamlFileName, String emitterOptionsJson,
+        EmitterOptions emitterOptions, boolean sdkIntegration) throws IOException {
+        List<String> values = new ArrayList<>();
+        values.add(HashUtils.sha256(Files.readAllBytes(Paths.get(inputYamlFileName))));
+        // the options as given, and those resolved from the code model
+        values.add(emitterOptionsJson == null ? "" : emitterOptionsJson);
+        values.add(String.valueOf(emitterOptions.getNamespace()));
+        values.add(String.valueOf(emitterOptions.getOutputDir()));
+        values.add(String.valueOf(sdkIntegration));
+        values.add(getGeneratorVersion());
+        values.add(FileUtils.getCodeSourceFingerprint(Main.class));
+
+        if (emitterOptions.getCustomizationClass() != null) {
+            // the customization class may use other code in its folder
+            Path customizationDir = Paths.get(emitterOptions.getOutputDir())
+                .resolve(emitterOptions.getCustomizationClass())
+                .toAbsolutePath()
+                .getParent();
+            if (customizationDir != null && Files.isDirectory(customizationDir)) {
+                try (Stream<Path> files = Files.walk(customizationDir)) {
+                    for (Path file : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                        values.add(customizationDir.relativize(file).toString());
+                        values.add(HashUtils.sha256(Files.readAllBytes(file)));
+                    }
+                }
+            }
+        }
+        return HashUtils.sha256(values.toArray(new String[0]));
+    }
+
+    /**
+     * Gets the version of the code generator, which is the version in the "package.json" of the emitter package. The
+     * jar is at "generator/http-client-generator/target/emitter.jar" of the package.
+     *
+     * @return the version of the code generator, or an empty string if not found.
+     */
+    static String getGeneratorVersion() {
+        try {
+            Path packageJsonPath = Paths.get(Main.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .resolve("../../../../package.json")
+                .normalize();
+            if (!Files.isRegularFile(packageJsonPath)) {
+                return "";
+            }
+            try (JsonReader jsonReader = JsonProviders.createReader(Files.readAllBytes(packageJsonPath))) {
+                return jsonReader.readObject(reader -> {
+                    String version = "";
+                    while (reader.nextToken() != JsonToken.END_OBJECT) {
+                        String fieldName = reader.getFieldName();
+                        reader.nextToken();
+                        if ("version".equals(fieldName)) {
+                            version = reader.getString();
+                        } else {
+                            reader.skipChildren();
+                        }
+                    }
+                    return version;
+                });
+            }
+        } catch (Exception e) {
+            // location not available
+            return "";
+        }
+    }
+
+    private static EmitterOptions loadEmitterOptions(CodeModel codeModel, String emitterOptionsJson) {
 
         EmitterOptions options = null;
-        String emitterOptionsJson = Configuration.getGlobalConfiguration().get("emitterOptions");
 
         if (emitterOptionsJson != null) {
             try (JsonReader jsonReader = JsonProviders.createReader(emitterOptionsJson)) {
@@ -220,6 +332,14 @@ public class Main {
     }
 
     private static CodeModel loadCodeModel(String filename) throws IOException {
+        if (filename.endsWith(".json")) {
+            // JSON is read in a single pass, without the intermediate YAML nodes
+            try (InputStream inputStream = Files.newInputStream(Paths.get(filename));
+                JsonReader jsonReader = JsonProviders.createReader(inputStream)) {
+                return CodeModelJsonReader.read(jsonReader);
+            }
+        }
+
         String file = Files.readString(Paths.get(filename));
         CodeModel codeModel = getYaml().loadAs(file, CodeModel.class);
         return codeModel;
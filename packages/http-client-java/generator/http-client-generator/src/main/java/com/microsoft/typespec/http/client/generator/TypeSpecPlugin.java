@@ -11,6 +11,7 @@ import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Conne
 import com.microsoft.typespec.http.client.generator.core.extension.model.Message;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.OutputManifest;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.AsyncSyncClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
@@ -45,6 +46,7 @@ public class TypeSpecPlugin extends Javagen {
     private static final Logger LOGGER = LoggerFactory.getLogger(TypeSpecPlugin.class);
 
     private final EmitterOptions emitterOptions;
+    private final OutputManifest outputManifest;
 
     public Client processClient(CodeModel codeModel) {
         // transform code model
@@ -100,6 +102,8 @@ public class TypeSpecPlugin extends Javagen {
     @Override
     protected void writeHelperClasses(Client client, CodeModel codeModel, JavaPackage javaPackage,
         JavaSettings settings) {
+        super.writeHelperClasses(client, codeModel, javaPackage, settings);
+
         // JsonMergePatchHelper
         List<ClientModel> jsonMergePatchModels = client.getModels()
             .stream()
@@ -126,6 +130,14 @@ public class TypeSpecPlugin extends Javagen {
             }
         }
 
+        // JsonLinesHelper
+        if (JavaSettings.getInstance().isAzureV1()
+            && (ClientModelUtil.requireJsonLinesHelper(client.getSyncClients())
+                || ClientModelUtil.requireJsonLinesHelper(client.getAsyncClients()))) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.JSON_LINES_HELPER_CLASS_NAME);
+        }
+
         // OperationLocationPollingStrategy
         if (ClientModelUtil.requireOperationLocationPollingStrategy(codeModel)) {
             if (JavaSettings.getInstance().isAzureV2()) {
@@ -148,11 +160,41 @@ public class TypeSpecPlugin extends Javagen {
 
     @Override
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
+        if (outputManifest != null) {
+            if (outputManifest.writeFile(fileName, content)) {
+                LOGGER.info("Write file: {}", Paths.get(emitterOptions.getOutputDir(), fileName).toAbsolutePath());
+            } else {
+                LOGGER.debug("Skip unchanged file: {}", fileName);
+            }
+            return;
+        }
+
         File outputFile = FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
         LOGGER.info("Write file: {}", outputFile.getAbsolutePath());
     }
 
+    /**
+     * Checks whether the output of the last run is up to date with the input of this run, in which case the generation
+     * can be skipped.
+     *
+     * @param inputFingerprint the fingerprint of the input of this run.
+     * @return whether the output of the last run is up to date.
+     */
+    public boolean isOutputUpToDate(String inputFingerprint) {
+        return outputManifest != null && outputManifest.reuseIfUpToDate(inputFingerprint);
+    }
+
+    /**
+     * Saves the manifest of the files written, and logs the summary of the files added, changed and deleted.
+     */
+    public void saveOutputManifest() {
+        if (outputManifest != null) {
+            outputManifest.save(LOGGER);
+        }
+    }
+
     private static final Map<String, Object> SETTINGS_MAP = new HashMap<>();
+    private static final Map<String, Object> DEFAULT_SETTINGS_MAP;
 
     static {
         SETTINGS_MAP.put("data-plane", true);
@@ -182,6 +224,8 @@ public class TypeSpecPlugin extends Javagen {
         // Defaulting to KeyCredential and not providing TypeSpec services to generate with AzureKeyCredential.
         SETTINGS_MAP.put("use-key-credential", true);
         SETTINGS_MAP.put("use-rest-proxy", true);
+
+        DEFAULT_SETTINGS_MAP = new HashMap<>(SETTINGS_MAP);
     }
 
     public static class MockConnection extends Connection {
@@ -200,6 +244,9 @@ public class TypeSpecPlugin extends Javagen {
     public TypeSpecPlugin(EmitterOptions options, boolean sdkIntegration) {
         super(new MockConnection(), "dummy", "dummy");
         this.emitterOptions = options;
+        // discard the settings of the previous run, in daemon mode
+        SETTINGS_MAP.clear();
+        SETTINGS_MAP.putAll(DEFAULT_SETTINGS_MAP);
         SETTINGS_MAP.put("namespace", options.getNamespace());
         if (!CoreUtils.isNullOrEmpty(options.getOutputDir())) {
             SETTINGS_MAP.put("output-folder", options.getOutputDir());
@@ -292,6 +339,9 @@ public class TypeSpecPlugin extends Javagen {
         JavaSettingsAccessor.setHost(this);
         LOGGER.info("Output folder: {}", options.getOutputDir());
         LOGGER.info("Namespace: {}", JavaSettings.getInstance().getPackage());
+        this.outputManifest = JavaSettings.getInstance().isWriteIfChanged()
+            ? OutputManifest.load(Paths.get(options.getOutputDir()))
+            : null;
 
         if (options.getFlavor() != null && options.getFlavor().equalsIgnoreCase("azure")) {
             Mappers.setFactory(new TypeSpecMapperFactory());
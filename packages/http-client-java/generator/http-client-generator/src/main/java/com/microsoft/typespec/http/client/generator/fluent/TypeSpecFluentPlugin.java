@@ -11,6 +11,7 @@ import com.microsoft.typespec.http.client.generator.TypeSpecPlugin;
 import com.microsoft.typespec.http.client.generator.core.extension.model.Message;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.OutputManifest;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.TypeSpecMetadata;
@@ -25,6 +26,7 @@ import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
 import com.microsoft.typespec.http.client.generator.util.FileUtil;
 import com.microsoft.typespec.http.client.generator.util.MetadataUtil;
 import java.io.File;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,10 +37,14 @@ import org.slf4j.LoggerFactory;
 public class TypeSpecFluentPlugin extends FluentGen {
     private static final Logger LOGGER = LoggerFactory.getLogger(TypeSpecFluentPlugin.class);
     private final EmitterOptions emitterOptions;
+    private final OutputManifest outputManifest;
 
     public TypeSpecFluentPlugin(EmitterOptions emitterOptions, boolean sdkIntegration) {
         super(new TypeSpecPlugin.MockConnection(), "dummy", "dummy");
         this.emitterOptions = emitterOptions;
+        // discard the settings of the previous run, in daemon mode
+        SETTINGS_MAP.clear();
+        SETTINGS_MAP.putAll(DEFAULT_SETTINGS_MAP);
         SETTINGS_MAP.put("namespace", emitterOptions.getNamespace());
         if (!CoreUtils.isNullOrEmpty(emitterOptions.getOutputDir())) {
             SETTINGS_MAP.put("output-folder", emitterOptions.getOutputDir());
@@ -73,6 +79,9 @@ public class TypeSpecFluentPlugin extends FluentGen {
         JavaSettingsAccessor.setHost(this);
         LOGGER.info("Output folder: {}", emitterOptions.getOutputDir());
         LOGGER.info("Namespace: {}", JavaSettings.getInstance().getPackage());
+        this.outputManifest = JavaSettings.getInstance().isWriteIfChanged()
+            ? OutputManifest.load(Paths.get(emitterOptions.getOutputDir()))
+            : null;
     }
 
     public CodeModel preProcess(CodeModel codeModel) {
@@ -105,10 +114,39 @@ public class TypeSpecFluentPlugin extends FluentGen {
 
     @Override
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
+        if (outputManifest != null) {
+            if (outputManifest.writeFile(fileName, content)) {
+                LOGGER.info("Write file: {}", Paths.get(emitterOptions.getOutputDir(), fileName).toAbsolutePath());
+            } else {
+                LOGGER.debug("Skip unchanged file: {}", fileName);
+            }
+            return;
+        }
+
         File outputFile = FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
         LOGGER.info("Write file: {}", outputFile.getAbsolutePath());
     }
 
+    /**
+     * Checks whether the output of the last run is up to date with the input of this run, in which case the generation
+     * can be skipped.
+     *
+     * @param inputFingerprint the fingerprint of the input of this run.
+     * @return whether the output of the last run is up to date.
+     */
+    public boolean isOutputUpToDate(String inputFingerprint) {
+        return outputManifest != null && outputManifest.reuseIfUpToDate(inputFingerprint);
+    }
+
+    /**
+     * Saves the manifest of the files written, and logs the summary of the files added, changed and deleted.
+     */
+    public void saveOutputManifest() {
+        if (outputManifest != null) {
+            outputManifest.save(LOGGER);
+        }
+    }
+
     @Override
     protected FluentMapper getFluentMapper() {
         FluentMapper fluentMapper = super.getFluentMapper();
@@ -117,6 +155,7 @@ public class TypeSpecFluentPlugin extends FluentGen {
     }
 
     private static final Map<String, Object> SETTINGS_MAP = new HashMap<>();
+    private static final Map<String, Object> DEFAULT_SETTINGS_MAP;
 
     // from fluentnamer/readme.md
     static {
@@ -139,6 +178,8 @@ public class TypeSpecFluentPlugin extends FluentGen {
         SETTINGS_MAP.put("client-side-validations", true);
         SETTINGS_MAP.put("stream-style-serialization", false);
 //        SETTINGS_MAP.put("pipeline.fluentgen.naming.override", getNamingOverrides());
+
+        DEFAULT_SETTINGS_MAP = new HashMap<>(SETTINGS_MAP);
     }
 
     private static Map<String, String> getNamingOverrides() {
@@ -0,0 +1,174 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GeneratorDaemonTests {
+
+    private static final long TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(2);
+
+    @Test
+    public void testGenerateDifferentCodeModels(@TempDir Path tempDir) throws Exception {
+        // the code models differ in e.g. the default value of the endpoint, and the generated tests of the models
+        // depend on the seed of the random values
+        Path gadgetOutput = tempDir.resolve("gadget");
+        Path widgetOutput = tempDir.resolve("widget");
+        Path gadgetRerunOutput = tempDir.resolve("gadget-rerun");
+
+        PrintStream out = System.out;
+        PipedOutputStream requests = new PipedOutputStream();
+        PipedInputStream daemonInput = new PipedInputStream(requests);
+        ResponseOutputStream responses = new ResponseOutputStream();
+        Thread daemon = new Thread(() -> GeneratorDaemon.run(daemonInput, responses));
+        daemon.start();
+        try {
+            responses.waitFor("\"method\":\"ready\"");
+
+            // one request at a time, as the daemon may process concurrent requests in any order
+            Assertions.assertTrue(generate(requests, responses, 1, "gadget.yaml", gadgetOutput));
+            Assertions.assertTrue(generate(requests, responses, 2, "widget.yaml", widgetOutput));
+            Assertions.assertTrue(generate(requests, responses, 3, "gadget.yaml", gadgetRerunOutput));
+        } finally {
+            requests.close();
+            daemon.join(TIMEOUT_MILLIS);
+            System.setOut(out);
+        }
+
+        Map<String, String> gadgetFiles = readFiles(gadgetOutput);
+        Assertions.assertFalse(gadgetFiles.isEmpty());
+        Map<String, String> gadgetRerunFiles = readFiles(gadgetRerunOutput);
+        Assertions.assertEquals(gadgetFiles.keySet(), gadgetRerunFiles.keySet());
+        gadgetFiles.forEach((file, content) -> Assertions.assertEquals(content, gadgetRerunFiles.get(file), file));
+
+        // the endpoint of the widget has no default value
+        String gadgetBuilder = gadgetFiles.get("src/main/java/com/example/gadget/GadgetClientBuilder.java");
+        Assertions.assertTrue(gadgetBuilder.contains("https://gadget.example.com"));
+        String widgetBuilder
+            = readFiles(widgetOutput).get("src/main/java/com/example/widget/WidgetClientBuilder.java");
+        Assertions.assertFalse(widgetBuilder.contains("https://gadget.example.com"));
+    }
+
+    private static boolean generate(OutputStream requests, ResponseOutputStream responses, int id,
+        String codeModelFileName, Path outputDir) throws IOException, URISyntaxException, InterruptedException {
+        String emitterOptions = toJson(jsonWriter -> jsonWriter.writeStartObject()
+            .writeStringField("output-dir", outputDir.toString())
+            .writeStringField("flavor", "Azure")
+            .writeBooleanField("generate-tests", true)
+            .writeEndObject());
+        String codeModelFile = getCodeModelFile(codeModelFileName);
+        String request = toJson(jsonWriter -> jsonWriter.writeStartObject()
+            .writeStringField("jsonrpc", "2.0")
+            .writeIntField("id", id)
+            .writeStringField("method", "generate")
+            .writeStartArray("params")
+            .writeString(codeModelFile)
+            .writeString(emitterOptions)
+            .writeEndArray()
+            .writeEndObject());
+
+        byte[] content = request.getBytes(StandardCharsets.UTF_8);
+        requests.write(("Content-Length: " + content.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        requests.write(content);
+        requests.flush();
+
+        return responses.waitFor("\"id\":" + id + ",\"result\":true", "\"id\":" + id + ",\"result\":false");
+    }
+
+    private static String getCodeModelFile(String fileName) throws URISyntaxException {
+        return Paths.get(GeneratorDaemonTests.class.getClassLoader().getResource("daemon/" + fileName).toURI())
+            .toString();
+    }
+
+    private static Map<String, String> readFiles(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile)
+                // the manifest of the output has the fingerprint of the input, and the time of the files
+                .filter(path -> !directory.relativize(path).startsWith("target"))
+                .collect(Collectors.toMap(path -> directory.relativize(path).toString().replace('\\', '/'),
+                    path -> readString(path), (a, b) -> a, TreeMap::new));
+        }
+    }
+
+    private static String readString(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String toJson(JsonWriterConsumer consumer) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(stringWriter)) {
+            consumer.accept(jsonWriter);
+        }
+        return stringWriter.toString();
+    }
+
+    @FunctionalInterface
+    private interface JsonWriterConsumer {
+        void accept(JsonWriter jsonWriter) throws IOException;
+    }
+
+    private static final class ResponseOutputStream extends OutputStream {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        @Override
+        public synchronized void write(int b) {
+            buffer.write(b);
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            buffer.write(b, off, len);
+            notifyAll();
+        }
+
+        /**
+         * Waits for any of the texts in the output.
+         *
+         * @return whether the first text is found.
+         */
+        synchronized boolean waitFor(String expected, String... others) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (true) {
+                String output = buffer.toString(StandardCharsets.UTF_8);
+                if (output.contains(expected)) {
+                    return true;
+                }
+                for (String other : others) {
+                    if (output.contains(other)) {
+                        return false;
+                    }
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                Assertions.assertTrue(remaining > 0, "Timed out waiting for the response of the daemon: " + output);
+                wait(remaining);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.microsoft.typespec.http.client.generator;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public class MainTest {
@@ -7,4 +8,10 @@ public class MainTest {
     @Test
     public void testHello() {
     }
+
+    @Test
+    public void testGetGeneratorVersion() {
+        // the version in the package.json of the emitter package
+        Assertions.assertTrue(Main.getGeneratorVersion().matches("\\d+\\.\\d+\\.\\d+.*"));
+    }
 }